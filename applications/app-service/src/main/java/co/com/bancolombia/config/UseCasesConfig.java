@@ -2,7 +2,15 @@ package co.com.bancolombia.config;
 
 import co.com.bancolombia.model.stats.gateways.EventPublisherGateway;
 import co.com.bancolombia.model.stats.gateways.StatsRepository;
+import co.com.bancolombia.model.stats.gateways.StatsRollupRepository;
+import co.com.bancolombia.usecase.stats.AcceptedStatsBroadcaster;
+import co.com.bancolombia.usecase.stats.IdempotencyCache;
+import co.com.bancolombia.usecase.stats.LiveStatsAggregator;
+import co.com.bancolombia.usecase.stats.StatsRollupUseCase;
 import co.com.bancolombia.usecase.stats.StatsUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +28,9 @@ import org.springframework.context.annotation.FilterType;
         includeFilters = {
                 @ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+UseCase$")
         },
+        excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = StatsRollupUseCase.class)
+        },
         useDefaultFilters = false)
 public class UseCasesConfig {
 
@@ -27,15 +38,79 @@ public class UseCasesConfig {
          * Crea y configura el caso de uso para estadísticas.
          *
          * <p>Este bean construye manualmente el StatsUseCase e inyecta sus
-         * dependencias requeridas: el repositorio de estadísticas y el
-         * publicador de eventos.</p>
+         * dependencias requeridas: el repositorio de estadísticas, el
+         * publicador de eventos, la caché de idempotencia, el agregador en vivo y el
+         * difusor de estadísticas aceptadas.</p>
          *
          * @param statsRepository Repositorio para operaciones de base de datos
          * @param eventPublisherGateway Gateway para publicar eventos en RabbitMQ
+         * @param idempotencyCache Caché que deduplica los reintentos
+         * @param liveStatsAggregator Agregador de los totales en vivo
+         * @param acceptedStatsBroadcaster Difusor de las estadísticas aceptadas
          * @return Instancia configurada de StatsUseCase
          */
         @Bean
-        public StatsUseCase statsUseCase(StatsRepository statsRepository, EventPublisherGateway eventPublisherGateway) {
-                return new StatsUseCase(statsRepository, eventPublisherGateway);
+        public StatsUseCase statsUseCase(StatsRepository statsRepository, EventPublisherGateway eventPublisherGateway,
+                                         IdempotencyCache idempotencyCache, LiveStatsAggregator liveStatsAggregator,
+                                         AcceptedStatsBroadcaster acceptedStatsBroadcaster) {
+                return new StatsUseCase(statsRepository, eventPublisherGateway, idempotencyCache, liveStatsAggregator,
+                        acceptedStatsBroadcaster);
+        }
+
+        /**
+         * Crea el caso de uso de los totales pre-agregados.
+         *
+         * <p>Solo se registra con {@code app.stats.rollup.enabled=true}, igual que el repositorio de totales que
+         * lo alimenta; sin él, GET /api/v1/stats/rollups responde 404.</p>
+         *
+         * @param rollupRepository Repositorio de totales pre-agregados
+         * @return Caso de uso de totales pre-agregados
+         */
+        @Bean
+        @ConditionalOnProperty(name = "app.stats.rollup.enabled", havingValue = "true")
+        public StatsRollupUseCase statsRollupUseCase(StatsRollupRepository rollupRepository) {
+                return new StatsRollupUseCase(rollupRepository);
+        }
+
+        /**
+         * Crea el difusor de las estadísticas aceptadas que alimenta GET /api/v1/stats/stream.
+         *
+         * @return Difusor de estadísticas aceptadas
+         */
+        @Bean
+        public AcceptedStatsBroadcaster acceptedStatsBroadcaster() {
+                return new AcceptedStatsBroadcaster();
+        }
+
+        /**
+         * Crea la caché de idempotencia usada por el caso de uso de estadísticas.
+         *
+         * @param maxEntries Máximo de claves retenidas
+         * @param ttl Tiempo durante el que una clave se considera repetida (ej. {@code 2m})
+         * @param bucket Franja de tiempo de las claves derivadas del hash (ej. {@code 1m})
+         * @return Caché de idempotencia
+         */
+        @Bean
+        public IdempotencyCache idempotencyCache(
+                @Value("${app.stats.idempotency.max-entries:100000}") int maxEntries,
+                @Value("${app.stats.idempotency.ttl:2m}") String ttl,
+                @Value("${app.stats.idempotency.bucket:1m}") String bucket) {
+                return new IdempotencyCache(maxEntries, DurationStyle.detectAndParse(ttl),
+                        DurationStyle.detectAndParse(bucket));
+        }
+
+        /**
+         * Crea el agregador en memoria de los totales en vivo.
+         *
+         * @param resolution Amplitud de cada franja del anillo (ej. {@code 1s})
+         * @param maxWindow Ventana máxima consultable (ej. {@code 1h})
+         * @return Agregador de totales en vivo
+         */
+        @Bean
+        public LiveStatsAggregator liveStatsAggregator(
+                @Value("${app.stats.live.resolution:1s}") String resolution,
+                @Value("${app.stats.live.max-window:1h}") String maxWindow) {
+                return new LiveStatsAggregator(DurationStyle.detectAndParse(resolution),
+                        DurationStyle.detectAndParse(maxWindow));
         }
 }
@@ -2,10 +2,16 @@ package co.com.bancolombia.config;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.mockito.Mockito;
 import co.com.bancolombia.model.stats.gateways.StatsRepository;
 import co.com.bancolombia.model.stats.gateways.EventPublisherGateway;
+import co.com.bancolombia.model.stats.gateways.StatsRollupRepository;
+import co.com.bancolombia.usecase.stats.StatsRollupUseCase;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
 
 /**
  * Pruebas unitarias para la clase {@link UseCasesConfig}.
@@ -24,6 +30,7 @@ public class UseCasesConfigTest {
         try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
             context.registerBean(StatsRepository.class, () -> Mockito.mock(StatsRepository.class));
             context.registerBean(EventPublisherGateway.class, () -> Mockito.mock(EventPublisherGateway.class));
+            context.registerBean(StatsRollupRepository.class, () -> Mockito.mock(StatsRollupRepository.class));
             context.register(UseCasesConfig.class);
             context.refresh();
 
@@ -36,6 +43,25 @@ public class UseCasesConfigTest {
                 }
             }
             assertTrue(useCaseBeanFound, "No beans ending with 'UseCase' were found");
+            assertEquals(0, context.getBeanNamesForType(StatsRollupUseCase.class).length);
+        }
+    }
+
+    /**
+     * Verifica que el caso de uso de totales pre-agregados solo se registre con los totales habilitados.
+     */
+    @Test
+    void testRollupUseCaseRegisteredWhenEnabled() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.getEnvironment().getPropertySources().addFirst(
+                    new MapPropertySource("test", Map.of("app.stats.rollup.enabled", "true")));
+            context.registerBean(StatsRepository.class, () -> Mockito.mock(StatsRepository.class));
+            context.registerBean(EventPublisherGateway.class, () -> Mockito.mock(EventPublisherGateway.class));
+            context.registerBean(StatsRollupRepository.class, () -> Mockito.mock(StatsRollupRepository.class));
+            context.register(UseCasesConfig.class);
+            context.refresh();
+
+            assertEquals(1, context.getBeanNamesForType(StatsRollupUseCase.class).length);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,184 @@
+package co.com.bancolombia.model.stats;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Cálculo y verificación del hash MD5 de las estadísticas sin asignaciones en el camino caliente.
+ *
+ * <p>Cada hilo reutiliza su propio {@link MessageDigest} y sus buffers de trabajo. Los contadores se codifican
+ * directamente como dígitos ASCII separados por coma (el mismo formato {@code "%d,%d,%d,%d,%d,%d,%d"} que se usaba
+ * con {@code String.format}) y el resultado se compara contra el hash hexadecimal recibido carácter por carácter,
+ * sin construir ningún String intermedio.</p>
+ *
+ * <p>Vive en el modelo porque el hash forma parte del contrato de {@link Stats}: lo usan tanto la validación de
+ * las peticiones como los adaptadores que generan agregados y deben firmarlos.</p>
+ */
+public class Md5HashVerifier {
+
+    private static final int MD5_LENGTH = 16;
+    private static final int HEX_LENGTH = MD5_LENGTH * 2;
+    private static final int COUNTERS = 7;
+    /**
+     * Longitud máxima de un int en decimal con signo ("-2147483648").
+     */
+    private static final int MAX_INT_DIGITS = 11;
+    private static final int BUFFER_SIZE = COUNTERS * MAX_INT_DIGITS + (COUNTERS - 1);
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<DigestState> STATE = ThreadLocal.withInitial(DigestState::new);
+
+    /**
+     * Indica si el hash de la estadística corresponde al MD5 de sus contadores.
+     *
+     * @param stats La estadística a verificar
+     * @return true si el hash coincide, false en caso contrario
+     */
+    public boolean matches(Stats stats) {
+        return matches(stats.getTotalContactoClientes(),
+                stats.getMotivoReclamo(),
+                stats.getMotivoGarantia(),
+                stats.getMotivoDuda(),
+                stats.getMotivoCompra(),
+                stats.getMotivoFelicitaciones(),
+                stats.getMotivoCambio(),
+                stats.getHash());
+    }
+
+    /**
+     * Indica si el hash recibido corresponde al MD5 de los contadores en el orden del contrato.
+     *
+     * @param totalContactoClientes Total de contactos de clientes
+     * @param motivoReclamo Cantidad de contactos por reclamo
+     * @param motivoGarantia Cantidad de contactos por garantía
+     * @param motivoDuda Cantidad de contactos por duda
+     * @param motivoCompra Cantidad de contactos por compra
+     * @param motivoFelicitaciones Cantidad de contactos por felicitaciones
+     * @param motivoCambio Cantidad de contactos por cambio
+     * @param hash Hash MD5 en hexadecimal (minúsculas) a comparar
+     * @return true si el hash coincide, false en caso contrario
+     */
+    public boolean matches(int totalContactoClientes, int motivoReclamo, int motivoGarantia, int motivoDuda,
+                           int motivoCompra, int motivoFelicitaciones, int motivoCambio, String hash) {
+        if (hash == null || hash.length() != HEX_LENGTH) {
+            return false;
+        }
+        DigestState state = STATE.get();
+        if (!digest(state, totalContactoClientes, motivoReclamo, motivoGarantia, motivoDuda, motivoCompra,
+                motivoFelicitaciones, motivoCambio)) {
+            return false;
+        }
+
+        byte[] digest = state.digest;
+        for (int i = 0; i < MD5_LENGTH; i++) {
+            int value = digest[i] & 0xFF;
+            if (hash.charAt(i * 2) != HEX_DIGITS[value >>> 4]
+                    || hash.charAt(i * 2 + 1) != HEX_DIGITS[value & 0x0F]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calcula el hash MD5 hexadecimal (minúsculas) de los contadores de la estadística; el hash que traiga
+     * la estadística se ignora.
+     *
+     * @param stats La estadística a firmar
+     * @return Hash MD5 en hexadecimal de sus contadores
+     */
+    public String hash(Stats stats) {
+        DigestState state = STATE.get();
+        if (!digest(state, stats.getTotalContactoClientes(), stats.getMotivoReclamo(), stats.getMotivoGarantia(),
+                stats.getMotivoDuda(), stats.getMotivoCompra(), stats.getMotivoFelicitaciones(),
+                stats.getMotivoCambio())) {
+            throw new IllegalStateException("No fue posible calcular el hash MD5 de la estadística");
+        }
+        byte[] hex = new byte[HEX_LENGTH];
+        for (int i = 0; i < MD5_LENGTH; i++) {
+            int value = state.digest[i] & 0xFF;
+            hex[i * 2] = HEX_DIGITS[value >>> 4];
+            hex[i * 2 + 1] = HEX_DIGITS[value & 0x0F];
+        }
+        return new String(hex, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Codifica los contadores en el buffer del hilo y deja su MD5 en {@code state.digest}.
+     *
+     * @return false si el digest no pudo calcularse
+     */
+    private static boolean digest(DigestState state, int totalContactoClientes, int motivoReclamo,
+                                  int motivoGarantia, int motivoDuda, int motivoCompra, int motivoFelicitaciones,
+                                  int motivoCambio) {
+        byte[] buffer = state.buffer;
+        int length = 0;
+        length = writeInt(totalContactoClientes, buffer, length);
+        buffer[length++] = ',';
+        length = writeInt(motivoReclamo, buffer, length);
+        buffer[length++] = ',';
+        length = writeInt(motivoGarantia, buffer, length);
+        buffer[length++] = ',';
+        length = writeInt(motivoDuda, buffer, length);
+        buffer[length++] = ',';
+        length = writeInt(motivoCompra, buffer, length);
+        buffer[length++] = ',';
+        length = writeInt(motivoFelicitaciones, buffer, length);
+        buffer[length++] = ',';
+        length = writeInt(motivoCambio, buffer, length);
+        try {
+            state.md5.update(buffer, 0, length);
+            state.md5.digest(state.digest, 0, MD5_LENGTH);
+            return true;
+        } catch (DigestException e) {
+            state.md5.reset();
+            return false;
+        }
+    }
+
+    /**
+     * Escribe el entero en decimal ASCII sobre el buffer a partir de la posición indicada.
+     *
+     * @param value Valor a escribir
+     * @param buffer Buffer de destino
+     * @param offset Posición inicial de escritura
+     * @return La posición siguiente al último dígito escrito
+     */
+    static int writeInt(int value, byte[] buffer, int offset) {
+        long remaining = value;
+        int position = offset;
+        if (remaining < 0) {
+            buffer[position++] = '-';
+            remaining = -remaining;
+        }
+        int digits = 1;
+        for (long limit = 10; limit <= remaining; limit *= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + (remaining % 10));
+            remaining /= 10;
+        }
+        return end;
+    }
+
+    /**
+     * Estado de trabajo reutilizado por cada hilo.
+     */
+    private static final class DigestState {
+        private final MessageDigest md5;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final byte[] digest = new byte[MD5_LENGTH];
+
+        private DigestState() {
+            try {
+                this.md5 = MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("El algoritmo MD5 no está disponible", e);
+            }
+        }
+    }
+}
@@ -6,6 +6,9 @@ import java.time.LocalDateTime;
  * Entidad de dominio que representa las estadísticas de contacto de clientes.
  *
  * <p>Incluye información sobre diferentes motivos de contacto, un timestamp y un hash identificador.</p>
+ *
+ * <p>El {@code id} distingue cada registro guardado, aunque otro tenga el mismo contenido y timestamp; lo asigna
+ * la capa de persistencia al guardarlo por primera vez y se conserva en los reintentos.</p>
  */
 public class Stats {
     private LocalDateTime timestamp;
@@ -17,6 +20,7 @@ public class Stats {
     private int motivoFelicitaciones;
     private int motivoCambio;
     private String hash;
+    private String id;
 
     /**
      * Constructor por defecto.
@@ -191,4 +195,20 @@ public class Stats {
     public void setHash(String hash) {
         this.hash = hash;
     }
+
+    /**
+     * Obtiene el identificador único del registro.
+     * @return Identificador del registro, o null si aún no se ha guardado
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Asigna el identificador único del registro.
+     * @param id Identificador del registro
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
 }
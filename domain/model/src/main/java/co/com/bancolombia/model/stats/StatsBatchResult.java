@@ -0,0 +1,109 @@
+package co.com.bancolombia.model.stats;
+
+/**
+ * Resultado del procesamiento de una estadística dentro de un lote.
+ *
+ * <p>Asocia la posición del elemento en el lote recibido con su estado final y, si aplica, el motivo del rechazo
+ * o de la falla.</p>
+ */
+public class StatsBatchResult {
+
+    /**
+     * Estado final de un elemento del lote.
+     */
+    public enum Status {
+        /** La estadística fue persistida y su evento publicado. */
+        ACCEPTED,
+        /** La estadística no superó las validaciones y no fue procesada. */
+        REJECTED,
+        /** La estadística era válida pero falló su persistencia o la publicación del evento. */
+        FAILED
+    }
+
+    private final int index;
+    private final Status status;
+    private final Stats stats;
+    private final String error;
+
+    /**
+     * Constructor completo.
+     *
+     * @param index Posición del elemento en el lote
+     * @param status Estado final del elemento
+     * @param stats Estadística asociada al elemento
+     * @param error Mensaje de error, nulo si el elemento fue aceptado
+     */
+    public StatsBatchResult(int index, Status status, Stats stats, String error) {
+        this.index = index;
+        this.status = status;
+        this.stats = stats;
+        this.error = error;
+    }
+
+    /**
+     * Crea el resultado de un elemento aceptado.
+     *
+     * @param index Posición del elemento en el lote
+     * @param stats Estadística guardada
+     * @return Resultado con estado {@link Status#ACCEPTED}
+     */
+    public static StatsBatchResult accepted(int index, Stats stats) {
+        return new StatsBatchResult(index, Status.ACCEPTED, stats, null);
+    }
+
+    /**
+     * Crea el resultado de un elemento rechazado por validación.
+     *
+     * @param index Posición del elemento en el lote
+     * @param stats Estadística rechazada
+     * @param error Motivo del rechazo
+     * @return Resultado con estado {@link Status#REJECTED}
+     */
+    public static StatsBatchResult rejected(int index, Stats stats, String error) {
+        return new StatsBatchResult(index, Status.REJECTED, stats, error);
+    }
+
+    /**
+     * Crea el resultado de un elemento cuya persistencia o publicación falló.
+     *
+     * @param index Posición del elemento en el lote
+     * @param stats Estadística afectada
+     * @param error Descripción de la falla
+     * @return Resultado con estado {@link Status#FAILED}
+     */
+    public static StatsBatchResult failed(int index, Stats stats, String error) {
+        return new StatsBatchResult(index, Status.FAILED, stats, error);
+    }
+
+    /**
+     * Obtiene la posición del elemento en el lote.
+     * @return Posición del elemento
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Obtiene el estado final del elemento.
+     * @return Estado del elemento
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Obtiene la estadística asociada al elemento.
+     * @return Estadística del elemento
+     */
+    public Stats getStats() {
+        return stats;
+    }
+
+    /**
+     * Obtiene el mensaje de error del elemento.
+     * @return Mensaje de error, nulo si fue aceptado
+     */
+    public String getError() {
+        return error;
+    }
+}
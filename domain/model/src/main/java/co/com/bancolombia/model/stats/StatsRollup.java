@@ -0,0 +1,172 @@
+package co.com.bancolombia.model.stats;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Totales pre-agregados de las estadísticas registradas en un intervalo de tiempo.
+ *
+ * <p>Cada instancia acumula {@code totalContactoClientes} y los siete motivos de todas las estadísticas cuyo
+ * timestamp cae en el intervalo {@code [bucket, bucket + granularidad)}.</p>
+ */
+public class StatsRollup {
+
+    /**
+     * Amplitud del intervalo de agregación.
+     */
+    public enum Granularity {
+        /** Intervalos de un minuto. */
+        MINUTE(ChronoUnit.MINUTES),
+        /** Intervalos de una hora. */
+        HOUR(ChronoUnit.HOURS),
+        /** Intervalos de un día. */
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        /**
+         * Obtiene el inicio del intervalo que contiene un instante.
+         *
+         * @param timestamp Instante
+         * @return Inicio del intervalo
+         */
+        public LocalDateTime bucketOf(LocalDateTime timestamp) {
+            return timestamp.truncatedTo(unit);
+        }
+
+        /**
+         * Obtiene el inicio del intervalo siguiente.
+         *
+         * @param bucket Inicio de un intervalo
+         * @return Inicio del intervalo siguiente
+         */
+        public LocalDateTime next(LocalDateTime bucket) {
+            return bucket.plus(1, unit);
+        }
+
+        /**
+         * Cuenta los intervalos que se solapan con un rango.
+         *
+         * @param from Inicio del rango (inclusivo)
+         * @param to Fin del rango (exclusivo)
+         * @return Cantidad de intervalos
+         */
+        public long bucketsBetween(LocalDateTime from, LocalDateTime to) {
+            return unit.between(bucketOf(from), to.minusNanos(1)) + 1;
+        }
+    }
+
+    private final Granularity granularity;
+    private final LocalDateTime bucket;
+    private final long totalContactoClientes;
+    private final long motivoReclamo;
+    private final long motivoGarantia;
+    private final long motivoDuda;
+    private final long motivoCompra;
+    private final long motivoFelicitaciones;
+    private final long motivoCambio;
+
+    /**
+     * Constructor completo.
+     *
+     * @param granularity Amplitud del intervalo
+     * @param bucket Inicio del intervalo
+     * @param totalContactoClientes Total de contactos de clientes
+     * @param motivoReclamo Contactos por reclamo
+     * @param motivoGarantia Contactos por garantía
+     * @param motivoDuda Contactos por duda
+     * @param motivoCompra Contactos por compra
+     * @param motivoFelicitaciones Contactos por felicitaciones
+     * @param motivoCambio Contactos por cambio
+     */
+    @SuppressWarnings("java:S107")
+    public StatsRollup(Granularity granularity, LocalDateTime bucket, long totalContactoClientes, long motivoReclamo,
+                       long motivoGarantia, long motivoDuda, long motivoCompra, long motivoFelicitaciones,
+                       long motivoCambio) {
+        this.granularity = granularity;
+        this.bucket = bucket;
+        this.totalContactoClientes = totalContactoClientes;
+        this.motivoReclamo = motivoReclamo;
+        this.motivoGarantia = motivoGarantia;
+        this.motivoDuda = motivoDuda;
+        this.motivoCompra = motivoCompra;
+        this.motivoFelicitaciones = motivoFelicitaciones;
+        this.motivoCambio = motivoCambio;
+    }
+
+    /**
+     * Obtiene la amplitud del intervalo.
+     * @return Granularidad
+     */
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    /**
+     * Obtiene el inicio del intervalo.
+     * @return Inicio del intervalo
+     */
+    public LocalDateTime getBucket() {
+        return bucket;
+    }
+
+    /**
+     * Obtiene el total de contactos de clientes.
+     * @return Total de contactos
+     */
+    public long getTotalContactoClientes() {
+        return totalContactoClientes;
+    }
+
+    /**
+     * Obtiene los contactos por reclamo.
+     * @return Cantidad de reclamos
+     */
+    public long getMotivoReclamo() {
+        return motivoReclamo;
+    }
+
+    /**
+     * Obtiene los contactos por garantía.
+     * @return Cantidad de garantías
+     */
+    public long getMotivoGarantia() {
+        return motivoGarantia;
+    }
+
+    /**
+     * Obtiene los contactos por duda.
+     * @return Cantidad de dudas
+     */
+    public long getMotivoDuda() {
+        return motivoDuda;
+    }
+
+    /**
+     * Obtiene los contactos por compra.
+     * @return Cantidad de compras
+     */
+    public long getMotivoCompra() {
+        return motivoCompra;
+    }
+
+    /**
+     * Obtiene los contactos por felicitaciones.
+     * @return Cantidad de felicitaciones
+     */
+    public long getMotivoFelicitaciones() {
+        return motivoFelicitaciones;
+    }
+
+    /**
+     * Obtiene los contactos por cambio.
+     * @return Cantidad de cambios
+     */
+    public long getMotivoCambio() {
+        return motivoCambio;
+    }
+}
@@ -0,0 +1,137 @@
+package co.com.bancolombia.model.stats;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Totales en vivo de las estadísticas aceptadas durante una ventana de tiempo reciente.
+ *
+ * <p>La ventana cubre {@code [from, to)}, donde {@code to} es el instante de la consulta; su amplitud real
+ * se redondea a la resolución del agregador.</p>
+ */
+public class StatsWindow {
+
+    private final Duration window;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final long count;
+    private final long totalContactoClientes;
+    private final long motivoReclamo;
+    private final long motivoGarantia;
+    private final long motivoDuda;
+    private final long motivoCompra;
+    private final long motivoFelicitaciones;
+    private final long motivoCambio;
+
+    /**
+     * Constructor completo.
+     *
+     * @param window Amplitud solicitada de la ventana
+     * @param from Inicio de la ventana
+     * @param to Fin de la ventana
+     * @param count Cantidad de estadísticas aceptadas en la ventana
+     * @param totals Totales en el orden: totalContactoClientes, reclamo, garantía, duda, compra,
+     *               felicitaciones y cambio
+     */
+    public StatsWindow(Duration window, LocalDateTime from, LocalDateTime to, long count, long[] totals) {
+        this.window = window;
+        this.from = from;
+        this.to = to;
+        this.count = count;
+        this.totalContactoClientes = totals[0];
+        this.motivoReclamo = totals[1];
+        this.motivoGarantia = totals[2];
+        this.motivoDuda = totals[3];
+        this.motivoCompra = totals[4];
+        this.motivoFelicitaciones = totals[5];
+        this.motivoCambio = totals[6];
+    }
+
+    /**
+     * Obtiene la amplitud solicitada de la ventana.
+     * @return Amplitud de la ventana
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * Obtiene el inicio de la ventana.
+     * @return Inicio de la ventana
+     */
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    /**
+     * Obtiene el fin de la ventana.
+     * @return Fin de la ventana
+     */
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    /**
+     * Obtiene la cantidad de estadísticas aceptadas en la ventana.
+     * @return Cantidad de estadísticas
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Obtiene el total de contactos de clientes.
+     * @return Total de contactos
+     */
+    public long getTotalContactoClientes() {
+        return totalContactoClientes;
+    }
+
+    /**
+     * Obtiene los contactos por reclamo.
+     * @return Cantidad de reclamos
+     */
+    public long getMotivoReclamo() {
+        return motivoReclamo;
+    }
+
+    /**
+     * Obtiene los contactos por garantía.
+     * @return Cantidad de garantías
+     */
+    public long getMotivoGarantia() {
+        return motivoGarantia;
+    }
+
+    /**
+     * Obtiene los contactos por duda.
+     * @return Cantidad de dudas
+     */
+    public long getMotivoDuda() {
+        return motivoDuda;
+    }
+
+    /**
+     * Obtiene los contactos por compra.
+     * @return Cantidad de compras
+     */
+    public long getMotivoCompra() {
+        return motivoCompra;
+    }
+
+    /**
+     * Obtiene los contactos por felicitaciones.
+     * @return Cantidad de felicitaciones
+     */
+    public long getMotivoFelicitaciones() {
+        return motivoFelicitaciones;
+    }
+
+    /**
+     * Obtiene los contactos por cambio.
+     * @return Cantidad de cambios
+     */
+    public long getMotivoCambio() {
+        return motivoCambio;
+    }
+}
@@ -0,0 +1,40 @@
+package co.com.bancolombia.model.stats;
+
+/**
+ * Estadística leída del repositorio junto con su posición en la consulta.
+ *
+ * <p>El cursor es un valor opaco que identifica el registro dentro del rango consultado; al enviarlo en una
+ * nueva consulta, los resultados continúan inmediatamente después de este registro.</p>
+ */
+public class StoredStats {
+
+    private final Stats stats;
+    private final String cursor;
+
+    /**
+     * Constructor completo.
+     *
+     * @param stats Estadística leída
+     * @param cursor Cursor opaco para continuar la consulta después de esta estadística
+     */
+    public StoredStats(Stats stats, String cursor) {
+        this.stats = stats;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Obtiene la estadística leída.
+     * @return Estadística
+     */
+    public Stats getStats() {
+        return stats;
+    }
+
+    /**
+     * Obtiene el cursor para continuar la consulta después de esta estadística.
+     * @return Cursor opaco
+     */
+    public String getCursor() {
+        return cursor;
+    }
+}
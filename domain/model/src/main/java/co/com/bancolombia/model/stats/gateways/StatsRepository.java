@@ -1,8 +1,13 @@
 package co.com.bancolombia.model.stats.gateways;
 
 import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StoredStats;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 
 /**
  * Interfaz gateway para la persistencia y consulta de entidades {@link Stats}.
@@ -13,15 +18,38 @@ public interface StatsRepository {
     /**
      * Guarda una entidad de estadísticas en el repositorio.
      *
+     * <p>Las implementaciones con escritura condicional completan vacío cuando ya existía un registro
+     * con la misma clave, en lugar de sobrescribirlo.</p>
+     *
      * @param stats Entidad de estadísticas a guardar
-     * @return Mono que emite la entidad guardada o un error si falla
+     * @return Mono que emite la entidad guardada, vacío si ya existía, o un error si falla
      */
     Mono<Stats> saveStats(Stats stats);
 
     /**
-     * Busca una entidad de estadísticas por su clave (timestamp).
+     * Guarda un conjunto de entidades de estadísticas mediante escrituras por lotes.
+     *
+     * <p>Emite la posición, en la lista recibida, de cada entidad que quedó persistida; las que no pudieron
+     * escribirse tras los reintentos no se emiten. Las posiciones no dependen de que la implementación conserve
+     * las instancias recibidas.</p>
+     *
+     * @param stats Lista de entidades de estadísticas a guardar
+     * @return Flux que emite la posición de cada entidad guardada
+     */
+    Flux<Integer> saveAll(List<Stats> stats);
+
+    /**
+     * Consulta las estadísticas registradas en un rango de tiempo, en orden cronológico.
+     *
+     * <p>El flujo es perezoso: las páginas se leen del almacenamiento a medida que el suscriptor las solicita,
+     * por lo que un rango grande nunca se acumula completo en memoria. Cada elemento incluye un cursor opaco
+     * con el que una consulta posterior continúa inmediatamente después de él.</p>
      *
-     * @param timestamp Clave de búsqueda (puede ser un string representando la fecha/hora)
-     * @return Mono que emite la entidad encontrada o vacío si no existe
+     * @param from Inicio del rango (inclusivo)
+     * @param to Fin del rango (exclusivo)
+     * @param cursor Cursor de un elemento recibido previamente, o null para empezar desde {@code from}
+     * @return Flux que emite las estadísticas del rango, o un error {@link IllegalArgumentException} si el cursor
+     * no es válido
      */
+    Flux<StoredStats> findByTimeRange(LocalDateTime from, LocalDateTime to, String cursor);
 }
@@ -0,0 +1,23 @@
+package co.com.bancolombia.model.stats.gateways;
+
+import co.com.bancolombia.model.stats.StatsRollup;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Interfaz gateway para la consulta de los totales pre-agregados ({@link StatsRollup}) de las estadísticas.
+ */
+public interface StatsRollupRepository {
+
+    /**
+     * Consulta los totales de los intervalos que se solapan con un rango de tiempo.
+     *
+     * @param granularity Amplitud de los intervalos
+     * @param from Inicio del rango (inclusivo)
+     * @param to Fin del rango (exclusivo)
+     * @return Flux con los totales de cada intervalo en orden cronológico; los intervalos sin estadísticas
+     * no se emiten
+     */
+    Flux<StatsRollup> findRollups(StatsRollup.Granularity granularity, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,92 @@
+package co.com.bancolombia.model.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas unitarias para {@link Md5HashVerifier}.
+ *
+ * <p>Verifica que la verificación sin asignaciones sea equivalente al cálculo con {@code String.format}.</p>
+ */
+class Md5HashVerifierTest {
+
+    private final Md5HashVerifier verifier = new Md5HashVerifier();
+
+    /**
+     * Verifica que un hash correcto sea aceptado.
+     */
+    @Test
+    void shouldMatchValidHash() {
+        Stats stats = new Stats(null, 250, 25, 10, 100, 100, 7, 8, "5484062a4be1ce5645eb414663e14f59");
+
+        assertTrue(verifier.matches(stats));
+    }
+
+    /**
+     * Verifica que se rechacen hashes nulos, de longitud incorrecta, en mayúsculas o de otros contadores.
+     */
+    @Test
+    void shouldRejectInvalidHash() {
+        assertFalse(verifier.matches(250, 25, 10, 100, 100, 7, 8, null));
+        assertFalse(verifier.matches(250, 25, 10, 100, 100, 7, 8, "hash_invalido"));
+        assertFalse(verifier.matches(250, 25, 10, 100, 100, 7, 8, "5484062A4BE1CE5645EB414663E14F59"));
+        assertFalse(verifier.matches(250, 25, 10, 100, 100, 7, 9, "5484062a4be1ce5645eb414663e14f59"));
+    }
+
+    /**
+     * Verifica que los valores extremos y negativos produzcan el mismo hash que {@code String.format}.
+     */
+    @Test
+    void shouldMatchLegacyFormatForEdgeValues() throws Exception {
+        int[] values = {Integer.MIN_VALUE, -1, 0, 9, 10, 999_999_999, Integer.MAX_VALUE};
+
+        String hash = legacyHash(values);
+
+        assertTrue(verifier.matches(values[0], values[1], values[2], values[3], values[4], values[5], values[6], hash));
+    }
+
+    /**
+     * Verifica que el hash calculado coincida con el formato heredado y sea aceptado por la verificación.
+     */
+    @Test
+    void shouldComputeHashAcceptedByMatches() throws Exception {
+        int[] values = {Integer.MIN_VALUE, -1, 0, 9, 10, 999_999_999, Integer.MAX_VALUE};
+        Stats stats = new Stats(null, values[0], values[1], values[2], values[3], values[4], values[5], values[6],
+                "ignorado");
+
+        String hash = verifier.hash(stats);
+
+        assertEquals(legacyHash(values), hash);
+        stats.setHash(hash);
+        assertTrue(verifier.matches(stats));
+    }
+
+    /**
+     * Verifica la codificación decimal de enteros sobre el buffer.
+     */
+    @Test
+    void shouldWriteIntAsAscii() {
+        byte[] buffer = new byte[11];
+
+        int end = Md5HashVerifier.writeInt(Integer.MIN_VALUE, buffer, 0);
+
+        assertEquals("-2147483648", new String(buffer, 0, end, StandardCharsets.US_ASCII));
+    }
+
+    private String legacyHash(int[] values) throws Exception {
+        String data = String.format("%d,%d,%d,%d,%d,%d,%d",
+                values[0], values[1], values[2], values[3], values[4], values[5], values[6]);
+        byte[] hashBytes = MessageDigest.getInstance("MD5").digest(data.getBytes(StandardCharsets.US_ASCII));
+        StringBuilder sb = new StringBuilder();
+        for (byte b : hashBytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
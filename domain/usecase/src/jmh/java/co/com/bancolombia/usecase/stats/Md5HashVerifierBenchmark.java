@@ -0,0 +1,63 @@
+package co.com.bancolombia.usecase.stats;
+
+import co.com.bancolombia.model.stats.Md5HashVerifier;
+import co.com.bancolombia.model.stats.Stats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH que compara la verificación del hash MD5 de {@link StatsUseCase}
+ * antes ({@code String.format} + {@code MessageDigest.getInstance} por petición) y después
+ * de {@link Md5HashVerifier}.
+ *
+ * <p>Ejecutar con {@code ./gradlew :usecase:jmh}; el perfilador {@code gc} reporta los bytes asignados por operación.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Md5HashVerifierBenchmark {
+
+    private Stats stats;
+    private Md5HashVerifier verifier;
+
+    @Setup
+    public void setUp() {
+        stats = new Stats(null, 250, 25, 10, 100, 100, 7, 8, "5484062a4be1ce5645eb414663e14f59");
+        verifier = new Md5HashVerifier();
+    }
+
+    @Benchmark
+    public boolean legacyStringFormat() throws NoSuchAlgorithmException {
+        String data = String.format("%d,%d,%d,%d,%d,%d,%d",
+                stats.getTotalContactoClientes(),
+                stats.getMotivoReclamo(),
+                stats.getMotivoGarantia(),
+                stats.getMotivoDuda(),
+                stats.getMotivoCompra(),
+                stats.getMotivoFelicitaciones(),
+                stats.getMotivoCambio());
+
+        MessageDigest md = MessageDigest.getInstance("MD5");
+        byte[] hashBytes = md.digest(data.getBytes());
+
+        StringBuilder sb = new StringBuilder();
+        for (byte b : hashBytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString().equals(stats.getHash());
+    }
+
+    @Benchmark
+    public boolean threadLocalVerifier() {
+        return verifier.matches(stats);
+    }
+}
@@ -0,0 +1,126 @@
+package co.com.bancolombia.usecase.stats;
+
+import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StatsWindow;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Difunde en caliente las estadísticas aceptadas a los suscriptores de tableros en vivo.
+ *
+ * <p>Usa un sink multicast {@code directBestEffort}: publicar nunca bloquea ni aplica backpressure a la ingesta,
+ * y un suscriptor sin demanda simplemente no recibe el elemento. Por eso cada suscriptor debe poner su propio
+ * buffer acotado delante (descartando los más antiguos o conservando solo el último).</p>
+ *
+ * <p>Los totales por intervalo se calculan una sola vez por intervalo y se comparten entre todos los
+ * suscriptores que piden el mismo, de modo que el costo de agregación no crece con la cantidad de tableros.</p>
+ */
+public class AcceptedStatsBroadcaster {
+
+    /**
+     * Intervalo mínimo de los totales periódicos.
+     */
+    public static final Duration MIN_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * Intervalo máximo de los totales periódicos.
+     */
+    public static final Duration MAX_INTERVAL = Duration.ofSeconds(60);
+
+    private static final int COUNTERS = 8;
+    private static final int MAX_EMIT_SPINS = 64;
+
+    private final Sinks.Many<Stats> sink = Sinks.many().multicast().directBestEffort();
+    private final Map<Duration, Flux<StatsWindow>> rollups = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Publica una estadística aceptada a los suscriptores actuales.
+     *
+     * <p>Si no hay suscriptores no hace nada. Si otro hilo está publicando al mismo tiempo reintenta brevemente
+     * y, si no lo logra, descarta el elemento en lugar de esperar.</p>
+     *
+     * @param stats Estadística aceptada
+     */
+    public void publish(Stats stats) {
+        if (sink.currentSubscriberCount() == 0) {
+            return;
+        }
+        for (int spin = 0; spin < MAX_EMIT_SPINS; spin++) {
+            if (sink.tryEmitNext(stats) != Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        dropped.increment();
+    }
+
+    /**
+     * Flujo caliente de las estadísticas aceptadas a partir de la suscripción.
+     *
+     * @return Flux sin fin de estadísticas aceptadas
+     */
+    public Flux<Stats> events() {
+        return sink.asFlux();
+    }
+
+    /**
+     * Flujo caliente de totales de las estadísticas aceptadas en cada intervalo, incluidos los intervalos vacíos.
+     *
+     * @param interval Amplitud de cada intervalo en segundos enteros, entre {@link #MIN_INTERVAL} y
+     *                 {@link #MAX_INTERVAL}
+     * @return Flux sin fin con un total por intervalo, compartido entre los suscriptores del mismo intervalo
+     */
+    public Flux<StatsWindow> rollups(Duration interval) {
+        if (interval.compareTo(MIN_INTERVAL) < 0 || interval.compareTo(MAX_INTERVAL) > 0
+                || interval.toMillis() % 1000 != 0) {
+            return Flux.error(new IllegalArgumentException(
+                    "El intervalo debe ser un número entero de segundos entre 1 y 60"));
+        }
+        return rollups.computeIfAbsent(interval, this::aggregate);
+    }
+
+    /**
+     * Cantidad de estadísticas descartadas por contención al publicar.
+     *
+     * @return Estadísticas descartadas
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private Flux<StatsWindow> aggregate(Duration interval) {
+        return events()
+                .window(interval)
+                .concatMap(window -> {
+                    LocalDateTime from = LocalDateTime.now();
+                    return window.reduce(new long[COUNTERS], AcceptedStatsBroadcaster::add)
+                            .map(sums -> toWindow(interval, from, sums));
+                })
+                .share();
+    }
+
+    private static long[] add(long[] sums, Stats stats) {
+        sums[0]++;
+        sums[1] += stats.getTotalContactoClientes();
+        sums[2] += stats.getMotivoReclamo();
+        sums[3] += stats.getMotivoGarantia();
+        sums[4] += stats.getMotivoDuda();
+        sums[5] += stats.getMotivoCompra();
+        sums[6] += stats.getMotivoFelicitaciones();
+        sums[7] += stats.getMotivoCambio();
+        return sums;
+    }
+
+    private static StatsWindow toWindow(Duration interval, LocalDateTime from, long[] sums) {
+        long[] totals = new long[COUNTERS - 1];
+        System.arraycopy(sums, 1, totals, 0, totals.length);
+        return new StatsWindow(interval, from, LocalDateTime.now(), sums[0], totals);
+    }
+}
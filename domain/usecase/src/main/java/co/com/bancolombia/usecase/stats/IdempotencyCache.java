@@ -0,0 +1,162 @@
+package co.com.bancolombia.usecase.stats;
+
+import co.com.bancolombia.model.stats.Stats;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caché acotada en tamaño y con expiración que deduplica las peticiones de guardado de estadísticas.
+ *
+ * <p>La clave de deduplicación es el encabezado {@code Idempotency-Key} cuando el cliente lo envía; en su defecto
+ * se usa el hash de la estadística junto con la franja de tiempo ({@code bucket}) en que se recibió. La primera
+ * petición con una clave ejecuta la operación y las repetidas dentro del {@code ttl} reciben el mismo resultado
+ * sin realizar ninguna escritura ni publicación. Si la operación falla, la clave se libera para que el siguiente
+ * reintento vuelva a ejecutarla.</p>
+ *
+ * <p>Cuando se alcanza {@code maxEntries} se descarta la entrada más antigua.</p>
+ */
+public class IdempotencyCache {
+
+    /**
+     * Máximo de entradas por defecto.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    /**
+     * Tiempo de vida por defecto de cada entrada.
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(2);
+
+    /**
+     * Franja de tiempo por defecto para las claves derivadas del hash.
+     */
+    public static final Duration DEFAULT_BUCKET = Duration.ofMinutes(1);
+
+    private static final String EXPLICIT_KEY_PREFIX = "key:";
+    private static final String HASH_KEY_PREFIX = "hash:";
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final long bucketMillis;
+    private final LongSupplier nanoClock;
+    private final LongSupplier wallClockMillis;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Crea la caché con la configuración por defecto.
+     */
+    public IdempotencyCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TTL, DEFAULT_BUCKET);
+    }
+
+    /**
+     * Crea la caché.
+     *
+     * @param maxEntries Máximo de claves retenidas
+     * @param ttl Tiempo durante el que una clave se considera repetida
+     * @param bucket Franja de tiempo usada para las claves derivadas del hash
+     */
+    public IdempotencyCache(int maxEntries, Duration ttl, Duration bucket) {
+        this(maxEntries, ttl, bucket, System::nanoTime, System::currentTimeMillis);
+    }
+
+    IdempotencyCache(int maxEntries, Duration ttl, Duration bucket, LongSupplier nanoClock, LongSupplier wallClockMillis) {
+        if (maxEntries <= 0 || ttl.isNegative() || ttl.isZero() || bucket.toMillis() <= 0) {
+            throw new IllegalArgumentException("La caché de idempotencia requiere tamaño, ttl y franja positivos");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.bucketMillis = bucket.toMillis();
+        this.nanoClock = nanoClock;
+        this.wallClockMillis = wallClockMillis;
+    }
+
+    /**
+     * Calcula la clave de deduplicación de una estadística.
+     *
+     * @param stats Estadística recibida
+     * @param idempotencyKey Valor del encabezado {@code Idempotency-Key}, o null si no se envió
+     * @return Clave de deduplicación
+     */
+    public String keyFor(Stats stats, String idempotencyKey) {
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            return EXPLICIT_KEY_PREFIX + idempotencyKey;
+        }
+        return HASH_KEY_PREFIX + stats.getHash() + ':' + wallClockMillis.getAsLong() / bucketMillis;
+    }
+
+    /**
+     * Ejecuta la operación solo si la clave no se vio dentro del tiempo de vida.
+     *
+     * @param key Clave de deduplicación
+     * @param operation Operación a ejecutar la primera vez
+     * @return Resultado compartido entre la petición original y sus repeticiones
+     */
+    public Mono<Stats> deduplicate(String key, Supplier<Mono<Stats>> operation) {
+        return Mono.defer(() -> {
+            long now = nanoClock.getAsLong();
+            Entry entry;
+            synchronized (entries) {
+                evictExpired(now);
+                entry = entries.get(key);
+                if (entry == null) {
+                    Entry created = new Entry(now + ttlNanos);
+                    created.result = operation.get()
+                            .doOnError(e -> release(key, created))
+                            .cache();
+                    entries.put(key, created);
+                    entry = created;
+                    if (entries.size() > maxEntries) {
+                        Iterator<Map.Entry<String, Entry>> oldest = entries.entrySet().iterator();
+                        oldest.next();
+                        oldest.remove();
+                    }
+                }
+            }
+            return entry.result;
+        });
+    }
+
+    /**
+     * Cantidad de claves retenidas.
+     *
+     * @return Tamaño actual de la caché
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void release(String key, Entry entry) {
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * Las entradas se insertan en orden de expiración (el ttl es constante), por lo que basta con recorrer
+     * desde la más antigua hasta la primera vigente.
+     */
+    private void evictExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext() && iterator.next().expiresAt - now <= 0) {
+            iterator.remove();
+        }
+    }
+
+    private static final class Entry {
+        private final long expiresAt;
+        private Mono<Stats> result;
+
+        private Entry(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package co.com.bancolombia.usecase.stats;
+
+import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StatsWindow;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Agregador en memoria de las estadísticas aceptadas durante una ventana deslizante.
+ *
+ * <p>Mantiene un anillo de franjas de tiempo de amplitud {@code resolution} que cubre {@code maxWindow}. Cada
+ * franja guarda un {@link LongAdder} por contador, por lo que los hilos que registran estadísticas en la misma
+ * franja no compiten por la misma variable. El registro no usa bloqueos: cuando el anillo da la vuelta, la franja
+ * vencida se reemplaza por una nueva con un {@code compareAndSet}.</p>
+ *
+ * <p>Las consultas suman las franjas de la ventana pedida, redondeada hacia arriba a la resolución, sin acceder
+ * a ningún almacenamiento externo.</p>
+ */
+public class LiveStatsAggregator {
+
+    /**
+     * Resolución por defecto de las franjas.
+     */
+    public static final Duration DEFAULT_RESOLUTION = Duration.ofSeconds(1);
+
+    /**
+     * Ventana máxima consultable por defecto.
+     */
+    public static final Duration DEFAULT_MAX_WINDOW = Duration.ofHours(1);
+
+    private static final int COUNTERS = 8;
+
+    private final long resolutionMillis;
+    private final Duration maxWindow;
+    private final AtomicReferenceArray<Bucket> ring;
+    private final LongSupplier clockMillis;
+
+    /**
+     * Crea el agregador con la configuración por defecto.
+     */
+    public LiveStatsAggregator() {
+        this(DEFAULT_RESOLUTION, DEFAULT_MAX_WINDOW);
+    }
+
+    /**
+     * Crea el agregador.
+     *
+     * @param resolution Amplitud de cada franja del anillo
+     * @param maxWindow Ventana máxima consultable
+     */
+    public LiveStatsAggregator(Duration resolution, Duration maxWindow) {
+        this(resolution, maxWindow, System::currentTimeMillis);
+    }
+
+    LiveStatsAggregator(Duration resolution, Duration maxWindow, LongSupplier clockMillis) {
+        if (resolution.toMillis() <= 0 || maxWindow.compareTo(resolution) < 0) {
+            throw new IllegalArgumentException(
+                    "La resolución debe ser positiva y no mayor que la ventana máxima");
+        }
+        this.resolutionMillis = resolution.toMillis();
+        this.maxWindow = maxWindow;
+        this.clockMillis = clockMillis;
+        // Una franja extra para que la más antigua de la ventana máxima no se reemplace mientras se lee.
+        this.ring = new AtomicReferenceArray<>(Math.toIntExact(ceilDiv(maxWindow.toMillis(), resolutionMillis)) + 1);
+    }
+
+    /**
+     * Suma una estadística aceptada a la franja actual.
+     *
+     * @param stats Estadística aceptada
+     */
+    public void record(Stats stats) {
+        Bucket bucket = current(clockMillis.getAsLong() / resolutionMillis);
+        LongAdder[] counters = bucket.counters;
+        counters[0].increment();
+        counters[1].add(stats.getTotalContactoClientes());
+        counters[2].add(stats.getMotivoReclamo());
+        counters[3].add(stats.getMotivoGarantia());
+        counters[4].add(stats.getMotivoDuda());
+        counters[5].add(stats.getMotivoCompra());
+        counters[6].add(stats.getMotivoFelicitaciones());
+        counters[7].add(stats.getMotivoCambio());
+    }
+
+    /**
+     * Suma las estadísticas aceptadas durante la ventana más reciente.
+     *
+     * @param window Amplitud de la ventana, entre la resolución y la ventana máxima
+     * @return Totales de la ventana
+     */
+    public StatsWindow snapshot(Duration window) {
+        if (window.isNegative() || window.isZero() || window.compareTo(maxWindow) > 0) {
+            throw new IllegalArgumentException("La ventana debe ser positiva y no mayor que " + maxWindow);
+        }
+        long now = clockMillis.getAsLong();
+        long currentEpoch = now / resolutionMillis;
+        long buckets = ceilDiv(window.toMillis(), resolutionMillis);
+        long oldestEpoch = currentEpoch - buckets + 1;
+
+        long[] sums = new long[COUNTERS];
+        for (long epoch = oldestEpoch; epoch <= currentEpoch; epoch++) {
+            Bucket bucket = ring.get(slot(epoch));
+            if (bucket != null && bucket.epoch == epoch) {
+                for (int i = 0; i < COUNTERS; i++) {
+                    sums[i] += bucket.counters[i].sum();
+                }
+            }
+        }
+        long[] totals = new long[COUNTERS - 1];
+        System.arraycopy(sums, 1, totals, 0, totals.length);
+        return new StatsWindow(window, toDateTime(oldestEpoch * resolutionMillis), toDateTime(now), sums[0], totals);
+    }
+
+    /**
+     * Ventana máxima consultable.
+     *
+     * @return Ventana máxima
+     */
+    public Duration getMaxWindow() {
+        return maxWindow;
+    }
+
+    private Bucket current(long epoch) {
+        int slot = slot(epoch);
+        while (true) {
+            Bucket bucket = ring.get(slot);
+            if (bucket != null && bucket.epoch >= epoch) {
+                return bucket;
+            }
+            Bucket created = new Bucket(epoch);
+            if (ring.compareAndSet(slot, bucket, created)) {
+                return created;
+            }
+        }
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) ring.length());
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * Franja del anillo. Sus contadores son {@link LongAdder} para repartir la contención entre celdas.
+     */
+    private static final class Bucket {
+        private final long epoch;
+        private final LongAdder[] counters = new LongAdder[COUNTERS];
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+            for (int i = 0; i < COUNTERS; i++) {
+                counters[i] = new LongAdder();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package co.com.bancolombia.usecase.stats;
+
+import co.com.bancolombia.model.stats.StatsRollup;
+import co.com.bancolombia.model.stats.gateways.StatsRollupRepository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Caso de uso para consultar los totales pre-agregados de las estadísticas por minuto, hora o día.
+ */
+public class StatsRollupUseCase {
+
+    /**
+     * Máximo de intervalos que puede abarcar una consulta.
+     */
+    public static final int MAX_BUCKETS = 2000;
+
+    private final StatsRollupRepository rollupRepository;
+
+    /**
+     * Crea el caso de uso.
+     *
+     * @param rollupRepository Repositorio de totales pre-agregados
+     */
+    public StatsRollupUseCase(StatsRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    /**
+     * Consulta los totales de un rango de tiempo con la granularidad indicada.
+     *
+     * @param granularity Amplitud de los intervalos
+     * @param from Inicio del rango (inclusivo)
+     * @param to Fin del rango (exclusivo)
+     * @return Flux con los totales de cada intervalo, o un error si el rango es inválido o abarca más de
+     * {@value #MAX_BUCKETS} intervalos
+     */
+    public Flux<StatsRollup> findRollups(StatsRollup.Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (granularity == null || from == null || to == null || !from.isBefore(to)) {
+            return Flux.error(new IllegalArgumentException(
+                    "La consulta requiere una granularidad y un inicio anterior al fin"));
+        }
+        if (granularity.bucketsBetween(from, to) > MAX_BUCKETS) {
+            return Flux.error(new IllegalArgumentException(
+                    "El rango no puede abarcar más de " + MAX_BUCKETS + " intervalos"));
+        }
+        return rollupRepository.findRollups(granularity, from, to);
+    }
+}
@@ -1,24 +1,57 @@
 package co.com.bancolombia.usecase.stats;
 
+import co.com.bancolombia.model.stats.Md5HashVerifier;
 import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StatsBatchResult;
+import co.com.bancolombia.model.stats.StatsWindow;
+import co.com.bancolombia.model.stats.StoredStats;
 import co.com.bancolombia.model.stats.gateways.EventPublisherGateway;
 import co.com.bancolombia.model.stats.gateways.StatsRepository;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * Caso de uso principal para el procesamiento de estadísticas de interacción de clientes.
  *
- * <p>Valida el hash MD5, asigna el timestamp, guarda la estadística en DynamoDB y publica el evento en RabbitMQ.</p>
+ * <p>Valida el hash MD5, asigna el timestamp, guarda la estadística en DynamoDB y publica el evento en RabbitMQ.
+ * Los guardados individuales pasan antes por una {@link IdempotencyCache} que descarta los reintentos repetidos
+ * sin realizar escrituras ni publicaciones.</p>
+ *
+ * <p>Cada estadística aceptada alimenta además un {@link LiveStatsAggregator} que responde en memoria las
+ * consultas de totales en vivo, y un {@link AcceptedStatsBroadcaster} que la difunde a los tableros suscritos.
+ * Todos sus colaboradores se reciben ya configurados (ver {@code UseCasesConfig}).</p>
  */
 @RequiredArgsConstructor
 public class StatsUseCase {
 
+    /**
+     * Amplitud máxima del rango de tiempo de una consulta.
+     */
+    public static final Duration MAX_QUERY_RANGE = Duration.ofDays(31);
+
+    /**
+     * Máximo de estadísticas emitidas por una consulta.
+     */
+    public static final int MAX_QUERY_LIMIT = 10_000;
+
+    private static final String INVALID_HASH = "Hash MD5 inválido";
+    private static final String PERSISTENCE_ERROR = "No fue posible persistir la estadística";
+    private static final String PUBLISH_ERROR = "No fue posible publicar el evento de la estadística";
+    private static final int PUBLISH_CONCURRENCY = 32;
+
     private final StatsRepository statsRepository;
     private final EventPublisherGateway eventPublisher;
+    private final IdempotencyCache idempotencyCache;
+    private final LiveStatsAggregator liveAggregator;
+    private final AcceptedStatsBroadcaster broadcaster;
+    private final Md5HashVerifier hashVerifier = new Md5HashVerifier();
 
     /**
      * Procesa y guarda una estadística si el hash es válido.
@@ -29,15 +62,158 @@ public class StatsUseCase {
      * @return Mono que emite la estadística guardada o un error si el hash es inválido
      */
     public Mono<Stats> saveStats(Stats stats) {
+        return saveStats(stats, null);
+    }
+
+    /**
+     * Procesa y guarda una estadística de forma idempotente.
+     *
+     * <p>Si la clave de idempotencia (o, en su defecto, el hash dentro de la franja de tiempo actual) ya se
+     * procesó, retorna la estadística guardada originalmente sin volver a persistirla ni publicarla. Si el
+     * repositorio detecta que el registro ya existía, tampoco se publica el evento.</p>
+     *
+     * @param stats La estadística a procesar
+     * @param idempotencyKey Clave enviada por el cliente en {@code Idempotency-Key}, o null
+     * @return Mono que emite la estadística guardada o un error si el hash es inválido
+     */
+    public Mono<Stats> saveStats(Stats stats, String idempotencyKey) {
         return Mono.just(stats)
                 .filter(this::isValidHash)
-                .switchIfEmpty(Mono.error(new IllegalArgumentException("Hash MD5 inválido")))
-                .map(s -> {
-                    s.setTimestamp();
-                    return s;
+                .switchIfEmpty(Mono.error(new IllegalArgumentException(INVALID_HASH)))
+                .flatMap(s -> idempotencyCache.deduplicate(idempotencyCache.keyFor(s, idempotencyKey),
+                        () -> persistAndPublish(s)));
+    }
+
+    private Mono<Stats> persistAndPublish(Stats stats) {
+        return Mono.fromSupplier(() -> {
+                    stats.setTimestamp();
+                    return stats;
                 })
-                .flatMap(statsRepository::saveStats)
-                .flatMap(savedStats -> eventPublisher.publishEvent(savedStats).thenReturn(savedStats));
+                .flatMap(s -> statsRepository.saveStats(s)
+                        .flatMap(savedStats -> eventPublisher.publishEvent(savedStats).thenReturn(savedStats))
+                        .doOnNext(this::onAccepted)
+                        .defaultIfEmpty(s));
+    }
+
+    /**
+     * Procesa y guarda un lote de estadísticas reportando el resultado de cada elemento.
+     *
+     * <p>Las estadísticas con hash inválido se rechazan sin detener el lote. Las válidas reciben su timestamp,
+     * se persisten en una sola escritura por lotes y luego se publica el evento de cada una. Cada resultado
+     * conserva la posición del elemento en la lista recibida.</p>
+     *
+     * @param batch Lista de estadísticas a procesar
+     * @return Flux que emite un resultado por cada elemento del lote
+     */
+    public Flux<StatsBatchResult> saveStatsBatch(List<Stats> batch) {
+        List<StatsBatchResult> rejected = new ArrayList<>();
+        List<Stats> valid = new ArrayList<>(batch.size());
+        List<Integer> positions = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Stats stats = batch.get(i);
+            if (isValidHash(stats)) {
+                stats.setTimestamp();
+                valid.add(stats);
+                positions.add(i);
+            } else {
+                rejected.add(StatsBatchResult.rejected(i, stats, INVALID_HASH));
+            }
+        }
+
+        Flux<StatsBatchResult> persisted = Flux.defer(() -> {
+            BitSet saved = new BitSet(valid.size());
+            return statsRepository.saveAll(valid)
+                    .doOnNext(saved::set)
+                    .flatMap(item -> publishBatchItem(positions.get(item), valid.get(item)), PUBLISH_CONCURRENCY)
+                    .concatWith(Flux.defer(() -> Flux.range(0, valid.size())
+                            .filter(item -> !saved.get(item))
+                            .map(item -> StatsBatchResult.failed(positions.get(item), valid.get(item),
+                                    PERSISTENCE_ERROR))));
+        });
+
+        return Flux.fromIterable(rejected).concatWith(persisted);
+    }
+
+    /**
+     * Publica el evento de una estadística del lote ya persistida.
+     *
+     * @param index Posición del elemento en el lote
+     * @param stats Estadística guardada
+     * @return Mono que emite el resultado del elemento
+     */
+    private Mono<StatsBatchResult> publishBatchItem(int index, Stats stats) {
+        return eventPublisher.publishEvent(stats)
+                .then(Mono.fromSupplier(() -> {
+                    onAccepted(stats);
+                    return StatsBatchResult.accepted(index, stats);
+                }))
+                .onErrorResume(e -> Mono.just(StatsBatchResult.failed(index, stats, PUBLISH_ERROR)));
+    }
+
+    /**
+     * Consulta las estadísticas de un rango de tiempo en orden cronológico.
+     *
+     * <p>Emite como máximo {@code limit} estadísticas; para obtener las siguientes se repite la consulta con el
+     * cursor del último elemento recibido. El rango no puede superar {@link #MAX_QUERY_RANGE}.</p>
+     *
+     * @param from Inicio del rango (inclusivo)
+     * @param to Fin del rango (exclusivo)
+     * @param cursor Cursor del último elemento recibido en la consulta anterior, o null
+     * @param limit Máximo de estadísticas a emitir, entre 1 y {@value #MAX_QUERY_LIMIT}
+     * @return Flux con las estadísticas del rango o un error si los parámetros son inválidos
+     */
+    public Flux<StoredStats> findStats(LocalDateTime from, LocalDateTime to, String cursor, int limit) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            return Flux.error(new IllegalArgumentException("El inicio del rango debe ser anterior al fin"));
+        }
+        if (Duration.between(from, to).compareTo(MAX_QUERY_RANGE) > 0) {
+            return Flux.error(new IllegalArgumentException(
+                    "El rango no puede superar " + MAX_QUERY_RANGE.toDays() + " días"));
+        }
+        if (limit <= 0 || limit > MAX_QUERY_LIMIT) {
+            return Flux.error(new IllegalArgumentException(
+                    "El límite debe estar entre 1 y " + MAX_QUERY_LIMIT));
+        }
+        return statsRepository.findByTimeRange(from, to, cursor).take(limit);
+    }
+
+    /**
+     * Obtiene los totales en vivo de las estadísticas aceptadas en la ventana más reciente.
+     *
+     * <p>Se calcula en memoria a partir del {@link LiveStatsAggregator}, sin consultar el repositorio.</p>
+     *
+     * @param window Amplitud de la ventana
+     * @return Mono con los totales de la ventana, o un error si la ventana no es positiva o supera la máxima
+     */
+    public Mono<StatsWindow> liveStats(Duration window) {
+        return Mono.fromSupplier(() -> liveAggregator.snapshot(window));
+    }
+
+    /**
+     * Flujo caliente de las estadísticas aceptadas a partir de la suscripción.
+     *
+     * <p>No aplica backpressure a la ingesta: el suscriptor que no tenga demanda pierde los elementos, por lo que
+     * debe poner su propio buffer acotado delante.</p>
+     *
+     * @return Flux sin fin de estadísticas aceptadas
+     */
+    public Flux<Stats> acceptedStats() {
+        return broadcaster.events();
+    }
+
+    /**
+     * Flujo caliente con los totales de las estadísticas aceptadas en cada intervalo.
+     *
+     * @param interval Amplitud de cada intervalo, en segundos enteros entre 1 y 60
+     * @return Flux sin fin con un total por intervalo, o un error si el intervalo es inválido
+     */
+    public Flux<StatsWindow> acceptedRollups(Duration interval) {
+        return broadcaster.rollups(interval);
+    }
+
+    private void onAccepted(Stats stats) {
+        liveAggregator.record(stats);
+        broadcaster.publish(stats);
     }
 
     /**
@@ -47,37 +223,9 @@ public class StatsUseCase {
      */
     private boolean isValidHash(Stats stats) {
         try {
-            String expectedHash = generateMD5Hash(stats);
-            return expectedHash.equals(stats.getHash());
+            return hashVerifier.matches(stats);
         } catch (Exception e) {
             return false;
         }
     }
-
-    /**
-     * Genera el hash MD5 esperado con los datos de la estadística.
-     * @param stats La estadística para generar el hash
-     * @return El hash MD5 generado
-     * @throws NoSuchAlgorithmException si el algoritmo MD5 no está disponible
-     */
-    private String generateMD5Hash(Stats stats) throws NoSuchAlgorithmException {
-        String data = String.format("%d,%d,%d,%d,%d,%d,%d",
-                stats.getTotalContactoClientes(),
-                stats.getMotivoReclamo(),
-                stats.getMotivoGarantia(),
-                stats.getMotivoDuda(),
-                stats.getMotivoCompra(),
-                stats.getMotivoFelicitaciones(),
-                stats.getMotivoCambio());
-
-        MessageDigest md = MessageDigest.getInstance("MD5");
-        byte[] hashBytes = md.digest(data.getBytes());
-
-        StringBuilder sb = new StringBuilder();
-        for (byte b : hashBytes) {
-            sb.append(String.format("%02x", b));
-        }
-
-        return sb.toString();
-    }
 }
@@ -0,0 +1,86 @@
+package co.com.bancolombia.usecase.stats;
+
+import co.com.bancolombia.model.stats.Stats;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas unitarias para {@link AcceptedStatsBroadcaster}.
+ */
+class AcceptedStatsBroadcasterTest {
+
+    private final AcceptedStatsBroadcaster broadcaster = new AcceptedStatsBroadcaster();
+
+    /**
+     * Verifica que cada suscriptor reciba las estadísticas publicadas después de suscribirse.
+     */
+    @Test
+    void shouldDeliverPublishedStatsToEverySubscriber() {
+        broadcaster.publish(stats(1, 0));
+
+        StepVerifier.create(broadcaster.events().take(2))
+                .then(() -> {
+                    broadcaster.publish(stats(10, 1));
+                    broadcaster.publish(stats(20, 2));
+                })
+                .expectNextMatches(s -> s.getTotalContactoClientes() == 10)
+                .expectNextMatches(s -> s.getTotalContactoClientes() == 20)
+                .verifyComplete();
+        assertEquals(0, broadcaster.getDropped());
+    }
+
+    /**
+     * Verifica que los totales por intervalo sumen las estadísticas publicadas y que los intervalos vacíos
+     * también se emitan.
+     */
+    @Test
+    void shouldSumAcceptedStatsPerInterval() {
+        StepVerifier.withVirtualTime(() -> new AcceptedStatsBroadcaster().rollups(Duration.ofSeconds(1)).take(2))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(1))
+                .thenAwait(Duration.ofSeconds(1))
+                .assertNext(window -> assertEquals(0, window.getCount()))
+                .thenAwait(Duration.ofSeconds(1))
+                .assertNext(window -> assertEquals(Duration.ofSeconds(1), window.getWindow()))
+                .verifyComplete();
+    }
+
+    /**
+     * Verifica que el total de un intervalo incluya las estadísticas publicadas dentro de él.
+     */
+    @Test
+    void shouldAggregatePublishedStats() {
+        StepVerifier.create(broadcaster.rollups(Duration.ofSeconds(1)).take(1))
+                .then(() -> {
+                    broadcaster.publish(stats(10, 1));
+                    broadcaster.publish(stats(30, 2));
+                })
+                .assertNext(window -> {
+                    assertEquals(2, window.getCount());
+                    assertEquals(40, window.getTotalContactoClientes());
+                    assertEquals(3, window.getMotivoReclamo());
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * Verifica que se rechacen los intervalos fuera de rango o sin segundos enteros.
+     */
+    @Test
+    void shouldRejectInvalidInterval() {
+        StepVerifier.create(broadcaster.rollups(Duration.ofMillis(1500)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(broadcaster.rollups(Duration.ofMinutes(5)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    private static Stats stats(int total, int reclamo) {
+        return new Stats(null, total, reclamo, 0, 0, 0, 0, 0, "hash");
+    }
+}
@@ -0,0 +1,113 @@
+package co.com.bancolombia.usecase.stats;
+
+import co.com.bancolombia.model.stats.Stats;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Pruebas unitarias para {@link IdempotencyCache}.
+ *
+ * <p>Verifica la deduplicación, la expiración por ttl, el límite de tamaño y la liberación de claves fallidas.</p>
+ */
+class IdempotencyCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicLong millis = new AtomicLong();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private IdempotencyCache cache(int maxEntries) {
+        return new IdempotencyCache(maxEntries, Duration.ofSeconds(10), Duration.ofSeconds(60),
+                nanos::get, millis::get);
+    }
+
+    private Mono<Stats> operation() {
+        return Mono.fromSupplier(() -> {
+            executions.incrementAndGet();
+            return new Stats();
+        });
+    }
+
+    /**
+     * Verifica que una clave repetida reciba el mismo resultado sin ejecutar de nuevo la operación.
+     */
+    @Test
+    void shouldExecuteOperationOncePerKey() {
+        IdempotencyCache cache = cache(10);
+
+        Stats first = cache.deduplicate("k", this::operation).block();
+        Stats second = cache.deduplicate("k", this::operation).block();
+
+        assertEquals(1, executions.get());
+        assertEquals(first, second);
+    }
+
+    /**
+     * Verifica que la clave expire al cumplirse el ttl.
+     */
+    @Test
+    void shouldExpireKeysAfterTtl() {
+        IdempotencyCache cache = cache(10);
+
+        cache.deduplicate("k", this::operation).block();
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.deduplicate("k", this::operation).block();
+
+        assertEquals(2, executions.get());
+    }
+
+    /**
+     * Verifica que se descarte la entrada más antigua al superar el tamaño máximo.
+     */
+    @Test
+    void shouldEvictOldestEntryWhenFull() {
+        IdempotencyCache cache = cache(2);
+
+        cache.deduplicate("a", this::operation).block();
+        cache.deduplicate("b", this::operation).block();
+        cache.deduplicate("c", this::operation).block();
+        cache.deduplicate("a", this::operation).block();
+
+        assertEquals(4, executions.get());
+        assertEquals(2, cache.size());
+    }
+
+    /**
+     * Verifica que una operación fallida libere la clave para el siguiente reintento.
+     */
+    @Test
+    void shouldReleaseKeyWhenOperationFails() {
+        IdempotencyCache cache = cache(10);
+
+        StepVerifier.create(cache.deduplicate("k", () -> Mono.error(new RuntimeException("falla"))))
+                .expectError(RuntimeException.class)
+                .verify();
+        cache.deduplicate("k", this::operation).block();
+
+        assertEquals(1, executions.get());
+    }
+
+    /**
+     * Verifica que la clave derivada use el encabezado si existe y, si no, el hash con la franja de tiempo.
+     */
+    @Test
+    void shouldDeriveKeyFromHeaderOrHashBucket() {
+        IdempotencyCache cache = cache(10);
+        Stats stats = new Stats();
+        stats.setHash("abc");
+
+        String inBucket = cache.keyFor(stats, null);
+        millis.set(Duration.ofSeconds(59).toMillis());
+        assertEquals(inBucket, cache.keyFor(stats, " "));
+        millis.set(Duration.ofSeconds(61).toMillis());
+        assertNotEquals(inBucket, cache.keyFor(stats, null));
+        assertEquals("key:retry-1", cache.keyFor(stats, "retry-1"));
+    }
+}
@@ -0,0 +1,83 @@
+package co.com.bancolombia.usecase.stats;
+
+import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StatsWindow;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas unitarias para {@link LiveStatsAggregator}.
+ */
+class LiveStatsAggregatorTest {
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private final LiveStatsAggregator aggregator =
+            new LiveStatsAggregator(Duration.ofSeconds(1), Duration.ofMinutes(1), clock::get);
+
+    /**
+     * Verifica que cada ventana sume solo las estadísticas registradas dentro de ella.
+     */
+    @Test
+    void shouldSumOnlyStatsInsideWindow() {
+        aggregator.record(stats(100, 10));
+        clock.addAndGet(30_000);
+        aggregator.record(stats(50, 5));
+        aggregator.record(stats(25, 1));
+
+        StatsWindow lastTenSeconds = aggregator.snapshot(Duration.ofSeconds(10));
+        StatsWindow lastMinute = aggregator.snapshot(Duration.ofMinutes(1));
+
+        assertEquals(2, lastTenSeconds.getCount());
+        assertEquals(75, lastTenSeconds.getTotalContactoClientes());
+        assertEquals(6, lastTenSeconds.getMotivoReclamo());
+        assertEquals(3, lastMinute.getCount());
+        assertEquals(175, lastMinute.getTotalContactoClientes());
+    }
+
+    /**
+     * Verifica que las franjas vencidas no se cuenten después de que el anillo da la vuelta.
+     */
+    @Test
+    void shouldForgetExpiredBuckets() {
+        aggregator.record(stats(100, 10));
+        clock.addAndGet(61_000);
+        aggregator.record(stats(1, 0));
+
+        StatsWindow lastMinute = aggregator.snapshot(Duration.ofMinutes(1));
+
+        assertEquals(1, lastMinute.getCount());
+        assertEquals(1, lastMinute.getTotalContactoClientes());
+        assertThrows(IllegalArgumentException.class, () -> aggregator.snapshot(Duration.ofMinutes(2)));
+    }
+
+    /**
+     * Verifica que los registros concurrentes no pierdan incrementos.
+     */
+    @Test
+    void shouldNotLoseConcurrentIncrements() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8_000; i++) {
+            executor.execute(() -> aggregator.record(stats(2, 1)));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        StatsWindow live = aggregator.snapshot(Duration.ofSeconds(5));
+
+        assertEquals(8_000, live.getCount());
+        assertEquals(16_000, live.getTotalContactoClientes());
+    }
+
+    private static Stats stats(int total, int reclamo) {
+        return new Stats(null, total, reclamo, 0, 0, 0, 0, 0, "hash");
+    }
+}
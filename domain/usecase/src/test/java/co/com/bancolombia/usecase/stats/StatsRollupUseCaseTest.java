@@ -0,0 +1,61 @@
+package co.com.bancolombia.usecase.stats;
+
+import co.com.bancolombia.model.stats.StatsRollup;
+import co.com.bancolombia.model.stats.gateways.StatsRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para el caso de uso {@link StatsRollupUseCase}.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatsRollupUseCaseTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.parse("2024-06-01T10:00:00");
+
+    @Mock
+    private StatsRollupRepository rollupRepository;
+
+    @InjectMocks
+    private StatsRollupUseCase rollupUseCase;
+
+    /**
+     * Verifica que la consulta se delegue al repositorio cuando el rango es válido.
+     */
+    @Test
+    void shouldReturnRollupsOfRange() {
+        StatsRollup rollup = new StatsRollup(StatsRollup.Granularity.HOUR, FROM, 250, 25, 10, 100, 100, 7, 8);
+        when(rollupRepository.findRollups(StatsRollup.Granularity.HOUR, FROM, FROM.plusHours(3)))
+            .thenReturn(Flux.just(rollup));
+
+        StepVerifier.create(rollupUseCase.findRollups(StatsRollup.Granularity.HOUR, FROM, FROM.plusHours(3)))
+            .expectNext(rollup)
+            .verifyComplete();
+    }
+
+    /**
+     * Verifica que se rechacen los rangos invertidos o con demasiados intervalos.
+     */
+    @Test
+    void shouldRejectInvalidRanges() {
+        StepVerifier.create(rollupUseCase.findRollups(StatsRollup.Granularity.HOUR, FROM, FROM))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+        StepVerifier.create(rollupUseCase.findRollups(StatsRollup.Granularity.MINUTE, FROM, FROM.plusDays(2)))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+        verify(rollupRepository, never()).findRollups(any(), any(), any());
+    }
+}
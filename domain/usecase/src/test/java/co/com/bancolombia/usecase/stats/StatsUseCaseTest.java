@@ -1,18 +1,29 @@
 package co.com.bancolombia.usecase.stats;
 
 import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StatsBatchResult;
+import co.com.bancolombia.model.stats.StoredStats;
 import co.com.bancolombia.model.stats.gateways.EventPublisherGateway;
 import co.com.bancolombia.model.stats.gateways.StatsRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -29,7 +40,6 @@ class StatsUseCaseTest {
     @Mock
     private EventPublisherGateway eventPublisherGateway;
 
-    @InjectMocks
     private StatsUseCase statsUseCase;
 
     private Stats validStats;
@@ -41,6 +51,8 @@ class StatsUseCaseTest {
      */
     @BeforeEach
     void setUp() {
+        statsUseCase = new StatsUseCase(statsRepository, eventPublisherGateway, new IdempotencyCache(),
+                new LiveStatsAggregator(), new AcceptedStatsBroadcaster());
 
         validStats = new Stats();
         validStats.setTotalContactoClientes(250);
@@ -134,4 +146,158 @@ class StatsUseCaseTest {
             .expectError(RuntimeException.class)
             .verify();
     }
+
+    /**
+     * Verifica que en un lote se rechacen los elementos con hash inválido y se acepten los válidos.
+     */
+    @Test
+    void shouldReportEachItemOfBatch() {
+
+        when(statsRepository.saveAll(any()))
+            .thenAnswer(invocation -> Flux.range(0, invocation.<List<Stats>>getArgument(0).size()));
+        when(eventPublisherGateway.publishEvent(any(Stats.class)))
+            .thenReturn(Mono.empty());
+
+
+        Flux<StatsBatchResult> result = statsUseCase.saveStatsBatch(List.of(invalidStats, validStats));
+
+
+        StepVerifier.create(result)
+            .expectNextMatches(r -> r.getIndex() == 0 && r.getStatus() == StatsBatchResult.Status.REJECTED)
+            .expectNextMatches(r -> r.getIndex() == 1 && r.getStatus() == StatsBatchResult.Status.ACCEPTED
+                && r.getStats() == validStats)
+            .verifyComplete();
+    }
+
+    /**
+     * Verifica que los elementos no emitidos por el repositorio se reporten como fallidos.
+     */
+    @Test
+    void shouldReportFailedWhenBatchItemIsNotPersisted() {
+
+        when(statsRepository.saveAll(any()))
+            .thenReturn(Flux.empty());
+
+
+        Flux<StatsBatchResult> result = statsUseCase.saveStatsBatch(List.of(validStats));
+
+
+        StepVerifier.create(result)
+            .expectNextMatches(r -> r.getIndex() == 0 && r.getStatus() == StatsBatchResult.Status.FAILED)
+            .verifyComplete();
+    }
+
+    /**
+     * Verifica que las posiciones emitidas por el repositorio se traduzcan a la posición de cada elemento en el
+     * lote, aunque el repositorio persista solo una parte y no emita las instancias recibidas.
+     */
+    @Test
+    void shouldMapPersistedPositionsToBatchIndexes() {
+        Stats otherValid = new Stats(null, 250, 25, 10, 100, 100, 7, 8, validStats.getHash());
+        when(statsRepository.saveAll(any()))
+            .thenReturn(Flux.just(1));
+        when(eventPublisherGateway.publishEvent(any(Stats.class)))
+            .thenReturn(Mono.empty());
+
+
+        Flux<StatsBatchResult> result = statsUseCase.saveStatsBatch(List.of(validStats, invalidStats, otherValid));
+
+
+        StepVerifier.create(result)
+            .expectNextMatches(r -> r.getIndex() == 1 && r.getStatus() == StatsBatchResult.Status.REJECTED)
+            .expectNextMatches(r -> r.getIndex() == 2 && r.getStatus() == StatsBatchResult.Status.ACCEPTED
+                && r.getStats() == otherValid)
+            .expectNextMatches(r -> r.getIndex() == 0 && r.getStatus() == StatsBatchResult.Status.FAILED
+                && r.getStats() == validStats)
+            .verifyComplete();
+    }
+
+    /**
+     * Verifica que un reintento con la misma clave de idempotencia no vuelva a persistir ni publicar.
+     */
+    @Test
+    void shouldShortCircuitDuplicateIdempotencyKey() {
+
+        when(statsRepository.saveStats(any(Stats.class)))
+            .thenReturn(Mono.just(validStats));
+        when(eventPublisherGateway.publishEvent(any(Stats.class)))
+            .thenReturn(Mono.empty());
+
+
+        Mono<Stats> first = statsUseCase.saveStats(validStats, "retry-1");
+        Mono<Stats> retry = statsUseCase.saveStats(validStats, "retry-1");
+
+
+        StepVerifier.create(first.then(retry))
+            .expectNext(validStats)
+            .verifyComplete();
+        verify(statsRepository, times(1)).saveStats(any(Stats.class));
+        verify(eventPublisherGateway, times(1)).publishEvent(any(Stats.class));
+    }
+
+    /**
+     * Verifica que no se publique el evento cuando el repositorio detecta que el registro ya existía.
+     */
+    @Test
+    void shouldSkipPublishWhenRepositoryReportsExistingItem() {
+
+        when(statsRepository.saveStats(any(Stats.class)))
+            .thenReturn(Mono.empty());
+
+
+        StepVerifier.create(statsUseCase.saveStats(validStats))
+            .expectNext(validStats)
+            .verifyComplete();
+        verify(eventPublisherGateway, never()).publishEvent(any(Stats.class));
+    }
+
+    /**
+     * Verifica que la consulta por rango emita como máximo el límite solicitado.
+     */
+    @Test
+    void shouldLimitTimeRangeQuery() {
+        LocalDateTime from = LocalDateTime.parse("2024-06-01T10:00:00");
+        LocalDateTime to = from.plusHours(2);
+        when(statsRepository.findByTimeRange(from, to, "cursor"))
+            .thenReturn(Flux.range(0, 10).map(i -> new StoredStats(validStats, "c" + i)));
+
+        StepVerifier.create(statsUseCase.findStats(from, to, "cursor", 3).map(StoredStats::getCursor))
+            .expectNext("c0", "c1", "c2")
+            .verifyComplete();
+    }
+
+    /**
+     * Verifica que se rechacen los rangos invertidos o demasiado amplios sin consultar el repositorio.
+     */
+    @Test
+    void shouldRejectInvalidTimeRange() {
+        LocalDateTime from = LocalDateTime.parse("2024-06-01T10:00:00");
+
+        StepVerifier.create(statsUseCase.findStats(from, from.minusHours(1), null, 10))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+        StepVerifier.create(statsUseCase.findStats(from, from.plusDays(32), null, 10))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+        verify(statsRepository, never()).findByTimeRange(any(), any(), anyString());
+    }
+
+    /**
+     * Verifica que las estadísticas aceptadas alimenten los totales en vivo.
+     */
+    @Test
+    void shouldFeedLiveStatsWithAcceptedStats() {
+        when(statsRepository.saveStats(any(Stats.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(eventPublisherGateway.publishEvent(any(Stats.class)))
+            .thenReturn(Mono.empty());
+
+        StepVerifier.create(statsUseCase.saveStats(validStats)
+                .then(statsUseCase.liveStats(Duration.ofMinutes(5))))
+            .assertNext(live -> {
+                assertEquals(1, live.getCount());
+                assertEquals(250, live.getTotalContactoClientes());
+            })
+            .verifyComplete();
+    }
 }
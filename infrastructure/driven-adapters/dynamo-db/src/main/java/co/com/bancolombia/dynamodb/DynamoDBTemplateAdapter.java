@@ -1,12 +1,38 @@
 package co.com.bancolombia.dynamodb;
 
+import co.com.bancolombia.dynamodb.helper.EntityMapper;
 import co.com.bancolombia.dynamodb.helper.TemplateAdapterOperations;
+import co.com.bancolombia.dynamodb.key.ShardedKeyStrategy;
+import co.com.bancolombia.dynamodb.key.SortableIdGenerator;
+import co.com.bancolombia.dynamodb.key.StatsCursor;
+import co.com.bancolombia.dynamodb.key.StatsKey;
+import co.com.bancolombia.dynamodb.key.StatsKeyStrategy;
+import co.com.bancolombia.dynamodb.resilience.DynamoDBResilience;
+import co.com.bancolombia.dynamodb.rollup.StatsRollupWriter;
 import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StoredStats;
 import co.com.bancolombia.model.stats.gateways.StatsRepository;
 import org.reactivecommons.utils.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * Adaptador para operaciones de persistencia en DynamoDB de la entidad {@link Stats}.
@@ -14,11 +40,47 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
  * <p>Implementa el gateway {@link StatsRepository} de la capa de dominio utilizando el cliente asíncrono de DynamoDB
  * y el template genérico {@link TemplateAdapterOperations} para mapear entre el modelo de dominio y el modelo de la base de datos.</p>
  *
- * <p>La tabla utilizada es <b>stats-table</b>.</p>
+ * <p>La tabla utilizada es <b>stats-table</b>, con clave compuesta ({@code pk}, {@code sk}) generada por la
+ * {@link StatsKeyStrategy} configurada a partir del timestamp y del identificador del registro: cada estadística
+ * recibe al guardarse un identificador aleatorio ordenable en el tiempo ({@link SortableIdGenerator#newId}), así que
+ * dos registros con el mismo timestamp y contenido no se sobrescriben, y la estadística guardada conserva su clave.</p>
+ *
+ * <p>Con {@code app.stats.idempotency.conditional-put=true} los guardados individuales usan una escritura
+ * condicional cuya clave usa el inicio de la franja {@code app.stats.idempotency.bucket} en lugar del timestamp
+ * exacto y el hash de la estadística en lugar del identificador: el reintento de un mismo contenido dentro de la
+ * franja llega a la misma clave y no se escribe ni se publica de nuevo, aunque lo atienda otra instancia. Si la
+ * condición falla porque la escritura que se reintenta ya se había aplicado (por ejemplo tras un timeout), el
+ * registro guardado conserva el identificador de la estadística y el guardado se reporta como exitoso. Los
+ * guardados por lotes no son condicionales y usan la clave normal. Las consultas por rango filtran por el
+ * timestamp de cada registro, y dentro de una franja el orden es el de la clave.</p>
+ *
+ * <p>Las consultas por rango de tiempo requieren la estrategia {@link ShardedKeyStrategy}: se ejecuta una query
+ * por hora y shard con {@code between} sobre la clave de ordenamiento, y los resultados de los shards de cada
+ * hora se mezclan en orden cronológico.</p>
+ *
+ * <p>Con {@code app.stats.rollup.enabled=true} cada estadística guardada se entrega además al
+ * {@link StatsRollupWriter}, que mantiene sus totales por minuto, hora y día.</p>
+ *
+ * <p>Las llamadas a DynamoDB pasan por la {@link DynamoDBResilience} del contexto (reintentos, limitación de tasa,
+ * circuit breaker y peticiones de respaldo en las lecturas).</p>
+ *
+ * <p>La conversión entre {@link Stats} y {@link StatsEntity} la hace el {@link EntityMapper} del contexto: por
+ * defecto {@link StatsEntityMapper}, generado por MapStruct; con {@code app.stats.mapping.strategy=reflective},
+ * el {@link ObjectMapper} de reactive-commons. El esquema de la tabla es {@link StatsEntity#tableSchema()}.</p>
  */
 @Repository
 public class DynamoDBTemplateAdapter extends TemplateAdapterOperations<Stats /*domain model*/, String, StatsEntity /*adapter model*/> implements StatsRepository/* implements Gateway from domain */ {
 
+    /**
+     * Registros leídos por adelantado de cada shard al mezclar los resultados de una hora.
+     */
+    private static final int MERGE_PREFETCH = 32;
+
+    private final StatsKeyStrategy keyStrategy;
+    private final boolean conditionalPut;
+    private final long conditionalPutSlotMillis;
+    private final StatsRollupWriter rollupWriter;
+
     /**
      * Constructor del adaptador DynamoDB.
      *
@@ -26,22 +88,263 @@ public class DynamoDBTemplateAdapter extends TemplateAdapterOperations<Stats /*d
      * @param mapper            Mapper para convertir entre modelos de dominio y de base de datos
      */
     public DynamoDBTemplateAdapter(DynamoDbEnhancedAsyncClient connectionFactory, ObjectMapper mapper) {
+        this(connectionFactory, mapper, new ShardedKeyStrategy(ShardedKeyStrategy.DEFAULT_SHARDS), null);
+    }
+
+    /**
+     * Constructor del adaptador DynamoDB sin totales pre-agregados.
+     *
+     * @param connectionFactory Cliente asíncrono de DynamoDB
+     * @param mapper            Mapper para convertir entre modelos de dominio y de base de datos
+     * @param keyStrategy       Estrategia de generación de la clave primaria compuesta
+     * @param conditionalPutSlot Franja de la escritura condicional, o null si los guardados no son condicionales
+     */
+    public DynamoDBTemplateAdapter(DynamoDbEnhancedAsyncClient connectionFactory, ObjectMapper mapper,
+                                   StatsKeyStrategy keyStrategy, @Nullable Duration conditionalPutSlot) {
+        this(connectionFactory, mapper, keyStrategy, conditionalPutSlot, null);
+    }
+
+    /**
+     * Constructor del adaptador DynamoDB sin capa de resiliencia.
+     *
+     * @param connectionFactory Cliente asíncrono de DynamoDB
+     * @param mapper            Mapper para convertir entre modelos de dominio y de base de datos
+     * @param keyStrategy       Estrategia de generación de la clave primaria compuesta
+     * @param conditionalPutSlot Franja de la escritura condicional, o null si los guardados no son condicionales
+     * @param rollupWriter      Acumulador de totales pre-agregados, o null si están deshabilitados
+     */
+    public DynamoDBTemplateAdapter(DynamoDbEnhancedAsyncClient connectionFactory, ObjectMapper mapper,
+                                   StatsKeyStrategy keyStrategy, @Nullable Duration conditionalPutSlot,
+                                   @Nullable StatsRollupWriter rollupWriter) {
+        this(connectionFactory, mapper, keyStrategy, conditionalPutSlot, rollupWriter, DynamoDBResilience.disabled());
+    }
+
+    /**
+     * Constructor del adaptador DynamoDB con la conversión reflexiva del {@link ObjectMapper}.
+     *
+     * @param connectionFactory Cliente asíncrono de DynamoDB
+     * @param mapper            Mapper para convertir entre modelos de dominio y de base de datos
+     * @param keyStrategy       Estrategia de generación de la clave primaria compuesta
+     * @param conditionalPutSlot Franja de la escritura condicional, o null si los guardados no son condicionales
+     * @param rollupWriter      Acumulador de totales pre-agregados, o null si están deshabilitados
+     * @param resilience        Capa de resiliencia de las llamadas a DynamoDB
+     */
+    public DynamoDBTemplateAdapter(DynamoDbEnhancedAsyncClient connectionFactory, ObjectMapper mapper,
+                                   StatsKeyStrategy keyStrategy, @Nullable Duration conditionalPutSlot,
+                                   @Nullable StatsRollupWriter rollupWriter, DynamoDBResilience resilience) {
         /**
          *  Could be use mapper.mapBuilder if your domain model implement builder pattern
          *  super(repository, mapper, d -> mapper.mapBuilder(d,ObjectModel.ObjectModelBuilder.class).build());
          *  Or using mapper.map with the class of the object model
          */
-        super(connectionFactory, mapper, d -> mapper.map(d, Stats.class /*domain model*/), "stats-table" /*index is optional*/);
+        this(connectionFactory, EntityMapper.reflective(mapper, StatsEntity.class, d -> mapper.map(d, Stats.class)),
+                keyStrategy, conditionalPutSlot != null, conditionalPutSlot, rollupWriter, resilience);
+    }
+
+    /**
+     * Constructor del adaptador DynamoDB.
+     *
+     * @param connectionFactory Cliente asíncrono de DynamoDB
+     * @param entityMapper      Conversión entre el modelo de dominio y el de base de datos
+     * @param keyStrategy       Estrategia de generación de la clave primaria compuesta
+     * @param conditionalPut    Si los guardados individuales deben usar escritura condicional
+     * @param idempotencySlot   Franja de tiempo que comparten los reintentos de una misma estadística; con
+     *                          escritura condicional, define la clave del registro
+     * @param rollupWriter      Acumulador de totales pre-agregados, o null si están deshabilitados
+     * @param resilience        Capa de resiliencia de las llamadas a DynamoDB
+     */
+    @Autowired
+    public DynamoDBTemplateAdapter(DynamoDbEnhancedAsyncClient connectionFactory,
+                                   EntityMapper<Stats, StatsEntity> entityMapper,
+                                   StatsKeyStrategy keyStrategy,
+                                   @Value("${app.stats.idempotency.conditional-put:false}") boolean conditionalPut,
+                                   @Value("${app.stats.idempotency.bucket:1m}") @Nullable Duration idempotencySlot,
+                                   @Nullable StatsRollupWriter rollupWriter,
+                                   DynamoDBResilience resilience) {
+        super(connectionFactory, entityMapper, StatsEntity.tableSchema(), resilience,
+                "stats-table" /*index is optional*/);
+        if (conditionalPut && (idempotencySlot == null || idempotencySlot.toMillis() <= 0)) {
+            throw new IllegalArgumentException("La escritura condicional requiere una franja de idempotencia positiva");
+        }
+        this.keyStrategy = keyStrategy;
+        this.conditionalPut = conditionalPut;
+        this.conditionalPutSlotMillis = conditionalPut ? idempotencySlot.toMillis() : 0;
+        this.rollupWriter = rollupWriter;
+    }
+
+    /**
+     * Convierte la estadística a la entidad de DynamoDB con la clave que le asigna la estrategia configurada.
+     *
+     * <p>La primera conversión asigna a la estadística su identificador, y el instante actual si no tiene
+     * timestamp; las siguientes (reintentos, o volver a convertir la estadística guardada para borrarla) los
+     * reutilizan y producen la misma clave.</p>
+     *
+     * @param model Estadística de dominio
+     * @return Entidad con su clave primaria compuesta
+     */
+    @Override
+    protected StatsEntity toEntity(Stats model) {
+        if (model.getTimestamp() == null) {
+            model.setTimestamp();
+        }
+        if (model.getId() == null) {
+            model.setId(SortableIdGenerator.newId(model.getTimestamp().toInstant(ZoneOffset.UTC).toEpochMilli()));
+        }
+        StatsEntity entity = super.toEntity(model);
+        entity.setId(model.getId());
+        return withKey(entity, keyStrategy.keyFor(model.getTimestamp(), model.getId()));
+    }
+
+    /**
+     * Convierte la estadística a la entidad de la escritura condicional, cuya clave depende del inicio de la franja
+     * de idempotencia y del hash, para que los reintentos de un mismo contenido lleguen a la misma clave.
+     *
+     * @param model Estadística de dominio
+     * @return Entidad con la clave de idempotencia
+     */
+    private StatsEntity toIdempotentEntity(Stats model) {
+        StatsEntity entity = toEntity(model);
+        String hash = model.getHash() != null ? model.getHash() : "";
+        return withKey(entity, keyStrategy.keyFor(slotStart(model.getTimestamp()), hash));
+    }
+
+    private static StatsEntity withKey(StatsEntity entity, StatsKey key) {
+        entity.setPk(key.partitionKey());
+        entity.setSk(key.sortKey());
+        return entity;
+    }
+
+    /**
+     * Con escritura condicional, la condición también falla cuando se reintenta una escritura que ya se había
+     * aplicado; en ese caso el registro guardado tiene el identificador de la estadística que se intenta guardar.
+     *
+     * @param stored Registro que ocupa la clave
+     * @param written Entidad que se intentó escribir
+     * @return true si el registro guardado es el de esta misma estadística
+     */
+    @Override
+    protected boolean isSameWrite(StatsEntity stored, StatsEntity written) {
+        return written.getId() != null && written.getId().equals(stored.getId());
     }
 
     /**
      * Guarda una entidad de estadísticas en DynamoDB.
      *
      * @param stats Entidad de estadísticas a guardar
-     * @return Mono que emite la entidad guardada o un error si falla la operación
+     * @return Mono que emite la entidad guardada, vacío si la escritura condicional encontró un registro
+     * con la misma clave, o un error si falla la operación
      */
     @Override
     public Mono<Stats> saveStats(Stats stats) {
-        return super.save(stats);
+        Mono<Stats> saved = conditionalPut ? super.saveIfAbsent(stats, toIdempotentEntity(stats)) : super.save(stats);
+        return rollupWriter != null ? saved.doOnNext(rollupWriter::record) : saved;
+    }
+
+    /**
+     * Guarda un conjunto de estadísticas en DynamoDB usando BatchWriteItem en bloques de 25 elementos.
+     *
+     * @param stats Lista de estadísticas a guardar
+     * @return Flux que emite la posición de cada estadística efectivamente guardada
+     */
+    @Override
+    public Flux<Integer> saveAll(List<Stats> stats) {
+        Flux<Tuple2<Long, Stats>> saved = saveAllIndexed(Flux.fromIterable(stats));
+        if (rollupWriter != null) {
+            saved = saved.doOnNext(item -> rollupWriter.record(item.getT2()));
+        }
+        return saved.map(item -> item.getT1().intValue());
+    }
+
+    /**
+     * Consulta las estadísticas de un rango de tiempo siguiendo las páginas de DynamoDB de forma perezosa.
+     *
+     * <p>Las horas se recorren una a una; dentro de cada hora se consultan todos los shards en paralelo y se
+     * mezclan por clave de ordenamiento, que inicia con el timestamp. Con un cursor, la consulta retoma en la
+     * hora del registro indicado y descarta los registros hasta él inclusive.</p>
+     *
+     * @param from Inicio del rango (inclusivo)
+     * @param to Fin del rango (exclusivo)
+     * @param cursor Cursor de un elemento recibido previamente, o null
+     * @return Flux con las estadísticas del rango en orden cronológico
+     */
+    @Override
+    public Flux<StoredStats> findByTimeRange(LocalDateTime from, LocalDateTime to, String cursor) {
+        if (!(keyStrategy instanceof ShardedKeyStrategy sharded)) {
+            return Flux.error(new IllegalStateException(
+                    "La consulta por rango de tiempo requiere la estrategia de claves " + ShardedKeyStrategy.NAME));
+        }
+        String after;
+        try {
+            after = cursor != null ? StatsCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            return Flux.error(e);
+        }
+        String lower = StatsKeyStrategy.TIMESTAMP_FORMAT.format(conditionalPut ? slotStart(from) : from);
+        String upper = StatsKeyStrategy.TIMESTAMP_FORMAT.format(to);
+        if (after != null && after.compareTo(lower) > 0) {
+            lower = after;
+        }
+        if (lower.compareTo(upper) >= 0) {
+            return Flux.empty();
+        }
+        String lowerBound = lower;
+        LocalDateTime firstHour = StatsCursor.timestampOf(lowerBound).truncatedTo(ChronoUnit.HOURS);
+
+        return Flux.<LocalDateTime, LocalDateTime>generate(() -> firstHour, (hour, sink) -> {
+                    if (hour.isBefore(to)) {
+                        sink.next(hour);
+                    } else {
+                        sink.complete();
+                    }
+                    return hour.plusHours(1);
+                })
+                .concatMap(hour -> queryHour(hour, sharded.getShards(), lowerBound, upper), 0)
+                .filter(entity -> after == null || entity.getSk().compareTo(after) > 0)
+                .map(this::toStoredStats)
+                .filter(stored -> !conditionalPut || isWithin(stored.getStats().getTimestamp(), from, to));
+    }
+
+    /**
+     * Inicio de la franja de idempotencia que contiene el instante: el timestamp de la clave de las escrituras
+     * condicionales.
+     *
+     * @param timestamp Timestamp de la estadística
+     * @return Inicio de la franja
+     */
+    private LocalDateTime slotStart(LocalDateTime timestamp) {
+        long millis = timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+        long slotStart = Math.floorDiv(millis, conditionalPutSlotMillis) * conditionalPutSlotMillis;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(slotStart), ZoneOffset.UTC);
+    }
+
+    private static boolean isWithin(LocalDateTime timestamp, LocalDateTime from, LocalDateTime to) {
+        return !timestamp.isBefore(from) && timestamp.isBefore(to);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Flux<StatsEntity> queryHour(LocalDateTime hour, int shards, String lower, String upper) {
+        List<Flux<StatsEntity>> queries = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            String partitionKey = ShardedKeyStrategy.partitionKey(hour, shard);
+            queries.add(queryItems(QueryEnhancedRequest.builder()
+                    .queryConditional(QueryConditional.sortBetween(
+                            Key.builder().partitionValue(partitionKey).sortValue(lower).build(),
+                            Key.builder().partitionValue(partitionKey).sortValue(upper).build()))
+                    .build()));
+        }
+        return Flux.mergeComparing(MERGE_PREFETCH, Comparator.comparing(StatsEntity::getSk),
+                queries.toArray(Flux[]::new));
+    }
+
+    private StoredStats toStoredStats(StatsEntity entity) {
+        LocalDateTime timestamp = entity.getTimestamp() != null
+                ? LocalDateTime.parse(entity.getTimestamp())
+                : StatsCursor.timestampOf(entity.getSk());
+        Stats stats = new Stats(timestamp, entity.getTotalContactoClientes(),
+                entity.getMotivoReclamo(), entity.getMotivoGarantia(), entity.getMotivoDuda(),
+                entity.getMotivoCompra(), entity.getMotivoFelicitaciones(), entity.getMotivoCambio(),
+                entity.getHash());
+        stats.setId(entity.getId());
+        return new StoredStats(stats, StatsCursor.encode(entity.getSk()));
     }
 }
@@ -4,6 +4,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;
 
 
@@ -12,7 +15,13 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;
  *
  * <p>Mapea los campos del modelo de dominio {@link co.com.bancolombia.model.stats.Stats} a la tabla <b>stats-table</b> en DynamoDB.</p>
  *
- * <p>Utiliza anotaciones de AWS SDK para definir el mapeo de atributos y la clave primaria.</p>
+ * <p>Utiliza anotaciones de AWS SDK para definir el mapeo de atributos y la clave primaria compuesta
+ * ({@code pk}, {@code sk}), cuyos valores asigna la {@link co.com.bancolombia.dynamodb.key.StatsKeyStrategy}
+ * configurada.</p>
+ *
+ * <p>{@link #tableSchema()} declara el mismo mapeo de forma explícita, para que el adaptador no tenga que
+ * derivarlo por introspección con {@link TableSchema#fromBean} al iniciar. Las anotaciones y el esquema
+ * explícito deben mantenerse iguales.</p>
  */
 @Getter
 @Setter
@@ -21,6 +30,8 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;
 @DynamoDbBean
 public class StatsEntity {
 
+    private String pk;
+    private String sk;
     private String timestamp;
     private int totalContactoClientes;
     private int motivoReclamo;
@@ -30,15 +41,81 @@ public class StatsEntity {
     private int motivoFelicitaciones;
     private int motivoCambio;
     private String hash;
+    private String id;
 
     /**
-     * Obtiene el valor del atributo timestamp, que actúa como clave primaria en DynamoDB.
+     * Obtiene la clave de partición del registro.
      *
-     * @return Timestamp como string (clave primaria)
+     * @return Clave de partición
      */
     @DynamoDbPartitionKey
+    @DynamoDbAttribute("pk")
+    public String getPk() {
+        return pk;
+    }
+
+    /**
+     * Obtiene la clave de ordenamiento del registro.
+     *
+     * @return Clave de ordenamiento
+     */
+    @DynamoDbSortKey
+    @DynamoDbAttribute("sk")
+    public String getSk() {
+        return sk;
+    }
+
+    /**
+     * Obtiene el valor del atributo timestamp.
+     *
+     * @return Timestamp como string
+     */
     @DynamoDbAttribute("timestamp")
     public String getTimestamp() {
         return timestamp;
     }
+
+    /**
+     * Esquema de la tabla <b>stats-table</b> construido con getters y setters explícitos, equivalente al que
+     * produce {@code TableSchema.fromBean(StatsEntity.class)}.
+     *
+     * <p>Se construye la primera vez que se solicita, no al cargar la clase.</p>
+     *
+     * @return Esquema inmutable compartido
+     */
+    public static TableSchema<StatsEntity> tableSchema() {
+        return SchemaHolder.SCHEMA;
+    }
+
+    private static final class SchemaHolder {
+        private static final TableSchema<StatsEntity> SCHEMA = StaticTableSchema.builder(StatsEntity.class)
+                .newItemSupplier(StatsEntity::new)
+                .addAttribute(String.class, a -> a.name("pk")
+                        .getter(StatsEntity::getPk).setter(StatsEntity::setPk)
+                        .tags(StaticAttributeTags.primaryPartitionKey()))
+                .addAttribute(String.class, a -> a.name("sk")
+                        .getter(StatsEntity::getSk).setter(StatsEntity::setSk)
+                        .tags(StaticAttributeTags.primarySortKey()))
+                .addAttribute(String.class, a -> a.name("timestamp")
+                        .getter(StatsEntity::getTimestamp).setter(StatsEntity::setTimestamp))
+                .addAttribute(Integer.class, a -> a.name("totalContactoClientes")
+                        .getter(StatsEntity::getTotalContactoClientes).setter(StatsEntity::setTotalContactoClientes))
+                .addAttribute(Integer.class, a -> a.name("motivoReclamo")
+                        .getter(StatsEntity::getMotivoReclamo).setter(StatsEntity::setMotivoReclamo))
+                .addAttribute(Integer.class, a -> a.name("motivoGarantia")
+                        .getter(StatsEntity::getMotivoGarantia).setter(StatsEntity::setMotivoGarantia))
+                .addAttribute(Integer.class, a -> a.name("motivoDuda")
+                        .getter(StatsEntity::getMotivoDuda).setter(StatsEntity::setMotivoDuda))
+                .addAttribute(Integer.class, a -> a.name("motivoCompra")
+                        .getter(StatsEntity::getMotivoCompra).setter(StatsEntity::setMotivoCompra))
+                .addAttribute(Integer.class, a -> a.name("motivoFelicitaciones")
+                        .getter(StatsEntity::getMotivoFelicitaciones).setter(StatsEntity::setMotivoFelicitaciones))
+                .addAttribute(Integer.class, a -> a.name("motivoCambio")
+                        .getter(StatsEntity::getMotivoCambio).setter(StatsEntity::setMotivoCambio))
+                .addAttribute(String.class, a -> a.name("hash")
+                        .getter(StatsEntity::getHash).setter(StatsEntity::setHash))
+                .addAttribute(String.class, a -> a.name("id")
+                        .getter(StatsEntity::getId).setter(StatsEntity::setId))
+                .build();
+    }
 }
@@ -0,0 +1,56 @@
+package co.com.bancolombia.dynamodb;
+
+import co.com.bancolombia.dynamodb.helper.EntityMapper;
+import co.com.bancolombia.model.stats.Stats;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDateTime;
+
+/**
+ * Conversión entre {@link Stats} y {@link StatsEntity} generada por MapStruct en tiempo de compilación.
+ *
+ * <p>Produce lo mismo que el mapper reflexivo de reactive-commons: el timestamp se guarda con
+ * {@link LocalDateTime#toString()} y, como {@link Stats} no permite asignarlo, al leer queda sin valor (las
+ * consultas por rango lo reconstruyen desde la clave de ordenamiento). La clave primaria no forma parte del
+ * modelo de dominio: la asigna el adaptador con la {@link co.com.bancolombia.dynamodb.key.StatsKeyStrategy}
+ * configurada.</p>
+ */
+@Mapper
+public interface StatsEntityMapper extends EntityMapper<Stats, StatsEntity> {
+    StatsEntityMapper INSTANCE = Mappers.getMapper(StatsEntityMapper.class);
+
+    /**
+     * Convierte una estadística a la entidad de DynamoDB, sin clave primaria.
+     *
+     * @param model Estadística de dominio
+     * @return Entidad de DynamoDB
+     */
+    @Override
+    @Mapping(target = "pk", ignore = true)
+    @Mapping(target = "sk", ignore = true)
+    @Mapping(target = "timestamp", source = "timestamp", qualifiedByName = "timestampText")
+    StatsEntity toEntity(Stats model);
+
+    /**
+     * Convierte una entidad de DynamoDB a la estadística de dominio.
+     *
+     * @param entity Entidad de DynamoDB
+     * @return Estadística de dominio
+     */
+    @Override
+    Stats toModel(StatsEntity entity);
+
+    /**
+     * Texto con el que se guarda el timestamp; omite los segundos cuando son cero.
+     *
+     * @param timestamp Fecha y hora del registro
+     * @return Texto ISO-8601, o null
+     */
+    @Named("timestampText")
+    default String timestampText(LocalDateTime timestamp) {
+        return timestamp != null ? timestamp.toString() : null;
+    }
+}
@@ -1,28 +1,53 @@
 package co.com.bancolombia.dynamodb.config;
 
+import co.com.bancolombia.dynamodb.StatsEntity;
+import co.com.bancolombia.dynamodb.StatsEntityMapper;
+import co.com.bancolombia.dynamodb.helper.EntityMapper;
+import co.com.bancolombia.dynamodb.key.ShardedKeyStrategy;
+import co.com.bancolombia.dynamodb.key.StatsKeyStrategy;
+import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.dynamodb.resilience.DynamoDBResilience;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivecommons.utils.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import reactor.netty.resources.LoopResources;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.WebIdentityTokenFileCredentialsProvider;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClientBuilder;
 
 import java.net.URI;
+import java.util.Optional;
 
 /**
  * Configuración de beans para la integración con DynamoDB.
  *
  * <p>Define la creación de clientes asíncronos de DynamoDB para diferentes perfiles de ejecución
  * (local, desarrollo, certificación, producción) y expone el cliente mejorado para operaciones reactivas.</p>
+ *
+ * <p>El transporte HTTP de ambos clientes se ajusta con {@link DynamoDBHttpClientProperties}
+ * ({@code aws.dynamodb.http.*}) y la capa de resiliencia con {@link DynamoDBResilienceProperties}
+ * ({@code aws.dynamodb.resilience.*}).</p>
  */
 @Configuration
 @Slf4j
+@EnableConfigurationProperties({DynamoDBHttpClientProperties.class, DynamoDBResilienceProperties.class})
 public class DynamoDBConfig {
 
     /**
@@ -31,21 +56,25 @@ public class DynamoDBConfig {
      * @param endpoint Endpoint local de DynamoDB
      * @param region Región AWS simulada
      * @param publisher Publicador de métricas
+     * @param httpProperties Configuración del cliente HTTP
+     * @param resilienceProperties Configuración de la capa de resiliencia
+     * @param sharedLoops Event loops de la aplicación, si existen
      * @return Cliente asíncrono de DynamoDB para pruebas locales
      */
     @Bean
     public DynamoDbAsyncClient amazonDynamoDB(@Value("${aws.dynamodb.endpoint}") String endpoint,
                                               @Value("${aws.region}") String region,
-                                              MetricPublisher publisher) {
+                                              MetricPublisher publisher,
+                                              DynamoDBHttpClientProperties httpProperties,
+                                              DynamoDBResilienceProperties resilienceProperties,
+                                              Optional<LoopResources> sharedLoops) {
         log.info("Starting DynamoDB Local with the following configuration:");
         log.info("Using DynamoDB Local at endpoint: {}", endpoint);
         log.info("Using AWS region: {}", region);
-        return DynamoDbAsyncClient.builder()
+        return clientBuilder(region, publisher, httpProperties, resilienceProperties, sharedLoops)
                 .credentialsProvider(StaticCredentialsProvider.create(
                         AwsBasicCredentials.create("local", "local")))
-                .region(Region.of(region))
                 .endpointOverride(URI.create(endpoint))
-                .overrideConfiguration(o -> o.addMetricPublisher(publisher))
                 .build();
     }
 
@@ -54,18 +83,100 @@ public class DynamoDBConfig {
      *
      * @param publisher Publicador de métricas
      * @param region Región AWS
+     * @param httpProperties Configuración del cliente HTTP
+     * @param resilienceProperties Configuración de la capa de resiliencia
+     * @param sharedLoops Event loops de la aplicación, si existen
      * @return Cliente asíncrono de DynamoDB autenticado con Web Identity
      */
     @Bean
     @Profile({"dev", "cer", "pdn"})
-    public DynamoDbAsyncClient amazonDynamoDBAsync(MetricPublisher publisher, @Value("${aws.region}") String region) {
-        return DynamoDbAsyncClient.builder()
+    public DynamoDbAsyncClient amazonDynamoDBAsync(MetricPublisher publisher, @Value("${aws.region}") String region,
+                                                   DynamoDBHttpClientProperties httpProperties,
+                                                   DynamoDBResilienceProperties resilienceProperties,
+                                                   Optional<LoopResources> sharedLoops) {
+        return clientBuilder(region, publisher, httpProperties, resilienceProperties, sharedLoops)
                 .credentialsProvider(WebIdentityTokenFileCredentialsProvider.create())
-                .region(Region.of(region))
-                .overrideConfiguration(o -> o.addMetricPublisher(publisher))
                 .build();
     }
 
+    /**
+     * Crea el builder común de ambos clientes: región, métricas, timeouts de operación y transporte HTTP.
+     * El SDK es dueño del cliente HTTP y lo cierra junto con el cliente de DynamoDB. Con la capa de resiliencia
+     * habilitada el SDK no reintenta: los reintentos son de la capa.
+     */
+    private static DynamoDbAsyncClientBuilder clientBuilder(String region, MetricPublisher publisher,
+                                                            DynamoDBHttpClientProperties httpProperties,
+                                                            DynamoDBResilienceProperties resilienceProperties,
+                                                            Optional<LoopResources> sharedLoops) {
+        DynamoDbAsyncClientBuilder builder = DynamoDbAsyncClient.builder()
+                .region(Region.of(region))
+                .httpClientBuilder(httpClientBuilder(httpProperties, sharedLoops))
+                .overrideConfiguration(o -> {
+                    o.addMetricPublisher(publisher);
+                    if (resilienceProperties.enabled()) {
+                        o.retryPolicy(RetryPolicy.none());
+                    }
+                    if (httpProperties.apiCallTimeout() != null) {
+                        o.apiCallTimeout(httpProperties.apiCallTimeout());
+                    }
+                    if (httpProperties.apiCallAttemptTimeout() != null) {
+                        o.apiCallAttemptTimeout(httpProperties.apiCallAttemptTimeout());
+                    }
+                });
+        if (httpProperties.completeOnEventLoop()) {
+            builder.asyncConfiguration(a -> a.advancedOption(
+                    SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, Runnable::run));
+        }
+        return builder;
+    }
+
+    /**
+     * Crea el builder del cliente HTTP Netty a partir de la configuración.
+     *
+     * <p>Con {@code share-event-loop} y un {@link LoopResources} en el contexto, el cliente usa sus workers (los
+     * mismos del servidor de WebFlux) en lugar de crear su propio grupo. El SDK no cierra grupos recibidos, y
+     * Spring destruye el {@link LoopResources} después de este cliente y de quienes lo usan al cerrar.</p>
+     *
+     * @param httpProperties Configuración del cliente HTTP
+     * @param sharedLoops Event loops de la aplicación, si existen
+     * @return Builder del cliente HTTP
+     */
+    static NettyNioAsyncHttpClient.Builder httpClientBuilder(DynamoDBHttpClientProperties httpProperties,
+                                                             Optional<LoopResources> sharedLoops) {
+        NettyNioAsyncHttpClient.Builder builder = NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(httpProperties.maxConcurrency())
+                .maxPendingConnectionAcquires(httpProperties.maxPendingConnectionAcquires())
+                .connectionAcquisitionTimeout(httpProperties.connectionAcquisitionTimeout())
+                .connectionTimeout(httpProperties.connectionTimeout())
+                .readTimeout(httpProperties.readTimeout())
+                .writeTimeout(httpProperties.writeTimeout())
+                .connectionMaxIdleTime(httpProperties.connectionMaxIdleTime())
+                .connectionTimeToLive(httpProperties.connectionTimeToLive())
+                .tcpKeepAlive(httpProperties.tcpKeepAlive())
+                .putChannelOption(ChannelOption.TCP_NODELAY, httpProperties.tcpNoDelay())
+                .protocol(httpProperties.protocol());
+        if (httpProperties.shareEventLoop()) {
+            sharedLoops.ifPresent(loops -> builder.eventLoopGroup(
+                    SdkEventLoopGroup.create(loops.onServer(LoopResources.DEFAULT_NATIVE))));
+        }
+        return builder;
+    }
+
+    /**
+     * Crea la capa de resiliencia de las llamadas a DynamoDB.
+     *
+     * @param properties Configuración de la capa
+     * @param registry Registro de métricas; si no hay uno en el contexto se usa el global de Micrometer
+     * @return Capa de resiliencia, o una deshabilitada si {@code aws.dynamodb.resilience.enabled=false}
+     */
+    @Bean
+    public DynamoDBResilience dynamoDBResilience(DynamoDBResilienceProperties properties,
+                                                 ObjectProvider<MeterRegistry> registry) {
+        return properties.enabled()
+                ? new DynamoDBResilience(properties, registry.getIfAvailable(() -> Metrics.globalRegistry))
+                : DynamoDBResilience.disabled();
+    }
+
     /**
      * Expone el cliente mejorado de DynamoDB para operaciones reactivas.
      *
@@ -79,4 +190,34 @@ public class DynamoDBConfig {
                 .build();
     }
 
+    /**
+     * Crea la estrategia de generación de claves de los registros de estadísticas.
+     *
+     * @param strategy Nombre de la estrategia: {@code sharded} o {@code sortable-id}
+     * @param shards Particiones de escritura por hora de la estrategia {@code sharded}
+     * @return Estrategia de claves configurada
+     */
+    @Bean
+    public StatsKeyStrategy statsKeyStrategy(@Value("${app.stats.key.strategy:sharded}") String strategy,
+                                             @Value("${app.stats.key.shards:" + ShardedKeyStrategy.DEFAULT_SHARDS + "}") int shards) {
+        return StatsKeyStrategy.of(strategy, shards);
+    }
+
+    /**
+     * Crea la conversión entre las estadísticas de dominio y los registros de DynamoDB.
+     *
+     * @param strategy Nombre de la estrategia: {@code compiled} (MapStruct) o {@code reflective}
+     *                 ({@link ObjectMapper} de reactive-commons)
+     * @param mapper Mapper reflexivo de reactive-commons
+     * @return Conversión configurada
+     */
+    @Bean
+    public EntityMapper<Stats, StatsEntity> statsEntityMapper(
+            @Value("${app.stats.mapping.strategy:compiled}") String strategy, ObjectMapper mapper) {
+        return switch (strategy) {
+            case "compiled" -> StatsEntityMapper.INSTANCE;
+            case "reflective" -> EntityMapper.reflective(mapper, StatsEntity.class, d -> mapper.map(d, Stats.class));
+            default -> throw new IllegalArgumentException("Estrategia de conversión desconocida: " + strategy);
+        };
+    }
 }
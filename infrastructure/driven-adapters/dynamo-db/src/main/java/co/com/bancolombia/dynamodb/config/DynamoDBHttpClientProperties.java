@@ -0,0 +1,71 @@
+package co.com.bancolombia.dynamodb.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import software.amazon.awssdk.http.Protocol;
+
+import java.time.Duration;
+
+/**
+ * Configuración del cliente HTTP asíncrono (Netty) de DynamoDB, bajo {@code aws.dynamodb.http}.
+ *
+ * <p>Los valores por defecto son los del AWS SDK, salvo {@code share-event-loop}: por defecto el cliente usa el
+ * grupo de event loops de la aplicación (el mismo del servidor de WebFlux), si existe, en lugar de crear el
+ * suyo.</p>
+ *
+ * @param maxConcurrency Máximo de conexiones abiertas hacia DynamoDB
+ * @param maxPendingConnectionAcquires Máximo de peticiones esperando una conexión libre; las que exceden fallan
+ * @param connectionAcquisitionTimeout Tiempo máximo de espera por una conexión libre
+ * @param connectionTimeout Tiempo máximo para establecer una conexión
+ * @param readTimeout Tiempo máximo sin recibir datos de una respuesta
+ * @param writeTimeout Tiempo máximo para escribir una petición
+ * @param connectionMaxIdleTime Tiempo tras el cual se cierra una conexión inactiva
+ * @param connectionTimeToLive Vida máxima de una conexión, para repartir carga entre hosts; cero la desactiva
+ * @param tcpKeepAlive Si se envían keep-alive TCP en las conexiones inactivas
+ * @param tcpNoDelay Si se desactiva el algoritmo de Nagle
+ * @param protocol Protocolo HTTP; DynamoDB atiende {@code HTTP1_1}
+ * @param apiCallTimeout Tiempo máximo de una operación incluyendo reintentos; null la deja sin límite
+ * @param apiCallAttemptTimeout Tiempo máximo de cada intento; null lo deja sin límite
+ * @param shareEventLoop Si el cliente usa el grupo de event loops de la aplicación que atiende WebFlux
+ * @param completeOnEventLoop Si las respuestas se completan en el event loop en lugar del executor del SDK; solo
+ *                            es seguro si ningún operador posterior bloquea el hilo
+ */
+@ConfigurationProperties(prefix = "aws.dynamodb.http")
+public record DynamoDBHttpClientProperties(
+        @DefaultValue("50") int maxConcurrency,
+        @DefaultValue("10000") int maxPendingConnectionAcquires,
+        @DefaultValue("10s") Duration connectionAcquisitionTimeout,
+        @DefaultValue("2s") Duration connectionTimeout,
+        @DefaultValue("30s") Duration readTimeout,
+        @DefaultValue("30s") Duration writeTimeout,
+        @DefaultValue("60s") Duration connectionMaxIdleTime,
+        @DefaultValue("0s") Duration connectionTimeToLive,
+        @DefaultValue("false") boolean tcpKeepAlive,
+        @DefaultValue("true") boolean tcpNoDelay,
+        @DefaultValue("HTTP1_1") Protocol protocol,
+        Duration apiCallTimeout,
+        Duration apiCallAttemptTimeout,
+        @DefaultValue("true") boolean shareEventLoop,
+        @DefaultValue("false") boolean completeOnEventLoop) {
+
+    /**
+     * Valida los límites del pool de conexiones.
+     */
+    public DynamoDBHttpClientProperties {
+        if (maxConcurrency <= 0 || maxPendingConnectionAcquires <= 0) {
+            throw new IllegalArgumentException(
+                    "aws.dynamodb.http.max-concurrency y max-pending-connection-acquires deben ser positivos");
+        }
+    }
+
+    /**
+     * Configuración con los valores por defecto.
+     *
+     * @return Propiedades por defecto
+     */
+    public static DynamoDBHttpClientProperties defaults() {
+        return new DynamoDBHttpClientProperties(50, 10_000, Duration.ofSeconds(10), Duration.ofSeconds(2),
+                Duration.ofSeconds(30), Duration.ofSeconds(30), Duration.ofSeconds(60), Duration.ZERO, false, true,
+                Protocol.HTTP1_1, null, null, true, false);
+    }
+}
@@ -0,0 +1,82 @@
+package co.com.bancolombia.dynamodb.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la capa de resiliencia de las llamadas a DynamoDB, bajo {@code aws.dynamodb.resilience}.
+ *
+ * <p>Con la capa habilitada los reintentos del AWS SDK se desactivan, para que cada llamada se reintente en un
+ * solo lugar.</p>
+ *
+ * @param enabled Si las llamadas pasan por la capa de resiliencia
+ * @param maxAttempts Intentos máximos por llamada, incluyendo el primero
+ * @param baseBackoff Espera mínima entre intentos
+ * @param maxBackoff Espera máxima entre intentos
+ * @param retryBudgetRatio Reintentos que gana el presupuesto por cada llamada exitosa
+ * @param retryBudgetCapacity Reintentos acumulables en el presupuesto
+ * @param hedgeEnabled Si las lecturas envían una petición de respaldo cuando la primera tarda
+ * @param hedgePercentile Percentil de la latencia reciente tras el cual se envía la petición de respaldo
+ * @param hedgeMinDelay Espera mínima antes de la petición de respaldo
+ * @param rateLimiterEnabled Si se limita la tasa de envío al recibir respuestas de throttling
+ * @param rateLimiterMinRate Tasa mínima, en peticiones por segundo, a la que puede bajar el limitador
+ * @param rateLimiterMaxWait Espera máxima por turno en el limitador; las llamadas que excedan se rechazan
+ * @param circuitFailureRateThreshold Proporción de fallos recientes que abre el circuito
+ * @param circuitSlidingWindowSize Llamadas recientes consideradas para la proporción de fallos
+ * @param circuitMinimumCalls Llamadas mínimas en la ventana antes de poder abrir el circuito
+ * @param circuitOpenDuration Tiempo que el circuito permanece abierto antes de probar de nuevo
+ * @param circuitHalfOpenCalls Llamadas de prueba que deben tener éxito para cerrar el circuito
+ */
+@ConfigurationProperties(prefix = "aws.dynamodb.resilience")
+public record DynamoDBResilienceProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("25ms") Duration baseBackoff,
+        @DefaultValue("1s") Duration maxBackoff,
+        @DefaultValue("0.1") double retryBudgetRatio,
+        @DefaultValue("20") int retryBudgetCapacity,
+        @DefaultValue("true") boolean hedgeEnabled,
+        @DefaultValue("0.95") double hedgePercentile,
+        @DefaultValue("5ms") Duration hedgeMinDelay,
+        @DefaultValue("true") boolean rateLimiterEnabled,
+        @DefaultValue("1") double rateLimiterMinRate,
+        @DefaultValue("500ms") Duration rateLimiterMaxWait,
+        @DefaultValue("0.5") double circuitFailureRateThreshold,
+        @DefaultValue("50") int circuitSlidingWindowSize,
+        @DefaultValue("20") int circuitMinimumCalls,
+        @DefaultValue("10s") Duration circuitOpenDuration,
+        @DefaultValue("5") int circuitHalfOpenCalls) {
+
+    /**
+     * Valida los límites de la configuración.
+     */
+    public DynamoDBResilienceProperties {
+        if (maxAttempts < 1 || retryBudgetCapacity < 0 || retryBudgetRatio < 0 || retryBudgetRatio > 1) {
+            throw new IllegalArgumentException("aws.dynamodb.resilience: intentos o presupuesto de reintentos inválidos");
+        }
+        if (baseBackoff.isNegative() || baseBackoff.isZero() || maxBackoff.compareTo(baseBackoff) < 0) {
+            throw new IllegalArgumentException("aws.dynamodb.resilience: max-backoff debe ser mayor que base-backoff");
+        }
+        if (hedgePercentile <= 0 || hedgePercentile >= 1 || rateLimiterMinRate <= 0) {
+            throw new IllegalArgumentException("aws.dynamodb.resilience: percentil o tasa mínima inválidos");
+        }
+        if (circuitFailureRateThreshold <= 0 || circuitFailureRateThreshold > 1 || circuitSlidingWindowSize < 1
+                || circuitMinimumCalls < 1 || circuitMinimumCalls > circuitSlidingWindowSize
+                || circuitHalfOpenCalls < 1) {
+            throw new IllegalArgumentException("aws.dynamodb.resilience: configuración del circuit breaker inválida");
+        }
+    }
+
+    /**
+     * Configuración con los valores por defecto.
+     *
+     * @return Propiedades por defecto
+     */
+    public static DynamoDBResilienceProperties defaults() {
+        return new DynamoDBResilienceProperties(true, 3, Duration.ofMillis(25), Duration.ofSeconds(1), 0.1, 20,
+                true, 0.95, Duration.ofMillis(5), true, 1, Duration.ofMillis(500), 0.5, 50, 20,
+                Duration.ofSeconds(10), 5);
+    }
+}
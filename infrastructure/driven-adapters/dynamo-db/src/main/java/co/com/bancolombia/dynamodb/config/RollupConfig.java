@@ -0,0 +1,44 @@
+package co.com.bancolombia.dynamodb.config;
+
+import co.com.bancolombia.dynamodb.resilience.DynamoDBResilience;
+import co.com.bancolombia.dynamodb.rollup.StatsRollupWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+
+import java.time.Duration;
+
+/**
+ * Configuración del mantenimiento de los totales pre-agregados por minuto, hora y día.
+ *
+ * <p>Solo se activa con {@code app.stats.rollup.enabled=true}. El {@link StatsRollupWriter} creado aquí lo recibe
+ * el adaptador de DynamoDB, que le entrega cada estadística guardada.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.stats.rollup.enabled", havingValue = "true")
+public class RollupConfig {
+
+    /**
+     * Crea el acumulador de totales pre-agregados; la escritura periódica arranca una vez creado el bean.
+     *
+     * @param client Cliente asíncrono de DynamoDB
+     * @param resilience Capa de resiliencia de las llamadas a DynamoDB
+     * @param tableName Tabla de totales pre-agregados
+     * @param flushInterval Intervalo entre escrituras de los incrementos acumulados
+     * @param maxConcurrency Máximo de escrituras simultáneas por ciclo
+     * @param shutdownTimeout Tiempo máximo de espera de la última escritura al detener la aplicación
+     * @return Acumulador de totales
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public StatsRollupWriter statsRollupWriter(
+            DynamoDbAsyncClient client,
+            DynamoDBResilience resilience,
+            @Value("${app.stats.rollup.table:stats-rollup-table}") String tableName,
+            @Value("${app.stats.rollup.flush-interval:1s}") Duration flushInterval,
+            @Value("${app.stats.rollup.max-concurrency:16}") int maxConcurrency,
+            @Value("${app.stats.rollup.shutdown-timeout:5s}") Duration shutdownTimeout) {
+        return new StatsRollupWriter(client, resilience, tableName, flushInterval, maxConcurrency, shutdownTimeout);
+    }
+}
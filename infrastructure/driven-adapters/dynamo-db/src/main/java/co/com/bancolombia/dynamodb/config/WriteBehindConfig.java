@@ -0,0 +1,45 @@
+package co.com.bancolombia.dynamodb.config;
+
+import co.com.bancolombia.dynamodb.DynamoDBTemplateAdapter;
+import co.com.bancolombia.dynamodb.writebehind.WriteBehindStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la capa de escritura diferida de estadísticas.
+ *
+ * <p>Solo se activa con {@code app.stats.write-behind.enabled=true}. Expone un {@link WriteBehindStatsRepository}
+ * primario que envuelve al {@link DynamoDBTemplateAdapter}, de modo que los casos de uso lo reciben como
+ * {@code StatsRepository} sin cambios.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.stats.write-behind.enabled", havingValue = "true")
+public class WriteBehindConfig {
+
+    /**
+     * Crea la capa de escritura diferida delante del adaptador de DynamoDB; el cierre periódico de ventanas
+     * arranca una vez creado el bean.
+     *
+     * @param adapter Adaptador de DynamoDB donde se persisten los agregados
+     * @param window Duración de cada ventana de agregación
+     * @param maxPending Máximo de estadísticas por ventana antes de persistirla
+     * @param durability Momento en que se confirma cada guardado
+     * @param shutdownTimeout Tiempo máximo de espera de la última escritura al detener la aplicación
+     * @return Repositorio con escritura diferida
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @Primary
+    public WriteBehindStatsRepository writeBehindStatsRepository(
+            DynamoDBTemplateAdapter adapter,
+            @Value("${app.stats.write-behind.window:1s}") Duration window,
+            @Value("${app.stats.write-behind.max-pending:10000}") int maxPending,
+            @Value("${app.stats.write-behind.durability:PERSISTED}") WriteBehindStatsRepository.DurabilityMode durability,
+            @Value("${app.stats.write-behind.shutdown-timeout:5s}") Duration shutdownTimeout) {
+        return new WriteBehindStatsRepository(adapter, window, maxPending, durability, shutdownTimeout);
+    }
+}
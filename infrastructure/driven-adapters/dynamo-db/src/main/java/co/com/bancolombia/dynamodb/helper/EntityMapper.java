@@ -0,0 +1,59 @@
+package co.com.bancolombia.dynamodb.helper;
+
+import org.reactivecommons.utils.ObjectMapper;
+
+import java.util.function.Function;
+
+/**
+ * Estrategia de conversión entre el modelo de dominio y la entidad de base de datos que usa
+ * {@link TemplateAdapterOperations}.
+ *
+ * <p>Las implementaciones generadas en compilación (por ejemplo con MapStruct) asignan cada atributo con una
+ * llamada directa; {@link #reflective} conserva el comportamiento del {@link ObjectMapper} de reactive-commons, que
+ * resuelve los atributos por reflexión en cada conversión.</p>
+ *
+ * @param <E> Tipo de entidad de dominio
+ * @param <V> Tipo de entidad de base de datos (adaptador)
+ */
+public interface EntityMapper<E, V> {
+
+    /**
+     * Convierte el modelo de dominio a la entidad de base de datos.
+     *
+     * @param model Entidad de dominio
+     * @return Entidad de base de datos nueva
+     */
+    V toEntity(E model);
+
+    /**
+     * Convierte la entidad de base de datos al modelo de dominio.
+     *
+     * @param entity Entidad de base de datos
+     * @return Entidad de dominio nueva
+     */
+    E toModel(V entity);
+
+    /**
+     * Estrategia basada en el {@link ObjectMapper} de reactive-commons.
+     *
+     * @param mapper Mapper reflexivo
+     * @param dataClass Clase de la entidad de base de datos
+     * @param toModelFn Conversión de la entidad de base de datos al modelo de dominio
+     * @param <E> Tipo de entidad de dominio
+     * @param <V> Tipo de entidad de base de datos
+     * @return Estrategia reflexiva
+     */
+    static <E, V> EntityMapper<E, V> reflective(ObjectMapper mapper, Class<V> dataClass, Function<V, E> toModelFn) {
+        return new EntityMapper<>() {
+            @Override
+            public V toEntity(E model) {
+                return mapper.map(model, dataClass);
+            }
+
+            @Override
+            public E toModel(V entity) {
+                return toModelFn.apply(entity);
+            }
+        };
+    }
+}
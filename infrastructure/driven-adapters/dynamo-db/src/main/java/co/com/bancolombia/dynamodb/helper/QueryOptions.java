@@ -0,0 +1,72 @@
+package co.com.bancolombia.dynamodb.helper;
+
+import java.util.List;
+
+/**
+ * Opciones de las consultas en streaming de {@link TemplateAdapterOperations}.
+ *
+ * @param pageSize Máximo de elementos que DynamoDB evalúa por página, o null para usar el límite de 1 MB
+ * @param projection Atributos a leer de cada elemento; vacío para leerlos todos
+ * @param maxInFlight Máximo de elementos solicitados al flujo de páginas por delante del consumidor
+ */
+public record QueryOptions(Integer pageSize, List<String> projection, int maxInFlight) {
+
+    /**
+     * Elementos en vuelo por defecto.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 256;
+
+    private static final QueryOptions DEFAULTS = new QueryOptions(null, List.of(), DEFAULT_MAX_IN_FLIGHT);
+
+    /**
+     * Valida y copia las opciones.
+     */
+    public QueryOptions {
+        if (pageSize != null && pageSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de página debe ser positivo");
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("El máximo de elementos en vuelo debe ser positivo");
+        }
+        projection = projection != null ? List.copyOf(projection) : List.of();
+    }
+
+    /**
+     * Opciones por defecto: páginas de 1 MB, todos los atributos y {@value #DEFAULT_MAX_IN_FLIGHT} elementos en vuelo.
+     *
+     * @return Opciones por defecto
+     */
+    public static QueryOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Copia las opciones con otro tamaño de página.
+     *
+     * @param pageSize Máximo de elementos por página
+     * @return Nuevas opciones
+     */
+    public QueryOptions withPageSize(int pageSize) {
+        return new QueryOptions(pageSize, projection, maxInFlight);
+    }
+
+    /**
+     * Copia las opciones con otra proyección.
+     *
+     * @param attributes Atributos a leer de cada elemento
+     * @return Nuevas opciones
+     */
+    public QueryOptions withProjection(String... attributes) {
+        return new QueryOptions(pageSize, List.of(attributes), maxInFlight);
+    }
+
+    /**
+     * Copia las opciones con otro máximo de elementos en vuelo.
+     *
+     * @param maxInFlight Máximo de elementos solicitados por delante del consumidor
+     * @return Nuevas opciones
+     */
+    public QueryOptions withMaxInFlight(int maxInFlight) {
+        return new QueryOptions(pageSize, projection, maxInFlight);
+    }
+}
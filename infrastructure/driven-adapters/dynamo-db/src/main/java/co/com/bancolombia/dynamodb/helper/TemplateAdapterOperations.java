@@ -1,53 +1,150 @@
 package co.com.bancolombia.dynamodb.helper;
 
+import co.com.bancolombia.dynamodb.resilience.DynamoDBResilience;
 import org.reactivecommons.utils.ObjectMapper;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
 import java.lang.reflect.ParameterizedType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 /**
  * Clase abstracta que centraliza operaciones genéricas de persistencia y consulta en DynamoDB.
  *
  * <p>Provee métodos para guardar, obtener, eliminar y consultar entidades de forma reactiva,
- * utilizando el cliente asíncrono mejorado de DynamoDB y un mapper para conversión de modelos.</p>
+ * utilizando el cliente asíncrono mejorado de DynamoDB y un {@link EntityMapper} para conversión de modelos.</p>
+ *
+ * <p>Las llamadas puntuales pasan por la {@link DynamoDBResilience} recibida ({@code getItem} con petición de
+ * respaldo) y las consultas paginadas se reintentan desde la última página recibida.</p>
  *
  * @param <E> Tipo de entidad de dominio
  * @param <K> Tipo de clave primaria
  * @param <V> Tipo de entidad de base de datos (adaptador)
  */
 public abstract class TemplateAdapterOperations<E, K, V> {
+    /**
+     * Máximo de elementos admitidos por DynamoDB en una sola petición BatchWriteItem.
+     */
+    protected static final int BATCH_WRITE_LIMIT = 25;
+    /**
+     * Máximo de entidades que {@link #query(QueryEnhancedRequest)} y {@link #queryByIndex} reúnen en memoria.
+     */
+    protected static final int DEFAULT_COLLECT_LIMIT = 10_000;
+    private static final int BATCH_WRITE_MAX_RETRIES = 5;
+    private static final Duration BATCH_WRITE_BASE_BACKOFF = Duration.ofMillis(50);
+    private static final Duration BATCH_WRITE_MAX_BACKOFF = Duration.ofSeconds(2);
+
+    private final DynamoDbEnhancedAsyncClient client;
     private final Class<V> dataClass;
-    private final Function<V, E> toEntityFn;
+    private final EntityMapper<E, V> entityMapper;
     protected ObjectMapper mapper;
     private final DynamoDbAsyncTable<V> table;
     private final DynamoDbAsyncIndex<V> tableByIndex;
+    private final DynamoDBResilience resilience;
+
+    protected TemplateAdapterOperations(DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient,
+                                        ObjectMapper mapper,
+                                        Function<V, E> toEntityFn,
+                                        String tableName,
+                                        String... index) {
+        this(dynamoDbEnhancedAsyncClient, mapper, toEntityFn, DynamoDBResilience.disabled(), tableName, index);
+    }
 
-    @SuppressWarnings("unchecked")
     protected TemplateAdapterOperations(DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient,
                                         ObjectMapper mapper,
                                         Function<V, E> toEntityFn,
+                                        DynamoDBResilience resilience,
                                         String tableName,
                                         String... index) {
-        this.toEntityFn = toEntityFn;
+        this.client = dynamoDbEnhancedAsyncClient;
         this.mapper = mapper;
-        ParameterizedType genericSuperclass = (ParameterizedType) this.getClass().getGenericSuperclass();
-        this.dataClass = (Class<V>) genericSuperclass.getActualTypeArguments()[2];
+        this.resilience = resilience;
+        this.dataClass = resolveDataClass();
+        this.entityMapper = EntityMapper.reflective(mapper, dataClass, toEntityFn);
         table = dynamoDbEnhancedAsyncClient.table(tableName, TableSchema.fromBean(dataClass));
         tableByIndex = index.length > 0 ? table.index(index[0]) : null;
     }
 
+    /**
+     * Crea el template con una estrategia de conversión propia, por ejemplo un mapper generado en compilación.
+     * En este caso {@link #mapper} queda en null.
+     *
+     * @param dynamoDbEnhancedAsyncClient Cliente mejorado de DynamoDB
+     * @param entityMapper Conversión entre el modelo de dominio y la entidad de base de datos
+     * @param resilience Capa de resiliencia de las llamadas a DynamoDB
+     * @param tableName Nombre de la tabla
+     * @param index Índice secundario opcional
+     */
+    protected TemplateAdapterOperations(DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient,
+                                        EntityMapper<E, V> entityMapper,
+                                        DynamoDBResilience resilience,
+                                        String tableName,
+                                        String... index) {
+        this(dynamoDbEnhancedAsyncClient, entityMapper, null, resilience, tableName, index);
+    }
+
+    /**
+     * Crea el template con una estrategia de conversión y un esquema de tabla propios.
+     *
+     * <p>Con un esquema precalculado, por ejemplo un {@code StaticTableSchema} construido explícitamente, se evita
+     * la introspección de la clase que hace {@link TableSchema#fromBean} al iniciar, y la lectura y escritura de
+     * los atributos usa los getters y setters declarados en el esquema.</p>
+     *
+     * @param dynamoDbEnhancedAsyncClient Cliente mejorado de DynamoDB
+     * @param entityMapper Conversión entre el modelo de dominio y la entidad de base de datos
+     * @param tableSchema Esquema de la tabla, o null para derivarlo de las anotaciones de la entidad
+     * @param resilience Capa de resiliencia de las llamadas a DynamoDB
+     * @param tableName Nombre de la tabla
+     * @param index Índice secundario opcional
+     */
+    protected TemplateAdapterOperations(DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient,
+                                        EntityMapper<E, V> entityMapper,
+                                        TableSchema<V> tableSchema,
+                                        DynamoDBResilience resilience,
+                                        String tableName,
+                                        String... index) {
+        this.client = dynamoDbEnhancedAsyncClient;
+        this.entityMapper = entityMapper;
+        this.resilience = resilience;
+        this.dataClass = tableSchema != null ? tableSchema.itemType().rawClass() : resolveDataClass();
+        table = dynamoDbEnhancedAsyncClient.table(tableName,
+                tableSchema != null ? tableSchema : TableSchema.fromBean(dataClass));
+        tableByIndex = index.length > 0 ? table.index(index[0]) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<V> resolveDataClass() {
+        ParameterizedType genericSuperclass = (ParameterizedType) this.getClass().getGenericSuperclass();
+        return (Class<V>) genericSuperclass.getActualTypeArguments()[2];
+    }
+
     /**
      * Guarda una entidad en la tabla DynamoDB.
      *
@@ -55,7 +152,143 @@ public abstract class TemplateAdapterOperations<E, K, V> {
      * @return Mono que emite la entidad guardada
      */
     public Mono<E> save(E model) {
-        return Mono.fromFuture(table.putItem(toEntity(model))).thenReturn(model);
+        V entity = toEntity(model);
+        return resilience.call("putItem", () -> table.putItem(entity))
+                .thenReturn(model);
+    }
+
+    /**
+     * Guarda una entidad solo si no existe otra con la misma clave de partición (escritura condicional).
+     *
+     * <p>Usa {@code attribute_not_exists} sobre la clave de partición, por lo que una escritura repetida
+     * no sobrescribe el registro existente.</p>
+     *
+     * @param model Entidad de dominio a guardar
+     * @return Mono que emite la entidad guardada, o vacío si ya existía un registro con la misma clave
+     */
+    public Mono<E> saveIfAbsent(E model) {
+        return saveIfAbsent(model, toEntity(model));
+    }
+
+    /**
+     * Guarda con escritura condicional una entidad ya convertida, por ejemplo con una clave distinta a la de
+     * {@link #toEntity(Object)}.
+     *
+     * <p>Si la condición falla, el registro existente se lee con lectura consistente y, si {@link #isSameWrite}
+     * indica que es esta misma escritura (aplicada en un intento anterior cuya respuesta se perdió, y reintentada
+     * por la capa de resiliencia), el guardado se reporta como exitoso.</p>
+     *
+     * @param model Entidad de dominio a guardar
+     * @param entity Entidad de base de datos que se escribe
+     * @return Mono que emite la entidad guardada, o vacío si ya existía otro registro con la misma clave
+     */
+    protected Mono<E> saveIfAbsent(E model, V entity) {
+        PutItemEnhancedRequest<V> request = PutItemEnhancedRequest.builder(dataClass)
+                .item(entity)
+                .conditionExpression(Expression.builder()
+                        .expression("attribute_not_exists(#pk)")
+                        .putExpressionName("#pk", table.tableSchema().tableMetadata().primaryPartitionKey())
+                        .build())
+                .build();
+        return resilience.call("putItem", () -> table.putItem(request))
+                .thenReturn(model)
+                .onErrorResume(ConditionalCheckFailedException.class, e -> resilience.call("getItem",
+                                () -> table.getItem(GetItemEnhancedRequest.builder()
+                                        .key(table.keyFrom(entity))
+                                        .consistentRead(true)
+                                        .build()))
+                        .filter(stored -> isSameWrite(stored, entity))
+                        .map(stored -> model));
+    }
+
+    /**
+     * Indica si el registro que ocupa la clave de una escritura condicional es el de esa misma escritura. Por
+     * defecto ningún registro existente se considera propio.
+     *
+     * @param stored Registro que ocupa la clave
+     * @param written Entidad que se intentó escribir
+     * @return true si el registro existente proviene de la misma escritura
+     */
+    protected boolean isSameWrite(V stored, V written) {
+        return false;
+    }
+
+    /**
+     * Guarda un flujo de entidades usando BatchWriteItem en bloques de {@value #BATCH_WRITE_LIMIT} elementos.
+     *
+     * <p>Los elementos no procesados que devuelve DynamoDB se reintentan con backoff exponencial y jitter.
+     * Solo se emiten las entidades efectivamente escritas; las que siguen sin procesar tras agotar los
+     * reintentos se descartan del flujo. Si dentro de un mismo bloque se repite una clave, el elemento
+     * se envía en el bloque siguiente para conservar el orden de escritura.</p>
+     *
+     * @param models Flujo de entidades de dominio a guardar
+     * @return Flux que emite las entidades guardadas
+     */
+    public Flux<E> saveAll(Flux<E> models) {
+        return saveAllIndexed(models).map(Tuple2::getT2);
+    }
+
+    /**
+     * Igual que {@link #saveAll(Flux)}, pero emite cada entidad guardada junto con su posición en el flujo
+     * recibido, para que quien llama identifique los elementos escritos sin depender de la instancia emitida.
+     *
+     * @param models Flujo de entidades de dominio a guardar
+     * @return Flux que emite la posición y la entidad de cada elemento guardado
+     */
+    public Flux<Tuple2<Long, E>> saveAllIndexed(Flux<E> models) {
+        return models.index()
+                .buffer(BATCH_WRITE_LIMIT)
+                .concatMap(chunk -> Flux.fromIterable(splitByDistinctKeys(chunk)))
+                .concatMap(this::writeChunk);
+    }
+
+    private List<Map<Key, Map.Entry<Tuple2<Long, E>, V>>> splitByDistinctKeys(List<Tuple2<Long, E>> chunk) {
+        List<Map<Key, Map.Entry<Tuple2<Long, E>, V>>> chunks = new ArrayList<>();
+        Map<Key, Map.Entry<Tuple2<Long, E>, V>> current = new LinkedHashMap<>();
+        for (Tuple2<Long, E> model : chunk) {
+            V entity = toEntity(model.getT2());
+            Key key = table.keyFrom(entity);
+            if (current.containsKey(key)) {
+                chunks.add(current);
+                current = new LinkedHashMap<>();
+            }
+            current.put(key, Map.entry(model, entity));
+        }
+        chunks.add(current);
+        return chunks;
+    }
+
+    private Flux<Tuple2<Long, E>> writeChunk(Map<Key, Map.Entry<Tuple2<Long, E>, V>> chunk) {
+        List<V> items = chunk.values().stream().map(Map.Entry::getValue).toList();
+        return batchWrite(items, 0)
+                .flatMapMany(unprocessed -> {
+                    Set<Key> failedKeys = new HashSet<>();
+                    unprocessed.forEach(item -> failedKeys.add(table.keyFrom(item)));
+                    return Flux.fromIterable(chunk.entrySet())
+                            .filter(entry -> !failedKeys.contains(entry.getKey()))
+                            .map(entry -> entry.getValue().getKey());
+                });
+    }
+
+    private Mono<Collection<V>> batchWrite(Collection<V> items, int attempt) {
+        if (items.isEmpty()) {
+            return Mono.just(items);
+        }
+        WriteBatch.Builder<V> batch = WriteBatch.builder(dataClass).mappedTableResource(table);
+        items.forEach(batch::addPutItem);
+        BatchWriteItemEnhancedRequest request = BatchWriteItemEnhancedRequest.builder()
+                .writeBatches(batch.build())
+                .build();
+        return resilience.call("batchWriteItem", () -> client.batchWriteItem(request))
+                .<Collection<V>>map(result -> result.unprocessedPutItemsForTable(table))
+                .flatMap(unprocessed -> unprocessed.isEmpty() || attempt >= BATCH_WRITE_MAX_RETRIES
+                        ? Mono.just(unprocessed)
+                        : Mono.delay(backoff(attempt)).then(batchWrite(unprocessed, attempt + 1)));
+    }
+
+    private static Duration backoff(int attempt) {
+        long ceiling = Math.min(BATCH_WRITE_MAX_BACKOFF.toMillis(), BATCH_WRITE_BASE_BACKOFF.toMillis() << attempt);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
     }
 
     /**
@@ -65,10 +298,42 @@ public abstract class TemplateAdapterOperations<E, K, V> {
      * @return Mono que emite la entidad encontrada o vacío si no existe
      */
     public Mono<E> getById(K id) {
-        return Mono.fromFuture(table.getItem(Key.builder()
-                        .partitionValue(AttributeValue.builder().s((String) id).build())
-                        .build()))
-                .map(this::toModel);
+        return getByKey(keyOf(id));
+    }
+
+    /**
+     * Obtiene una entidad por su clave primaria compuesta.
+     *
+     * @param partitionValue Valor de la clave de partición
+     * @param sortValue Valor de la clave de ordenamiento
+     * @return Mono que emite la entidad encontrada o vacío si no existe
+     */
+    public Mono<E> getById(K partitionValue, K sortValue) {
+        return getByKey(Key.builder()
+                .partitionValue(toAttributeValue(partitionValue))
+                .sortValue(toAttributeValue(sortValue))
+                .build());
+    }
+
+    private Mono<E> getByKey(Key key) {
+        return resilience.hedgedCall("getItem", () -> table.getItem(key)).map(this::toModel);
+    }
+
+    /**
+     * Construye la clave de DynamoDB a partir del identificador. Por defecto el identificador es el valor
+     * de la clave de partición; las tablas con clave compuesta pueden sobrescribirlo.
+     *
+     * @param id Identificador de la entidad
+     * @return Clave de DynamoDB
+     */
+    protected Key keyOf(K id) {
+        return Key.builder().partitionValue(toAttributeValue(id)).build();
+    }
+
+    private static AttributeValue toAttributeValue(Object value) {
+        return value instanceof Number
+                ? AttributeValue.builder().n(value.toString()).build()
+                : AttributeValue.builder().s((String) value).build();
     }
 
     /**
@@ -78,32 +343,144 @@ public abstract class TemplateAdapterOperations<E, K, V> {
      * @return Mono que emite la entidad eliminada
      */
     public Mono<E> delete(E model) {
-        return Mono.fromFuture(table.deleteItem(toEntity(model))).map(this::toModel);
+        V entity = toEntity(model);
+        return resilience.call("deleteItem", () -> table.deleteItem(entity)).map(this::toModel);
     }
 
     /**
      * Realiza una consulta sobre la tabla DynamoDB usando una expresión de consulta.
      *
+     * <p>Recorre todas las páginas del resultado y las reúne en una lista de como máximo
+     * {@value #DEFAULT_COLLECT_LIMIT} entidades; para resultados mayores use {@link #queryAll(QueryEnhancedRequest)}.</p>
+     *
      * @param queryExpression Expresión de consulta
      * @return Mono que emite la lista de entidades encontradas
      */
     public Mono<List<E>> query(QueryEnhancedRequest queryExpression) {
-        PagePublisher<V> pagePublisher = table.query(queryExpression);
-        return listOfModel(pagePublisher);
+        return collectAll(queryExpression, QueryOptions.defaults(), DEFAULT_COLLECT_LIMIT);
     }
 
     /**
      * Realiza una consulta sobre un índice secundario de la tabla DynamoDB.
      *
+     * <p>Recorre todas las páginas del resultado y las reúne en una lista de como máximo
+     * {@value #DEFAULT_COLLECT_LIMIT} entidades.</p>
+     *
      * @param queryExpression Expresión de consulta
      * @param index Nombre(s) del índice secundario
      * @return Mono que emite la lista de entidades encontradas
      */
     public Mono<List<E>> queryByIndex(QueryEnhancedRequest queryExpression, String... index) {
-        DynamoDbAsyncIndex<V> queryIndex = index.length > 0 ? table.index(index[0]) : tableByIndex;
+        return collectAll(queryAllByIndex(queryExpression, QueryOptions.defaults(), index), DEFAULT_COLLECT_LIMIT);
+    }
 
-        SdkPublisher<Page<V>> pagePublisher = queryIndex.query(queryExpression);
-        return listOfModel(pagePublisher);
+    /**
+     * Realiza una consulta siguiendo todas las páginas de forma perezosa.
+     *
+     * @param queryExpression Expresión de consulta
+     * @return Flux que emite las entidades encontradas
+     */
+    public Flux<E> queryAll(QueryEnhancedRequest queryExpression) {
+        return queryAll(queryExpression, QueryOptions.defaults());
+    }
+
+    /**
+     * Realiza una consulta siguiendo todas las páginas de forma perezosa.
+     *
+     * <p>Cada página se solicita a DynamoDB solo cuando el consumidor agotó la anterior, y al consumidor se le
+     * entregan como máximo {@link QueryOptions#maxInFlight()} elementos por delante de su demanda, de modo que
+     * el resultado nunca se acumula completo en memoria. El tamaño de página y la proyección de las opciones
+     * reemplazan a los de la expresión de consulta.</p>
+     *
+     * @param queryExpression Expresión de consulta
+     * @param options Tamaño de página, proyección y máximo de elementos en vuelo
+     * @return Flux que emite las entidades encontradas
+     */
+    public Flux<E> queryAll(QueryEnhancedRequest queryExpression, QueryOptions options) {
+        QueryEnhancedRequest request = withOptions(queryExpression, options);
+        return items(startKey -> table.query(resumeFrom(request, startKey)), options).map(this::toModel);
+    }
+
+    /**
+     * Realiza una consulta sobre un índice secundario siguiendo todas las páginas de forma perezosa.
+     *
+     * @param queryExpression Expresión de consulta
+     * @param options Tamaño de página, proyección y máximo de elementos en vuelo
+     * @param index Nombre del índice secundario; si se omite se usa el índice configurado en el constructor
+     * @return Flux que emite las entidades encontradas
+     * @see #queryAll(QueryEnhancedRequest, QueryOptions)
+     */
+    public Flux<E> queryAllByIndex(QueryEnhancedRequest queryExpression, QueryOptions options, String... index) {
+        QueryEnhancedRequest request = withOptions(queryExpression, options);
+        return Flux.defer(() -> {
+            DynamoDbAsyncIndex<V> queryIndex = index.length > 0 ? table.index(index[0]) : tableByIndex;
+            if (queryIndex == null) {
+                return Flux.error(new IllegalStateException("No hay un índice secundario configurado"));
+            }
+            return items(startKey -> queryIndex.query(resumeFrom(request, startKey)), options).map(this::toModel);
+        });
+    }
+
+    /**
+     * Realiza una consulta siguiendo todas las páginas y reúne el resultado en una lista acotada.
+     *
+     * @param queryExpression Expresión de consulta
+     * @param options Tamaño de página, proyección y máximo de elementos en vuelo
+     * @param maxItems Máximo de entidades que se admite reunir en memoria
+     * @return Mono que emite la lista de entidades, o un error {@link IllegalStateException} si el resultado
+     * supera {@code maxItems}
+     */
+    public Mono<List<E>> collectAll(QueryEnhancedRequest queryExpression, QueryOptions options, int maxItems) {
+        return collectAll(queryAll(queryExpression, options), maxItems);
+    }
+
+    private Mono<List<E>> collectAll(Flux<E> items, int maxItems) {
+        return items.take(maxItems + 1L)
+                .collectList()
+                .flatMap(list -> list.size() > maxItems
+                        ? Mono.error(new IllegalStateException(
+                                "El resultado de la consulta supera el máximo de " + maxItems + " elementos"))
+                        : Mono.just(list));
+    }
+
+    /**
+     * Realiza una consulta siguiendo todas las páginas de forma perezosa, sin convertir al modelo de dominio.
+     *
+     * @param queryExpression Expresión de consulta
+     * @return Flux que emite las entidades de base de datos encontradas
+     */
+    protected Flux<V> queryItems(QueryEnhancedRequest queryExpression) {
+        return items(startKey -> table.query(resumeFrom(queryExpression, startKey)), QueryOptions.defaults());
+    }
+
+    /**
+     * Recorre las páginas de una consulta. Si la petición de una página falla con un error transitorio, la
+     * consulta se retoma desde la clave de la última página recibida.
+     */
+    private Flux<V> items(Function<Map<String, AttributeValue>, SdkPublisher<Page<V>>> pages, QueryOptions options) {
+        return Flux.defer(() -> {
+                    AtomicReference<Map<String, AttributeValue>> lastKey = new AtomicReference<>();
+                    return resilience.withRetries("query", Flux.defer(() -> Flux.from(pages.apply(lastKey.get())))
+                            .doOnNext(page -> lastKey.set(page.lastEvaluatedKey())));
+                })
+                .concatMapIterable(Page::items, 1)
+                .limitRate(options.maxInFlight());
+    }
+
+    private static QueryEnhancedRequest resumeFrom(QueryEnhancedRequest request,
+                                                   Map<String, AttributeValue> startKey) {
+        return startKey == null ? request : request.toBuilder().exclusiveStartKey(startKey).build();
+    }
+
+    private static QueryEnhancedRequest withOptions(QueryEnhancedRequest queryExpression, QueryOptions options) {
+        QueryEnhancedRequest.Builder builder = queryExpression.toBuilder();
+        if (options.pageSize() != null) {
+            builder.limit(options.pageSize());
+        }
+        if (!options.projection().isEmpty()) {
+            builder.attributesToProject(options.projection());
+        }
+        return builder.build();
     }
 
     /**
@@ -123,15 +500,11 @@ public abstract class TemplateAdapterOperations<E, K, V> {
         return Mono.from(pagePublisher).map(page -> page.items().stream().map(this::toModel).toList());
     }
 
-    private Mono<List<E>> listOfModel(SdkPublisher<Page<V>> pagePublisher) {
-        return Mono.from(pagePublisher).map(page -> page.items().stream().map(this::toModel).toList());
-    }
-
     protected V toEntity(E model) {
-        return mapper.map(model, dataClass);
+        return entityMapper.toEntity(model);
     }
 
     protected E toModel(V data) {
-        return data != null ? toEntityFn.apply(data) : null;
+        return data != null ? entityMapper.toModel(data) : null;
     }
 }
\ No newline at end of file
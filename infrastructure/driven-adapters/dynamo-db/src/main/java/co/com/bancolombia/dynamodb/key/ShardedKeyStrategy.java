@@ -0,0 +1,76 @@
+package co.com.bancolombia.dynamodb.key;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Reparte las escrituras de cada hora entre {@code shards} particiones.
+ *
+ * <p>La clave de partición es {@code <hora>#<shard>} (ej. {@code 2024-06-01T10#3}), con el shard derivado del
+ * discriminador del registro, y la clave de ordenamiento es {@code <timestamp>#<discriminador>}. Así el tráfico
+ * de una misma hora se distribuye en varias particiones, y un rango de tiempo se consulta con una query por hora
+ * y shard usando {@code between} sobre la clave de ordenamiento.</p>
+ */
+public class ShardedKeyStrategy implements StatsKeyStrategy {
+
+    /**
+     * Nombre de la estrategia en la configuración.
+     */
+    public static final String NAME = "sharded";
+
+    /**
+     * Particiones de escritura por hora cuando no se configura {@code app.stats.key.shards}.
+     */
+    public static final int DEFAULT_SHARDS = 8;
+
+    /**
+     * Formato del segmento horario de la clave de partición.
+     */
+    public static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH");
+
+    /**
+     * Separador entre los segmentos de las claves.
+     */
+    public static final char SEPARATOR = '#';
+
+    private final int shards;
+
+    /**
+     * Crea la estrategia.
+     *
+     * @param shards Cantidad de particiones de escritura por hora
+     */
+    public ShardedKeyStrategy(int shards) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("La cantidad de shards debe ser positiva");
+        }
+        this.shards = shards;
+    }
+
+    @Override
+    public StatsKey keyFor(LocalDateTime timestamp, String discriminator) {
+        int shard = Math.floorMod(discriminator.hashCode(), shards);
+        return new StatsKey(partitionKey(timestamp, shard),
+                TIMESTAMP_FORMAT.format(timestamp) + SEPARATOR + discriminator);
+    }
+
+    /**
+     * Construye la clave de partición de una hora y un shard.
+     *
+     * @param timestamp Instante dentro de la hora
+     * @param shard Número de shard
+     * @return Clave de partición
+     */
+    public static String partitionKey(LocalDateTime timestamp, int shard) {
+        return BUCKET_FORMAT.format(timestamp) + SEPARATOR + shard;
+    }
+
+    /**
+     * Cantidad de particiones de escritura por hora.
+     *
+     * @return Número de shards
+     */
+    public int getShards() {
+        return shards;
+    }
+}
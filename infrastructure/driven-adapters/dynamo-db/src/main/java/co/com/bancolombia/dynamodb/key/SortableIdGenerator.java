@@ -0,0 +1,75 @@
+package co.com.bancolombia.dynamodb.key;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Genera identificadores de 26 caracteres ordenables en el tiempo (formato ULID).
+ *
+ * <p>Los primeros 48 bits son los milisegundos desde la época. Los 80 restantes son aleatorios en
+ * {@link #newId(long)}, que identifica un registro nuevo, y salen del MD5 del discriminador en
+ * {@link #idFor(long, String)}, que produce siempre el mismo identificador para el mismo instante y discriminador.
+ * En ambos casos el orden lexicográfico sigue al del tiempo.</p>
+ */
+public final class SortableIdGenerator {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int LENGTH = 26;
+
+    private SortableIdGenerator() {
+    }
+
+    /**
+     * Genera un identificador nuevo, distinto del de cualquier otro registro del mismo milisegundo.
+     *
+     * @param epochMillis Milisegundos desde la época del registro
+     * @return Identificador de 26 caracteres en base 32 de Crockford
+     */
+    public static String newId(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return encode(epochMillis, random.nextLong() & 0xFFFFL, random.nextLong());
+    }
+
+    /**
+     * Genera el identificador determinista de un registro.
+     *
+     * @param epochMillis Milisegundos desde la época del registro
+     * @param discriminator Valor que distingue los registros del mismo milisegundo
+     * @return Identificador de 26 caracteres en base 32 de Crockford
+     */
+    public static String idFor(long epochMillis, String discriminator) {
+        byte[] digest = md5(discriminator);
+        long high = ((digest[0] & 0xFFL) << 8) | (digest[1] & 0xFFL);
+        long low = 0;
+        for (int i = 2; i < 10; i++) {
+            low = (low << 8) | (digest[i] & 0xFFL);
+        }
+        return encode(epochMillis, high, low);
+    }
+
+    private static byte[] md5(String value) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 no está disponible", e);
+        }
+    }
+
+    private static String encode(long millis, long high, long low) {
+        char[] out = new char[LENGTH];
+        // 10 caracteres para los 48 bits de tiempo (los 2 bits superiores quedan en cero).
+        for (int i = 9; i >= 0; i--) {
+            out[i] = ALPHABET[(int) (millis & 0x1F)];
+            millis >>>= 5;
+        }
+        // 16 caracteres para los 80 bits del discriminador: 16 bits altos y 64 bajos.
+        for (int i = LENGTH - 1; i >= 10; i--) {
+            out[i] = ALPHABET[(int) (low & 0x1F)];
+            low = (low >>> 5) | ((high & 0x1F) << 59);
+            high >>>= 5;
+        }
+        return new String(out);
+    }
+}
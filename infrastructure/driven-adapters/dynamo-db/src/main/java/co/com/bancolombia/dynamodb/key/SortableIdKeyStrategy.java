@@ -0,0 +1,25 @@
+package co.com.bancolombia.dynamodb.key;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Usa un identificador monotónico ordenable en el tiempo como clave de partición.
+ *
+ * <p>El identificador combina el milisegundo del registro con su discriminador (ver
+ * {@link SortableIdGenerator}), así que cada registro queda en su propia partición sin coordinación entre
+ * instancias, y la clave de ordenamiento guarda el timestamp. No admite consultas por rango de tiempo.</p>
+ */
+public class SortableIdKeyStrategy implements StatsKeyStrategy {
+
+    /**
+     * Nombre de la estrategia en la configuración.
+     */
+    public static final String NAME = "sortable-id";
+
+    @Override
+    public StatsKey keyFor(LocalDateTime timestamp, String discriminator) {
+        long epochMillis = timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return new StatsKey(SortableIdGenerator.idFor(epochMillis, discriminator), TIMESTAMP_FORMAT.format(timestamp));
+    }
+}
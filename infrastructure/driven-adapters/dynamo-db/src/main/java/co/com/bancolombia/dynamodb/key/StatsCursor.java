@@ -0,0 +1,61 @@
+package co.com.bancolombia.dynamodb.key;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Codifica la posición de una consulta por rango de tiempo como un cursor opaco.
+ *
+ * <p>El cursor es la clave de ordenamiento del último registro entregado (el {@code LastEvaluatedKey} lógico de
+ * la consulta) en Base64 URL sin relleno. Como la clave de ordenamiento inicia con el timestamp en formato de
+ * ancho fijo, basta para retomar la consulta en la hora y el registro siguientes.</p>
+ */
+public final class StatsCursor {
+
+    private static final int TIMESTAMP_LENGTH = 26;
+
+    private StatsCursor() {
+    }
+
+    /**
+     * Codifica una clave de ordenamiento.
+     *
+     * @param sortKey Clave de ordenamiento del registro
+     * @return Cursor opaco
+     */
+    public static String encode(String sortKey) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sortKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor y valida que contenga una clave de ordenamiento.
+     *
+     * @param cursor Cursor opaco recibido del cliente
+     * @return Clave de ordenamiento del registro
+     * @throws IllegalArgumentException si el cursor no es válido
+     */
+    public static String decode(String cursor) {
+        try {
+            String sortKey = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            timestampOf(sortKey);
+            return sortKey;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
+    /**
+     * Extrae el timestamp con el que inicia una clave de ordenamiento.
+     *
+     * @param sortKey Clave de ordenamiento
+     * @return Timestamp del registro
+     */
+    public static LocalDateTime timestampOf(String sortKey) {
+        if (sortKey.length() < TIMESTAMP_LENGTH) {
+            throw new IllegalArgumentException("Clave de ordenamiento inválida");
+        }
+        return LocalDateTime.parse(sortKey.substring(0, TIMESTAMP_LENGTH), StatsKeyStrategy.TIMESTAMP_FORMAT);
+    }
+}
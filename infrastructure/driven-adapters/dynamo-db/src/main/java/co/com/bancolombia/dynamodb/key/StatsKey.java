@@ -0,0 +1,10 @@
+package co.com.bancolombia.dynamodb.key;
+
+/**
+ * Clave primaria compuesta de un registro de estadísticas en DynamoDB.
+ *
+ * @param partitionKey Valor de la clave de partición ({@code pk})
+ * @param sortKey Valor de la clave de ordenamiento ({@code sk})
+ */
+public record StatsKey(String partitionKey, String sortKey) {
+}
@@ -0,0 +1,44 @@
+package co.com.bancolombia.dynamodb.key;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Estrategia de generación de la clave primaria compuesta ({@code pk}, {@code sk}) de los registros de estadísticas.
+ *
+ * <p>La clave se deriva del timestamp y de un discriminador: el identificador único del registro, o el hash de la
+ * estadística cuando la clave debe repetirse para el mismo contenido (escritura condicional). Con el identificador,
+ * dos registros con el mismo timestamp y contenido no se sobrescriben, y el registro guardado se vuelve a ubicar
+ * para borrarlo o invalidarlo en la caché.</p>
+ */
+public interface StatsKeyStrategy {
+
+    /**
+     * Formato de ancho fijo del timestamp usado en las claves; conserva el orden lexicográfico.
+     */
+    DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
+
+    /**
+     * Calcula la clave de un registro.
+     *
+     * @param timestamp Timestamp de la estadística
+     * @param discriminator Valor que distingue los registros del mismo instante
+     * @return Clave primaria compuesta
+     */
+    StatsKey keyFor(LocalDateTime timestamp, String discriminator);
+
+    /**
+     * Crea la estrategia configurada.
+     *
+     * @param name Nombre de la estrategia: {@code sharded} o {@code sortable-id}
+     * @param shards Cantidad de particiones de escritura de la estrategia {@code sharded}
+     * @return Estrategia de claves
+     */
+    static StatsKeyStrategy of(String name, int shards) {
+        return switch (name) {
+            case ShardedKeyStrategy.NAME -> new ShardedKeyStrategy(shards);
+            case SortableIdKeyStrategy.NAME -> new SortableIdKeyStrategy();
+            default -> throw new IllegalArgumentException("Estrategia de claves desconocida: " + name);
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package co.com.bancolombia.dynamodb.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Limitador de tasa del lado del cliente guiado por las respuestas de throttling (AIMD).
+ *
+ * <p>Inactivo no limita nada; solo mide la tasa de envío. La primera respuesta de throttling lo activa con una tasa
+ * de {@value #BETA} veces la medida, y cada nueva respuesta de throttling la vuelve a reducir en esa proporción.
+ * Cada éxito suma {@value #RECOVERY_PER_SUCCESS} peticiones por segundo, lo que a tasa plena equivale a recuperar
+ * un 10 % por segundo; cuando la tasa permitida duplica la demanda, el limitador se desactiva.</p>
+ *
+ * <p>Activo, funciona como un token bucket con capacidad de un segundo de la tasa: {@link #acquire()} reserva un
+ * turno y devuelve la espera hasta él, o rechaza si supera la espera máxima.</p>
+ */
+final class AdaptiveRateLimiter {
+
+    static final double BETA = 0.7;
+    static final double RECOVERY_PER_SUCCESS = 0.1;
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final boolean enabled;
+    private final double minRate;
+    private final long maxWaitNanos;
+    private final LongSupplier clock;
+
+    private volatile boolean active;
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+    private long windowStart;
+    private int windowRequests;
+    private double measuredRate;
+
+    AdaptiveRateLimiter(boolean enabled, double minRate, Duration maxWait, LongSupplier clock) {
+        this.enabled = enabled;
+        this.minRate = minRate;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.clock = clock;
+        this.windowStart = clock.getAsLong();
+    }
+
+    /**
+     * Reserva un turno de envío.
+     *
+     * @return Nanosegundos a esperar antes de enviar (cero si puede enviarse ya), o -1 si la espera excede el máximo
+     */
+    long acquire() {
+        if (!enabled) {
+            return 0;
+        }
+        synchronized (this) {
+            long now = clock.getAsLong();
+            roll(now);
+            windowRequests++;
+            if (!active) {
+                return 0;
+            }
+            refill(now);
+            tokens -= 1;
+            if (tokens >= 0) {
+                return 0;
+            }
+            long wait = (long) (-tokens / rate * SECOND);
+            if (wait > maxWaitNanos) {
+                tokens += 1;
+                return -1;
+            }
+            return wait;
+        }
+    }
+
+    synchronized void onThrottle() {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.getAsLong();
+        double sendRate = sendRate(now);
+        rate = Math.max(minRate, (active ? Math.min(rate, sendRate) : sendRate) * BETA);
+        if (active) {
+            refill(now);
+            tokens = Math.min(tokens, rate);
+        } else {
+            active = true;
+            tokens = 0;
+            lastRefill = now;
+        }
+    }
+
+    void onSuccess() {
+        if (!active) {
+            return;
+        }
+        synchronized (this) {
+            rate += RECOVERY_PER_SUCCESS;
+            if (rate >= 2 * Math.max(minRate, sendRate(clock.getAsLong()))) {
+                active = false;
+            }
+        }
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Tasa permitida en peticiones por segundo, o cero si el limitador está inactivo.
+     */
+    synchronized double currentRate() {
+        return active ? rate : 0;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(Math.max(1, rate), tokens + (now - lastRefill) * rate / SECOND);
+        lastRefill = now;
+    }
+
+    private void roll(long now) {
+        long elapsed = now - windowStart;
+        if (elapsed >= SECOND) {
+            measuredRate = windowRequests * (double) SECOND / elapsed;
+            windowRequests = 0;
+            windowStart = now;
+        }
+    }
+
+    private double sendRate(long now) {
+        roll(now);
+        return Math.max(measuredRate, windowRequests * (double) SECOND / Math.max(now - windowStart, SECOND));
+    }
+}
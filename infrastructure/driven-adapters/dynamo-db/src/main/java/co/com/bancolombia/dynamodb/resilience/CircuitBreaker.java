@@ -0,0 +1,145 @@
+package co.com.bancolombia.dynamodb.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker por conteo sobre las últimas llamadas.
+ *
+ * <p>Cerrado, registra el resultado de cada llamada en una ventana circular y se abre cuando, con al menos
+ * {@code minimumCalls} registradas, la proporción de fallos alcanza el umbral. Abierto, rechaza todas las llamadas
+ * durante {@code openDuration}; luego pasa a semiabierto y admite {@code halfOpenCalls} llamadas de prueba: si
+ * todas tienen éxito se cierra, y al primer fallo vuelve a abrirse.</p>
+ *
+ * <p>El camino del estado cerrado en {@link #tryAcquire()} solo lee un campo volátil, igual que
+ * {@link #onSuccess()} con el circuito abierto o con la ventana llena y sin fallos, donde registrar otro éxito no
+ * cambia nada. Los demás registros se serializan con el monitor del objeto.</p>
+ */
+final class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+    private final boolean[] failed;
+
+    private volatile State state = State.CLOSED;
+    /**
+     * Ventana llena y sin fallos; se actualiza con el monitor tomado.
+     */
+    private volatile boolean healthy;
+    private int next;
+    private int recorded;
+    private int failures;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    CircuitBreaker(double failureRateThreshold, int slidingWindowSize, int minimumCalls, Duration openDuration,
+                   int halfOpenCalls, LongSupplier clock) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.clock = clock;
+        this.failed = new boolean[slidingWindowSize];
+    }
+
+    /**
+     * Indica si la llamada puede enviarse; en semiabierto consume uno de los permisos de prueba.
+     */
+    boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (clock.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits == 0) {
+                    return false;
+                }
+                halfOpenPermits--;
+            }
+            return true;
+        }
+    }
+
+    void onSuccess() {
+        State current = state;
+        if (current == State.OPEN || (current == State.CLOSED && healthy)) {
+            return;
+        }
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                record(false);
+            } else if (state == State.HALF_OPEN && ++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+        }
+    }
+
+    synchronized void onFailure() {
+        if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures >= failureRateThreshold * recorded) {
+                open();
+            }
+        } else if (state == State.HALF_OPEN) {
+            open();
+        }
+    }
+
+    /**
+     * Devuelve el permiso de una llamada sin resultado (cancelada o con throttling).
+     */
+    synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls) {
+            halfOpenPermits++;
+        }
+    }
+
+    State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == failed.length) {
+            if (failed[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % failed.length;
+        healthy = recorded == failed.length && failures == 0;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+    }
+
+    private void close() {
+        Arrays.fill(failed, false);
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        healthy = false;
+        state = State.CLOSED;
+    }
+}
@@ -0,0 +1,29 @@
+package co.com.bancolombia.dynamodb.resilience;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Llamada a DynamoDB rechazada sin enviarse, porque el circuito está abierto o el limitador de tasa no tiene
+ * turno dentro de la espera máxima.
+ *
+ * <p>Extiende {@link RejectedExecutionException} para que las capas que no conocen este módulo puedan
+ * reconocerla. No captura la traza: se lanza en ráfagas justamente cuando el servicio está saturado.</p>
+ */
+public class DynamoDBCallRejectedException extends RejectedExecutionException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Crea la excepción.
+     *
+     * @param message Motivo del rechazo
+     */
+    public DynamoDBCallRejectedException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,401 @@
+package co.com.bancolombia.dynamodb.resilience;
+
+import co.com.bancolombia.dynamodb.config.DynamoDBResilienceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Capa de resiliencia de las llamadas a DynamoDB.
+ *
+ * <p>Cada llamada pasa, en orden, por:</p>
+ * <ul>
+ *     <li>el limitador de tasa adaptativo ({@link AdaptiveRateLimiter}), inactivo hasta la primera respuesta de
+ *     throttling, que desde ahí espacia los envíos y recupera la tasa con cada éxito;</li>
+ *     <li>el circuit breaker ({@link CircuitBreaker}), que rechaza de inmediato mientras la proporción de fallos
+ *     recientes supere el umbral;</li>
+ *     <li>los reintentos de errores transitorios (throttling, 5xx y errores de red) con backoff "decorrelated
+ *     jitter", acotados por un presupuesto ({@link RetryBudget}) que se recarga con los éxitos;</li>
+ *     <li>en las lecturas idempotentes, una petición de respaldo si la primera no respondió dentro del percentil
+ *     configurado de la latencia reciente de la operación ({@link LatencyHistogram}); gana la primera en
+ *     responder y la otra se cancela.</li>
+ * </ul>
+ *
+ * <p>El throttling no cuenta como fallo para el circuito, que reacciona a caídas; de la sobrecarga se encarga el
+ * limitador. Las peticiones de respaldo solo se programan si el circuito está cerrado al iniciar la lectura, y al
+ * enviarse consumen su propio permiso del circuito y un token del presupuesto de reintentos, con el limitador
+ * inactivo. Las escrituras no idempotentes ({@link #nonIdempotentCall}) solo se reintentan ante throttling. Los
+ * rechazos se señalan con {@link DynamoDBCallRejectedException}.</p>
+ *
+ * <p>Métricas: histograma {@code dynamodb.operation.latency} por operación y resultado ({@code success},
+ * {@code error} o {@code rejected}), contadores {@code dynamodb.operation.retries},
+ * {@code dynamodb.operation.hedges} y {@code dynamodb.operation.throttles}, y los gauges
+ * {@code dynamodb.circuit.state} (0 cerrado, 1 abierto, 2 semiabierto) y {@code dynamodb.rate.limit}
+ * (peticiones por segundo permitidas, cero si el limitador está inactivo).</p>
+ */
+public class DynamoDBResilience {
+
+    /**
+     * Muestras de latencia necesarias antes de enviar peticiones de respaldo.
+     */
+    static final int MIN_HEDGE_SAMPLES = 100;
+
+    /**
+     * Ventana de latencias recientes para el percentil de las peticiones de respaldo.
+     */
+    static final Duration LATENCY_WINDOW = Duration.ofSeconds(30);
+
+    private static final DynamoDBResilience DISABLED = new DynamoDBResilience();
+
+    private final DynamoDBResilienceProperties properties;
+    private final MeterRegistry registry;
+    private final LongSupplier clock;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+    private DynamoDBResilience() {
+        this.properties = null;
+        this.registry = null;
+        this.clock = null;
+        this.rateLimiter = null;
+        this.circuitBreaker = null;
+        this.retryBudget = null;
+    }
+
+    /**
+     * Crea la capa de resiliencia.
+     *
+     * @param properties Configuración de la capa
+     * @param registry Registro de métricas
+     */
+    public DynamoDBResilience(DynamoDBResilienceProperties properties, MeterRegistry registry) {
+        this(properties, registry, System::nanoTime);
+    }
+
+    DynamoDBResilience(DynamoDBResilienceProperties properties, MeterRegistry registry, LongSupplier clock) {
+        this.properties = properties;
+        this.registry = registry;
+        this.clock = clock;
+        this.rateLimiter = new AdaptiveRateLimiter(properties.rateLimiterEnabled(), properties.rateLimiterMinRate(),
+                properties.rateLimiterMaxWait(), clock);
+        this.circuitBreaker = new CircuitBreaker(properties.circuitFailureRateThreshold(),
+                properties.circuitSlidingWindowSize(), properties.circuitMinimumCalls(),
+                properties.circuitOpenDuration(), properties.circuitHalfOpenCalls(), clock);
+        this.retryBudget = new RetryBudget(properties.retryBudgetRatio(), properties.retryBudgetCapacity());
+        Gauge.builder("dynamodb.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("Estado del circuito de DynamoDB: 0 cerrado, 1 abierto, 2 semiabierto")
+                .register(registry);
+        Gauge.builder("dynamodb.rate.limit", rateLimiter, AdaptiveRateLimiter::currentRate)
+                .description("Peticiones por segundo permitidas hacia DynamoDB; cero sin limitación")
+                .register(registry);
+    }
+
+    /**
+     * Capa deshabilitada: las llamadas se envían tal cual, sin reintentos ni métricas.
+     *
+     * @return Instancia compartida deshabilitada
+     */
+    public static DynamoDBResilience disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @return Si las llamadas pasan por la capa
+     */
+    public boolean isEnabled() {
+        return properties != null;
+    }
+
+    /**
+     * Ejecuta una llamada con limitación de tasa, circuit breaker y reintentos.
+     *
+     * @param operation Nombre de la operación, usado como etiqueta de las métricas
+     * @param call Crea la petición; se invoca una vez por intento
+     * @param <T> Tipo del resultado
+     * @return Mono con el resultado, vacío si la llamada completa sin valor
+     */
+    public <T> Mono<T> call(String operation, Supplier<CompletableFuture<T>> call) {
+        return execute(operation, call, false, DynamoDBResilience::isRetryable);
+    }
+
+    /**
+     * Ejecuta una escritura no idempotente (por ejemplo un {@code UpdateItem ADD}) como {@link #call}, pero solo la
+     * reintenta ante throttling: tras un timeout o un error 5xx la escritura pudo haberse aplicado, y repetirla
+     * duplicaría su efecto.
+     *
+     * @param operation Nombre de la operación, usado como etiqueta de las métricas
+     * @param call Crea la petición; se invoca una vez por intento
+     * @param <T> Tipo del resultado
+     * @return Mono con el resultado, vacío si la llamada completa sin valor
+     */
+    public <T> Mono<T> nonIdempotentCall(String operation, Supplier<CompletableFuture<T>> call) {
+        return execute(operation, call, false, DynamoDBResilience::isThrottling);
+    }
+
+    /**
+     * Ejecuta una lectura idempotente como {@link #call}, enviando además una petición de respaldo si la primera
+     * tarda más que el percentil configurado de la latencia reciente.
+     *
+     * @param operation Nombre de la operación, usado como etiqueta de las métricas
+     * @param call Crea la petición; se invoca una vez por intento y por petición de respaldo
+     * @param <T> Tipo del resultado
+     * @return Mono con el resultado, vacío si la llamada completa sin valor
+     */
+    public <T> Mono<T> hedgedCall(String operation, Supplier<CompletableFuture<T>> call) {
+        return execute(operation, call, isEnabled() && properties.hedgeEnabled(), DynamoDBResilience::isRetryable);
+    }
+
+    /**
+     * Reintenta un flujo, volviéndose a suscribir a él, ante errores transitorios, con el mismo backoff y
+     * presupuesto que las llamadas. El conteo de intentos se reinicia con cada elemento recibido, por lo que el
+     * flujo debe poder retomarse desde el último elemento entregado. No pasa por el limitador ni por el circuito.
+     *
+     * @param operation Nombre de la operación, usado como etiqueta de las métricas
+     * @param source Flujo a reintentar
+     * @param <T> Tipo de los elementos
+     * @return Flujo con reintentos
+     */
+    public <T> Flux<T> withRetries(String operation, Flux<T> source) {
+        return isEnabled() ? source.retryWhen(retry(metrics(operation), DynamoDBResilience::isRetryable)) : source;
+    }
+
+    private <T> Mono<T> execute(String operation, Supplier<CompletableFuture<T>> call, boolean hedged,
+                                Predicate<Throwable> retryable) {
+        if (!isEnabled()) {
+            return Mono.fromFuture(call);
+        }
+        OperationMetrics metrics = metrics(operation);
+        return Mono.defer(() -> {
+            long start = clock.getAsLong();
+            return attempt(metrics, call, hedged)
+                    .retryWhen(retry(metrics, retryable))
+                    .doOnSuccess(value -> metrics.record(metrics.success, start))
+                    .doOnError(e -> metrics.record(
+                            e instanceof DynamoDBCallRejectedException ? metrics.rejected : metrics.error, start));
+        });
+    }
+
+    private <T> Mono<T> attempt(OperationMetrics metrics, Supplier<CompletableFuture<T>> call, boolean hedged) {
+        return Mono.defer(() -> {
+            long wait = rateLimiter.acquire();
+            if (wait < 0) {
+                return Mono.error(new DynamoDBCallRejectedException(
+                        "DynamoDB limitado por throttling: sin turno dentro de la espera máxima"));
+            }
+            Mono<T> send = Mono.defer(() -> {
+                if (!circuitBreaker.tryAcquire()) {
+                    return Mono.error(new DynamoDBCallRejectedException("Circuito de DynamoDB abierto"));
+                }
+                Mono<T> primary = send(metrics, call);
+                return hedged ? hedge(metrics, call, primary) : primary;
+            });
+            return wait == 0 ? send : Mono.delay(Duration.ofNanos(wait)).then(send);
+        });
+    }
+
+    private <T> Mono<T> send(OperationMetrics metrics, Supplier<CompletableFuture<T>> call) {
+        return Mono.defer(() -> {
+            long start = clock.getAsLong();
+            return Mono.fromFuture(call)
+                    .doOnSuccess(value -> {
+                        metrics.latency.record(clock.getAsLong() - start);
+                        circuitBreaker.onSuccess();
+                        rateLimiter.onSuccess();
+                        retryBudget.onSuccess();
+                    })
+                    .doOnError(e -> onAttemptError(metrics, e))
+                    .doOnCancel(circuitBreaker::release);
+        });
+    }
+
+    private void onAttemptError(OperationMetrics metrics, Throwable error) {
+        if (isThrottling(error)) {
+            metrics.throttles.increment();
+            rateLimiter.onThrottle();
+            circuitBreaker.release();
+        } else if (isRetryable(error)) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private <T> Mono<T> hedge(OperationMetrics metrics, Supplier<CompletableFuture<T>> call, Mono<T> primary) {
+        long delay = metrics.hedgeDelayNanos();
+        if (delay < 0 || circuitBreaker.state() != CircuitBreaker.State.CLOSED) {
+            return primary;
+        }
+        Mono<T> backup = Mono.delay(Duration.ofNanos(delay))
+                .filter(tick -> acquireHedge())
+                .switchIfEmpty(Mono.never())
+                .flatMap(tick -> {
+                    metrics.hedges.increment();
+                    return send(metrics, call);
+                });
+        return Mono.firstWithSignal(primary, backup);
+    }
+
+    /**
+     * Toma el permiso del circuito y el token del presupuesto de reintentos de una petición de respaldo; si falta
+     * alguno, o el circuito dejó de estar cerrado o el limitador se activó, la petición no se envía.
+     */
+    private boolean acquireHedge() {
+        if (circuitBreaker.state() != CircuitBreaker.State.CLOSED || rateLimiter.isActive()
+                || !circuitBreaker.tryAcquire()) {
+            return false;
+        }
+        if (!retryBudget.tryWithdraw()) {
+            circuitBreaker.release();
+            return false;
+        }
+        return true;
+    }
+
+    private Retry retry(OperationMetrics metrics, Predicate<Throwable> retryable) {
+        return Retry.from(signals -> {
+            long[] sleep = {0};
+            return signals.concatMap(signal -> {
+                Throwable error = signal.failure();
+                if (signal.totalRetriesInARow() + 1 >= properties.maxAttempts() || !retryable.test(error)
+                        || !retryBudget.tryWithdraw()) {
+                    return Mono.error(error);
+                }
+                sleep[0] = nextBackoffNanos(signal.totalRetriesInARow() == 0
+                        ? properties.baseBackoff().toNanos() : sleep[0]);
+                metrics.retries.increment();
+                return Mono.delay(Duration.ofNanos(sleep[0]));
+            });
+        });
+    }
+
+    /**
+     * Backoff "decorrelated jitter": aleatorio entre la espera base y el triple de la anterior, acotado al máximo.
+     */
+    long nextBackoffNanos(long previousNanos) {
+        long base = properties.baseBackoff().toNanos();
+        long upper = Math.max(base + 1, previousNanos * 3);
+        return Math.min(properties.maxBackoff().toNanos(), ThreadLocalRandom.current().nextLong(base, upper));
+    }
+
+    /**
+     * Indica si el error es transitorio: throttling, error 5xx del servicio o error de red del cliente.
+     *
+     * @param error Error de la llamada
+     * @return Si vale la pena reintentar
+     */
+    static boolean isRetryable(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof SdkServiceException serviceError) {
+            return serviceError.isThrottlingException() || serviceError.statusCode() >= 500;
+        }
+        return cause instanceof SdkClientException || cause instanceof IOException
+                || cause instanceof TimeoutException;
+    }
+
+    /**
+     * Indica si el error garantiza que la operación no se aplicó: throttling, o llamada rechazada por esta capa
+     * antes de enviarse. Los errores 5xx y de red son ambiguos, porque la petición pudo haberse aplicado aunque su
+     * respuesta no llegara; repetir una escritura no idempotente tras ellos puede duplicar su efecto.
+     *
+     * @param error Error de la llamada
+     * @return Si la operación puede repetirse sin riesgo de aplicarse dos veces
+     */
+    public static boolean isNotApplied(Throwable error) {
+        return unwrap(error) instanceof DynamoDBCallRejectedException || isThrottling(error);
+    }
+
+    static boolean isThrottling(Throwable error) {
+        return unwrap(error) instanceof SdkServiceException serviceError && serviceError.isThrottlingException();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private OperationMetrics metrics(String operation) {
+        return operations.computeIfAbsent(operation, OperationMetrics::new);
+    }
+
+    /**
+     * Medidores e histograma de latencias de una operación.
+     */
+    private final class OperationMetrics {
+
+        private final Timer success;
+        private final Timer error;
+        private final Timer rejected;
+        private final Counter retries;
+        private final Counter hedges;
+        private final Counter throttles;
+        private final LatencyHistogram latency;
+
+        private OperationMetrics(String operation) {
+            this.success = timer(operation, "success");
+            this.error = timer(operation, "error");
+            this.rejected = timer(operation, "rejected");
+            this.retries = counter("dynamodb.operation.retries", "Reintentos de operaciones de DynamoDB", operation);
+            this.hedges = counter("dynamodb.operation.hedges", "Peticiones de respaldo enviadas a DynamoDB",
+                    operation);
+            this.throttles = counter("dynamodb.operation.throttles", "Respuestas de throttling de DynamoDB",
+                    operation);
+            this.latency = new LatencyHistogram(LATENCY_WINDOW, clock);
+        }
+
+        private void record(Timer timer, long start) {
+            timer.record(clock.getAsLong() - start, TimeUnit.NANOSECONDS);
+        }
+
+        private long hedgeDelayNanos() {
+            if (latency.count() < MIN_HEDGE_SAMPLES) {
+                return -1;
+            }
+            return Math.max(properties.hedgeMinDelay().toNanos(),
+                    latency.percentileNanos(properties.hedgePercentile()));
+        }
+
+        private Timer timer(String operation, String outcome) {
+            return Timer.builder("dynamodb.operation.latency")
+                    .description("Latencia de las operaciones de DynamoDB, con reintentos y peticiones de respaldo")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(registry);
+        }
+
+        private Counter counter(String name, String description, String operation) {
+            return Counter.builder(name)
+                    .description(description)
+                    .tag("operation", operation)
+                    .register(registry);
+        }
+    }
+}
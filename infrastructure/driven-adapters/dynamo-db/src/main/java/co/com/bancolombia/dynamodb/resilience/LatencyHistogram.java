@@ -0,0 +1,104 @@
+package co.com.bancolombia.dynamodb.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Histograma de latencias recientes, usado para calcular la espera de las peticiones de respaldo.
+ *
+ * <p>Los buckets son logarítmicos en microsegundos con cuatro subdivisiones por potencia de dos, es decir, un
+ * error relativo de a lo sumo 25 %. Se mantienen dos ventanas, la actual y la anterior, que rotan cada
+ * {@code window}; los percentiles se calculan sobre ambas, por lo que reflejan entre una y dos ventanas de
+ * historia. Registrar es un incremento atómico; una rotación concurrente puede perder unas pocas muestras.</p>
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 4;
+    private static final int BUCKETS = 40 * SUB_BUCKETS;
+
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final AtomicLong windowStart;
+
+    private volatile AtomicLongArray current = new AtomicLongArray(BUCKETS);
+    private volatile AtomicLongArray previous = new AtomicLongArray(BUCKETS);
+
+    LatencyHistogram(Duration window, LongSupplier clock) {
+        this.windowNanos = window.toNanos();
+        this.clock = clock;
+        this.windowStart = new AtomicLong(clock.getAsLong());
+    }
+
+    void record(long nanos) {
+        rotate();
+        current.incrementAndGet(index(nanos / 1000));
+    }
+
+    long count() {
+        rotate();
+        AtomicLongArray now = current;
+        AtomicLongArray before = previous;
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += now.get(i) + before.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Cota superior del bucket que contiene el percentil.
+     *
+     * @param quantile Percentil entre 0 y 1
+     * @return Latencia en nanosegundos, o cero si no hay muestras
+     */
+    long percentileNanos(double quantile) {
+        rotate();
+        AtomicLongArray now = current;
+        AtomicLongArray before = previous;
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = now.get(i) + before.get(i);
+            total += counts[i];
+        }
+        long target = (long) Math.ceil(quantile * total);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS && total > 0; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return upperBoundMicros(i) * 1000;
+            }
+        }
+        return 0;
+    }
+
+    static int index(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(0, micros);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) (micros >> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return Math.min(BUCKETS - 1, (exponent - 1) * SUB_BUCKETS + sub);
+    }
+
+    static long upperBoundMicros(int index) {
+        if (index < SUB_BUCKETS) {
+            return index + 1L;
+        }
+        int exponent = index / SUB_BUCKETS + 1;
+        int sub = index % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub + 1L) << (exponent - 2);
+    }
+
+    private void rotate() {
+        long now = clock.getAsLong();
+        long start = windowStart.get();
+        long elapsed = now - start;
+        if (elapsed >= windowNanos && windowStart.compareAndSet(start, now)) {
+            previous = elapsed >= 2 * windowNanos ? new AtomicLongArray(BUCKETS) : current;
+            current = new AtomicLongArray(BUCKETS);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package co.com.bancolombia.dynamodb.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Presupuesto de reintentos: cada reintento consume un token y cada llamada exitosa devuelve una fracción.
+ *
+ * <p>Acota los reintentos a una proporción de las llamadas exitosas, de modo que ante una falla generalizada los
+ * reintentos no multiplican la carga sobre DynamoDB. Los tokens se guardan en milésimas en un {@link AtomicLong}.</p>
+ */
+final class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long capacity;
+    private final long deposit;
+    private final AtomicLong tokens;
+
+    /**
+     * @param ratio Tokens devueltos por cada llamada exitosa
+     * @param capacity Tokens máximos acumulables; el presupuesto inicia lleno
+     */
+    RetryBudget(double ratio, int capacity) {
+        this.capacity = capacity * SCALE;
+        this.deposit = Math.round(ratio * SCALE);
+        this.tokens = new AtomicLong(this.capacity);
+    }
+
+    void onSuccess() {
+        if (deposit > 0 && tokens.get() < capacity) {
+            tokens.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+        }
+    }
+
+    boolean tryWithdraw() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    double available() {
+        return tokens.get() / (double) SCALE;
+    }
+}
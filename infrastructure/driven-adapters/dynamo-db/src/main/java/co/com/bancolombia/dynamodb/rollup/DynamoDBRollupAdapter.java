@@ -0,0 +1,72 @@
+package co.com.bancolombia.dynamodb.rollup;
+
+import co.com.bancolombia.dynamodb.resilience.DynamoDBResilience;
+import co.com.bancolombia.model.stats.StatsRollup;
+import co.com.bancolombia.model.stats.StatsRollup.Granularity;
+import co.com.bancolombia.model.stats.gateways.StatsRollupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+
+import java.time.LocalDateTime;
+
+/**
+ * Adaptador de lectura de los totales pre-agregados que mantiene {@link StatsRollupWriter}.
+ *
+ * <p>Cada intervalo del rango se lee con un {@code GetItem} directo por clave de partición, con a lo sumo
+ * {@value #READ_CONCURRENCY} lecturas en vuelo, y los resultados se emiten en orden cronológico. El costo de
+ * una consulta depende del número de intervalos y no del de estadísticas registradas. Las lecturas pasan por la
+ * {@link DynamoDBResilience} del contexto.</p>
+ *
+ * <p>Como el {@link StatsRollupWriter}, solo se registra con {@code app.stats.rollup.enabled=true}.</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "app.stats.rollup.enabled", havingValue = "true")
+public class DynamoDBRollupAdapter implements StatsRollupRepository {
+
+    private static final int READ_CONCURRENCY = 16;
+
+    private final DynamoDbAsyncTable<StatsRollupEntity> table;
+    private final DynamoDBResilience resilience;
+
+    /**
+     * Constructor del adaptador.
+     *
+     * @param client Cliente mejorado de DynamoDB
+     * @param tableName Tabla de totales pre-agregados
+     * @param resilience Capa de resiliencia de las llamadas a DynamoDB
+     */
+    public DynamoDBRollupAdapter(DynamoDbEnhancedAsyncClient client,
+                                 @Value("${app.stats.rollup.table:stats-rollup-table}") String tableName,
+                                 DynamoDBResilience resilience) {
+        this.table = client.table(tableName, StatsRollupEntity.tableSchema());
+        this.resilience = resilience;
+    }
+
+    @Override
+    public Flux<StatsRollup> findRollups(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        return Flux.<LocalDateTime, LocalDateTime>generate(() -> granularity.bucketOf(from), (bucket, sink) -> {
+                    if (bucket.isBefore(to)) {
+                        sink.next(bucket);
+                    } else {
+                        sink.complete();
+                    }
+                    return granularity.next(bucket);
+                })
+                .flatMapSequential(bucket -> read(granularity, bucket), READ_CONCURRENCY);
+    }
+
+    private Mono<StatsRollup> read(Granularity granularity, LocalDateTime bucket) {
+        Key key = Key.builder().partitionValue(StatsRollupKeys.partitionKey(granularity, bucket)).build();
+        return resilience.hedgedCall("getRollup", () -> table.getItem(key))
+                .map(entity -> new StatsRollup(granularity, StatsRollupKeys.bucketOf(granularity, entity.getPk()),
+                        entity.getTotalContactoClientes(), entity.getMotivoReclamo(), entity.getMotivoGarantia(),
+                        entity.getMotivoDuda(), entity.getMotivoCompra(), entity.getMotivoFelicitaciones(),
+                        entity.getMotivoCambio()));
+    }
+}
@@ -0,0 +1,80 @@
+package co.com.bancolombia.dynamodb.rollup;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+/**
+ * Entidad de DynamoDB con los totales de un intervalo de agregación.
+ *
+ * <p>La clave de partición es {@code <granularidad>#<inicio del intervalo>} (ej. {@code HOUR#2024-06-01T10}); los
+ * contadores se incrementan con {@code UpdateItem ADD}, por lo que nunca se escriben con {@code PutItem}.</p>
+ *
+ * <p>{@link #tableSchema()} declara el mismo mapeo que las anotaciones sin introspección al iniciar.</p>
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@DynamoDbBean
+public class StatsRollupEntity {
+
+    private String pk;
+    private long totalContactoClientes;
+    private long motivoReclamo;
+    private long motivoGarantia;
+    private long motivoDuda;
+    private long motivoCompra;
+    private long motivoFelicitaciones;
+    private long motivoCambio;
+
+    @DynamoDbPartitionKey
+    @DynamoDbAttribute("pk")
+    public String getPk() {
+        return pk;
+    }
+
+    /**
+     * Esquema de la tabla de totales construido con getters y setters explícitos, equivalente al que produce
+     * {@code TableSchema.fromBean(StatsRollupEntity.class)}.
+     *
+     * <p>Se construye la primera vez que se solicita, no al cargar la clase.</p>
+     *
+     * @return Esquema inmutable compartido
+     */
+    public static TableSchema<StatsRollupEntity> tableSchema() {
+        return SchemaHolder.SCHEMA;
+    }
+
+    private static final class SchemaHolder {
+        private static final TableSchema<StatsRollupEntity> SCHEMA = StaticTableSchema.builder(StatsRollupEntity.class)
+                .newItemSupplier(StatsRollupEntity::new)
+                .addAttribute(String.class, a -> a.name("pk")
+                        .getter(StatsRollupEntity::getPk).setter(StatsRollupEntity::setPk)
+                        .tags(StaticAttributeTags.primaryPartitionKey()))
+                .addAttribute(Long.class, a -> a.name("totalContactoClientes")
+                        .getter(StatsRollupEntity::getTotalContactoClientes)
+                        .setter(StatsRollupEntity::setTotalContactoClientes))
+                .addAttribute(Long.class, a -> a.name("motivoReclamo")
+                        .getter(StatsRollupEntity::getMotivoReclamo).setter(StatsRollupEntity::setMotivoReclamo))
+                .addAttribute(Long.class, a -> a.name("motivoGarantia")
+                        .getter(StatsRollupEntity::getMotivoGarantia).setter(StatsRollupEntity::setMotivoGarantia))
+                .addAttribute(Long.class, a -> a.name("motivoDuda")
+                        .getter(StatsRollupEntity::getMotivoDuda).setter(StatsRollupEntity::setMotivoDuda))
+                .addAttribute(Long.class, a -> a.name("motivoCompra")
+                        .getter(StatsRollupEntity::getMotivoCompra).setter(StatsRollupEntity::setMotivoCompra))
+                .addAttribute(Long.class, a -> a.name("motivoFelicitaciones")
+                        .getter(StatsRollupEntity::getMotivoFelicitaciones)
+                        .setter(StatsRollupEntity::setMotivoFelicitaciones))
+                .addAttribute(Long.class, a -> a.name("motivoCambio")
+                        .getter(StatsRollupEntity::getMotivoCambio).setter(StatsRollupEntity::setMotivoCambio))
+                .build();
+    }
+}
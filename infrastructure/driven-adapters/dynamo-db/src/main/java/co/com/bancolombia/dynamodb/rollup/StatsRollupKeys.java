@@ -0,0 +1,52 @@
+package co.com.bancolombia.dynamodb.rollup;
+
+import co.com.bancolombia.model.stats.StatsRollup.Granularity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Claves de partición de la tabla de totales pre-agregados.
+ */
+final class StatsRollupKeys {
+
+    private static final char SEPARATOR = '#';
+    private static final DateTimeFormatter MINUTE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH");
+
+    private StatsRollupKeys() {
+    }
+
+    /**
+     * Construye la clave del intervalo que contiene un instante.
+     *
+     * @param granularity Amplitud del intervalo
+     * @param timestamp Instante dentro del intervalo
+     * @return Clave de partición
+     */
+    static String partitionKey(Granularity granularity, LocalDateTime timestamp) {
+        String bucket = switch (granularity) {
+            case MINUTE -> MINUTE_FORMAT.format(timestamp);
+            case HOUR -> HOUR_FORMAT.format(timestamp);
+            case DAY -> DateTimeFormatter.ISO_LOCAL_DATE.format(timestamp);
+        };
+        return granularity.name() + SEPARATOR + bucket;
+    }
+
+    /**
+     * Obtiene el inicio del intervalo a partir de su clave.
+     *
+     * @param granularity Amplitud del intervalo
+     * @param partitionKey Clave de partición
+     * @return Inicio del intervalo
+     */
+    static LocalDateTime bucketOf(Granularity granularity, String partitionKey) {
+        String bucket = partitionKey.substring(partitionKey.indexOf(SEPARATOR) + 1);
+        return switch (granularity) {
+            case MINUTE -> LocalDateTime.parse(bucket, MINUTE_FORMAT);
+            case HOUR -> LocalDateTime.parse(bucket + ":00", MINUTE_FORMAT);
+            case DAY -> LocalDate.parse(bucket).atStartOfDay();
+        };
+    }
+}
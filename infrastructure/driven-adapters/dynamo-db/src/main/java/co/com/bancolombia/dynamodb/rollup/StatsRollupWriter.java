@@ -0,0 +1,253 @@
+package co.com.bancolombia.dynamodb.rollup;
+
+import co.com.bancolombia.dynamodb.resilience.DynamoDBResilience;
+import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StatsRollup.Granularity;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mantiene los totales por minuto, hora y día de las estadísticas guardadas.
+ *
+ * <p>Cada estadística registrada suma sus contadores en memoria a los intervalos de las tres granularidades. Cada
+ * {@code flushInterval} los incrementos acumulados se escriben con un único {@code UpdateItem ADD} por intervalo,
+ * de modo que la cantidad de escrituras depende del número de intervalos activos y no del de estadísticas. Como
+ * {@code ADD} es atómico en DynamoDB, varias instancias pueden mantener los mismos intervalos sin coordinarse.</p>
+ *
+ * <p>Las escrituras pasan por la {@link DynamoDBResilience} recibida como escrituras no idempotentes: comparten
+ * limitador de tasa, circuit breaker y métricas con el resto de llamadas a DynamoDB, y solo se reintentan en el
+ * momento ante throttling.</p>
+ *
+ * <p>Si una escritura falla sin haberse aplicado (throttling o rechazo de la capa de resiliencia, ver
+ * {@link DynamoDBResilience#isNotApplied}), sus incrementos se devuelven al acumulador y se reintentan en el
+ * siguiente ciclo. Ante cualquier otro error (timeouts, 5xx, errores no reintentables) la escritura pudo haberse
+ * aplicado o no tiene sentido repetirla, así que sus incrementos se descartan y se registran en el log, en lugar de
+ * arriesgar un doble conteo.</p>
+ *
+ * <p>La escritura periódica comienza con {@link #start()}; al cerrarse se escriben los incrementos pendientes,
+ * esperando como máximo {@code shutdownTimeout}.</p>
+ */
+@Slf4j
+public class StatsRollupWriter implements AutoCloseable {
+
+    private static final String UPDATE_EXPRESSION = "ADD totalContactoClientes :total, motivoReclamo :reclamo, "
+            + "motivoGarantia :garantia, motivoDuda :duda, motivoCompra :compra, "
+            + "motivoFelicitaciones :felicitaciones, motivoCambio :cambio";
+
+    private final DynamoDbAsyncClient client;
+    private final DynamoDBResilience resilience;
+    private final String tableName;
+    private final Duration flushInterval;
+    private final int maxConcurrency;
+    private final Duration shutdownTimeout;
+    private final Map<String, Counters> pending = new ConcurrentHashMap<>();
+    private Disposable ticker = Disposables.disposed();
+
+    /**
+     * Crea el acumulador sin capa de resiliencia.
+     *
+     * @param client Cliente asíncrono de DynamoDB
+     * @param tableName Tabla de totales pre-agregados
+     * @param flushInterval Intervalo entre escrituras de los incrementos acumulados
+     * @param maxConcurrency Máximo de escrituras simultáneas por ciclo
+     * @param shutdownTimeout Tiempo máximo de espera de la última escritura al cerrar
+     */
+    public StatsRollupWriter(DynamoDbAsyncClient client, String tableName, Duration flushInterval,
+                             int maxConcurrency, Duration shutdownTimeout) {
+        this(client, DynamoDBResilience.disabled(), tableName, flushInterval, maxConcurrency, shutdownTimeout);
+    }
+
+    /**
+     * Crea el acumulador; la escritura periódica de los incrementos se programa con {@link #start()}.
+     *
+     * @param client Cliente asíncrono de DynamoDB
+     * @param resilience Capa de resiliencia de las llamadas a DynamoDB
+     * @param tableName Tabla de totales pre-agregados
+     * @param flushInterval Intervalo entre escrituras de los incrementos acumulados
+     * @param maxConcurrency Máximo de escrituras simultáneas por ciclo
+     * @param shutdownTimeout Tiempo máximo de espera de la última escritura al cerrar
+     */
+    public StatsRollupWriter(DynamoDbAsyncClient client, DynamoDBResilience resilience, String tableName,
+                             Duration flushInterval, int maxConcurrency, Duration shutdownTimeout) {
+        if (flushInterval.isZero() || flushInterval.isNegative() || maxConcurrency <= 0) {
+            throw new IllegalArgumentException("El intervalo de escritura y la concurrencia deben ser positivos");
+        }
+        this.client = client;
+        this.resilience = resilience;
+        this.tableName = tableName;
+        this.flushInterval = flushInterval;
+        this.maxConcurrency = maxConcurrency;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    /**
+     * Programa la escritura de los incrementos acumulados cada {@code flushInterval}. Invocarlo más de una vez
+     * no tiene efecto.
+     */
+    public synchronized void start() {
+        if (!ticker.isDisposed()) {
+            return;
+        }
+        ticker = Flux.interval(flushInterval, flushInterval, Schedulers.parallel())
+                .onBackpressureDrop()
+                .concatMap(tick -> flush(), 1)
+                .subscribe();
+    }
+
+    /**
+     * Suma una estadística guardada a los intervalos de minuto, hora y día que la contienen.
+     *
+     * @param stats Estadística guardada
+     */
+    public void record(Stats stats) {
+        LocalDateTime timestamp = stats.getTimestamp() != null ? stats.getTimestamp() : LocalDateTime.now();
+        for (Granularity granularity : Granularity.values()) {
+            add(StatsRollupKeys.partitionKey(granularity, timestamp), stats.getTotalContactoClientes(),
+                    stats.getMotivoReclamo(), stats.getMotivoGarantia(), stats.getMotivoDuda(),
+                    stats.getMotivoCompra(), stats.getMotivoFelicitaciones(), stats.getMotivoCambio());
+        }
+    }
+
+    /**
+     * Escribe los incrementos acumulados hasta el momento.
+     *
+     * @return Mono que se completa cuando terminan las escrituras del ciclo
+     */
+    public Mono<Void> flush() {
+        return Flux.defer(() -> Flux.fromIterable(drain()))
+                .flatMap(this::update, maxConcurrency)
+                .then();
+    }
+
+    /**
+     * Detiene la escritura periódica y escribe los incrementos pendientes.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            ticker.dispose();
+        }
+        try {
+            flush().block(shutdownTimeout);
+        } catch (RuntimeException e) {
+            log.error("No fue posible escribir los totales pendientes: {}", e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("java:S107")
+    private void add(String key, long total, long reclamo, long garantia, long duda, long compra,
+                     long felicitaciones, long cambio) {
+        while (true) {
+            Counters counters = pending.computeIfAbsent(key, k -> new Counters());
+            if (counters.add(total, reclamo, garantia, duda, compra, felicitaciones, cambio)) {
+                return;
+            }
+            pending.remove(key, counters);
+        }
+    }
+
+    /**
+     * Toma los incrementos de todos los intervalos con actividad y retira los que quedaron inactivos.
+     */
+    private List<Increment> drain() {
+        List<Increment> increments = new ArrayList<>();
+        pending.forEach((key, counters) -> {
+            long[] values = counters.drain();
+            if (values == null) {
+                pending.remove(key, counters);
+            } else {
+                increments.add(new Increment(key, values));
+            }
+        });
+        return increments;
+    }
+
+    private Mono<Void> update(Increment increment) {
+        long[] v = increment.values();
+        UpdateItemRequest request = UpdateItemRequest.builder()
+                .tableName(tableName)
+                .key(Map.of("pk", AttributeValue.fromS(increment.key())))
+                .updateExpression(UPDATE_EXPRESSION)
+                .expressionAttributeValues(Map.of(
+                        ":total", number(v[0]), ":reclamo", number(v[1]), ":garantia", number(v[2]),
+                        ":duda", number(v[3]), ":compra", number(v[4]), ":felicitaciones", number(v[5]),
+                        ":cambio", number(v[6])))
+                .build();
+        return resilience.nonIdempotentCall("updateItem", () -> client.updateItem(request))
+                .then()
+                .onErrorResume(e -> {
+                    if (DynamoDBResilience.isNotApplied(e)) {
+                        log.warn("Totales de {} no escritos, se reintentan en el siguiente ciclo: {}",
+                                increment.key(), e.getMessage());
+                        add(increment.key(), v[0], v[1], v[2], v[3], v[4], v[5], v[6]);
+                    } else {
+                        log.error("Totales de {} descartados {}: la escritura pudo haberse aplicado: {}",
+                                increment.key(), Arrays.toString(v), e.getMessage());
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    private static AttributeValue number(long value) {
+        return AttributeValue.fromN(Long.toString(value));
+    }
+
+    private record Increment(String key, long[] values) {
+    }
+
+    /**
+     * Incrementos pendientes de un intervalo. Un intervalo que pasa un ciclo completo sin actividad se retira
+     * y deja de admitir incrementos; quien intente sumarle vuelve a crear la entrada.
+     */
+    private static final class Counters {
+        private final long[] values = new long[7];
+        private boolean dirty;
+        private boolean retired;
+
+        @SuppressWarnings("java:S107")
+        private synchronized boolean add(long total, long reclamo, long garantia, long duda, long compra,
+                                         long felicitaciones, long cambio) {
+            if (retired) {
+                return false;
+            }
+            values[0] += total;
+            values[1] += reclamo;
+            values[2] += garantia;
+            values[3] += duda;
+            values[4] += compra;
+            values[5] += felicitaciones;
+            values[6] += cambio;
+            dirty = true;
+            return true;
+        }
+
+        /**
+         * @return Incrementos acumulados, que quedan en cero, o null si no hubo actividad y la entrada se retiró
+         */
+        private synchronized long[] drain() {
+            if (!dirty) {
+                retired = true;
+                return null;
+            }
+            long[] snapshot = values.clone();
+            Arrays.fill(values, 0);
+            dirty = false;
+            return snapshot;
+        }
+    }
+}
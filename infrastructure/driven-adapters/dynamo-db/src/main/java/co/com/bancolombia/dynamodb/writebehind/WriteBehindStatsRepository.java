@@ -0,0 +1,300 @@
+package co.com.bancolombia.dynamodb.writebehind;
+
+import co.com.bancolombia.model.stats.Md5HashVerifier;
+import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StoredStats;
+import co.com.bancolombia.model.stats.gateways.StatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Capa de escritura diferida (write-behind) delante de un {@link StatsRepository}.
+ *
+ * <p>Las estadísticas recibidas no se escriben una a una: se acumulan en memoria en la ventana abierta, sumando
+ * {@code totalContactoClientes} y los siete contadores {@code motivo*}. Cada ventana se persiste con una única
+ * escritura cuando se cierra (cada {@code window}) o antes, si alcanza {@code maxPending} estadísticas. El
+ * agregado usa como timestamp la hora de apertura de la ventana y un hash MD5 recalculado sobre los contadores
+ * sumados, por lo que el volumen de escrituras crece con el número de ventanas y no con el de peticiones. Si una
+ * suma superara el rango de {@code int}, la ventana se persiste antes de incorporar la estadística.</p>
+ *
+ * <p>El {@link DurabilityMode} define cuándo se confirma cada guardado. El cierre periódico de ventanas comienza
+ * con {@link #start()}; al cerrarse se persiste la ventana abierta, esperando como máximo
+ * {@code shutdownTimeout}.</p>
+ */
+@Slf4j
+public class WriteBehindStatsRepository implements StatsRepository, AutoCloseable {
+
+    private static final Md5HashVerifier HASHER = new Md5HashVerifier();
+
+    /**
+     * Momento en que se confirma el guardado de una estadística.
+     */
+    public enum DurabilityMode {
+        /**
+         * Se confirma al acumularse en memoria; una caída antes del cierre de la ventana pierde sus datos.
+         * Si la escritura falla, los contadores se reincorporan a la siguiente ventana.
+         */
+        BUFFERED,
+        /**
+         * Se confirma cuando la ventana que la contiene queda persistida; los errores llegan a cada llamador.
+         */
+        PERSISTED
+    }
+
+    private final StatsRepository delegate;
+    private final DurabilityMode durabilityMode;
+    private final int maxPending;
+    private final Duration window;
+    private final Duration shutdownTimeout;
+    private final AtomicReference<Window> current = new AtomicReference<>(new Window());
+    private Disposable ticker = Disposables.disposed();
+
+    /**
+     * Crea la capa de escritura diferida; el cierre periódico de ventanas se programa con {@link #start()}.
+     *
+     * @param delegate Repositorio donde se persisten los agregados
+     * @param window Duración de cada ventana
+     * @param maxPending Máximo de estadísticas acumuladas en una ventana antes de persistirla
+     * @param durabilityMode Momento en que se confirma cada guardado
+     * @param shutdownTimeout Tiempo máximo de espera de la última escritura al cerrar
+     */
+    public WriteBehindStatsRepository(StatsRepository delegate,
+                                      Duration window,
+                                      int maxPending,
+                                      DurabilityMode durabilityMode,
+                                      Duration shutdownTimeout) {
+        if (window.isZero() || window.isNegative() || maxPending <= 0) {
+            throw new IllegalArgumentException("La ventana y el máximo de pendientes deben ser positivos");
+        }
+        this.delegate = delegate;
+        this.window = window;
+        this.durabilityMode = durabilityMode;
+        this.maxPending = maxPending;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    /**
+     * Programa el cierre de la ventana abierta cada {@code window}. Invocarlo más de una vez no tiene efecto.
+     */
+    public synchronized void start() {
+        if (!ticker.isDisposed()) {
+            return;
+        }
+        ticker = Flux.interval(window, window, Schedulers.parallel())
+                .subscribe(tick -> rotate(current.get()));
+    }
+
+    /**
+     * Acumula una estadística en la ventana abierta.
+     *
+     * @param stats Estadística a guardar
+     * @return Mono que emite la estadística recibida según el {@link DurabilityMode} configurado
+     */
+    @Override
+    public Mono<Stats> saveStats(Stats stats) {
+        return Mono.defer(() -> {
+            Window window = add(stats);
+            return durabilityMode == DurabilityMode.BUFFERED
+                    ? Mono.just(stats)
+                    : window.persisted().thenReturn(stats);
+        });
+    }
+
+    /**
+     * Acumula un conjunto de estadísticas en las ventanas abiertas.
+     *
+     * <p>En modo {@link DurabilityMode#PERSISTED} solo se emiten las estadísticas cuya ventana quedó persistida.</p>
+     *
+     * @param stats Lista de estadísticas a guardar
+     * @return Flux que emite la posición de cada estadística guardada
+     */
+    @Override
+    public Flux<Integer> saveAll(List<Stats> stats) {
+        if (durabilityMode == DurabilityMode.BUFFERED) {
+            return Flux.range(0, stats.size()).doOnNext(index -> add(stats.get(index)));
+        }
+        return Flux.defer(() -> {
+            Map<Window, List<Integer>> windows = new LinkedHashMap<>();
+            for (int index = 0; index < stats.size(); index++) {
+                windows.computeIfAbsent(add(stats.get(index)), w -> new ArrayList<>()).add(index);
+            }
+            return Flux.fromIterable(windows.entrySet());
+        }).flatMap(entry -> entry.getKey().persisted()
+                .thenMany(Flux.fromIterable(entry.getValue()))
+                .onErrorResume(e -> Flux.empty()));
+    }
+
+    /**
+     * Consulta el repositorio delegado; las estadísticas de la ventana abierta aún no son visibles.
+     *
+     * @param from Inicio del rango (inclusivo)
+     * @param to Fin del rango (exclusivo)
+     * @param cursor Cursor de un elemento recibido previamente, o null
+     * @return Flux con los agregados persistidos en el rango
+     */
+    @Override
+    public Flux<StoredStats> findByTimeRange(LocalDateTime from, LocalDateTime to, String cursor) {
+        return delegate.findByTimeRange(from, to, cursor);
+    }
+
+    /**
+     * Detiene el cierre periódico y persiste la ventana abierta.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            ticker.dispose();
+        }
+        Window last = current.get();
+        rotate(last);
+        try {
+            last.persisted().block(shutdownTimeout);
+        } catch (RuntimeException e) {
+            log.error("No fue posible persistir la última ventana de estadísticas: {}", e.getMessage());
+        }
+    }
+
+    private Window add(Stats stats) {
+        while (true) {
+            Window window = current.get();
+            int pending = window.add(stats);
+            if (pending == Window.FULL) {
+                rotate(window);
+            } else if (pending > 0) {
+                if (pending >= maxPending) {
+                    rotate(window);
+                }
+                return window;
+            }
+        }
+    }
+
+    private void rotate(Window closing) {
+        if (!current.compareAndSet(closing, new Window())) {
+            return;
+        }
+        Stats aggregate = closing.close();
+        if (aggregate == null) {
+            closing.complete(null);
+            return;
+        }
+        delegate.saveStats(aggregate)
+                .switchIfEmpty(Mono.fromRunnable(() -> log.warn("La ventana de estadísticas de {} no se guardó: "
+                        + "ya existía un registro con su clave", aggregate.getTimestamp())))
+                .subscribe(
+                        saved -> { },
+                        error -> {
+                            log.error("Error persistiendo la ventana de estadísticas: {}", error.getMessage());
+                            if (durabilityMode == DurabilityMode.BUFFERED) {
+                                add(aggregate);
+                            }
+                            closing.complete(error);
+                        },
+                        () -> closing.complete(null));
+    }
+
+    /**
+     * Ventana de acumulación. Las sumas se protegen con el monitor de la ventana; una ventana cerrada
+     * no admite más estadísticas.
+     */
+    private static final class Window {
+        /**
+         * Resultado de {@link #add(Stats)} cuando alguna suma saldría del rango de {@code int}.
+         */
+        private static final int FULL = -1;
+
+        private final Sinks.Empty<Void> persisted = Sinks.empty();
+        private LocalDateTime openedAt;
+        private int count;
+        private boolean closed;
+        private long totalContactoClientes;
+        private long motivoReclamo;
+        private long motivoGarantia;
+        private long motivoDuda;
+        private long motivoCompra;
+        private long motivoFelicitaciones;
+        private long motivoCambio;
+
+        /**
+         * Suma la estadística a la ventana.
+         *
+         * @return Estadísticas acumuladas tras sumarla, 0 si la ventana ya estaba cerrada o {@link #FULL} si
+         * alguna suma desbordaría el contador del agregado
+         */
+        private synchronized int add(Stats stats) {
+            if (closed) {
+                return 0;
+            }
+            if (count > 0 && overflows(stats)) {
+                return FULL;
+            }
+            if (openedAt == null) {
+                openedAt = stats.getTimestamp() != null ? stats.getTimestamp() : LocalDateTime.now();
+            }
+            totalContactoClientes += stats.getTotalContactoClientes();
+            motivoReclamo += stats.getMotivoReclamo();
+            motivoGarantia += stats.getMotivoGarantia();
+            motivoDuda += stats.getMotivoDuda();
+            motivoCompra += stats.getMotivoCompra();
+            motivoFelicitaciones += stats.getMotivoFelicitaciones();
+            motivoCambio += stats.getMotivoCambio();
+            return ++count;
+        }
+
+        /**
+         * Cierra la ventana.
+         *
+         * @return Agregado de la ventana, o null si no acumuló estadísticas
+         */
+        private synchronized Stats close() {
+            closed = true;
+            if (count == 0) {
+                return null;
+            }
+            Stats aggregate = new Stats(openedAt, (int) totalContactoClientes, (int) motivoReclamo,
+                    (int) motivoGarantia, (int) motivoDuda, (int) motivoCompra, (int) motivoFelicitaciones,
+                    (int) motivoCambio, null);
+            aggregate.setHash(HASHER.hash(aggregate));
+            return aggregate;
+        }
+
+        private boolean overflows(Stats stats) {
+            return outOfRange(totalContactoClientes + stats.getTotalContactoClientes())
+                    || outOfRange(motivoReclamo + stats.getMotivoReclamo())
+                    || outOfRange(motivoGarantia + stats.getMotivoGarantia())
+                    || outOfRange(motivoDuda + stats.getMotivoDuda())
+                    || outOfRange(motivoCompra + stats.getMotivoCompra())
+                    || outOfRange(motivoFelicitaciones + stats.getMotivoFelicitaciones())
+                    || outOfRange(motivoCambio + stats.getMotivoCambio());
+        }
+
+        private static boolean outOfRange(long sum) {
+            return sum > Integer.MAX_VALUE || sum < Integer.MIN_VALUE;
+        }
+
+        private void complete(Throwable error) {
+            if (error == null) {
+                persisted.tryEmitEmpty();
+            } else {
+                persisted.tryEmitError(error);
+            }
+        }
+
+        private Mono<Void> persisted() {
+            return persisted.asMono();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package co.com.bancolombia.dynamodb;
+
+import co.com.bancolombia.model.stats.Stats;
+import org.junit.jupiter.api.Test;
+import org.reactivecommons.utils.ObjectMapperImp;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Pruebas unitarias para {@link StatsEntityMapper}.
+ *
+ * <p>Verifica que la conversión generada por MapStruct produzca lo mismo que el mapper reflexivo de
+ * reactive-commons.</p>
+ */
+class StatsEntityMapperTest {
+
+    private final StatsEntityMapper mapper = StatsEntityMapper.INSTANCE;
+
+    private final Stats stats = new Stats(LocalDateTime.parse("2024-06-01T10:00:00"), 250, 25, 10, 100, 100, 7, 8,
+            "5484062a4be1ce5645eb414663e14f59");
+
+    /**
+     * Verifica que la entidad generada coincida atributo a atributo con la del mapper reflexivo, sin clave primaria.
+     */
+    @Test
+    void toEntityShouldMatchReflectiveMapper() {
+        StatsEntity compiled = mapper.toEntity(stats);
+        StatsEntity reflective = new ObjectMapperImp().map(stats, StatsEntity.class);
+
+        assertNull(compiled.getPk());
+        assertNull(compiled.getSk());
+        assertEquals(reflective.getTimestamp(), compiled.getTimestamp());
+        assertEquals(reflective.getTotalContactoClientes(), compiled.getTotalContactoClientes());
+        assertEquals(reflective.getMotivoReclamo(), compiled.getMotivoReclamo());
+        assertEquals(reflective.getMotivoGarantia(), compiled.getMotivoGarantia());
+        assertEquals(reflective.getMotivoDuda(), compiled.getMotivoDuda());
+        assertEquals(reflective.getMotivoCompra(), compiled.getMotivoCompra());
+        assertEquals(reflective.getMotivoFelicitaciones(), compiled.getMotivoFelicitaciones());
+        assertEquals(reflective.getMotivoCambio(), compiled.getMotivoCambio());
+        assertEquals(reflective.getHash(), compiled.getHash());
+    }
+
+    /**
+     * Verifica que la conversión de vuelta coincida con la del mapper reflexivo.
+     */
+    @Test
+    void toModelShouldMatchReflectiveMapper() {
+        StatsEntity entity = mapper.toEntity(stats);
+        Stats compiled = mapper.toModel(entity);
+        Stats reflective = new ObjectMapperImp().map(entity, Stats.class);
+
+        assertEquals(reflective.getTimestamp(), compiled.getTimestamp());
+        assertEquals(reflective.getTotalContactoClientes(), compiled.getTotalContactoClientes());
+        assertEquals(reflective.getMotivoReclamo(), compiled.getMotivoReclamo());
+        assertEquals(reflective.getMotivoCambio(), compiled.getMotivoCambio());
+        assertEquals(stats.getHash(), compiled.getHash());
+        assertNull(mapper.toModel(null));
+    }
+}
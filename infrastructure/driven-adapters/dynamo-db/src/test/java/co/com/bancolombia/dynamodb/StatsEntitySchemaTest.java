@@ -0,0 +1,72 @@
+package co.com.bancolombia.dynamodb;
+
+import co.com.bancolombia.dynamodb.rollup.StatsRollupEntity;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Pruebas unitarias de los esquemas explícitos {@link StatsEntity#tableSchema()} y
+ * {@link StatsRollupEntity#tableSchema()}.
+ *
+ * <p>Verifica que coincidan con los esquemas derivados de las anotaciones por {@link TableSchema#fromBean}.</p>
+ */
+class StatsEntitySchemaTest {
+
+    /**
+     * Verifica que el esquema de estadísticas produzca los mismos atributos y claves que el derivado del bean.
+     */
+    @Test
+    void statsSchemaShouldMatchBeanSchema() {
+        StatsEntity entity = new StatsEntity("2024-06-01T10#3", "2024-06-01T10:00:00.000000#A",
+                "2024-06-01T10:00", 250, 25, 10, 100, 100, 7, 8, "5484062a4be1ce5645eb414663e14f59",
+                "01HZHJ1D2G7KQ4W9X3M5N6P8R0");
+        TableSchema<StatsEntity> bean = TableSchema.fromBean(StatsEntity.class);
+
+        Map<String, AttributeValue> item = StatsEntity.tableSchema().itemToMap(entity, true);
+        assertEquals(bean.itemToMap(entity, true), item);
+        assertKeys(bean.tableMetadata(), StatsEntity.tableSchema().tableMetadata());
+
+        StatsEntity restored = StatsEntity.tableSchema().mapToItem(item);
+        assertEquals(item, bean.itemToMap(restored, true));
+    }
+
+    /**
+     * Verifica que los atributos ausentes del registro, como en una consulta con proyección, queden sin valor.
+     */
+    @Test
+    void statsSchemaShouldLeaveMissingAttributesUnset() {
+        StatsEntity restored = StatsEntity.tableSchema().mapToItem(Map.of("pk", AttributeValue.fromS("2024-06-01T10#3"),
+                "motivoDuda", AttributeValue.fromN("4")));
+
+        assertEquals("2024-06-01T10#3", restored.getPk());
+        assertEquals(4, restored.getMotivoDuda());
+        assertEquals(0, restored.getMotivoCambio());
+        assertNull(restored.getHash());
+    }
+
+    /**
+     * Verifica que el esquema de totales produzca los mismos atributos y claves que el derivado del bean.
+     */
+    @Test
+    void rollupSchemaShouldMatchBeanSchema() {
+        StatsRollupEntity entity = new StatsRollupEntity("HOUR#2024-06-01T10", 10, 1, 2, 3, 4, 5, 6);
+        TableSchema<StatsRollupEntity> bean = TableSchema.fromBean(StatsRollupEntity.class);
+
+        Map<String, AttributeValue> item = StatsRollupEntity.tableSchema().itemToMap(entity, true);
+        assertEquals(bean.itemToMap(entity, true), item);
+        assertKeys(bean.tableMetadata(), StatsRollupEntity.tableSchema().tableMetadata());
+        assertEquals(item, bean.itemToMap(StatsRollupEntity.tableSchema().mapToItem(item), true));
+    }
+
+    private static void assertKeys(TableMetadata expected, TableMetadata actual) {
+        assertEquals(expected.primaryPartitionKey(), actual.primaryPartitionKey());
+        assertEquals(expected.primarySortKey(), actual.primarySortKey());
+    }
+}
@@ -1,14 +1,38 @@
 package co.com.bancolombia.dynamodb.config;
 
+import co.com.bancolombia.dynamodb.StatsEntityMapper;
+import co.com.bancolombia.dynamodb.key.ShardedKeyStrategy;
+import co.com.bancolombia.dynamodb.key.SortableIdKeyStrategy;
+import co.com.bancolombia.dynamodb.resilience.DynamoDBResilience;
+import co.com.bancolombia.model.stats.Stats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivecommons.utils.ObjectMapper;
+import org.reactivecommons.utils.ObjectMapperImp;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.netty.resources.LoopResources;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Pruebas unitarias para la clase de configuración {@link DynamoDBConfig}.
@@ -35,7 +59,10 @@ class DynamoDBConfigTest {
         DynamoDbAsyncClient result = dynamoDBConfig.amazonDynamoDB(
                 "http://aws.dynamo.test",
                 "region",
-                publisher);
+                publisher,
+                DynamoDBHttpClientProperties.defaults(),
+                DynamoDBResilienceProperties.defaults(),
+                Optional.empty());
 
         assertNotNull(result);
     }
@@ -48,11 +75,81 @@ class DynamoDBConfigTest {
 
         DynamoDbAsyncClient result = dynamoDBConfig.amazonDynamoDBAsync(
                 publisher,
-                "region");
+                "region",
+                DynamoDBHttpClientProperties.defaults(),
+                DynamoDBResilienceProperties.defaults(),
+                Optional.empty());
 
         assertNotNull(result);
     }
 
+    /**
+     * Verifica que el cliente se cree con su propio grupo de event loops, con timeouts de operación y con
+     * completado en el event loop, y que se rechacen límites de pool no positivos.
+     */
+    @Test
+    void testAmazonDynamoDBWithCustomHttpProperties() {
+        DynamoDBHttpClientProperties properties = new DynamoDBHttpClientProperties(8, 100, Duration.ofSeconds(1),
+                Duration.ofMillis(500), Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofSeconds(30),
+                Duration.ofMinutes(5), true, false, Protocol.HTTP1_1, Duration.ofSeconds(3),
+                Duration.ofSeconds(1), false, true);
+
+        try (DynamoDbAsyncClient result = dynamoDBConfig.amazonDynamoDB("http://aws.dynamo.test", "region",
+                publisher, properties, DynamoDBResilienceProperties.defaults(), Optional.empty())) {
+            assertNotNull(result);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new DynamoDBHttpClientProperties(0, 100,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1),
+                Duration.ofSeconds(1), Duration.ZERO, false, true, Protocol.HTTP1_1, null, null, true, false));
+    }
+
+    /**
+     * Verifica que con la capa de resiliencia habilitada el SDK no reintente y que el bean de la capa respete
+     * {@code enabled}.
+     */
+    @Test
+    void testResilienceConfiguration() {
+        try (DynamoDbAsyncClient result = dynamoDBConfig.amazonDynamoDB("http://aws.dynamo.test", "region",
+                publisher, DynamoDBHttpClientProperties.defaults(), DynamoDBResilienceProperties.defaults(),
+                Optional.empty())) {
+            assertEquals(0, result.serviceClientConfiguration().overrideConfiguration().retryPolicy()
+                    .orElseThrow().numRetries());
+        }
+
+        ObjectProvider<MeterRegistry> registry = new StaticListableBeanFactory(
+                Map.of("registry", new SimpleMeterRegistry())).getBeanProvider(MeterRegistry.class);
+        assertTrue(dynamoDBConfig.dynamoDBResilience(DynamoDBResilienceProperties.defaults(), registry)
+                .isEnabled());
+        DynamoDBResilienceProperties disabled = new DynamoDBResilienceProperties(false, 3, Duration.ofMillis(25),
+                Duration.ofSeconds(1), 0.1, 20, true, 0.95, Duration.ofMillis(5), true, 1, Duration.ofMillis(500),
+                0.5, 50, 20, Duration.ofSeconds(10), 5);
+        assertSame(DynamoDBResilience.disabled(), dynamoDBConfig.dynamoDBResilience(disabled, registry));
+        assertThrows(IllegalArgumentException.class, () -> new DynamoDBResilienceProperties(true, 0,
+                Duration.ofMillis(25), Duration.ofSeconds(1), 0.1, 20, true, 0.95, Duration.ofMillis(5), true, 1,
+                Duration.ofMillis(500), 0.5, 50, 20, Duration.ofSeconds(10), 5));
+    }
+
+    /**
+     * Verifica que el cliente use el grupo de event loops compartido y que al cerrarse no lo libere.
+     */
+    @Test
+    void testAmazonDynamoDBWithSharedLoops() throws Exception {
+        LoopResources loops = LoopResources.create("shared-test", 1, true);
+        try {
+            DynamoDbAsyncClient client = dynamoDBConfig.amazonDynamoDB("http://aws.dynamo.test", "region",
+                    publisher, DynamoDBHttpClientProperties.defaults(), DynamoDBResilienceProperties.defaults(),
+                    Optional.of(loops));
+            client.close();
+
+            String thread = loops.onServer(LoopResources.DEFAULT_NATIVE).next()
+                    .submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+            assertFalse(loops.isDisposed());
+            assertTrue(thread.startsWith("shared-test"), thread);
+        } finally {
+            loops.dispose();
+        }
+    }
+
     /**
      * Verifica que el bean del cliente mejorado de DynamoDB se cree correctamente.
      */
@@ -62,4 +159,27 @@ class DynamoDBConfigTest {
 
         assertNotNull(result);
     }
+
+    /**
+     * Verifica que se cree la estrategia de claves configurada y se rechace una desconocida.
+     */
+    @Test
+    void testStatsKeyStrategy() {
+        assertInstanceOf(ShardedKeyStrategy.class, dynamoDBConfig.statsKeyStrategy("sharded", 4));
+        assertInstanceOf(SortableIdKeyStrategy.class, dynamoDBConfig.statsKeyStrategy("sortable-id", 4));
+        assertThrows(IllegalArgumentException.class, () -> dynamoDBConfig.statsKeyStrategy("timestamp", 4));
+    }
+
+    /**
+     * Verifica la creación de la conversión de estadísticas según la estrategia configurada.
+     */
+    @Test
+    void testStatsEntityMapper() {
+        ObjectMapper mapper = new ObjectMapperImp();
+
+        assertSame(StatsEntityMapper.INSTANCE, dynamoDBConfig.statsEntityMapper("compiled", mapper));
+        assertEquals(250, dynamoDBConfig.statsEntityMapper("reflective", mapper)
+                .toEntity(new Stats(null, 250, 0, 0, 0, 0, 0, 0, "hash")).getTotalContactoClientes());
+        assertThrows(IllegalArgumentException.class, () -> dynamoDBConfig.statsEntityMapper("jackson", mapper));
+    }
 }
@@ -2,23 +2,55 @@ package co.com.bancolombia.dynamodb.helper;
 
 import co.com.bancolombia.dynamodb.DynamoDBTemplateAdapter;
 import co.com.bancolombia.dynamodb.StatsEntity;
+import co.com.bancolombia.dynamodb.StatsEntityMapper;
+import co.com.bancolombia.dynamodb.config.DynamoDBResilienceProperties;
+import co.com.bancolombia.dynamodb.key.ShardedKeyStrategy;
+import co.com.bancolombia.dynamodb.key.StatsCursor;
+import co.com.bancolombia.dynamodb.resilience.DynamoDBResilience;
 import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StoredStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
 import org.reactivecommons.utils.ObjectMapper;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -44,7 +76,7 @@ class TemplateAdapterOperationsTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
 
-        when(dynamoDbEnhancedAsyncClient.table("stats-table", TableSchema.fromBean(StatsEntity.class)))
+        when(dynamoDbEnhancedAsyncClient.table("stats-table", StatsEntity.tableSchema()))
             .thenReturn(customerTable);
 
         modelEntity = new StatsEntity();
@@ -126,4 +158,377 @@ class TemplateAdapterOperationsTest {
                 .expectNext(statsModel)
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifica que la operación de guardado por lotes (saveAll) escriba con BatchWriteItem y emita las entidades guardadas.
+     */
+    @Test
+    void testSaveAll() {
+        when(mapper.map(statsModel, StatsEntity.class)).thenReturn(modelEntity);
+        when(customerTable.tableName()).thenReturn("stats-table");
+        when(customerTable.tableSchema()).thenReturn(StatsEntity.tableSchema());
+        when(customerTable.keyFrom(modelEntity))
+                .thenReturn(Key.builder().partitionValue(modelEntity.getTimestamp()).build());
+        when(dynamoDbEnhancedAsyncClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        BatchWriteResult.builder().unprocessedRequests(Map.of()).build()));
+
+        DynamoDBTemplateAdapter dynamoDBTemplateAdapter =
+                new DynamoDBTemplateAdapter(dynamoDbEnhancedAsyncClient, mapper);
+
+        StepVerifier.create(dynamoDBTemplateAdapter.saveAll(Flux.just(statsModel)))
+                .expectNext(statsModel)
+                .verifyComplete();
+
+        verify(dynamoDbEnhancedAsyncClient, times(1)).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+    }
+
+    /**
+     * Verifica que la escritura condicional complete vacío cuando ya existe un registro con la misma clave.
+     */
+    @Test
+    void testSaveIfAbsentWhenItemExists() {
+        when(mapper.map(statsModel, StatsEntity.class)).thenReturn(modelEntity);
+        when(customerTable.tableSchema()).thenReturn(StatsEntity.tableSchema());
+        when(customerTable.putItem(ArgumentMatchers.<PutItemEnhancedRequest<StatsEntity>>any()))
+                .thenReturn(CompletableFuture.failedFuture(
+                        ConditionalCheckFailedException.builder().message("exists").build()));
+        when(customerTable.keyFrom(any(StatsEntity.class))).thenReturn(Key.builder().partitionValue("pk").build());
+        when(customerTable.getItem(any(GetItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(new StatsEntity()));
+
+        DynamoDBTemplateAdapter dynamoDBTemplateAdapter =
+                new DynamoDBTemplateAdapter(dynamoDbEnhancedAsyncClient, mapper,
+                        new ShardedKeyStrategy(2), Duration.ofMinutes(1));
+
+        StepVerifier.create(dynamoDBTemplateAdapter.saveStats(statsModel))
+                .verifyComplete();
+        assertTrue(modelEntity.getPk().startsWith("2024-06-01T10#"));
+        assertTrue(modelEntity.getSk().startsWith("2024-06-01T10:00:00.000000#"));
+    }
+
+    /**
+     * Verifica que, con escritura condicional, el reintento de un mismo contenido dentro de la franja llegue a la
+     * misma clave aunque reciba otro timestamp, y que DynamoDB rechace la segunda escritura.
+     */
+    @Test
+    void conditionalPutRejectsRetryOfSamePayload() {
+        Map<Key, StatsEntity> stored = stubConditionalTable(new AtomicInteger());
+        DynamoDBTemplateAdapter adapter = new DynamoDBTemplateAdapter(dynamoDbEnhancedAsyncClient,
+                StatsEntityMapper.INSTANCE, new ShardedKeyStrategy(8), true, Duration.ofMinutes(1), null,
+                DynamoDBResilience.disabled());
+        Stats retry = new Stats(statsModel.getTimestamp().plusSeconds(20), 250, 25, 10, 100, 100, 7, 8,
+                statsModel.getHash());
+        Stats nextSlot = new Stats(statsModel.getTimestamp().plusMinutes(1), 250, 25, 10, 100, 100, 7, 8,
+                statsModel.getHash());
+
+        StepVerifier.create(adapter.saveStats(statsModel)).expectNext(statsModel).verifyComplete();
+        StepVerifier.create(adapter.saveStats(retry)).verifyComplete();
+        StepVerifier.create(adapter.saveStats(nextSlot)).expectNext(nextSlot).verifyComplete();
+        assertEquals(2, stored.size());
+    }
+
+    /**
+     * Verifica que, si la escritura condicional se aplicó pero su respuesta se perdió, el reintento de la capa de
+     * resiliencia que encuentra el registro propio reporte el guardado en lugar de tratarlo como duplicado.
+     */
+    @Test
+    void conditionalPutReportsWriteAppliedBeforeAmbiguousRetry() {
+        AtomicInteger lostResponses = new AtomicInteger(1);
+        Map<Key, StatsEntity> stored = stubConditionalTable(lostResponses);
+        DynamoDBTemplateAdapter adapter = new DynamoDBTemplateAdapter(dynamoDbEnhancedAsyncClient,
+                StatsEntityMapper.INSTANCE, new ShardedKeyStrategy(8), true, Duration.ofMinutes(1), null,
+                new DynamoDBResilience(DynamoDBResilienceProperties.defaults(), new SimpleMeterRegistry()));
+
+        StepVerifier.create(adapter.saveStats(statsModel)).expectNext(statsModel).verifyComplete();
+
+        assertEquals(0, lostResponses.get());
+        assertEquals(1, stored.size());
+        verify(customerTable, times(2)).putItem(ArgumentMatchers.<PutItemEnhancedRequest<StatsEntity>>any());
+    }
+
+    /**
+     * Verifica que, con escritura condicional, los guardados por lotes usen la clave normal: dos estadísticas
+     * iguales de la misma franja se guardan ambas.
+     */
+    @Test
+    void conditionalPutKeepsNormalKeysForBatchWrites() {
+        when(customerTable.tableName()).thenReturn("stats-table");
+        when(customerTable.tableSchema()).thenReturn(StatsEntity.tableSchema());
+        when(customerTable.keyFrom(any(StatsEntity.class))).thenAnswer(invocation -> keyOf(invocation.getArgument(0)));
+        when(dynamoDbEnhancedAsyncClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        BatchWriteResult.builder().unprocessedRequests(Map.of()).build()));
+        DynamoDBTemplateAdapter adapter = new DynamoDBTemplateAdapter(dynamoDbEnhancedAsyncClient,
+                StatsEntityMapper.INSTANCE, new ShardedKeyStrategy(8), true, Duration.ofMinutes(1), null,
+                DynamoDBResilience.disabled());
+        Stats sameSlot = new Stats(statsModel.getTimestamp().plusSeconds(20), 250, 25, 10, 100, 100, 7, 8,
+                statsModel.getHash());
+
+        StepVerifier.create(adapter.saveAll(Flux.just(statsModel, sameSlot)))
+                .expectNext(statsModel, sameSlot)
+                .verifyComplete();
+
+        ArgumentCaptor<BatchWriteItemEnhancedRequest> request =
+                ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(dynamoDbEnhancedAsyncClient).batchWriteItem(request.capture());
+        List<String> sortKeys = request.getValue().writeBatches().iterator().next().writeRequests().stream()
+                .map(write -> write.putRequest().item().get("sk").s())
+                .toList();
+        assertEquals(List.of("2024-06-01T10:00:00.000000#" + statsModel.getId(),
+                "2024-06-01T10:00:20.000000#" + sameSlot.getId()), sortKeys);
+    }
+
+    /**
+     * Verifica que, con escritura condicional, la consulta por rango use el timestamp de cada registro y no el
+     * inicio de franja de su clave.
+     */
+    @Test
+    void findByTimeRangeFiltersByTimestampWithConditionalPut() {
+        StatsEntity entity = entity("2024-06-01T10:00:00.000000#A", 1);
+        entity.setTimestamp("2024-06-01T10:00:40");
+        when(customerTable.query(any(QueryEnhancedRequest.class)))
+                .thenAnswer(invocation -> pages(List.of(List.of(entity))));
+        DynamoDBTemplateAdapter adapter = new DynamoDBTemplateAdapter(dynamoDbEnhancedAsyncClient, mapper,
+                new ShardedKeyStrategy(1), Duration.ofMinutes(1));
+        LocalDateTime to = LocalDateTime.parse("2024-06-01T10:30:00");
+
+        StepVerifier.create(adapter.findByTimeRange(LocalDateTime.parse("2024-06-01T10:00:20"), to, null)
+                        .map(stored -> stored.getStats().getTimestamp()))
+                .expectNext(LocalDateTime.parse("2024-06-01T10:00:40"))
+                .verifyComplete();
+        StepVerifier.create(adapter.findByTimeRange(LocalDateTime.parse("2024-06-01T10:00:50"), to, null))
+                .verifyComplete();
+    }
+
+    /**
+     * Verifica que la misma estadística reciba siempre la misma clave, para que el borrado ubique el registro
+     * guardado, y que otra estadística del mismo instante reciba una clave distinta.
+     */
+    @Test
+    void deleteTargetsTheKeyAssignedOnSave() {
+        when(customerTable.putItem(any(StatsEntity.class))).thenReturn(CompletableFuture.completedFuture(null));
+        when(customerTable.deleteItem(any(StatsEntity.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+        DynamoDBTemplateAdapter adapter = new DynamoDBTemplateAdapter(dynamoDbEnhancedAsyncClient,
+                StatsEntityMapper.INSTANCE, new ShardedKeyStrategy(8), false, null, null,
+                DynamoDBResilience.disabled());
+        Stats sameInstant = new Stats(statsModel.getTimestamp(), 1, 1, 0, 0, 0, 0, 0,
+                "0ef8e9ac5d2b1bdac4e8e83d4e0b5d1e");
+
+        StepVerifier.create(adapter.save(statsModel).then(adapter.save(sameInstant)).then(adapter.delete(statsModel)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        ArgumentCaptor<StatsEntity> saved = ArgumentCaptor.forClass(StatsEntity.class);
+        ArgumentCaptor<StatsEntity> deleted = ArgumentCaptor.forClass(StatsEntity.class);
+        verify(customerTable, times(2)).putItem(saved.capture());
+        verify(customerTable).deleteItem(deleted.capture());
+        assertEquals(saved.getAllValues().get(0).getPk(), deleted.getValue().getPk());
+        assertEquals(saved.getAllValues().get(0).getSk(), deleted.getValue().getSk());
+        assertNotEquals(saved.getAllValues().get(0).getSk(), saved.getAllValues().get(1).getSk());
+    }
+
+    /**
+     * Verifica que dos estadísticas idénticas del mismo instante guardadas en un mismo lote reciban claves
+     * distintas y se escriban ambas, y que cada una conserve su identificador.
+     */
+    @Test
+    void saveAllKeepsIdenticalPayloadsOfTheSameInstant() {
+        when(customerTable.tableName()).thenReturn("stats-table");
+        when(customerTable.tableSchema()).thenReturn(StatsEntity.tableSchema());
+        when(customerTable.keyFrom(any(StatsEntity.class))).thenAnswer(invocation -> {
+            StatsEntity item = invocation.getArgument(0);
+            return Key.builder().partitionValue(item.getPk()).sortValue(item.getSk()).build();
+        });
+        when(dynamoDbEnhancedAsyncClient.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        BatchWriteResult.builder().unprocessedRequests(Map.of()).build()));
+        DynamoDBTemplateAdapter adapter = new DynamoDBTemplateAdapter(dynamoDbEnhancedAsyncClient,
+                StatsEntityMapper.INSTANCE, new ShardedKeyStrategy(8), false, null, null,
+                DynamoDBResilience.disabled());
+        Stats twin = new Stats(statsModel.getTimestamp(), 250, 25, 10, 100, 100, 7, 8, statsModel.getHash());
+
+        StepVerifier.create(adapter.saveAll(Flux.just(statsModel, twin)))
+                .expectNext(statsModel, twin)
+                .verifyComplete();
+
+        ArgumentCaptor<BatchWriteItemEnhancedRequest> request =
+                ArgumentCaptor.forClass(BatchWriteItemEnhancedRequest.class);
+        verify(dynamoDbEnhancedAsyncClient).batchWriteItem(request.capture());
+        List<String> sortKeys = request.getValue().writeBatches().iterator().next().writeRequests().stream()
+                .map(write -> write.putRequest().item().get("sk").s())
+                .toList();
+        assertNotNull(statsModel.getId());
+        assertNotEquals(statsModel.getId(), twin.getId());
+        assertEquals(List.of("2024-06-01T10:00:00.000000#" + statsModel.getId(),
+                "2024-06-01T10:00:00.000000#" + twin.getId()), sortKeys);
+    }
+
+    /**
+     * Verifica que la consulta por rango mezcle los shards de la hora en orden y siga todas sus páginas.
+     */
+    @Test
+    void findByTimeRangeMergesShardsInOrder() {
+        stubShardQueries();
+        DynamoDBTemplateAdapter adapter = new DynamoDBTemplateAdapter(dynamoDbEnhancedAsyncClient, mapper);
+
+        StepVerifier.create(adapter.findByTimeRange(LocalDateTime.parse("2024-06-01T10:00:00"),
+                        LocalDateTime.parse("2024-06-01T10:30:00"), null)
+                        .map(stored -> stored.getStats().getTotalContactoClientes()))
+                .expectNext(1, 2, 3)
+                .verifyComplete();
+        verify(customerTable, times(ShardedKeyStrategy.DEFAULT_SHARDS))
+                .query(any(QueryEnhancedRequest.class));
+    }
+
+    /**
+     * Verifica que la consulta continúe después del cursor recibido y rechace cursores inválidos.
+     */
+    @Test
+    void findByTimeRangeResumesAfterCursor() {
+        stubShardQueries();
+        DynamoDBTemplateAdapter adapter = new DynamoDBTemplateAdapter(dynamoDbEnhancedAsyncClient, mapper);
+        LocalDateTime from = LocalDateTime.parse("2024-06-01T10:00:00");
+        LocalDateTime to = LocalDateTime.parse("2024-06-01T10:30:00");
+        String cursor = StatsCursor.encode("2024-06-01T10:00:02.000000#B");
+
+        StepVerifier.create(adapter.findByTimeRange(from, to, cursor).map(StoredStats::getCursor))
+                .expectNext(StatsCursor.encode("2024-06-01T10:00:03.000000#C"))
+                .verifyComplete();
+        StepVerifier.create(adapter.findByTimeRange(from, to, "no-es-un-cursor"))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    /**
+     * Verifica que queryAll siga todas las páginas y aplique el tamaño de página y la proyección.
+     */
+    @Test
+    void queryAllFollowsEveryPage() {
+        when(customerTable.query(any(QueryEnhancedRequest.class))).thenReturn(pages(List.of(
+                List.of(entity("2024-06-01T10:00:01.000000#A", 1)),
+                List.of(entity("2024-06-01T10:00:02.000000#B", 2)),
+                List.of(entity("2024-06-01T10:00:03.000000#C", 3)))));
+        when(mapper.map(any(StatsEntity.class), eq(Stats.class))).thenReturn(statsModel);
+        DynamoDBTemplateAdapter adapter = new DynamoDBTemplateAdapter(dynamoDbEnhancedAsyncClient, mapper);
+        QueryOptions options = QueryOptions.defaults().withPageSize(1).withProjection("pk", "sk").withMaxInFlight(2);
+
+        StepVerifier.create(adapter.queryAll(QueryEnhancedRequest.builder().build(), options))
+                .expectNextCount(3)
+                .verifyComplete();
+        StepVerifier.create(adapter.query(QueryEnhancedRequest.builder().build()).map(List::size))
+                .expectNext(3)
+                .verifyComplete();
+
+        ArgumentCaptor<QueryEnhancedRequest> request = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+        verify(customerTable, times(2)).query(request.capture());
+        assertEquals(1, request.getAllValues().get(0).limit());
+        assertEquals(List.of("pk", "sk"), request.getAllValues().get(0).attributesToProject());
+    }
+
+    /**
+     * Verifica que, con la capa de resiliencia, una consulta que falla a mitad se retome desde la última página.
+     */
+    @Test
+    void queryAllResumesFromLastPageOnTransientError() {
+        Map<String, AttributeValue> lastKey = Map.of("pk", AttributeValue.fromS("2024-06-01T10#0"),
+                "sk", AttributeValue.fromS("2024-06-01T10:00:01.000000#A"));
+        PagePublisher<StatsEntity> failing = PagePublisher.create(SdkPublisher.adapt(Flux.concat(
+                Flux.just(Page.builder(StatsEntity.class)
+                        .items(List.of(entity("2024-06-01T10:00:01.000000#A", 1)))
+                        .lastEvaluatedKey(lastKey)
+                        .build()),
+                Flux.error(SdkClientException.create("conexión reiniciada")))));
+        when(customerTable.query(any(QueryEnhancedRequest.class)))
+                .thenAnswer(inSequence(List.of(failing,
+                        pages(List.of(List.of(entity("2024-06-01T10:00:02.000000#B", 2)))))));
+        when(mapper.map(any(StatsEntity.class), eq(Stats.class))).thenReturn(statsModel);
+        DynamoDBTemplateAdapter adapter = new DynamoDBTemplateAdapter(dynamoDbEnhancedAsyncClient, mapper,
+                new ShardedKeyStrategy(8), null, null,
+                new DynamoDBResilience(DynamoDBResilienceProperties.defaults(), new SimpleMeterRegistry()));
+
+        StepVerifier.create(adapter.queryAll(QueryEnhancedRequest.builder().build()))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        ArgumentCaptor<QueryEnhancedRequest> request = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+        verify(customerTable, times(2)).query(request.capture());
+        assertEquals(lastKey, request.getAllValues().get(1).exclusiveStartKey());
+    }
+
+    /**
+     * Verifica que collectAll falle en lugar de reunir más elementos que el máximo indicado.
+     */
+    @Test
+    void collectAllEnforcesMemoryBound() {
+        when(customerTable.query(any(QueryEnhancedRequest.class))).thenReturn(pages(List.of(
+                List.of(entity("2024-06-01T10:00:01.000000#A", 1), entity("2024-06-01T10:00:02.000000#B", 2)),
+                List.of(entity("2024-06-01T10:00:03.000000#C", 3)))));
+        when(mapper.map(any(StatsEntity.class), eq(Stats.class))).thenReturn(statsModel);
+        DynamoDBTemplateAdapter adapter = new DynamoDBTemplateAdapter(dynamoDbEnhancedAsyncClient, mapper);
+
+        StepVerifier.create(adapter.collectAll(QueryEnhancedRequest.builder().build(), QueryOptions.defaults(), 2))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+
+    private void stubShardQueries() {
+        PagePublisher<StatsEntity> firstShard = pages(List.of(List.of(entity("2024-06-01T10:00:02.000000#B", 2))));
+        PagePublisher<StatsEntity> secondShard = pages(List.of(List.of(entity("2024-06-01T10:00:01.000000#A", 1)),
+                List.of(entity("2024-06-01T10:00:03.000000#C", 3))));
+        PagePublisher<StatsEntity> empty = pages(List.of(List.of()));
+        when(customerTable.query(any(QueryEnhancedRequest.class)))
+                .thenAnswer(inSequence(List.of(firstShard, secondShard, empty, empty, empty, empty, empty, empty)));
+    }
+
+    /**
+     * Respuesta que entrega los resultados en orden y repite el último, como {@code thenReturn} encadenado.
+     */
+    private static <T> Answer<T> inSequence(List<T> results) {
+        AtomicInteger calls = new AtomicInteger();
+        return invocation -> results.get(Math.min(calls.getAndIncrement(), results.size() - 1));
+    }
+
+    private static PagePublisher<StatsEntity> pages(List<List<StatsEntity>> pages) {
+        return PagePublisher.create(SdkPublisher.adapt(Flux.fromIterable(pages)
+                .map(items -> Page.builder(StatsEntity.class).items(items).build())));
+    }
+
+    /**
+     * Simula la tabla para escrituras condicionales: rechaza las claves existentes y responde las lecturas por clave.
+     * Las primeras {@code lostResponses} escrituras se aplican pero fallan como si su respuesta se hubiera perdido.
+     */
+    private Map<Key, StatsEntity> stubConditionalTable(AtomicInteger lostResponses) {
+        Map<Key, StatsEntity> stored = new HashMap<>();
+        when(customerTable.tableSchema()).thenReturn(StatsEntity.tableSchema());
+        when(customerTable.keyFrom(any(StatsEntity.class))).thenAnswer(invocation -> keyOf(invocation.getArgument(0)));
+        when(customerTable.putItem(ArgumentMatchers.<PutItemEnhancedRequest<StatsEntity>>any()))
+                .thenAnswer(invocation -> {
+                    StatsEntity item = invocation.<PutItemEnhancedRequest<StatsEntity>>getArgument(0).item();
+                    if (stored.putIfAbsent(keyOf(item), item) != null) {
+                        return CompletableFuture.failedFuture(
+                                ConditionalCheckFailedException.builder().message("exists").build());
+                    }
+                    return lostResponses.getAndUpdate(n -> Math.max(0, n - 1)) > 0
+                            ? CompletableFuture.failedFuture(SdkClientException.create("read timeout"))
+                            : CompletableFuture.completedFuture(null);
+                });
+        when(customerTable.getItem(any(GetItemEnhancedRequest.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        stored.get(invocation.<GetItemEnhancedRequest>getArgument(0).key())));
+        return stored;
+    }
+
+    private static Key keyOf(StatsEntity entity) {
+        return Key.builder().partitionValue(entity.getPk()).sortValue(entity.getSk()).build();
+    }
+
+    private static StatsEntity entity(String sortKey, int total) {
+        StatsEntity entity = new StatsEntity();
+        entity.setPk("2024-06-01T10#0");
+        entity.setSk(sortKey);
+        entity.setTotalContactoClientes(total);
+        return entity;
+    }
+}
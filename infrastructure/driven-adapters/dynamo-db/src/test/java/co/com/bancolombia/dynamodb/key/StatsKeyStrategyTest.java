@@ -0,0 +1,92 @@
+package co.com.bancolombia.dynamodb.key;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas unitarias para las estrategias de claves de {@link StatsKeyStrategy} y {@link SortableIdGenerator}.
+ */
+class StatsKeyStrategyTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.parse("2024-06-01T10:15:30");
+    private static final String HASH = "5484062a4be1ce5645eb414663e14f59";
+
+    /**
+     * Verifica que el identificador dependa solo del instante y del discriminador.
+     */
+    @Test
+    void sortableIdsShouldBeDeterministic() {
+        String id = SortableIdGenerator.idFor(1_717_236_930_000L, HASH);
+
+        assertEquals(26, id.length());
+        assertEquals(id, SortableIdGenerator.idFor(1_717_236_930_000L, HASH));
+        assertNotEquals(id, SortableIdGenerator.idFor(1_717_236_930_000L, "otro-hash"));
+    }
+
+    /**
+     * Verifica que los identificadores nuevos del mismo milisegundo sean distintos y conserven el prefijo de tiempo.
+     */
+    @Test
+    void newIdsShouldBeUniqueWithinMillisecond() {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            ids.add(SortableIdGenerator.newId(1_717_236_930_000L));
+        }
+
+        assertEquals(1_000, ids.size());
+        String prefix = SortableIdGenerator.idFor(1_717_236_930_000L, HASH).substring(0, 10);
+        assertTrue(ids.stream().allMatch(id -> id.length() == 26 && id.startsWith(prefix)));
+    }
+
+    /**
+     * Verifica que el orden lexicográfico de los identificadores siga al del tiempo.
+     */
+    @Test
+    void sortableIdsShouldFollowClock() {
+        String earlier = SortableIdGenerator.idFor(1_000L, "zzz");
+
+        assertTrue(SortableIdGenerator.idFor(2_000L, "aaa").compareTo(earlier) > 0);
+    }
+
+    /**
+     * Verifica que la estrategia por shards reparta la hora entre particiones y repita la clave de una misma
+     * estadística.
+     */
+    @Test
+    void shardedStrategyShouldSpreadHourAcrossShards() {
+        ShardedKeyStrategy strategy = new ShardedKeyStrategy(4);
+        Set<String> partitions = new HashSet<>();
+        Set<StatsKey> keys = new HashSet<>();
+
+        for (int i = 0; i < 64; i++) {
+            StatsKey key = strategy.keyFor(TIMESTAMP, HASH.substring(i % 8) + i);
+            partitions.add(key.partitionKey());
+            keys.add(key);
+            assertTrue(key.sortKey().startsWith("2024-06-01T10:15:30.000000#"));
+        }
+
+        assertEquals(Set.of("2024-06-01T10#0", "2024-06-01T10#1", "2024-06-01T10#2", "2024-06-01T10#3"), partitions);
+        assertEquals(64, keys.size());
+        assertEquals(strategy.keyFor(TIMESTAMP, HASH), strategy.keyFor(TIMESTAMP, HASH));
+        assertEquals("2024-06-01T10:15:30.000000#" + HASH, strategy.keyFor(TIMESTAMP, HASH).sortKey());
+    }
+
+    /**
+     * Verifica que la estrategia de identificador ordenable use el id como partición y el timestamp como orden.
+     */
+    @Test
+    void sortableIdStrategyShouldUseIdAsPartitionKey() {
+        StatsKey key = new SortableIdKeyStrategy().keyFor(TIMESTAMP, HASH);
+
+        assertEquals(26, key.partitionKey().length());
+        assertEquals("2024-06-01T10:15:30.000000", key.sortKey());
+        assertEquals(key, new SortableIdKeyStrategy().keyFor(TIMESTAMP, HASH));
+    }
+}
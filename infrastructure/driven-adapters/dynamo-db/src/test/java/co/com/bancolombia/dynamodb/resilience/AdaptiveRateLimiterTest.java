@@ -0,0 +1,90 @@
+package co.com.bancolombia.dynamodb.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas unitarias para {@link AdaptiveRateLimiter}.
+ */
+class AdaptiveRateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AdaptiveRateLimiter limiter =
+            new AdaptiveRateLimiter(true, 1, Duration.ofMillis(500), clock::get);
+
+    /**
+     * Verifica que sin throttling no se limite el envío.
+     */
+    @Test
+    void shouldNotLimitBeforeThrottling() {
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, limiter.acquire());
+        }
+        assertFalse(limiter.isActive());
+        assertEquals(0, limiter.currentRate());
+    }
+
+    /**
+     * Verifica que el throttling reduzca la tasa a una fracción de la medida y espacie los envíos.
+     */
+    @Test
+    void shouldThrottleToFractionOfMeasuredRate() {
+        sendAtRate(100);
+        limiter.onThrottle();
+
+        assertTrue(limiter.isActive());
+        assertEquals(100 * AdaptiveRateLimiter.BETA, limiter.currentRate(), 1);
+        long wait = limiter.acquire();
+        assertEquals(SECOND / 70, wait, SECOND / 1000);
+        long rejectedAfter = 0;
+        while (limiter.acquire() >= 0) {
+            rejectedAfter++;
+        }
+        assertEquals(35, rejectedAfter, 2);
+    }
+
+    /**
+     * Verifica que los éxitos recuperen la tasa y que el limitador se desactive cuando deja de ser necesario.
+     */
+    @Test
+    void shouldRecoverAndDeactivate() {
+        sendAtRate(100);
+        limiter.onThrottle();
+        double throttled = limiter.currentRate();
+
+        limiter.onSuccess();
+        assertTrue(limiter.currentRate() > throttled);
+
+        clock.addAndGet(10 * SECOND);
+        limiter.acquire();
+        limiter.onSuccess();
+        assertFalse(limiter.isActive());
+    }
+
+    /**
+     * Verifica que el limitador deshabilitado ignore el throttling.
+     */
+    @Test
+    void disabledShouldIgnoreThrottling() {
+        AdaptiveRateLimiter disabled = new AdaptiveRateLimiter(false, 1, Duration.ofMillis(500), clock::get);
+        disabled.onThrottle();
+
+        assertFalse(disabled.isActive());
+        assertEquals(0, disabled.acquire());
+    }
+
+    private void sendAtRate(int perSecond) {
+        for (int i = 0; i < perSecond; i++) {
+            limiter.acquire();
+            clock.addAndGet(SECOND / perSecond);
+        }
+    }
+}
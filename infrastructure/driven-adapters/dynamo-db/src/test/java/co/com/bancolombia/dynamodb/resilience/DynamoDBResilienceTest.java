@@ -0,0 +1,255 @@
+package co.com.bancolombia.dynamodb.resilience;
+
+import co.com.bancolombia.dynamodb.config.DynamoDBResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas unitarias para {@link DynamoDBResilience}.
+ */
+class DynamoDBResilienceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    /**
+     * Verifica que el throttling se reintente, active el limitador y quede registrado en las métricas.
+     */
+    @Test
+    void shouldRetryThrottlingAndActivateRateLimiter() {
+        DynamoDBResilience resilience = new DynamoDBResilience(properties(3, 20, 0.1, 50, 20), registry);
+        Calls calls = new Calls(throttled(), "ok");
+
+        StepVerifier.create(resilience.call("putItem", calls))
+                .expectNext("ok")
+                .verifyComplete();
+
+        assertEquals(2, calls.count.get());
+        assertEquals(1, counter("dynamodb.operation.retries"));
+        assertEquals(1, counter("dynamodb.operation.throttles"));
+        assertTrue(registry.get("dynamodb.rate.limit").gauge().value() > 0);
+        assertEquals(1, registry.get("dynamodb.operation.latency").tag("outcome", "success").timer().count());
+    }
+
+    /**
+     * Verifica que los errores del cliente, como una escritura condicional fallida, no se reintenten.
+     */
+    @Test
+    void shouldNotRetryClientErrors() {
+        DynamoDBResilience resilience = new DynamoDBResilience(properties(3, 20, 0.1, 50, 20), registry);
+        Calls calls = new Calls(ConditionalCheckFailedException.builder().statusCode(400).build());
+
+        StepVerifier.create(resilience.call("putItem", calls))
+                .expectError(ConditionalCheckFailedException.class)
+                .verify();
+
+        assertEquals(1, calls.count.get());
+        assertEquals(1, registry.get("dynamodb.operation.latency").tag("outcome", "error").timer().count());
+    }
+
+    /**
+     * Verifica que los reintentos se detengan al agotarse el presupuesto.
+     */
+    @Test
+    void shouldStopRetryingWhenBudgetIsExhausted() {
+        DynamoDBResilience resilience = new DynamoDBResilience(properties(5, 1, 0, 50, 20), registry);
+        Calls calls = new Calls(serverError(), serverError(), serverError(), "ok");
+
+        StepVerifier.create(resilience.call("putItem", calls))
+                .expectError(DynamoDbException.class)
+                .verify();
+
+        assertEquals(2, calls.count.get());
+    }
+
+    /**
+     * Verifica que el circuito se abra con los fallos y rechace sin enviar la petición.
+     */
+    @Test
+    void shouldFailFastWhenCircuitIsOpen() {
+        DynamoDBResilience resilience = new DynamoDBResilience(properties(1, 20, 0.1, 4, 2), registry);
+        Calls calls = new Calls(serverError(), serverError(), "ok");
+
+        StepVerifier.create(resilience.call("getItem", calls)).expectError(DynamoDbException.class).verify();
+        StepVerifier.create(resilience.call("getItem", calls)).expectError(DynamoDbException.class).verify();
+        StepVerifier.create(resilience.call("getItem", calls))
+                .expectError(DynamoDBCallRejectedException.class)
+                .verify();
+
+        assertEquals(2, calls.count.get());
+        assertEquals(1.0, registry.get("dynamodb.circuit.state").gauge().value());
+        assertEquals(1, registry.get("dynamodb.operation.latency").tag("outcome", "rejected").timer().count());
+    }
+
+    /**
+     * Verifica que una lectura lenta se resuelva con la petición de respaldo y que la primera se cancele.
+     */
+    @Test
+    void shouldHedgeSlowReads() {
+        DynamoDBResilience resilience = new DynamoDBResilience(properties(3, 20, 0.1, 50, 20), registry);
+        for (int i = 0; i < DynamoDBResilience.MIN_HEDGE_SAMPLES; i++) {
+            resilience.hedgedCall("getItem", () -> CompletableFuture.completedFuture("warm")).block();
+        }
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        Queue<CompletableFuture<String>> responses =
+                new ArrayDeque<>(List.of(slow, CompletableFuture.completedFuture("hedged")));
+
+        StepVerifier.create(resilience.hedgedCall("getItem", responses::poll))
+                .expectNext("hedged")
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertTrue(slow.isCancelled());
+        assertEquals(1, counter("dynamodb.operation.hedges"));
+    }
+
+    /**
+     * Verifica que no se programen peticiones de respaldo mientras el circuito no está cerrado, aunque la lectura
+     * en semiabierto tarde más que el percentil de latencia.
+     */
+    @Test
+    void shouldNotHedgeUnlessCircuitIsClosed() {
+        AtomicLong now = new AtomicLong();
+        DynamoDBResilience resilience = new DynamoDBResilience(properties(1, 20, 0.1, 10, 10), registry, now::get);
+        for (int i = 0; i < DynamoDBResilience.MIN_HEDGE_SAMPLES; i++) {
+            resilience.hedgedCall("getItem", () -> CompletableFuture.completedFuture("warm")).block();
+        }
+        Calls failures = new Calls(serverError());
+        for (int i = 0; i < 10; i++) {
+            StepVerifier.create(resilience.call("getItem", failures)).expectError().verify();
+        }
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        AtomicInteger sent = new AtomicInteger();
+
+        StepVerifier.create(resilience.hedgedCall("getItem", () -> {
+                    sent.incrementAndGet();
+                    return new CompletableFuture<String>();
+                }))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenCancel()
+                .verify();
+
+        assertEquals(1, sent.get());
+        assertEquals(0, counter("dynamodb.operation.hedges"));
+        assertEquals(2.0, registry.get("dynamodb.circuit.state").gauge().value());
+    }
+
+    /**
+     * Verifica que las escrituras no idempotentes se reintenten ante throttling, pero no ante errores cuyo
+     * resultado es ambiguo.
+     */
+    @Test
+    void shouldRetryNonIdempotentCallsOnlyOnThrottling() {
+        DynamoDBResilience resilience = new DynamoDBResilience(properties(3, 20, 0.1, 50, 20), registry);
+        Calls throttledOnce = new Calls(throttled(), "ok");
+        Calls timedOut = new Calls(SdkClientException.create("read timeout"), "ok");
+
+        StepVerifier.create(resilience.nonIdempotentCall("updateItem", throttledOnce))
+                .expectNext("ok")
+                .verifyComplete();
+        StepVerifier.create(resilience.nonIdempotentCall("updateItem", timedOut))
+                .expectError(SdkClientException.class)
+                .verify();
+
+        assertEquals(2, throttledOnce.count.get());
+        assertEquals(1, timedOut.count.get());
+        assertTrue(DynamoDBResilience.isNotApplied(throttled()));
+        assertFalse(DynamoDBResilience.isNotApplied(SdkClientException.create("read timeout")));
+    }
+
+    /**
+     * Verifica que un flujo se reintente ante errores de red.
+     */
+    @Test
+    void shouldRetryStreams() {
+        DynamoDBResilience resilience = new DynamoDBResilience(properties(3, 20, 0.1, 50, 20), registry);
+        AtomicInteger subscriptions = new AtomicInteger();
+        Flux<Integer> source = Flux.defer(() -> subscriptions.incrementAndGet() == 1
+                ? Flux.error(SdkClientException.create("conexión reiniciada"))
+                : Flux.just(1, 2));
+
+        StepVerifier.create(resilience.withRetries("query", source))
+                .expectNext(1, 2)
+                .verifyComplete();
+
+        assertEquals(2, subscriptions.get());
+    }
+
+    /**
+     * Verifica que la capa deshabilitada envíe la llamada sin reintentos.
+     */
+    @Test
+    void disabledShouldPassThrough() {
+        Calls calls = new Calls(serverError(), "ok");
+
+        StepVerifier.create(DynamoDBResilience.disabled().call("putItem", calls))
+                .expectError(DynamoDbException.class)
+                .verify();
+
+        assertEquals(1, calls.count.get());
+    }
+
+    private double counter(String name) {
+        return registry.get(name).counter().count();
+    }
+
+    private static DynamoDBResilienceProperties properties(int maxAttempts, int budget, double ratio, int window,
+                                                           int minimumCalls) {
+        return new DynamoDBResilienceProperties(true, maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5),
+                ratio, budget, true, 0.95, Duration.ofMillis(5), true, 1000, Duration.ofMillis(500), 0.5, window,
+                minimumCalls, Duration.ofSeconds(10), 1);
+    }
+
+    private static ProvisionedThroughputExceededException throttled() {
+        return ProvisionedThroughputExceededException.builder()
+                .statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ProvisionedThroughputExceededException").build())
+                .build();
+    }
+
+    private static DynamoDbException serverError() {
+        return (DynamoDbException) DynamoDbException.builder().statusCode(500).message("falla interna").build();
+    }
+
+    /**
+     * Respuestas sucesivas de una operación: excepciones o valores.
+     */
+    private static final class Calls implements Supplier<CompletableFuture<String>> {
+
+        private final Queue<Object> outcomes;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Calls(Object... outcomes) {
+            this.outcomes = new ArrayDeque<>(List.of(outcomes));
+        }
+
+        @Override
+        public CompletableFuture<String> get() {
+            count.incrementAndGet();
+            Object outcome = outcomes.size() > 1 ? outcomes.poll() : outcomes.peek();
+            return outcome instanceof Throwable error
+                    ? CompletableFuture.failedFuture(error)
+                    : CompletableFuture.completedFuture((String) outcome);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package co.com.bancolombia.dynamodb.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas unitarias para {@link LatencyHistogram}.
+ */
+class LatencyHistogramTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final LatencyHistogram histogram = new LatencyHistogram(Duration.ofSeconds(10), clock::get);
+
+    /**
+     * Verifica que cada valor caiga en un bucket cuya cota superior lo exceda en a lo sumo un 25 %.
+     */
+    @Test
+    void bucketsShouldBoundValues() {
+        for (long micros = 0; micros < 5_000_000; micros = micros * 3 / 2 + 1) {
+            long upper = LatencyHistogram.upperBoundMicros(LatencyHistogram.index(micros));
+            assertTrue(upper > micros, "cota de " + micros);
+            assertTrue(upper <= Math.max(micros + 1, micros * 5 / 4 + 1), "cota de " + micros + ": " + upper);
+        }
+    }
+
+    /**
+     * Verifica el cálculo de percentiles sobre las muestras registradas.
+     */
+    @Test
+    void shouldComputePercentiles() {
+        for (int i = 0; i < 95; i++) {
+            histogram.record(Duration.ofMillis(1).toNanos());
+        }
+        for (int i = 0; i < 5; i++) {
+            histogram.record(Duration.ofMillis(100).toNanos());
+        }
+
+        assertEquals(100, histogram.count());
+        long p95 = histogram.percentileNanos(0.95);
+        assertTrue(p95 > Duration.ofMillis(1).toNanos() && p95 <= Duration.ofMillis(2).toNanos(), "p95 " + p95);
+        assertTrue(histogram.percentileNanos(0.99) > Duration.ofMillis(100).toNanos());
+    }
+
+    /**
+     * Verifica que las muestras expiren tras dos ventanas.
+     */
+    @Test
+    void shouldForgetOldWindows() {
+        histogram.record(Duration.ofMillis(1).toNanos());
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        histogram.record(Duration.ofMillis(1).toNanos());
+        assertEquals(2, histogram.count());
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals(1, histogram.count());
+        clock.addAndGet(Duration.ofSeconds(20).toNanos());
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentileNanos(0.95));
+    }
+}
@@ -0,0 +1,178 @@
+package co.com.bancolombia.dynamodb.rollup;
+
+import co.com.bancolombia.dynamodb.resilience.DynamoDBResilience;
+import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StatsRollup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para {@link StatsRollupWriter} y {@link DynamoDBRollupAdapter}.
+ */
+class StatsRollupWriterTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.parse("2024-06-01T10:15:30");
+
+    @Mock
+    private DynamoDbAsyncClient client;
+
+    @Mock
+    private DynamoDbEnhancedAsyncClient enhancedClient;
+
+    @Mock
+    private DynamoDbAsyncTable<StatsRollupEntity> rollupTable;
+
+    private StatsRollupWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        writer = new StatsRollupWriter(client, "stats-rollup-table", Duration.ofHours(1), 4, Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.close();
+    }
+
+    /**
+     * Verifica que las estadísticas de un mismo intervalo se escriban con un único ADD por granularidad.
+     */
+    @Test
+    void shouldWriteOneAddPerBucketAndGranularity() {
+        when(client.updateItem(any(UpdateItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(UpdateItemResponse.builder().build()));
+        writer.record(stats(250, 25));
+        writer.record(stats(100, 5));
+
+        StepVerifier.create(writer.flush()).verifyComplete();
+
+        Map<String, UpdateItemRequest> updates = capturedUpdates(3);
+        assertEquals(Map.of("MINUTE#2024-06-01T10:15", "350", "HOUR#2024-06-01T10", "350", "DAY#2024-06-01", "350"),
+                updates.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey,
+                        e -> e.getValue().expressionAttributeValues().get(":total").n())));
+        assertEquals("30", updates.get("DAY#2024-06-01").expressionAttributeValues().get(":reclamo").n());
+        assertEquals(true, updates.get("HOUR#2024-06-01T10").updateExpression().startsWith("ADD "));
+    }
+
+    /**
+     * Verifica que los incrementos de una escritura rechazada por throttling se reintenten en el ciclo siguiente.
+     */
+    @Test
+    void shouldRetryFailedIncrementsOnNextFlush() {
+        AtomicInteger calls = new AtomicInteger();
+        when(client.updateItem(any(UpdateItemRequest.class))).thenAnswer(invocation -> calls.getAndIncrement() < 3
+                ? CompletableFuture.failedFuture(throttled())
+                : CompletableFuture.completedFuture(UpdateItemResponse.builder().build()));
+        writer.record(stats(250, 25));
+
+        StepVerifier.create(writer.flush()).verifyComplete();
+        StepVerifier.create(writer.flush()).verifyComplete();
+
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(client, times(6)).updateItem(captor.capture());
+        assertEquals("250", captor.getAllValues().get(5).expressionAttributeValues().get(":total").n());
+    }
+
+    /**
+     * Verifica que los incrementos de una escritura con resultado ambiguo se descarten en lugar de reintentarse,
+     * para no contarlos dos veces si la primera escritura se aplicó.
+     */
+    @Test
+    void shouldDropIncrementsWhenWriteMayHaveBeenApplied() {
+        AtomicInteger calls = new AtomicInteger();
+        when(client.updateItem(any(UpdateItemRequest.class))).thenAnswer(invocation -> calls.getAndIncrement() < 3
+                ? CompletableFuture.failedFuture(SdkClientException.create("read timeout"))
+                : CompletableFuture.completedFuture(UpdateItemResponse.builder().build()));
+        writer.record(stats(250, 25));
+
+        StepVerifier.create(writer.flush()).verifyComplete();
+        StepVerifier.create(writer.flush()).verifyComplete();
+
+        verify(client, times(3)).updateItem(any(UpdateItemRequest.class));
+    }
+
+    /**
+     * Verifica que la escritura periódica comience al invocar start.
+     */
+    @Test
+    void shouldFlushPeriodicallyOnceStarted() {
+        when(client.updateItem(any(UpdateItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(UpdateItemResponse.builder().build()));
+        StatsRollupWriter periodic = new StatsRollupWriter(client, "stats-rollup-table", Duration.ofMillis(50), 4,
+                Duration.ofSeconds(1));
+        periodic.record(stats(250, 25));
+
+        periodic.start();
+
+        verify(client, timeout(2000).times(3)).updateItem(any(UpdateItemRequest.class));
+        periodic.close();
+    }
+
+    /**
+     * Verifica que la lectura emita en orden los intervalos con totales y omita los vacíos.
+     */
+    @Test
+    void shouldReadRollupsInOrder() {
+        when(enhancedClient.table("stats-rollup-table", StatsRollupEntity.tableSchema()))
+                .thenReturn(rollupTable);
+        when(rollupTable.getItem(any(Key.class))).thenAnswer(invocation -> {
+            String pk = invocation.<Key>getArgument(0).partitionKeyValue().s();
+            return CompletableFuture.completedFuture(pk.endsWith("T11") ? null
+                    : new StatsRollupEntity(pk, 10, 1, 1, 1, 1, 1, 1));
+        });
+        DynamoDBRollupAdapter adapter = new DynamoDBRollupAdapter(enhancedClient, "stats-rollup-table",
+                DynamoDBResilience.disabled());
+
+        StepVerifier.create(adapter.findRollups(StatsRollup.Granularity.HOUR, TIMESTAMP, TIMESTAMP.plusHours(2))
+                        .map(StatsRollup::getBucket))
+                .expectNext(LocalDateTime.parse("2024-06-01T10:00"), LocalDateTime.parse("2024-06-01T12:00"))
+                .verifyComplete();
+    }
+
+    private Map<String, UpdateItemRequest> capturedUpdates(int expected) {
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(client, times(expected)).updateItem(captor.capture());
+        return captor.getAllValues().stream()
+                .collect(Collectors.toMap(request -> request.key().get("pk").s(), request -> request));
+    }
+
+    private static ProvisionedThroughputExceededException throttled() {
+        return ProvisionedThroughputExceededException.builder()
+                .statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ProvisionedThroughputExceededException").build())
+                .build();
+    }
+
+    private static Stats stats(int total, int reclamo) {
+        return new Stats(TIMESTAMP, total, reclamo, 0, 0, 0, 0, 0, "hash");
+    }
+}
@@ -0,0 +1,172 @@
+package co.com.bancolombia.dynamodb.writebehind;
+
+import co.com.bancolombia.dynamodb.writebehind.WriteBehindStatsRepository.DurabilityMode;
+import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.gateways.StatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para {@link WriteBehindStatsRepository}.
+ *
+ * <p>Verifica la agregación por ventana, el cierre por tamaño y por tiempo, y los modos de durabilidad.</p>
+ */
+class WriteBehindStatsRepositoryTest {
+
+    private static final Duration LONG_WINDOW = Duration.ofHours(1);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private StatsRepository delegate;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(StatsRepository.class);
+        when(delegate.saveStats(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    }
+
+    /**
+     * Verifica que las estadísticas de una ventana se sumen y persistan en una sola escritura al llenarse.
+     */
+    @Test
+    void saveStats_ShouldAggregateWindowIntoSingleWrite() {
+        WriteBehindStatsRepository repository =
+                new WriteBehindStatsRepository(delegate, LONG_WINDOW, 2, DurabilityMode.PERSISTED, TIMEOUT);
+
+        StepVerifier.create(Mono.when(repository.saveStats(stats(10, 1)), repository.saveStats(stats(5, 2))))
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        ArgumentCaptor<Stats> captor = ArgumentCaptor.forClass(Stats.class);
+        verify(delegate, times(1)).saveStats(captor.capture());
+        Stats aggregate = captor.getValue();
+        assertEquals(15, aggregate.getTotalContactoClientes());
+        assertEquals(3, aggregate.getMotivoReclamo());
+        assertEquals(3, aggregate.getMotivoCambio());
+        assertEquals(32, aggregate.getHash().length());
+        repository.close();
+    }
+
+    /**
+     * Verifica que la ventana se persista al cumplirse su duración.
+     */
+    @Test
+    void saveStats_ShouldFlushWhenWindowCloses() {
+        WriteBehindStatsRepository repository = new WriteBehindStatsRepository(
+                delegate, Duration.ofMillis(50), 100, DurabilityMode.PERSISTED, TIMEOUT);
+        repository.start();
+
+        StepVerifier.create(repository.saveStats(stats(1, 1)))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        verify(delegate, times(1)).saveStats(any());
+        repository.close();
+    }
+
+    /**
+     * Verifica que en modo BUFFERED se confirme sin escribir y que el cierre persista la ventana abierta.
+     */
+    @Test
+    void saveStats_ShouldAcknowledgeBufferedAndFlushOnClose() {
+        WriteBehindStatsRepository repository =
+                new WriteBehindStatsRepository(delegate, LONG_WINDOW, 100, DurabilityMode.BUFFERED, TIMEOUT);
+
+        StepVerifier.create(repository.saveStats(stats(4, 1)))
+                .expectNextCount(1)
+                .verifyComplete();
+        verify(delegate, never()).saveStats(any());
+
+        repository.close();
+
+        verify(delegate, times(1)).saveStats(any());
+    }
+
+    /**
+     * Verifica que en modo PERSISTED el error de escritura llegue a cada llamador.
+     */
+    @Test
+    void saveStats_ShouldPropagateWriteErrorWhenPersisted() {
+        doReturn(Mono.error(new RuntimeException("DynamoDB no disponible"))).when(delegate).saveStats(any());
+        WriteBehindStatsRepository repository =
+                new WriteBehindStatsRepository(delegate, LONG_WINDOW, 1, DurabilityMode.PERSISTED, TIMEOUT);
+
+        StepVerifier.create(repository.saveStats(stats(1, 1)))
+                .expectError(RuntimeException.class)
+                .verify(TIMEOUT);
+        repository.close();
+    }
+
+    /**
+     * Verifica que la ventana se persista antes de que una suma desborde los contadores del agregado.
+     */
+    @Test
+    void saveStats_ShouldRotateWindowBeforeCounterOverflow() {
+        WriteBehindStatsRepository repository =
+                new WriteBehindStatsRepository(delegate, LONG_WINDOW, 100, DurabilityMode.BUFFERED, TIMEOUT);
+
+        StepVerifier.create(Mono.when(repository.saveStats(stats(Integer.MAX_VALUE - 1, 0)),
+                        repository.saveStats(stats(5, 0))))
+                .verifyComplete();
+        repository.close();
+
+        ArgumentCaptor<Stats> captor = ArgumentCaptor.forClass(Stats.class);
+        verify(delegate, times(2)).saveStats(captor.capture());
+        assertEquals(Integer.MAX_VALUE - 1, captor.getAllValues().get(0).getTotalContactoClientes());
+        assertEquals(5, captor.getAllValues().get(1).getTotalContactoClientes());
+    }
+
+    /**
+     * Verifica que los llamadores se liberen cuando el repositorio delegado completa vacío porque la clave
+     * del agregado ya existía.
+     */
+    @Test
+    void saveStats_ShouldCompleteWhenDelegateCompletesEmpty() {
+        doReturn(Mono.empty()).when(delegate).saveStats(any());
+        WriteBehindStatsRepository repository =
+                new WriteBehindStatsRepository(delegate, LONG_WINDOW, 2, DurabilityMode.PERSISTED, TIMEOUT);
+
+        StepVerifier.create(Mono.when(repository.saveStats(stats(1, 1)), repository.saveStats(stats(2, 1))))
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        verify(delegate, times(1)).saveStats(any());
+        repository.close();
+    }
+
+    /**
+     * Verifica que saveAll emita la posición de las estadísticas de las ventanas persistidas.
+     */
+    @Test
+    void saveAll_ShouldEmitItemsOfPersistedWindows() {
+        WriteBehindStatsRepository repository =
+                new WriteBehindStatsRepository(delegate, LONG_WINDOW, 3, DurabilityMode.PERSISTED, TIMEOUT);
+
+        StepVerifier.create(repository.saveAll(List.of(stats(1, 0), stats(2, 0), stats(3, 0))))
+                .expectNext(0, 1, 2)
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        verify(delegate, times(1)).saveStats(any());
+        repository.close();
+    }
+
+    private static Stats stats(int total, int motivo) {
+        return new Stats(null, total, motivo, motivo, motivo, motivo, motivo, motivo, "hash");
+    }
+}
@@ -0,0 +1,263 @@
+package co.com.bancolombia.mq.sender;
+
+import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.gateways.EventPublisherGateway;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+import reactor.rabbitmq.ChannelPool;
+import reactor.rabbitmq.CorrelableOutboundMessage;
+import reactor.rabbitmq.ExchangeSpecification;
+import reactor.rabbitmq.OutboundMessageResult;
+import reactor.rabbitmq.SendOptions;
+import reactor.rabbitmq.Sender;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptador que publica los eventos de estadísticas en RabbitMQ agrupados en lotes con confirmaciones del broker.
+ *
+ * <p>Cada llamada a {@link #publishEvent(Stats)} encola el evento y retorna un {@link Mono} que solo se completa
+ * cuando el broker confirma ese mensaje. Los eventos encolados se agrupan en lotes acotados por tamaño
+ * ({@code app.rabbitmq.batch.size}) y por tiempo de espera ({@code app.rabbitmq.batch.linger}); cada lote se
+ * publica sobre un único canal del pool con publisher confirms. El total de mensajes sin confirmar está limitado
+ * por {@code app.rabbitmq.batch.max-in-flight}: al superarlo, la publicación falla de inmediato en vez de
+ * acumular memoria. Los lotes que se publican a la vez no superan {@code app.rabbitmq.reactive.channel-pool-size},
+ * para no pedir más canales de los que tiene el pool.</p>
+ *
+ * <p>Varios hilos de peticiones encolan eventos al mismo tiempo: cada uno los deja en una cola de múltiples
+ * productores y el hilo que encuentra libre la emisión los entrega al flujo de lotes, de modo que ningún hilo
+ * espera a otro ni pierde eventos por emitir a la vez.</p>
+ *
+ * <p>Métricas publicadas:</p>
+ * <ul>
+ *   <li>{@code stats.events.batch.fill.ratio}: proporción de llenado de cada lote respecto al tamaño máximo.</li>
+ *   <li>{@code stats.events.confirm.latency}: tiempo entre el encolado del evento y su confirmación.</li>
+ * </ul>
+ *
+ * <p>Se activa con {@code app.rabbitmq.publisher=batching}.</p>
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.rabbitmq.publisher", havingValue = "batching")
+public class BatchingRabbitMQEventPublisherAdapter implements EventPublisherGateway {
+
+    private static final Duration SHUTDOWN_DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Sender sender;
+    private final SendOptions sendOptions;
+    private final StatsOutboundMessageFactory messageFactory;
+    private final int batchSize;
+    private final Duration linger;
+    private final int maxInFlight;
+    private final int channelPoolSize;
+    private final Sinks.Many<PendingEvent> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final Queue<PendingEvent> submitted = Queues.<PendingEvent>unboundedMultiproducer().get();
+    private final AtomicInteger emitting = new AtomicInteger();
+    private volatile boolean stopping;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final CountDownLatch drained = new CountDownLatch(1);
+    private final DistributionSummary batchFillRatio;
+    private final Timer confirmLatency;
+    private Disposable pipeline;
+
+    /**
+     * Constructor del adaptador por lotes.
+     *
+     * @param sender Sender reactivo de RabbitMQ
+     * @param channelPool Pool de canales usado para publicar
+     * @param messageConverter Converter JSON de los mensajes
+     * @param registry Registro de métricas
+     * @param statsExchange Nombre del exchange de estadísticas
+     * @param statsRoutingKey Clave de enrutamiento de estadísticas
+     * @param batchSize Máximo de mensajes por lote
+     * @param linger Tiempo máximo de espera para completar un lote
+     * @param maxInFlight Máximo de mensajes encolados o pendientes de confirmación
+     * @param channelPoolSize Máximo de canales del pool, y por tanto de lotes publicándose a la vez
+     */
+    @SuppressWarnings("java:S107")
+    public BatchingRabbitMQEventPublisherAdapter(Sender sender,
+                                                 ChannelPool channelPool,
+                                                 MessageConverter messageConverter,
+                                                 MeterRegistry registry,
+                                                 @Value("${app.rabbitmq.exchange.stats}") String statsExchange,
+                                                 @Value("${app.rabbitmq.routing-key.stats}") String statsRoutingKey,
+                                                 @Value("${app.rabbitmq.batch.size:100}") int batchSize,
+                                                 @Value("${app.rabbitmq.batch.linger:10ms}") Duration linger,
+                                                 @Value("${app.rabbitmq.batch.max-in-flight:10000}") int maxInFlight,
+                                                 @Value("${app.rabbitmq.reactive.channel-pool-size:8}") int channelPoolSize) {
+        this.sender = sender;
+        this.sendOptions = new SendOptions().channelPool(channelPool);
+        this.messageFactory = new StatsOutboundMessageFactory(messageConverter, statsExchange, statsRoutingKey);
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.maxInFlight = maxInFlight;
+        this.channelPoolSize = channelPoolSize;
+        this.batchFillRatio = DistributionSummary.builder("stats.events.batch.fill.ratio")
+                .description("Proporción de llenado de los lotes publicados en RabbitMQ")
+                .register(registry);
+        this.confirmLatency = Timer.builder("stats.events.confirm.latency")
+                .description("Tiempo entre el encolado de un evento y la confirmación del broker")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    /**
+     * Declara el exchange y arranca el flujo que agrupa y publica los lotes.
+     */
+    @PostConstruct
+    public void start() {
+        String exchange = messageFactory.getExchange();
+        sender.declareExchange(ExchangeSpecification.exchange(exchange).type("direct").durable(true))
+                .subscribe(
+                        ok -> log.info("Exchange '{}' creado o verificado exitosamente", exchange),
+                        e -> log.error("Error creando exchange '{}': {}", exchange, e.getMessage()));
+
+        int concurrentBatches = Math.max(1, Math.min(channelPoolSize, maxInFlight / batchSize));
+        pipeline = queue.asFlux()
+                .bufferTimeout(batchSize, linger, true)
+                .flatMap(this::publishBatch, concurrentBatches)
+                .doFinally(signal -> drained.countDown())
+                .subscribe();
+    }
+
+    /**
+     * Deja de aceptar eventos y espera a que se confirmen los lotes pendientes.
+     */
+    @PreDestroy
+    public void stop() {
+        stopping = true;
+        drainSubmitted();
+        try {
+            if (!drained.await(SHUTDOWN_DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Quedaron {} eventos sin confirmar al detener el publicador", inFlight.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (pipeline != null) {
+                pipeline.dispose();
+            }
+        }
+    }
+
+    /**
+     * Encola un evento de estadísticas para su publicación por lotes.
+     *
+     * @param stats El objeto de estadísticas a publicar
+     * @return Mono<Void> que se completa cuando el broker confirma el mensaje, o emite un error si lo rechaza,
+     * si se supera el límite de mensajes en vuelo o si el publicador está detenido
+     */
+    @Override
+    public Mono<Void> publishEvent(Stats stats) {
+        return Mono.create(sink -> {
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                sink.error(new IllegalStateException("Se superó el máximo de eventos en vuelo hacia RabbitMQ"));
+                return;
+            }
+            submitted.offer(new PendingEvent(stats, sink, System.nanoTime()));
+            drainSubmitted();
+        });
+    }
+
+    /**
+     * Entrega al flujo de lotes los eventos encolados por cualquier hilo.
+     *
+     * <p>Solo un hilo emite a la vez: los demás dejan sus eventos en la cola y el hilo que está emitiendo los
+     * recoge antes de terminar. Al detener el publicador, completa el flujo tras entregar lo pendiente; los
+     * eventos que llegan después fallan en lugar de perderse.</p>
+     */
+    private void drainSubmitted() {
+        if (emitting.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            PendingEvent pending;
+            while ((pending = submitted.poll()) != null) {
+                Sinks.EmitResult result = queue.tryEmitNext(pending);
+                if (result.isFailure()) {
+                    pending.fail(new IllegalStateException("El publicador de eventos no está disponible: " + result));
+                }
+            }
+            if (stopping) {
+                queue.tryEmitComplete();
+            }
+            missed = emitting.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private Mono<Void> publishBatch(List<PendingEvent> batch) {
+        batchFillRatio.record((double) batch.size() / batchSize);
+        Flux<CorrelableOutboundMessage<PendingEvent>> messages = Flux.fromIterable(batch)
+                .map(pending -> messageFactory.create(pending.stats, pending));
+
+        return sender.sendWithTypedPublishConfirms(messages, sendOptions)
+                .doOnNext(this::confirm)
+                .doOnError(e -> log.error("Error publicando lote de {} eventos: {}", batch.size(), e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .doFinally(signal -> batch.forEach(pending ->
+                        pending.fail(new IllegalStateException("RabbitMQ no confirmó el evento de estadísticas"))))
+                .then();
+    }
+
+    private void confirm(OutboundMessageResult<CorrelableOutboundMessage<PendingEvent>> result) {
+        PendingEvent pending = result.getOutboundMessage().getCorrelationMetadata();
+        if (result.isAck()) {
+            confirmLatency.record(System.nanoTime() - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+            pending.succeed();
+        } else {
+            pending.fail(new IllegalStateException("RabbitMQ rechazó el evento de estadísticas"));
+        }
+    }
+
+    /**
+     * Evento encolado a la espera de su confirmación.
+     */
+    private final class PendingEvent {
+        private final Stats stats;
+        private final MonoSink<Void> sink;
+        private final long enqueuedAt;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private PendingEvent(Stats stats, MonoSink<Void> sink, long enqueuedAt) {
+            this.stats = stats;
+            this.sink = sink;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        private void succeed() {
+            if (done.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                sink.success();
+            }
+        }
+
+        private void fail(Throwable error) {
+            if (done.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                sink.error(error);
+            }
+        }
+    }
+}
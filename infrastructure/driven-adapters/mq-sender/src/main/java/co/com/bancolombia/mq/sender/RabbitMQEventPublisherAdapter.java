@@ -8,15 +8,23 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Adaptador para publicar eventos de estadísticas en RabbitMQ.
  * Implementa EventPublisherGateway usando Spring AMQP.
+ *
+ * <p>Es el publicador por defecto ({@code app.rabbitmq.publisher=template}). Como {@link RabbitTemplate}
+ * es bloqueante, la publicación se ejecuta en el scheduler boundedElastic para no ocupar hilos del
+ * event loop; para un publicador no bloqueante con confirmaciones ver
+ * {@link ReactiveRabbitMQEventPublisherAdapter}.</p>
  */
 
 @Component
+@ConditionalOnProperty(name = "app.rabbitmq.publisher", havingValue = "template", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class RabbitMQEventPublisherAdapter implements EventPublisherGateway/* implements SomeGateway */ {
@@ -68,6 +76,6 @@ public class RabbitMQEventPublisherAdapter implements EventPublisherGateway/* im
         return Mono.fromCallable(() -> {
             rabbitTemplate.convertAndSend(statsExchange, statsRoutingKey, stats);
             return null;
-        }).then();
+        }).subscribeOn(Schedulers.boundedElastic()).then();
     }
 }
@@ -0,0 +1,86 @@
+package co.com.bancolombia.mq.sender;
+
+import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.gateways.EventPublisherGateway;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.rabbitmq.ChannelPool;
+import reactor.rabbitmq.ExchangeSpecification;
+import reactor.rabbitmq.SendOptions;
+import reactor.rabbitmq.Sender;
+
+/**
+ * Adaptador no bloqueante para publicar eventos de estadísticas en RabbitMQ.
+ *
+ * <p>Implementa {@link EventPublisherGateway} con Reactor RabbitMQ: cada evento se publica sobre un canal
+ * tomado del pool con confirmaciones del broker habilitadas, y el {@link Mono} retornado solo se completa
+ * cuando el broker confirma (ack) el mensaje. Las publicaciones concurrentes usan canales distintos del pool,
+ * por lo que muchas pueden estar en vuelo a la vez sin bloquear hilos del event loop.</p>
+ *
+ * <p>El cuerpo y las propiedades del mensaje se generan con {@link StatsOutboundMessageFactory}, de modo que
+ * los consumidores reciben el mismo formato que con {@link RabbitMQEventPublisherAdapter}.</p>
+ *
+ * <p>Se activa con {@code app.rabbitmq.publisher=reactive}.</p>
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.rabbitmq.publisher", havingValue = "reactive")
+public class ReactiveRabbitMQEventPublisherAdapter implements EventPublisherGateway {
+
+    private final Sender sender;
+    private final SendOptions sendOptions;
+    private final StatsOutboundMessageFactory messageFactory;
+
+    /**
+     * Constructor del adaptador reactivo.
+     *
+     * @param sender Sender reactivo de RabbitMQ
+     * @param channelPool Pool de canales usado para publicar
+     * @param messageConverter Converter JSON de los mensajes
+     * @param statsExchange Nombre del exchange de estadísticas
+     * @param statsRoutingKey Clave de enrutamiento de estadísticas
+     */
+    public ReactiveRabbitMQEventPublisherAdapter(Sender sender,
+                                                 ChannelPool channelPool,
+                                                 MessageConverter messageConverter,
+                                                 @Value("${app.rabbitmq.exchange.stats}") String statsExchange,
+                                                 @Value("${app.rabbitmq.routing-key.stats}") String statsRoutingKey) {
+        this.sender = sender;
+        this.sendOptions = new SendOptions().channelPool(channelPool);
+        this.messageFactory = new StatsOutboundMessageFactory(messageConverter, statsExchange, statsRoutingKey);
+    }
+
+    /**
+     * Declara el exchange de RabbitMQ si no existe, sin bloquear el arranque.
+     */
+    @PostConstruct
+    public void createExchangeIfNotExists() {
+        String exchange = messageFactory.getExchange();
+        sender.declareExchange(ExchangeSpecification.exchange(exchange).type("direct").durable(true))
+                .subscribe(
+                        ok -> log.info("Exchange '{}' creado o verificado exitosamente", exchange),
+                        e -> log.error("Error creando exchange '{}': {}", exchange, e.getMessage()));
+    }
+
+    /**
+     * Publica un evento de estadísticas en RabbitMQ y espera la confirmación del broker.
+     *
+     * @param stats El objeto de estadísticas a publicar
+     * @return Mono<Void> que se completa cuando el broker confirma el mensaje, o emite un error si lo rechaza
+     */
+    @Override
+    public Mono<Void> publishEvent(Stats stats) {
+        return Mono.fromCallable(() -> messageFactory.create(stats))
+                .flatMapMany(message -> sender.sendWithPublishConfirms(Mono.just(message), sendOptions))
+                .next()
+                .switchIfEmpty(Mono.error(new IllegalStateException("RabbitMQ no confirmó el evento de estadísticas")))
+                .flatMap(result -> result.isAck()
+                        ? Mono.<Void>empty()
+                        : Mono.error(new IllegalStateException("RabbitMQ rechazó el evento de estadísticas")));
+    }
+}
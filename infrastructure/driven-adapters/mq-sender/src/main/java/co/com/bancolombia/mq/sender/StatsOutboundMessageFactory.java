@@ -0,0 +1,77 @@
+package co.com.bancolombia.mq.sender;
+
+import co.com.bancolombia.model.stats.Stats;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import reactor.rabbitmq.CorrelableOutboundMessage;
+import reactor.rabbitmq.OutboundMessage;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Construye los mensajes de Reactor RabbitMQ para los eventos de estadísticas.
+ *
+ * <p>Usa el mismo {@link MessageConverter} JSON que {@link RabbitMQEventPublisherAdapter} para que el cuerpo
+ * y las propiedades AMQP (content-type, cabecera de tipo, modo de entrega) sean idénticos entre publicadores.</p>
+ */
+public class StatsOutboundMessageFactory {
+
+    private final MessageConverter messageConverter;
+    private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+    private final String exchange;
+    private final String routingKey;
+
+    /**
+     * Constructor de la fábrica de mensajes.
+     *
+     * @param messageConverter Converter JSON de los mensajes
+     * @param exchange Exchange de destino
+     * @param routingKey Clave de enrutamiento de destino
+     */
+    public StatsOutboundMessageFactory(MessageConverter messageConverter, String exchange, String routingKey) {
+        this.messageConverter = messageConverter;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+    }
+
+    /**
+     * Crea el mensaje de salida para una estadística.
+     *
+     * @param stats Estadística a publicar
+     * @return Mensaje de salida
+     */
+    public OutboundMessage create(Stats stats) {
+        Message message = toMessage(stats);
+        return new OutboundMessage(exchange, routingKey, propertiesConverter.fromMessageProperties(
+                message.getMessageProperties(), StandardCharsets.UTF_8.name()), message.getBody());
+    }
+
+    /**
+     * Crea el mensaje de salida para una estadística asociándole metadatos de correlación.
+     *
+     * @param stats Estadística a publicar
+     * @param correlation Metadatos devueltos junto con la confirmación del broker
+     * @param <T> Tipo de los metadatos de correlación
+     * @return Mensaje de salida correlacionable
+     */
+    public <T> CorrelableOutboundMessage<T> create(Stats stats, T correlation) {
+        Message message = toMessage(stats);
+        return new CorrelableOutboundMessage<>(exchange, routingKey, propertiesConverter.fromMessageProperties(
+                message.getMessageProperties(), StandardCharsets.UTF_8.name()), message.getBody(), correlation);
+    }
+
+    /**
+     * Obtiene el exchange de destino.
+     * @return Nombre del exchange
+     */
+    public String getExchange() {
+        return exchange;
+    }
+
+    private Message toMessage(Stats stats) {
+        return messageConverter.toMessage(stats, new MessageProperties());
+    }
+}
@@ -0,0 +1,72 @@
+package co.com.bancolombia.mq.sender.config;
+
+import com.rabbitmq.client.Connection;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.rabbitmq.ChannelPool;
+import reactor.rabbitmq.ChannelPoolFactory;
+import reactor.rabbitmq.ChannelPoolOptions;
+import reactor.rabbitmq.RabbitFlux;
+import reactor.rabbitmq.Sender;
+import reactor.rabbitmq.SenderOptions;
+
+/**
+ * Configuración del publicador reactivo de RabbitMQ basado en Reactor RabbitMQ.
+ *
+ * <p>Se activa con {@code app.rabbitmq.publisher=reactive} o {@code batching}. Reutiliza la fábrica de conexiones
+ * configurada por Spring Boot ({@code spring.rabbitmq.*}) para abrir una única conexión compartida
+ * y un pool de canales sobre el que se publican los eventos sin bloquear hilos del event loop.</p>
+ */
+@Configuration
+@ConditionalOnExpression("'${app.rabbitmq.publisher:template}' == 'reactive' or '${app.rabbitmq.publisher:template}' == 'batching'")
+public class ReactiveRabbitMQConfig {
+
+    private static final String CONNECTION_NAME = "statistics-stats-reactive-sender";
+
+    /**
+     * Crea la conexión AMQP compartida, abierta de forma perezosa y cacheada.
+     *
+     * @param connectionFactory Fábrica de conexiones autoconfigurada por Spring Boot
+     * @return Mono cacheado con la conexión AMQP
+     */
+    @Bean
+    public Mono<Connection> reactiveRabbitConnection(CachingConnectionFactory connectionFactory) {
+        return Mono.fromCallable(() -> connectionFactory.getRabbitConnectionFactory().newConnection(CONNECTION_NAME))
+                .subscribeOn(Schedulers.boundedElastic())
+                .cache();
+    }
+
+    /**
+     * Crea el pool de canales usado para publicar.
+     *
+     * @param reactiveRabbitConnection Conexión AMQP compartida
+     * @param channelPoolSize Máximo de canales abiertos reutilizables
+     * @return Pool de canales
+     */
+    @Bean
+    public ChannelPool reactiveRabbitChannelPool(Mono<Connection> reactiveRabbitConnection,
+                                                 @Value("${app.rabbitmq.reactive.channel-pool-size:8}") int channelPoolSize) {
+        return ChannelPoolFactory.createChannelPool(reactiveRabbitConnection,
+                new ChannelPoolOptions().maxCacheSize(channelPoolSize));
+    }
+
+    /**
+     * Crea el {@link Sender} reactivo de RabbitMQ.
+     *
+     * @param reactiveRabbitConnection Conexión AMQP compartida
+     * @param reactiveRabbitChannelPool Pool de canales
+     * @return Sender configurado
+     */
+    @Bean
+    public Sender reactiveRabbitSender(Mono<Connection> reactiveRabbitConnection, ChannelPool reactiveRabbitChannelPool) {
+        return RabbitFlux.createSender(new SenderOptions()
+                .connectionMono(reactiveRabbitConnection)
+                .channelPool(reactiveRabbitChannelPool)
+                .resourceManagementScheduler(Schedulers.boundedElastic()));
+    }
+}
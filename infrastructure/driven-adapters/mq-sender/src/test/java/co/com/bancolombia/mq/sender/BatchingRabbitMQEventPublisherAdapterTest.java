@@ -0,0 +1,213 @@
+package co.com.bancolombia.mq.sender;
+
+import co.com.bancolombia.model.stats.Stats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.rabbitmq.ChannelPool;
+import reactor.rabbitmq.CorrelableOutboundMessage;
+import reactor.rabbitmq.OutboundMessageResult;
+import reactor.rabbitmq.SendOptions;
+import reactor.rabbitmq.Sender;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para {@link BatchingRabbitMQEventPublisherAdapter}.
+ *
+ * <p>Verifica que los eventos se agrupen en lotes y que cada Mono refleje la confirmación de su propio mensaje.</p>
+ */
+class BatchingRabbitMQEventPublisherAdapterTest {
+
+    private Sender sender;
+    private SimpleMeterRegistry registry;
+    private BatchingRabbitMQEventPublisherAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        sender = mock(Sender.class);
+        registry = new SimpleMeterRegistry();
+        when(sender.declareExchange(any())).thenReturn(Mono.empty());
+        adapter = new BatchingRabbitMQEventPublisherAdapter(sender, mock(ChannelPool.class),
+                new Jackson2JsonMessageConverter(), registry, "test-exchange", "test-routing-key",
+                2, Duration.ofMillis(50), 4, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.stop();
+    }
+
+    /**
+     * Verifica que los eventos de un lote completo se publiquen juntos y se completen con el ack del broker.
+     */
+    @Test
+    void publishEvent_ShouldCompleteEachEventWhenBatchIsAcked() {
+        mockConfirms(true);
+        adapter.start();
+
+        StepVerifier.create(Mono.when(adapter.publishEvent(new Stats()), adapter.publishEvent(new Stats())))
+                .verifyComplete();
+
+        verify(sender, times(1)).sendWithTypedPublishConfirms(any(), any(SendOptions.class));
+        assertEquals(1.0, registry.get("stats.events.batch.fill.ratio").summary().max());
+        assertEquals(2, registry.get("stats.events.confirm.latency").timer().count());
+    }
+
+    /**
+     * Verifica que un lote incompleto se publique al cumplirse el tiempo de espera.
+     */
+    @Test
+    void publishEvent_ShouldFlushPartialBatchAfterLinger() {
+        mockConfirms(true);
+        adapter.start();
+
+        StepVerifier.create(adapter.publishEvent(new Stats()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertEquals(0.5, registry.get("stats.events.batch.fill.ratio").summary().max());
+    }
+
+    /**
+     * Verifica que la publicación falle cuando el broker rechaza el mensaje.
+     */
+    @Test
+    void publishEvent_ShouldFailWhenNacked() {
+        mockConfirms(false);
+        adapter.start();
+
+        StepVerifier.create(adapter.publishEvent(new Stats()))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Verifica que los eventos sin confirmación fallen cuando el envío del lote termina con error.
+     */
+    @Test
+    void publishEvent_ShouldFailWhenSendErrors() {
+        when(sender.sendWithTypedPublishConfirms(any(), any(SendOptions.class)))
+                .thenReturn(Flux.error(new RuntimeException("canal cerrado")));
+        adapter.start();
+
+        StepVerifier.create(adapter.publishEvent(new Stats()))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Verifica que se rechacen de inmediato los eventos que superan el máximo en vuelo.
+     */
+    @Test
+    void publishEvent_ShouldFailFastWhenMaxInFlightExceeded() {
+        when(sender.sendWithTypedPublishConfirms(any(), any(SendOptions.class))).thenReturn(Flux.never());
+        adapter.start();
+
+        for (int i = 0; i < 4; i++) {
+            adapter.publishEvent(new Stats()).subscribe(v -> { }, e -> { });
+        }
+
+        StepVerifier.create(adapter.publishEvent(new Stats()))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(1));
+    }
+
+    /**
+     * Verifica que los eventos publicados desde varios hilos a la vez se encolen y confirmen todos.
+     */
+    @Test
+    void publishEvent_ShouldAcceptConcurrentPublishers() throws Exception {
+        int threads = 8;
+        int eventsPerThread = 500;
+        mockConfirms(true);
+        BatchingRabbitMQEventPublisherAdapter concurrent = new BatchingRabbitMQEventPublisherAdapter(sender,
+                mock(ChannelPool.class), new Jackson2JsonMessageConverter(), registry, "test-exchange",
+                "test-routing-key", 50, Duration.ofMillis(5), threads * eventsPerThread, 8);
+        concurrent.start();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        try {
+            List<Future<List<Mono<Void>>>> published = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                published.add(executor.submit(() -> {
+                    ready.await();
+                    List<Mono<Void>> confirmations = new ArrayList<>();
+                    for (int i = 0; i < eventsPerThread; i++) {
+                        Mono<Void> confirmation = concurrent.publishEvent(new Stats())
+                                .doOnError(e -> failures.incrementAndGet())
+                                .cache();
+                        confirmation.subscribe(v -> { }, e -> { });
+                        confirmations.add(confirmation);
+                    }
+                    return confirmations;
+                }));
+            }
+            ready.countDown();
+            List<Mono<Void>> all = new ArrayList<>();
+            for (Future<List<Mono<Void>>> future : published) {
+                all.addAll(future.get(10, TimeUnit.SECONDS));
+            }
+            Mono.whenDelayError(all).onErrorResume(e -> Mono.empty()).block(Duration.ofSeconds(10));
+        } finally {
+            executor.shutdownNow();
+            concurrent.stop();
+        }
+
+        assertEquals(0, failures.get());
+        assertEquals(threads * eventsPerThread, registry.get("stats.events.confirm.latency").timer().count());
+    }
+
+    /**
+     * Verifica que los lotes publicándose a la vez no superen el tamaño del pool de canales.
+     */
+    @Test
+    void publishEvent_ShouldNotPublishMoreBatchesThanChannels() {
+        Sinks.Empty<Void> release = Sinks.empty();
+        when(sender.sendWithTypedPublishConfirms(any(), any(SendOptions.class)))
+                .thenAnswer(invocation -> Flux.never().takeUntilOther(release.asMono()));
+        BatchingRabbitMQEventPublisherAdapter capped = new BatchingRabbitMQEventPublisherAdapter(sender,
+                mock(ChannelPool.class), new Jackson2JsonMessageConverter(), registry, "test-exchange",
+                "test-routing-key", 1, Duration.ofMillis(5), 100, 2);
+        capped.start();
+        try {
+            for (int i = 0; i < 5; i++) {
+                capped.publishEvent(new Stats()).subscribe(v -> { }, e -> { });
+            }
+
+            verify(sender, times(2)).sendWithTypedPublishConfirms(any(), any(SendOptions.class));
+        } finally {
+            release.tryEmitEmpty();
+            capped.stop();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockConfirms(boolean ack) {
+        when(sender.sendWithTypedPublishConfirms(any(), any(SendOptions.class)))
+                .thenAnswer(invocation -> Flux.from(invocation.<Flux<CorrelableOutboundMessage<Object>>>getArgument(0))
+                        .map(message -> new OutboundMessageResult<>(message, ack)));
+    }
+}
@@ -0,0 +1,62 @@
+package co.com.bancolombia.mq.sender;
+
+import co.com.bancolombia.model.stats.Stats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import reactor.core.publisher.Flux;
+import reactor.rabbitmq.ChannelPool;
+import reactor.rabbitmq.OutboundMessage;
+import reactor.rabbitmq.OutboundMessageResult;
+import reactor.rabbitmq.SendOptions;
+import reactor.rabbitmq.Sender;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas unitarias para {@link ReactiveRabbitMQEventPublisherAdapter}.
+ *
+ * <p>Verifica que el Mono de publicación refleje la confirmación (ack/nack) del broker.</p>
+ */
+class ReactiveRabbitMQEventPublisherAdapterTest {
+
+    private Sender sender;
+    private ReactiveRabbitMQEventPublisherAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        sender = mock(Sender.class);
+        adapter = new ReactiveRabbitMQEventPublisherAdapter(sender, mock(ChannelPool.class),
+                new Jackson2JsonMessageConverter(), "test-exchange", "test-routing-key");
+    }
+
+    /**
+     * Verifica que la publicación se complete cuando el broker confirma el mensaje.
+     */
+    @Test
+    void publishEvent_ShouldCompleteWhenAcked() {
+        when(sender.sendWithPublishConfirms(any(), any(SendOptions.class)))
+                .thenAnswer(invocation -> Flux.from(invocation.<Flux<OutboundMessage>>getArgument(0))
+                        .map(message -> new OutboundMessageResult<>(message, true)));
+
+        StepVerifier.create(adapter.publishEvent(new Stats()))
+                .verifyComplete();
+    }
+
+    /**
+     * Verifica que la publicación falle cuando el broker rechaza el mensaje.
+     */
+    @Test
+    void publishEvent_ShouldFailWhenNacked() {
+        when(sender.sendWithPublishConfirms(any(), any(SendOptions.class)))
+                .thenAnswer(invocation -> Flux.from(invocation.<Flux<OutboundMessage>>getArgument(0))
+                        .map(message -> new OutboundMessageResult<>(message, false)));
+
+        StepVerifier.create(adapter.publishEvent(new Stats()))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,46 @@
+package co.com.bancolombia.mq.sender;
+
+import co.com.bancolombia.model.stats.Stats;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import reactor.rabbitmq.CorrelableOutboundMessage;
+import reactor.rabbitmq.OutboundMessage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas unitarias para {@link StatsOutboundMessageFactory}.
+ */
+class StatsOutboundMessageFactoryTest {
+
+    private final StatsOutboundMessageFactory factory = new StatsOutboundMessageFactory(
+            new Jackson2JsonMessageConverter(), "test-exchange", "test-routing-key");
+
+    /**
+     * Verifica que el mensaje use el destino configurado y un cuerpo JSON.
+     */
+    @Test
+    void create_ShouldBuildJsonMessageForConfiguredDestination() {
+        Stats stats = new Stats();
+        stats.setTotalContactoClientes(250);
+
+        OutboundMessage message = factory.create(stats);
+
+        assertEquals("test-exchange", message.getExchange());
+        assertEquals("test-routing-key", message.getRoutingKey());
+        assertEquals("application/json", message.getProperties().getContentType());
+        assertTrue(new String(message.getBody()).contains("\"totalContactoClientes\":250"));
+    }
+
+    /**
+     * Verifica que el mensaje correlacionable conserve sus metadatos.
+     */
+    @Test
+    void create_ShouldKeepCorrelationMetadata() {
+        CorrelableOutboundMessage<String> message = factory.create(new Stats(), "evento-1");
+
+        assertEquals("evento-1", message.getCorrelationMetadata());
+        assertEquals("test-exchange", message.getExchange());
+    }
+}
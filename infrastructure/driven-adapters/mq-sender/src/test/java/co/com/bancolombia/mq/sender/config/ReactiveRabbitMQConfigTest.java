@@ -0,0 +1,35 @@
+package co.com.bancolombia.mq.sender.config;
+
+import com.rabbitmq.client.Connection;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import reactor.core.publisher.Mono;
+import reactor.rabbitmq.ChannelPool;
+import reactor.rabbitmq.Sender;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Pruebas unitarias para {@link ReactiveRabbitMQConfig}.
+ *
+ * <p>Verifica la creación de la conexión, el pool de canales y el Sender reactivo sin abrir conexiones reales.</p>
+ */
+class ReactiveRabbitMQConfigTest {
+
+    private final ReactiveRabbitMQConfig config = new ReactiveRabbitMQConfig();
+
+    /**
+     * Verifica que los beans reactivos se creen de forma perezosa.
+     */
+    @Test
+    void reactiveBeansShouldBeCreated() {
+        Mono<Connection> connection = config.reactiveRabbitConnection(mock(CachingConnectionFactory.class));
+        ChannelPool channelPool = config.reactiveRabbitChannelPool(connection, 4);
+        Sender sender = config.reactiveRabbitSender(connection, channelPool);
+
+        assertNotNull(connection);
+        assertNotNull(channelPool);
+        assertNotNull(sender);
+    }
+}
@@ -1,18 +1,50 @@
 package co.com.bancolombia.api;
 
+import co.com.bancolombia.api.codec.StatsBinaryFormat;
+import co.com.bancolombia.api.codec.StatsResponseWriter;
+import co.com.bancolombia.api.dto.StatsBatchItemDTO;
 import co.com.bancolombia.api.dto.StatsDTO;
+import co.com.bancolombia.api.dto.StatsQueryItemDTO;
+import co.com.bancolombia.api.dto.StatsRollupDTO;
+import co.com.bancolombia.api.dto.StatsWindowDTO;
+import co.com.bancolombia.api.dto.StatsStreamProgressDTO;
 import co.com.bancolombia.api.mapper.StatsMapper;
 import co.com.bancolombia.api.validator.RequestValidator;
 import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StatsBatchResult;
+import co.com.bancolombia.model.stats.StatsRollup;
+import co.com.bancolombia.model.stats.StatsWindow;
+import co.com.bancolombia.model.stats.StoredStats;
+import co.com.bancolombia.usecase.stats.AcceptedStatsBroadcaster;
+import co.com.bancolombia.usecase.stats.StatsRollupUseCase;
 import co.com.bancolombia.usecase.stats.StatsUseCase;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.boot.convert.DurationStyle;
+
 import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 
@@ -27,7 +59,82 @@ import reactor.core.publisher.Mono;
 
 public class Handler {
 
+    /**
+     * Máximo de elementos admitidos en una petición de carga por lotes.
+     */
+    static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Registros agrupados por bloque en la carga en streaming (coincide con el límite de BatchWriteItem).
+     */
+    static final int STREAM_CHUNK_SIZE = 25;
+
+    /**
+     * Bloques procesados en paralelo en la carga en streaming; acota los registros en memoria.
+     */
+    static final int STREAM_CONCURRENCY = 8;
+
+    /**
+     * Encabezado con la clave de idempotencia enviada por el cliente.
+     */
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * Longitud máxima admitida para la clave de idempotencia.
+     */
+    static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    /**
+     * Encabezado con las preferencias del cliente (RFC 7240).
+     */
+    static final String PREFER_HEADER = "Prefer";
+
+    /**
+     * Encabezado con las preferencias que el servidor aplicó.
+     */
+    static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+
+    /**
+     * Preferencia con la que el cliente pide una respuesta sin cuerpo.
+     */
+    static final String RETURN_MINIMAL = "return=minimal";
+
+    /**
+     * Máximo de estadísticas por respuesta cuando la consulta no indica {@code limit}.
+     */
+    static final int DEFAULT_QUERY_LIMIT = 1000;
+
+    /**
+     * Ventana de los totales en vivo cuando la consulta no indica {@code window}.
+     */
+    static final Duration DEFAULT_LIVE_WINDOW = Duration.ofMinutes(5);
+
+    /**
+     * Buffer por suscriptor del stream SSE cuando la consulta no indica {@code buffer}.
+     */
+    static final int DEFAULT_SSE_BUFFER = 256;
+
+    /**
+     * Máximo buffer por suscriptor admitido en el stream SSE.
+     */
+    static final int MAX_SSE_BUFFER = 4096;
+
+    /**
+     * Máximo valor admitido para el muestreo {@code sample} del stream SSE.
+     */
+    static final int MAX_SSE_SAMPLE = 1000;
+
+    /**
+     * Intervalo de los comentarios de keep-alive del stream SSE.
+     */
+    static final Duration SSE_HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private static final Duration STREAM_CHUNK_LINGER = Duration.ofMillis(100);
+    private static final Duration STREAM_PROGRESS_INTERVAL = Duration.ofSeconds(1);
+
     private final StatsUseCase statsUseCase;
+    @Nullable
+    private final StatsRollupUseCase statsRollupUseCase;
     private final RequestValidator requestValidator;
 
     /**
@@ -35,10 +142,14 @@ public class Handler {
      *
      * <p>Este método sigue los siguientes pasos:</p>
      * <ol>
-     *   <li>Recibe el cuerpo de la petición y lo convierte a un {@link StatsDTO}.</li>
+     *   <li>Recibe el cuerpo de la petición y lo convierte a un {@link StatsDTO}. Por defecto es JSON; con
+     *   {@code Content-Type: }{@value StatsBinaryFormat#MEDIA_TYPE_VALUE} se lee un registro binario.</li>
      *   <li>Utiliza {@link StatsMapper} para convertir el DTO a la entidad de dominio {@link Stats}.</li>
-     *   <li>Delega el procesamiento de la estadística al {@link StatsUseCase}.</li>
-     *   <li>Construye una respuesta HTTP 200 OK con la estadística guardada si el proceso es exitoso.</li>
+     *   <li>Delega el procesamiento de la estadística al {@link StatsUseCase} junto con el encabezado
+     *   {@value #IDEMPOTENCY_KEY_HEADER}, si viene, para que los reintentos no dupliquen el registro.</li>
+     *   <li>Construye una respuesta HTTP 200 OK con la estadística guardada si el proceso es exitoso, escrita
+     *   directamente en el buffer de la respuesta por {@link StatsResponseWriter}. Si el cliente envía
+     *   {@code Prefer: return=minimal}, responde 204 No Content sin cuerpo.</li>
      * </ol>
      *
      * <p>Cualquier error durante el proceso (ej. hash inválido) es capturado por
@@ -49,13 +160,393 @@ public class Handler {
      */
 
     public Mono<ServerResponse> listenPOSTStats(ServerRequest serverRequest) {
+        String idempotencyKey = serverRequest.headers().firstHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey != null && idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return Mono.error(new IllegalArgumentException(
+                    "El encabezado " + IDEMPOTENCY_KEY_HEADER + " no puede superar "
+                            + MAX_IDEMPOTENCY_KEY_LENGTH + " caracteres"));
+        }
         return serverRequest.bodyToMono(StatsDTO.class)
                 .flatMap(requestValidator::validate)
                 .map(StatsMapper.INSTANCE::toStats)
-                .flatMap(statsUseCase::saveStats)
-                .flatMap(savedStats -> ServerResponse.ok()
+                .flatMap(stats -> statsUseCase.saveStats(stats, idempotencyKey))
+                .flatMap(savedStats -> prefersMinimalReturn(serverRequest)
+                        ? ServerResponse.noContent().header(PREFERENCE_APPLIED_HEADER, RETURN_MINIMAL).build()
+                        : ServerResponse.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(statsBody(savedStats))
+                );
+    }
+
+    /**
+     * Maneja las peticiones POST al endpoint /stats/batch.
+     *
+     * <p>Recibe un arreglo de {@link StatsDTO}, valida cada elemento de forma independiente y delega los
+     * elementos válidos al {@link StatsUseCase} para persistirlos con escrituras por lotes. La respuesta
+     * contiene un {@link StatsBatchItemDTO} por cada elemento, en el mismo orden del arreglo recibido.</p>
+     *
+     * <p>Con {@code Content-Type: }{@value StatsBinaryFormat#MEDIA_TYPE_VALUE} el lote es la concatenación de
+     * registros binarios.</p>
+     *
+     * @param serverRequest La petición HTTP entrante.
+     * @return Un {@link Mono} que emite la respuesta del servidor.
+     */
+    public Mono<ServerResponse> listenPOSTStatsBatch(ServerRequest serverRequest) {
+        return serverRequest.bodyToFlux(StatsDTO.class)
+                .take(MAX_BATCH_SIZE + 1L)
+                .collectList()
+                .filter(batch -> batch.size() <= MAX_BATCH_SIZE)
+                .switchIfEmpty(Mono.error(new IllegalArgumentException(
+                        "El lote no puede superar " + MAX_BATCH_SIZE + " elementos")))
+                .flatMap(this::processBatch)
+                .flatMap(results -> ServerResponse.ok()
                         .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(StatsMapper.INSTANCE.toStatsDTO(savedStats))
+                        .bodyValue(results)
                 );
     }
+
+    /**
+     * Maneja las peticiones POST al endpoint /stats con contenido {@code application/x-ndjson}.
+     *
+     * <p>Decodifica el cuerpo como un {@link Flux} de {@link StatsDTO} línea a línea, sin acumularlo en memoria.
+     * Los registros se agrupan en bloques de {@value #STREAM_CHUNK_SIZE} y se procesan con el mismo flujo
+     * de la carga por lotes, con a lo sumo {@value #STREAM_CONCURRENCY} bloques en vuelo: solo se piden más
+     * registros al cliente cuando un bloque termina, por lo que el consumo de memoria no depende del tamaño
+     * de la carga.</p>
+     *
+     * <p>La respuesta es un stream NDJSON de {@link StatsStreamProgressDTO} con el avance acumulado, emitido
+     * como máximo una vez por segundo, y un último elemento con {@code completed} en {@code true}.</p>
+     *
+     * @param serverRequest La petición HTTP entrante.
+     * @return Un {@link Mono} que emite la respuesta del servidor.
+     */
+    public Mono<ServerResponse> listenPOSTStatsStream(ServerRequest serverRequest) {
+        StreamProgress progress = new StreamProgress();
+        Flux<StatsStreamProgressDTO> updates = serverRequest.bodyToFlux(StatsDTO.class)
+                .bufferTimeout(STREAM_CHUNK_SIZE, STREAM_CHUNK_LINGER, true)
+                .flatMap(this::processBatch, STREAM_CONCURRENCY)
+                .doOnNext(progress::record)
+                .sample(STREAM_PROGRESS_INTERVAL)
+                .map(ignored -> progress.snapshot(false))
+                .concatWith(Mono.fromSupplier(() -> progress.snapshot(true)));
+
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(updates, StatsStreamProgressDTO.class);
+    }
+
+    /**
+     * Maneja las peticiones GET al endpoint /stats.
+     *
+     * <p>Consulta las estadísticas del rango {@code [from, to)} (fechas ISO-8601) en orden cronológico, con a lo
+     * sumo {@code limit} elementos (por defecto {@value #DEFAULT_QUERY_LIMIT}). Cada {@link StatsQueryItemDTO}
+     * incluye un cursor opaco: para obtener la página siguiente se repite la consulta con el parámetro
+     * {@code cursor} del último elemento recibido, y una respuesta vacía indica que no hay más resultados.</p>
+     *
+     * <p>Los elementos se escriben a medida que se leen de la base de datos, sin acumular la página en memoria:
+     * como NDJSON si el cliente acepta {@code application/x-ndjson}, o como un arreglo JSON en bloques
+     * (chunked) en los demás casos.</p>
+     *
+     * @param serverRequest La petición HTTP entrante.
+     * @return Un {@link Mono} que emite la respuesta del servidor.
+     */
+    public Mono<ServerResponse> listenGETStats(ServerRequest serverRequest) {
+        return Mono.defer(() -> {
+            LocalDateTime from = dateTimeParam(serverRequest, "from");
+            LocalDateTime to = dateTimeParam(serverRequest, "to");
+            int limit = serverRequest.queryParam("limit").map(Handler::parseLimit).orElse(DEFAULT_QUERY_LIMIT);
+            String cursor = serverRequest.queryParam("cursor").orElse(null);
+
+            Flux<StatsQueryItemDTO> items = statsUseCase.findStats(from, to, cursor, limit)
+                    .map(Handler::toQueryItem);
+            MediaType contentType = acceptsNdjson(serverRequest)
+                    ? MediaType.APPLICATION_NDJSON
+                    : MediaType.APPLICATION_JSON;
+            return ServerResponse.ok()
+                    .contentType(contentType)
+                    .body(items, StatsQueryItemDTO.class);
+        });
+    }
+
+    /**
+     * Maneja las peticiones GET al endpoint /stats/rollups.
+     *
+     * <p>Retorna los totales pre-agregados de cada intervalo del rango {@code [from, to)} con la granularidad
+     * indicada en {@code granularity} ({@code MINUTE}, {@code HOUR} o {@code DAY}; por defecto {@code HOUR}).
+     * Los intervalos sin estadísticas no se incluyen. Si los totales pre-agregados están desactivados
+     * ({@code app.stats.rollup.enabled=false}) responde 404 Not Found.</p>
+     *
+     * @param serverRequest La petición HTTP entrante.
+     * @return Un {@link Mono} que emite la respuesta del servidor.
+     */
+    public Mono<ServerResponse> listenGETStatsRollups(ServerRequest serverRequest) {
+        if (statsRollupUseCase == null) {
+            return ServerResponse.notFound().build();
+        }
+        return Mono.defer(() -> {
+            LocalDateTime from = dateTimeParam(serverRequest, "from");
+            LocalDateTime to = dateTimeParam(serverRequest, "to");
+            StatsRollup.Granularity granularity = serverRequest.queryParam("granularity")
+                    .map(Handler::parseGranularity)
+                    .orElse(StatsRollup.Granularity.HOUR);
+
+            Flux<StatsRollupDTO> rollups = statsRollupUseCase.findRollups(granularity, from, to)
+                    .map(Handler::toRollupDTO);
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(rollups, StatsRollupDTO.class);
+        });
+    }
+
+    /**
+     * Maneja las peticiones GET al endpoint /stats/live.
+     *
+     * <p>Retorna los totales por motivo de las estadísticas aceptadas en la ventana más reciente indicada en
+     * {@code window} (ej. {@code 5m}, {@code 1h} o {@code PT30S}; por defecto 5 minutos). Se calcula en memoria,
+     * sin consultar DynamoDB.</p>
+     *
+     * @param serverRequest La petición HTTP entrante.
+     * @return Un {@link Mono} que emite la respuesta del servidor.
+     */
+    public Mono<ServerResponse> listenGETStatsLive(ServerRequest serverRequest) {
+        return Mono.defer(() -> {
+            Duration window = serverRequest.queryParam("window")
+                    .map(DurationStyle::detectAndParse)
+                    .orElse(DEFAULT_LIVE_WINDOW);
+            return statsUseCase.liveStats(window);
+        }).flatMap(live -> ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(toWindowDTO(live)));
+    }
+
+    /**
+     * Maneja las peticiones GET al endpoint /stats/stream.
+     *
+     * <p>Abre un stream Server-Sent Events para tableros en vivo. Con {@code mode=events} (por defecto) emite un
+     * evento {@code stats} por cada estadística aceptada; {@code sample=N} conserva una de cada N y
+     * {@code conflate} (ej. {@code 500ms}) emite a lo sumo la última de cada intervalo. Con {@code mode=rollup}
+     * emite un evento {@code rollup} con los totales de cada {@code interval} (segundos enteros entre 1 y 60; por
+     * defecto {@code 1s}), calculados una sola vez y compartidos entre todos los suscriptores del mismo
+     * intervalo.</p>
+     *
+     * <p>Un cliente lento nunca frena la ingesta: cada suscriptor tiene su propio buffer de {@code buffer}
+     * eventos (por defecto {@value #DEFAULT_SSE_BUFFER}) que, al llenarse, descarta los más antiguos
+     * ({@code overflow=drop-oldest}) o conserva solo el último ({@code overflow=latest}). Cada
+     * {@link #SSE_HEARTBEAT_INTERVAL} se envía un comentario para mantener viva la conexión.</p>
+     *
+     * @param serverRequest La petición HTTP entrante.
+     * @return Un {@link Mono} que emite la respuesta del servidor.
+     */
+    public Mono<ServerResponse> listenGETStatsStream(ServerRequest serverRequest) {
+        return Mono.defer(() -> {
+            String mode = serverRequest.queryParam("mode").orElse("events").toLowerCase(Locale.ROOT);
+            int buffer = serverRequest.queryParam("buffer")
+                    .map(value -> intParam("buffer", value, 1, MAX_SSE_BUFFER))
+                    .orElse(DEFAULT_SSE_BUFFER);
+            boolean latestOnly = switch (serverRequest.queryParam("overflow").orElse("drop-oldest")) {
+                case "drop-oldest" -> false;
+                case "latest" -> true;
+                default -> throw new IllegalArgumentException(
+                        "El parámetro overflow debe ser drop-oldest o latest");
+            };
+
+            Flux<ServerSentEvent<Object>> events = switch (mode) {
+                case "events" -> sampledEvents(serverRequest);
+                case "rollup" -> statsUseCase.acceptedRollups(serverRequest.queryParam("interval")
+                                .map(DurationStyle::detectAndParse)
+                                .orElse(AcceptedStatsBroadcaster.MIN_INTERVAL))
+                        .map(window -> ServerSentEvent.<Object>builder(toWindowDTO(window))
+                                .event("rollup")
+                                .build());
+                default -> throw new IllegalArgumentException("El parámetro mode debe ser events o rollup");
+            };
+            events = latestOnly
+                    ? events.onBackpressureLatest()
+                    : events.onBackpressureBuffer(buffer, dropped -> { }, BufferOverflowStrategy.DROP_OLDEST);
+
+            Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(SSE_HEARTBEAT_INTERVAL)
+                    .map(tick -> ServerSentEvent.builder().comment("keep-alive").build());
+            return ServerResponse.ok()
+                    .contentType(MediaType.TEXT_EVENT_STREAM)
+                    .body(BodyInserters.fromServerSentEvents(Flux.merge(events, heartbeats)));
+        });
+    }
+
+    private Flux<ServerSentEvent<Object>> sampledEvents(ServerRequest serverRequest) {
+        int sample = serverRequest.queryParam("sample")
+                .map(value -> intParam("sample", value, 1, MAX_SSE_SAMPLE))
+                .orElse(1);
+        Duration conflate = serverRequest.queryParam("conflate")
+                .map(DurationStyle::detectAndParse)
+                .orElse(null);
+        if (conflate != null && (conflate.isNegative() || conflate.isZero())) {
+            throw new IllegalArgumentException("El parámetro conflate debe ser positivo");
+        }
+
+        Flux<Stats> accepted = statsUseCase.acceptedStats();
+        if (sample > 1) {
+            accepted = accepted.index()
+                    .filter(indexed -> indexed.getT1() % sample == 0)
+                    .map(Tuple2::getT2);
+        }
+        if (conflate != null) {
+            accepted = accepted.sample(conflate);
+        }
+        return accepted.map(stats -> ServerSentEvent.<Object>builder(StatsMapper.INSTANCE.toStatsDTO(stats))
+                .event("stats")
+                .build());
+    }
+
+    private static int intParam(String name, String value, int min, int max) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= min && parsed <= max) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // se reporta abajo con el mismo mensaje que un valor fuera de rango
+        }
+        throw new IllegalArgumentException(
+                "El parámetro " + name + " debe ser un número entero entre " + min + " y " + max);
+    }
+
+    private static StatsRollup.Granularity parseGranularity(String value) {
+        try {
+            return StatsRollup.Granularity.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("El parámetro granularity debe ser MINUTE, HOUR o DAY");
+        }
+    }
+
+    private static StatsWindowDTO toWindowDTO(StatsWindow live) {
+        return new StatsWindowDTO(live.getWindow().toString(), live.getFrom().toString(), live.getTo().toString(),
+                live.getCount(), live.getTotalContactoClientes(), live.getMotivoReclamo(), live.getMotivoGarantia(),
+                live.getMotivoDuda(), live.getMotivoCompra(), live.getMotivoFelicitaciones(),
+                live.getMotivoCambio());
+    }
+
+    private static StatsRollupDTO toRollupDTO(StatsRollup rollup) {
+        return new StatsRollupDTO(rollup.getGranularity().name(), rollup.getBucket().toString(),
+                rollup.getTotalContactoClientes(), rollup.getMotivoReclamo(), rollup.getMotivoGarantia(),
+                rollup.getMotivoDuda(), rollup.getMotivoCompra(), rollup.getMotivoFelicitaciones(),
+                rollup.getMotivoCambio());
+    }
+
+    private static LocalDateTime dateTimeParam(ServerRequest serverRequest, String name) {
+        String value = serverRequest.queryParam(name)
+                .orElseThrow(() -> new IllegalArgumentException("El parámetro " + name + " es obligatorio"));
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("El parámetro " + name + " debe ser una fecha ISO-8601");
+        }
+    }
+
+    private static int parseLimit(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("El parámetro limit debe ser un número entero");
+        }
+    }
+
+    /**
+     * Indica si el cliente pidió {@code return=minimal} en alguno de sus encabezados {@value #PREFER_HEADER}.
+     */
+    private static boolean prefersMinimalReturn(ServerRequest serverRequest) {
+        for (String prefer : serverRequest.headers().header(PREFER_HEADER)) {
+            for (String preference : prefer.split(",")) {
+                int params = preference.indexOf(';');
+                String token = (params >= 0 ? preference.substring(0, params) : preference).replace(" ", "");
+                if (RETURN_MINIMAL.equalsIgnoreCase(token.replace("\"", ""))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cuerpo JSON de una estadística; el buffer se crea solo cuando la respuesta se escribe.
+     */
+    private static BodyInserter<Object, ReactiveHttpOutputMessage> statsBody(Stats stats) {
+        return (message, context) -> message.writeWith(
+                Mono.fromSupplier(() -> StatsResponseWriter.write(stats, message.bufferFactory())));
+    }
+
+    private static boolean acceptsNdjson(ServerRequest serverRequest) {
+        return serverRequest.headers().accept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+
+    private static StatsQueryItemDTO toQueryItem(StoredStats stored) {
+        return new StatsQueryItemDTO(StatsMapper.INSTANCE.toStatsDTO(stored.getStats()), stored.getCursor());
+    }
+
+    /**
+     * Valida cada elemento del lote y procesa los válidos con el caso de uso.
+     *
+     * @param batch Elementos recibidos en la petición
+     * @return Mono que emite los resultados ordenados por posición
+     */
+    private Mono<List<StatsBatchItemDTO>> processBatch(List<StatsDTO> batch) {
+        StatsBatchItemDTO[] results = new StatsBatchItemDTO[batch.size()];
+        List<Integer> positions = new ArrayList<>(batch.size());
+        List<Stats> valid = new ArrayList<>(batch.size());
+
+        return Flux.range(0, batch.size())
+                .concatMap(index -> requestValidator.validate(batch.get(index))
+                        .map(StatsMapper.INSTANCE::toStats)
+                        .doOnNext(stats -> {
+                            positions.add(index);
+                            valid.add(stats);
+                        })
+                        .onErrorResume(IllegalArgumentException.class, e -> {
+                            results[index] = new StatsBatchItemDTO(index,
+                                    StatsBatchResult.Status.REJECTED.name(), null, e.getMessage());
+                            return Mono.empty();
+                        }))
+                .thenMany(Flux.defer(() -> valid.isEmpty() ? Flux.empty() : statsUseCase.saveStatsBatch(valid)))
+                .doOnNext(result -> {
+                    int index = positions.get(result.getIndex());
+                    results[index] = toBatchItem(index, result);
+                })
+                .then(Mono.fromSupplier(() -> Arrays.asList(results)));
+    }
+
+    private StatsBatchItemDTO toBatchItem(int index, StatsBatchResult result) {
+        StatsDTO stats = result.getStatus() == StatsBatchResult.Status.ACCEPTED
+                ? StatsMapper.INSTANCE.toStatsDTO(result.getStats())
+                : null;
+        return new StatsBatchItemDTO(index, result.getStatus().name(), stats, result.getError());
+    }
+
+    /**
+     * Contadores acumulados de una carga en streaming.
+     */
+    private static final class StreamProgress {
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong accepted = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        private void record(List<StatsBatchItemDTO> results) {
+            for (StatsBatchItemDTO result : results) {
+                if (result == null) {
+                    continue;
+                }
+                switch (StatsBatchResult.Status.valueOf(result.getStatus())) {
+                    case ACCEPTED -> accepted.incrementAndGet();
+                    case REJECTED -> rejected.incrementAndGet();
+                    case FAILED -> failed.incrementAndGet();
+                }
+                processed.incrementAndGet();
+            }
+        }
+
+        private StatsStreamProgressDTO snapshot(boolean completed) {
+            return new StatsStreamProgressDTO(processed.get(), accepted.get(), rejected.get(), failed.get(),
+                    completed);
+        }
+    }
 }
@@ -2,10 +2,13 @@ package co.com.bancolombia.api;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
 import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
 import static org.springframework.web.reactive.function.server.RouterFunctions.route;
 
 /**
@@ -23,6 +26,13 @@ public class RouterRest {
      */
     @Bean
     public RouterFunction<ServerResponse> routerFunction(Handler handler) {
-        return route(POST("/api/v1/stats"), handler::listenPOSTStats);
+        return route(POST("/api/v1/stats").and(contentType(MediaType.APPLICATION_NDJSON)),
+                        handler::listenPOSTStatsStream)
+                .andRoute(POST("/api/v1/stats"), handler::listenPOSTStats)
+                .andRoute(POST("/api/v1/stats/batch"), handler::listenPOSTStatsBatch)
+                .andRoute(GET("/api/v1/stats"), handler::listenGETStats)
+                .andRoute(GET("/api/v1/stats/rollups"), handler::listenGETStatsRollups)
+                .andRoute(GET("/api/v1/stats/live"), handler::listenGETStatsLive)
+                .andRoute(GET("/api/v1/stats/stream"), handler::listenGETStatsStream);
     }
 }
@@ -0,0 +1,139 @@
+package co.com.bancolombia.api.codec;
+
+import co.com.bancolombia.api.dto.StatsDTO;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodificador de {@link StatsDTO} en el formato binario de {@link StatsBinaryFormat}.
+ *
+ * <p>Lee los registros a medida que llegan los buffers, aunque un registro quede repartido entre varios, y libera
+ * cada buffer al terminar de leerlo. El estado de lectura ocupa un tamaño fijo, por lo que no requiere límite de
+ * memoria. {@link #decodeToMono} exige exactamente un registro; {@link #decode} admite un lote concatenado.</p>
+ */
+public class StatsBinaryDecoder implements Decoder<StatsDTO> {
+
+    private static final List<MimeType> MIME_TYPES = List.of(StatsBinaryFormat.MEDIA_TYPE);
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return elementType.toClass() == StatsDTO.class && mimeType != null
+                && StatsBinaryFormat.MEDIA_TYPE.isCompatibleWith(mimeType);
+    }
+
+    @Override
+    public Flux<StatsDTO> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType, MimeType mimeType,
+                                 Map<String, Object> hints) {
+        return decode(inputStream, true);
+    }
+
+    @Override
+    public Mono<StatsDTO> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+                                       MimeType mimeType, Map<String, Object> hints) {
+        return decode(inputStream, false).singleOrEmpty();
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return MIME_TYPES;
+    }
+
+    private Flux<StatsDTO> decode(Publisher<DataBuffer> input, boolean multiple) {
+        return Flux.defer(() -> {
+            RecordReader reader = new RecordReader(multiple);
+            return Flux.from(input)
+                    .concatMapIterable(reader::feed)
+                    .concatWith(Mono.fromRunnable(reader::endOfInput));
+        }).doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * Arma los registros byte a byte. No es thread-safe: lo usa una sola suscripción, y Reactor entrega los
+     * buffers en serie.
+     */
+    private static final class RecordReader {
+
+        private final boolean multiple;
+        private final int[] counters = new int[StatsBinaryFormat.COUNTERS];
+        private final byte[] hash = new byte[StatsBinaryFormat.HASH_LENGTH];
+
+        private int counter;
+        private int varintBytes;
+        private int hashBytes;
+        private int records;
+
+        private RecordReader(boolean multiple) {
+            this.multiple = multiple;
+        }
+
+        private List<StatsDTO> feed(DataBuffer buffer) {
+            List<StatsDTO> decoded = Collections.emptyList();
+            try {
+                while (buffer.readableByteCount() > 0) {
+                    if (counter < StatsBinaryFormat.COUNTERS) {
+                        readVarint(buffer.read());
+                        continue;
+                    }
+                    int length = Math.min(buffer.readableByteCount(), hash.length - hashBytes);
+                    buffer.read(hash, hashBytes, length);
+                    hashBytes += length;
+                    if (hashBytes == hash.length) {
+                        if (decoded.isEmpty()) {
+                            decoded = new ArrayList<>(1);
+                        }
+                        decoded.add(complete());
+                    }
+                }
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+            return decoded;
+        }
+
+        private void readVarint(byte value) {
+            if (varintBytes == 0 && counter == 0 && !multiple && records > 0) {
+                throw new DecodingException("Se esperaba un único registro binario");
+            }
+            if (varintBytes == StatsBinaryFormat.MAX_VARINT_LENGTH - 1 && (value & 0xF0) != 0) {
+                throw new DecodingException("Contador " + counter + " fuera del rango de 32 bits");
+            }
+            counters[counter] |= (value & 0x7F) << (7 * varintBytes);
+            if ((value & 0x80) != 0) {
+                varintBytes++;
+                return;
+            }
+            varintBytes = 0;
+            counter++;
+        }
+
+        private StatsDTO complete() {
+            StatsDTO dto = new StatsDTO(counters[0], counters[1], counters[2], counters[3], counters[4],
+                    counters[5], counters[6], HexFormat.of().formatHex(hash), null);
+            Arrays.fill(counters, 0);
+            counter = 0;
+            hashBytes = 0;
+            records++;
+            return dto;
+        }
+
+        private void endOfInput() {
+            if (counter > 0 || varintBytes > 0) {
+                throw new DecodingException("Registro binario incompleto");
+            }
+        }
+    }
+}
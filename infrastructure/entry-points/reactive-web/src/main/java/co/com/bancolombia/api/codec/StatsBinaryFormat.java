@@ -0,0 +1,79 @@
+package co.com.bancolombia.api.codec;
+
+import co.com.bancolombia.api.dto.StatsDTO;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HexFormat;
+
+/**
+ * Formato binario compacto para el envío de estadísticas ({@value #MEDIA_TYPE_VALUE}).
+ *
+ * <p>Cada registro contiene, en este orden, los siete contadores de {@link StatsDTO}
+ * ({@code totalContactoClientes}, {@code motivoReclamo}, {@code motivoGarantia}, {@code motivoDuda},
+ * {@code motivoCompra}, {@code motivoFelicitaciones} y {@code motivoCambio}) como varints sin signo de 32 bits
+ * (LEB128, de uno a cinco bytes) seguidos de los {@value #HASH_LENGTH} bytes crudos del MD5. Los registros son
+ * autodelimitados, por lo que un lote es la concatenación de sus registros. El timestamp no viaja: lo asigna el
+ * servidor al guardar.</p>
+ *
+ * <p>Un registro típico ocupa 24 bytes, frente a unos 190 del mismo objeto en JSON compacto.</p>
+ */
+public final class StatsBinaryFormat {
+
+    /**
+     * Tipo de contenido del formato binario.
+     */
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.bancolombia.stats.v1";
+
+    /**
+     * Tipo de contenido del formato binario.
+     */
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    /**
+     * Contadores por registro.
+     */
+    public static final int COUNTERS = 7;
+
+    /**
+     * Bytes del MD5 crudo por registro.
+     */
+    public static final int HASH_LENGTH = 16;
+
+    /**
+     * Bytes máximos de un varint de 32 bits.
+     */
+    static final int MAX_VARINT_LENGTH = 5;
+
+    private StatsBinaryFormat() {
+    }
+
+    /**
+     * Codifica una estadística; es la referencia para los colectores que emiten el formato.
+     *
+     * @param dto Estadística con los siete contadores y el hash MD5 en hexadecimal
+     * @return Registro binario
+     * @throws IllegalArgumentException si falta algún contador o el hash no es un MD5 en hexadecimal
+     */
+    public static byte[] encode(StatsDTO dto) {
+        Integer[] counters = {dto.getTotalContactoClientes(), dto.getMotivoReclamo(), dto.getMotivoGarantia(),
+                dto.getMotivoDuda(), dto.getMotivoCompra(), dto.getMotivoFelicitaciones(), dto.getMotivoCambio()};
+        ByteArrayOutputStream record = new ByteArrayOutputStream(COUNTERS * MAX_VARINT_LENGTH + HASH_LENGTH);
+        for (Integer counter : counters) {
+            if (counter == null) {
+                throw new IllegalArgumentException("El formato binario requiere los siete contadores");
+            }
+            int value = counter;
+            while ((value & ~0x7F) != 0) {
+                record.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            record.write(value);
+        }
+        if (dto.getHash() == null || dto.getHash().length() != HASH_LENGTH * 2) {
+            throw new IllegalArgumentException("El formato binario requiere un hash MD5 en hexadecimal");
+        }
+        record.writeBytes(HexFormat.of().parseHex(dto.getHash()));
+        return record.toByteArray();
+    }
+}
@@ -0,0 +1,320 @@
+package co.com.bancolombia.api.codec;
+
+import co.com.bancolombia.api.dto.StatsDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodificador especializado de {@link StatsDTO} que lee el cuerpo directamente de los {@link DataBuffer} de
+ * Netty con el parser no bloqueante de Jackson.
+ *
+ * <p>Cada buffer se entrega al parser sin copiarlo ni agregarlo con los anteriores, y se libera en cuanto se
+ * consumen sus tokens. Los contadores se leen como {@code int} desde el parser, sin crear Strings intermedios, y
+ * se acumulan en un registro primitivo hasta cerrar cada objeto; solo {@code hash} y {@code timestamp} se
+ * materializan como texto. Se comporta como el decodificador de Jackson configurado en la aplicación: ignora
+ * propiedades desconocidas y acepta números como texto.</p>
+ *
+ * <p>Para {@code Mono} espera un único objeto; para {@code Flux} acepta un arreglo JSON o una secuencia de objetos
+ * (NDJSON).</p>
+ */
+public class StatsDTODecoder implements Decoder<StatsDTO> {
+
+    /**
+     * Máximo de bytes admitidos por objeto cuando no se indica otro (igual al límite por defecto de Spring).
+     */
+    public static final int DEFAULT_MAX_IN_MEMORY_SIZE = 256 * 1024;
+
+    private static final List<MimeType> MIME_TYPES = List.of(MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_NDJSON);
+
+    private final JsonFactory jsonFactory;
+    private final int maxInMemorySize;
+
+    /**
+     * Crea el decodificador.
+     *
+     * @param jsonFactory Fábrica de parsers de la aplicación, para compartir sus límites de lectura
+     * @param maxInMemorySize Máximo de bytes admitidos por objeto
+     */
+    public StatsDTODecoder(JsonFactory jsonFactory, int maxInMemorySize) {
+        this.jsonFactory = jsonFactory;
+        this.maxInMemorySize = maxInMemorySize;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        if (elementType.toClass() != StatsDTO.class) {
+            return false;
+        }
+        if (mimeType == null) {
+            return true;
+        }
+        for (MimeType supported : MIME_TYPES) {
+            if (supported.isCompatibleWith(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Flux<StatsDTO> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType, MimeType mimeType,
+                                 Map<String, Object> hints) {
+        return decode(inputStream, true);
+    }
+
+    @Override
+    public Mono<StatsDTO> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+                                       MimeType mimeType, Map<String, Object> hints) {
+        return decode(inputStream, false).singleOrEmpty();
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return MIME_TYPES;
+    }
+
+    private Flux<StatsDTO> decode(Publisher<DataBuffer> input, boolean multiple) {
+        return Flux.defer(() -> {
+            Tokenizer tokenizer = new Tokenizer(newParser(), multiple, maxInMemorySize);
+            return Flux.from(input)
+                    .concatMapIterable(tokenizer::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.endOfInput())))
+                    .doFinally(signal -> tokenizer.close());
+        }).doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    private JsonParser newParser() {
+        try {
+            return jsonFactory.createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new DecodingException("No fue posible crear el parser JSON", e);
+        }
+    }
+
+    /**
+     * Recorre los tokens de una petición y arma un {@link StatsDTO} por cada objeto. No es thread-safe: lo usa
+     * una sola suscripción, y Reactor entrega los buffers en serie.
+     */
+    private static final class Tokenizer {
+
+        private static final int TOTAL = 0;
+        private static final int RECLAMO = 1;
+        private static final int GARANTIA = 2;
+        private static final int DUDA = 3;
+        private static final int COMPRA = 4;
+        private static final int FELICITACIONES = 5;
+        private static final int CAMBIO = 6;
+        private static final int HASH = 7;
+        private static final int TIMESTAMP = 8;
+        private static final int UNKNOWN = -1;
+        private static final int COUNTERS = 7;
+
+        private final JsonParser parser;
+        private final ByteBufferFeeder feeder;
+        private final boolean multiple;
+        private final int maxInMemorySize;
+
+        private final int[] counters = new int[COUNTERS];
+        private int present;
+        private String hash;
+        private String timestamp;
+
+        private boolean inArray;
+        private boolean inObject;
+        private int field = UNKNOWN;
+        private int skipDepth;
+        private int objects;
+        private long pendingBytes;
+
+        private Tokenizer(JsonParser parser, boolean multiple, int maxInMemorySize) {
+            this.parser = parser;
+            this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+            this.multiple = multiple;
+            this.maxInMemorySize = maxInMemorySize;
+        }
+
+        private List<StatsDTO> feed(DataBuffer buffer) {
+            List<StatsDTO> decoded = Collections.emptyList();
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer chunk = iterator.next();
+                    pendingBytes += chunk.remaining();
+                    feeder.feedInput(chunk);
+                    decoded = drain(decoded);
+                }
+            } catch (IOException e) {
+                throw new DecodingException("JSON inválido: " + e.getMessage(), e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+            if (pendingBytes > maxInMemorySize) {
+                throw new DataBufferLimitException("Se superó el máximo de " + maxInMemorySize + " bytes por objeto");
+            }
+            return decoded;
+        }
+
+        private List<StatsDTO> endOfInput() {
+            feeder.endOfInput();
+            try {
+                List<StatsDTO> decoded = drain(Collections.emptyList());
+                if (inObject || inArray) {
+                    throw new DecodingException("JSON incompleto");
+                }
+                return decoded;
+            } catch (IOException e) {
+                throw new DecodingException("JSON inválido: " + e.getMessage(), e);
+            }
+        }
+
+        private void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // el parser no retiene recursos externos
+            }
+        }
+
+        private List<StatsDTO> drain(List<StatsDTO> decoded) throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                StatsDTO dto = onToken(token);
+                if (dto != null) {
+                    if (decoded.isEmpty()) {
+                        decoded = new ArrayList<>(1);
+                    }
+                    decoded.add(dto);
+                }
+            }
+            return decoded;
+        }
+
+        private StatsDTO onToken(JsonToken token) throws IOException {
+            if (skipDepth > 0) {
+                if (token.isStructStart()) {
+                    skipDepth++;
+                } else if (token.isStructEnd()) {
+                    skipDepth--;
+                }
+                return null;
+            }
+            if (!inObject) {
+                return onRootToken(token);
+            }
+            switch (token) {
+                case FIELD_NAME -> field = fieldOf(parser.currentName());
+                case END_OBJECT -> {
+                    return complete();
+                }
+                case START_OBJECT, START_ARRAY -> {
+                    if (field != UNKNOWN) {
+                        throw new DecodingException("El campo " + parser.currentName() + " no admite estructuras");
+                    }
+                    skipDepth = 1;
+                }
+                default -> onValue(token);
+            }
+            return null;
+        }
+
+        private StatsDTO onRootToken(JsonToken token) {
+            if (token == JsonToken.START_OBJECT) {
+                if (!multiple && objects > 0) {
+                    throw new DecodingException("Se esperaba un único objeto JSON");
+                }
+                inObject = true;
+            } else if (token == JsonToken.START_ARRAY && multiple && !inArray && objects == 0) {
+                inArray = true;
+            } else if (token == JsonToken.END_ARRAY && inArray) {
+                inArray = false;
+            } else {
+                throw new DecodingException("Token inesperado " + token + "; se esperaba un objeto JSON");
+            }
+            return null;
+        }
+
+        private void onValue(JsonToken token) throws IOException {
+            if (field == UNKNOWN || token == JsonToken.VALUE_NULL) {
+                return;
+            }
+            if (field == HASH || field == TIMESTAMP) {
+                if (!token.isScalarValue()) {
+                    throw new DecodingException("Valor inválido para el campo " + parser.currentName());
+                }
+                if (field == HASH) {
+                    hash = parser.getText();
+                } else {
+                    timestamp = parser.getText();
+                }
+                return;
+            }
+            int value = switch (token) {
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getIntValue();
+                case VALUE_STRING -> parseInt(parser.currentName(), parser.getText());
+                default -> throw new DecodingException("El campo " + parser.currentName() + " debe ser numérico");
+            };
+            counters[field] = value;
+            present |= 1 << field;
+        }
+
+        private static int parseInt(String name, String text) {
+            try {
+                return Integer.parseInt(text.trim());
+            } catch (NumberFormatException e) {
+                throw new DecodingException("El campo " + name + " debe ser numérico", e);
+            }
+        }
+
+        private StatsDTO complete() {
+            StatsDTO dto = new StatsDTO(counter(TOTAL), counter(RECLAMO), counter(GARANTIA), counter(DUDA),
+                    counter(COMPRA), counter(FELICITACIONES), counter(CAMBIO), hash, timestamp);
+            present = 0;
+            hash = null;
+            timestamp = null;
+            field = UNKNOWN;
+            inObject = false;
+            objects++;
+            pendingBytes = 0;
+            return dto;
+        }
+
+        private Integer counter(int index) {
+            return (present & (1 << index)) != 0 ? counters[index] : null;
+        }
+
+        private static int fieldOf(String name) {
+            return switch (name) {
+                case "totalContactoClientes" -> TOTAL;
+                case "motivoReclamo" -> RECLAMO;
+                case "motivoGarantia" -> GARANTIA;
+                case "motivoDuda" -> DUDA;
+                case "motivoCompra" -> COMPRA;
+                case "motivoFelicitaciones" -> FELICITACIONES;
+                case "motivoCambio" -> CAMBIO;
+                case "hash" -> HASH;
+                case "timestamp" -> TIMESTAMP;
+                default -> UNKNOWN;
+            };
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package co.com.bancolombia.api.codec;
+
+import co.com.bancolombia.model.stats.Stats;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Escribe las respuestas JSON de forma fija del endpoint de estadísticas, sin pasar por {@code StatsDTO} ni por
+ * Jackson.
+ *
+ * <p>{@link #write(Stats, DataBufferFactory)} produce los mismos bytes que Jackson generaría para
+ * {@code StatsMapper.INSTANCE.toStatsDTO(stats)} (mismo orden de propiedades, {@code timestamp} en formato
+ * ISO y {@code null} para los valores ausentes), escribiéndolos directamente en un buffer de la fábrica de la
+ * respuesta, que en Reactor Netty proviene del pool.</p>
+ */
+public final class StatsResponseWriter {
+
+    /**
+     * Capacidad inicial del buffer de una estadística; cubre el tamaño típico sin crecer.
+     */
+    static final int INITIAL_CAPACITY = 320;
+
+    private static final byte[] TOTAL = ascii("{\"totalContactoClientes\":");
+    private static final byte[] RECLAMO = ascii(",\"motivoReclamo\":");
+    private static final byte[] GARANTIA = ascii(",\"motivoGarantia\":");
+    private static final byte[] DUDA = ascii(",\"motivoDuda\":");
+    private static final byte[] COMPRA = ascii(",\"motivoCompra\":");
+    private static final byte[] FELICITACIONES = ascii(",\"motivoFelicitaciones\":");
+    private static final byte[] CAMBIO = ascii(",\"motivoCambio\":");
+    private static final byte[] HASH = ascii(",\"hash\":");
+    private static final byte[] TIMESTAMP = ascii(",\"timestamp\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] MIN_INT = ascii(String.valueOf(Integer.MIN_VALUE));
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private StatsResponseWriter() {
+    }
+
+    /**
+     * Escribe una estadística como JSON.
+     *
+     * @param stats Estadística a escribir
+     * @param bufferFactory Fábrica de buffers de la respuesta
+     * @return Buffer con el JSON; quien lo reciba es responsable de liberarlo
+     */
+    public static DataBuffer write(Stats stats, DataBufferFactory bufferFactory) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_CAPACITY);
+        try {
+            buffer.write(TOTAL);
+            writeInt(buffer, stats.getTotalContactoClientes());
+            buffer.write(RECLAMO);
+            writeInt(buffer, stats.getMotivoReclamo());
+            buffer.write(GARANTIA);
+            writeInt(buffer, stats.getMotivoGarantia());
+            buffer.write(DUDA);
+            writeInt(buffer, stats.getMotivoDuda());
+            buffer.write(COMPRA);
+            writeInt(buffer, stats.getMotivoCompra());
+            buffer.write(FELICITACIONES);
+            writeInt(buffer, stats.getMotivoFelicitaciones());
+            buffer.write(CAMBIO);
+            writeInt(buffer, stats.getMotivoCambio());
+            buffer.write(HASH);
+            writeString(buffer, stats.getHash());
+            buffer.write(TIMESTAMP);
+            writeTimestamp(buffer, stats.getTimestamp());
+            buffer.write((byte) '}');
+            return buffer;
+        } catch (RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            throw e;
+        }
+    }
+
+    /**
+     * Codifica el cuerpo de error {@code {"error": "<mensaje>"}}.
+     *
+     * @param message Mensaje de error
+     * @return Bytes UTF-8 del cuerpo
+     */
+    public static byte[] errorBody(String message) {
+        return ("{\"error\": \"" + escape(String.valueOf(message)) + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeInt(DataBuffer buffer, int value) {
+        if (value == Integer.MIN_VALUE) {
+            buffer.write(MIN_INT);
+            return;
+        }
+        if (value < 0) {
+            buffer.write((byte) '-');
+            value = -value;
+        }
+        int divisor = 1;
+        while (value / divisor >= 10) {
+            divisor *= 10;
+        }
+        writeDigits(buffer, value, divisor);
+    }
+
+    /**
+     * Escribe {@code value} con tantos dígitos como tenga {@code divisor}, completando con ceros a la izquierda.
+     */
+    private static void writeDigits(DataBuffer buffer, int value, int divisor) {
+        for (; divisor > 0; divisor /= 10) {
+            buffer.write((byte) ('0' + value / divisor % 10));
+        }
+    }
+
+    /**
+     * Escribe el timestamp con el formato de {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} (segundos siempre
+     * presentes y fracción sin ceros a la derecha); los años de más de cuatro dígitos usan el formateador.
+     */
+    private static void writeTimestamp(DataBuffer buffer, LocalDateTime timestamp) {
+        if (timestamp == null) {
+            buffer.write(NULL);
+            return;
+        }
+        int year = timestamp.getYear();
+        if (year < 0 || year > 9999) {
+            writeString(buffer, DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp));
+            return;
+        }
+        buffer.write((byte) '"');
+        writeDigits(buffer, year, 1000);
+        buffer.write((byte) '-');
+        writeDigits(buffer, timestamp.getMonthValue(), 10);
+        buffer.write((byte) '-');
+        writeDigits(buffer, timestamp.getDayOfMonth(), 10);
+        buffer.write((byte) 'T');
+        writeDigits(buffer, timestamp.getHour(), 10);
+        buffer.write((byte) ':');
+        writeDigits(buffer, timestamp.getMinute(), 10);
+        buffer.write((byte) ':');
+        writeDigits(buffer, timestamp.getSecond(), 10);
+        int nano = timestamp.getNano();
+        if (nano > 0) {
+            int divisor = 100_000_000;
+            buffer.write((byte) '.');
+            while (nano > 0) {
+                buffer.write((byte) ('0' + nano / divisor));
+                nano %= divisor;
+                divisor /= 10;
+            }
+        }
+        buffer.write((byte) '"');
+    }
+
+    private static void writeString(DataBuffer buffer, String value) {
+        if (value == null) {
+            buffer.write(NULL);
+            return;
+        }
+        buffer.write((byte) '"');
+        if (isPlainAscii(value)) {
+            buffer.write(value, StandardCharsets.US_ASCII);
+        } else {
+            buffer.write(escape(value), StandardCharsets.UTF_8);
+        }
+        buffer.write((byte) '"');
+    }
+
+    private static boolean isPlainAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c >= 0x80 || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Escapa comillas, barras invertidas y caracteres de control; el resto se conserva y se codifica en UTF-8.
+     */
+    private static String escape(String value) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                if (escaped != null) {
+                    escaped.append(c);
+                }
+                continue;
+            }
+            if (escaped == null) {
+                escaped = new StringBuilder(value.length() + 16).append(value, 0, i);
+            }
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '\t' -> escaped.append("\\t");
+                default -> escaped.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+        return escaped != null ? escaped.toString() : value;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
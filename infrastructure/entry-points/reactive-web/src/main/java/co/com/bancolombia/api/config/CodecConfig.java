@@ -0,0 +1,44 @@
+package co.com.bancolombia.api.config;
+
+import co.com.bancolombia.api.codec.StatsBinaryDecoder;
+import co.com.bancolombia.api.codec.StatsBinaryFormat;
+import co.com.bancolombia.api.codec.StatsDTODecoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Registra los codecs especializados de la API.
+ *
+ * <p>Los decodificadores registrados aquí se consultan antes que el de Jackson, por lo que {@link StatsDTODecoder}
+ * atiende todas las lecturas de {@code StatsDTO} en JSON y NDJSON; los demás tipos siguen usando Jackson.
+ * {@link StatsBinaryDecoder} agrega el formato binario {@value StatsBinaryFormat#MEDIA_TYPE_VALUE}, que los
+ * clientes eligen con el encabezado {@code Content-Type}; JSON sigue siendo el formato por defecto.</p>
+ */
+@Configuration
+public class CodecConfig implements WebFluxConfigurer {
+
+    private final ObjectMapper objectMapper;
+    private final int maxInMemorySize;
+
+    /**
+     * Crea la configuración.
+     *
+     * @param objectMapper ObjectMapper de la aplicación, cuya fábrica de parsers comparte el decodificador
+     * @param maxInMemorySize Máximo de bytes admitidos por objeto (ej. {@code 256KB})
+     */
+    public CodecConfig(ObjectMapper objectMapper,
+                       @Value("${spring.codec.max-in-memory-size:256KB}") String maxInMemorySize) {
+        this.objectMapper = objectMapper;
+        this.maxInMemorySize = (int) DataSize.parse(maxInMemorySize).toBytes();
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(new StatsDTODecoder(objectMapper.getFactory(), maxInMemorySize));
+        configurer.customCodecs().register(new StatsBinaryDecoder());
+    }
+}
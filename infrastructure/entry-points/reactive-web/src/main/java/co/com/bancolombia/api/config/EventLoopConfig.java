@@ -0,0 +1,43 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Define el grupo de event loops de la aplicación y hace que el servidor de WebFlux corra sobre él.
+ *
+ * <p>Equivale a los recursos globales de Reactor Netty (mismo prefijo de hilos y cantidad de workers), pero es un
+ * bean de Spring: otros clientes Netty, como el de DynamoDB, pueden compartirlo en lugar de crear sus propios
+ * hilos de I/O, y se libera cuando se destruyen los beans que dependen de él y no antes.</p>
+ */
+@Configuration
+public class EventLoopConfig {
+
+    /**
+     * Prefijo de los hilos de I/O; coincide con el de los recursos globales de Reactor Netty.
+     */
+    static final String THREAD_PREFIX = "reactor-http";
+
+    /**
+     * Crea el grupo de event loops compartido.
+     *
+     * @return Recursos de event loops de la aplicación
+     */
+    @Bean(destroyMethod = "dispose")
+    public LoopResources sharedLoopResources() {
+        return LoopResources.create(THREAD_PREFIX, LoopResources.DEFAULT_IO_WORKER_COUNT, true);
+    }
+
+    /**
+     * Hace que el servidor HTTP corra sobre el grupo compartido.
+     *
+     * @param sharedLoopResources Recursos de event loops de la aplicación
+     * @return Personalizador del servidor Netty
+     */
+    @Bean
+    public NettyServerCustomizer sharedLoopServerCustomizer(LoopResources sharedLoopResources) {
+        return httpServer -> httpServer.runOn(sharedLoopResources);
+    }
+}
@@ -0,0 +1,37 @@
+package co.com.bancolombia.api.dto;
+
+import lombok.*;
+
+/**
+ * DTO con el resultado de un elemento de la carga por lotes de estadísticas.
+ *
+ * <p>Indica la posición del elemento en el arreglo recibido, su estado final y, según el caso,
+ * la estadística guardada o el motivo del rechazo.</p>
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class StatsBatchItemDTO {
+
+    /**
+     * Posición del elemento en el arreglo recibido.
+     */
+    private int index;
+
+    /**
+     * Estado final del elemento: ACCEPTED, REJECTED o FAILED.
+     */
+    private String status;
+
+    /**
+     * Estadística guardada, presente solo cuando el elemento fue aceptado.
+     */
+    private StatsDTO stats;
+
+    /**
+     * Motivo del rechazo o de la falla, nulo cuando el elemento fue aceptado.
+     */
+    private String error;
+}
@@ -0,0 +1,26 @@
+package co.com.bancolombia.api.dto;
+
+import lombok.*;
+
+/**
+ * DTO de un elemento de la consulta de estadísticas por rango de tiempo.
+ *
+ * <p>Incluye el cursor con el que el cliente continúa la consulta después de este elemento.</p>
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class StatsQueryItemDTO {
+
+    /**
+     * Estadística registrada.
+     */
+    private StatsDTO stats;
+
+    /**
+     * Cursor opaco para continuar la consulta inmediatamente después de este elemento.
+     */
+    private String cursor;
+}
@@ -0,0 +1,32 @@
+package co.com.bancolombia.api.dto;
+
+import lombok.*;
+
+/**
+ * DTO con los totales pre-agregados de un intervalo de tiempo.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class StatsRollupDTO {
+
+    /**
+     * Amplitud del intervalo: MINUTE, HOUR o DAY.
+     */
+    private String granularity;
+
+    /**
+     * Inicio del intervalo en formato ISO-8601.
+     */
+    private String bucket;
+
+    private long totalContactoClientes;
+    private long motivoReclamo;
+    private long motivoGarantia;
+    private long motivoDuda;
+    private long motivoCompra;
+    private long motivoFelicitaciones;
+    private long motivoCambio;
+}
@@ -0,0 +1,42 @@
+package co.com.bancolombia.api.dto;
+
+import lombok.*;
+
+/**
+ * DTO con el avance de una carga de estadísticas en streaming (NDJSON).
+ *
+ * <p>Se emite periódicamente mientras se procesa la carga y una última vez, con {@code completed} en
+ * {@code true}, cuando el cuerpo de la petición termina de procesarse. Los contadores son acumulados.</p>
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class StatsStreamProgressDTO {
+
+    /**
+     * Total de registros procesados hasta el momento.
+     */
+    private long processed;
+
+    /**
+     * Registros persistidos y publicados correctamente.
+     */
+    private long accepted;
+
+    /**
+     * Registros rechazados por validación o por hash inválido.
+     */
+    private long rejected;
+
+    /**
+     * Registros válidos cuya persistencia o publicación falló.
+     */
+    private long failed;
+
+    /**
+     * Indica si la carga terminó de procesarse.
+     */
+    private boolean completed;
+}
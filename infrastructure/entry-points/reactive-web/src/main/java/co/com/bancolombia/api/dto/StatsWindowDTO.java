@@ -0,0 +1,42 @@
+package co.com.bancolombia.api.dto;
+
+import lombok.*;
+
+/**
+ * DTO con los totales en vivo de una ventana de tiempo reciente.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class StatsWindowDTO {
+
+    /**
+     * Amplitud solicitada de la ventana en formato ISO-8601 (ej. {@code PT5M}).
+     */
+    private String window;
+
+    /**
+     * Inicio de la ventana.
+     */
+    private String from;
+
+    /**
+     * Fin de la ventana (instante de la consulta).
+     */
+    private String to;
+
+    /**
+     * Cantidad de estadísticas aceptadas en la ventana.
+     */
+    private long count;
+
+    private long totalContactoClientes;
+    private long motivoReclamo;
+    private long motivoGarantia;
+    private long motivoDuda;
+    private long motivoCompra;
+    private long motivoFelicitaciones;
+    private long motivoCambio;
+}
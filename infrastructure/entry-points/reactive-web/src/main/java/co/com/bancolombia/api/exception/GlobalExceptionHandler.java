@@ -1,14 +1,21 @@
 package co.com.bancolombia.api.exception;
 
+import co.com.bancolombia.api.codec.StatsResponseWriter;
 import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Manejador de excepciones global para la aplicación reactiva.
@@ -20,11 +27,33 @@ import java.nio.charset.StandardCharsets;
  *
  * <p>Gracias a la anotación {@code @Order(-2)}, este manejador tiene prioridad
  * sobre el manejador de errores por defecto de Spring Boot.</p>
+ *
+ * <p>Los cuerpos de error no se reconstruyen en cada petición: el del error interno es constante y los de
+ * validación ({@link IllegalArgumentException}, con mensajes propios de la aplicación) se guardan codificados por
+ * mensaje, conservando los {@value #MAX_CACHED_BODIES} usados más recientemente. Los mensajes de los
+ * decodificadores incluyen texto del cuerpo recibido, por lo que se codifican en cada respuesta sin guardarse.</p>
  */
 @Component
 @Order(-2)
 public class GlobalExceptionHandler implements ErrorWebExceptionHandler {
 
+    /**
+     * Máximo de cuerpos de error 400 codificados que se conservan.
+     */
+    static final int MAX_CACHED_BODIES = 128;
+
+    private static final byte[] INTERNAL_ERROR_BODY = StatsResponseWriter.errorBody("Error interno del servidor");
+
+    private static final byte[] UNAVAILABLE_BODY =
+            StatsResponseWriter.errorBody("Servicio no disponible temporalmente, intente de nuevo");
+
+    /**
+     * Segundos sugeridos al cliente antes de reintentar tras un 503.
+     */
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private final Map<String, byte[]> badRequestBodies = new LinkedHashMap<>(16, 0.75f, true);
+
     /**
      * Método principal que maneja las excepciones.
      *
@@ -41,6 +70,12 @@ public class GlobalExceptionHandler implements ErrorWebExceptionHandler {
         if (ex instanceof IllegalArgumentException) {
             return handleIllegalArgumentException(exchange, (IllegalArgumentException) ex);
         }
+        if (ex instanceof ServerWebInputException) {
+            return handleServerWebInputException(exchange, (ServerWebInputException) ex);
+        }
+        if (ex instanceof RejectedExecutionException) {
+            return handleRejectedExecutionException(exchange);
+        }
         return handleGenericException(exchange, ex);
     }
 
@@ -59,11 +94,43 @@ public class GlobalExceptionHandler implements ErrorWebExceptionHandler {
         exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
         exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
 
-        String responseBody = "{\"error\": \"" + ex.getMessage() + "\"}";
+        return writeBody(exchange, badRequestBody(ex.getMessage()));
+    }
 
-        return exchange.getResponse().writeWith(
-            Mono.just(exchange.getResponse().bufferFactory().wrap(responseBody.getBytes(StandardCharsets.UTF_8)))
-        );
+    /**
+     * Maneja las excepciones de tipo {@link ServerWebInputException}.
+     *
+     * <p>WebFlux las lanza cuando el cuerpo de la petición no se puede decodificar (ej. JSON mal formado o
+     * registro binario incompleto). Responde 400 Bad Request con el mensaje del decodificador, si lo hay.</p>
+     *
+     * @param exchange El contexto del intercambio HTTP.
+     * @param ex La excepción de lectura de la petición.
+     * @return Un {@link Mono<Void>} que completa la respuesta.
+     */
+    private Mono<Void> handleServerWebInputException(ServerWebExchange exchange, ServerWebInputException ex) {
+        exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        String message = ex.getCause() instanceof DecodingException ? ex.getCause().getMessage() : ex.getReason();
+        return writeBody(exchange, StatsResponseWriter.errorBody(String.valueOf(message)));
+    }
+
+    /**
+     * Maneja las excepciones de tipo {@link RejectedExecutionException}.
+     *
+     * <p>Las lanzan los adaptadores que rechazan una operación sin intentarla para proteger una dependencia
+     * saturada o caída (ej. circuito abierto hacia DynamoDB). Responde 503 Service Unavailable con
+     * {@code Retry-After}, sin registrar la traza.</p>
+     *
+     * @param exchange El contexto del intercambio HTTP.
+     * @return Un {@link Mono<Void>} que completa la respuesta.
+     */
+    private Mono<Void> handleRejectedExecutionException(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+
+        return writeBody(exchange, UNAVAILABLE_BODY);
     }
 
     /**
@@ -84,10 +151,51 @@ public class GlobalExceptionHandler implements ErrorWebExceptionHandler {
         exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
         exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
 
-        String responseBody = "{\"error\": \"Error interno del servidor\"}";
+        return writeBody(exchange, INTERNAL_ERROR_BODY);
+    }
 
+    /**
+     * Obtiene el cuerpo codificado de un error 400, reutilizándolo si el mensaje se usó recientemente.
+     *
+     * <p>Al superar {@value #MAX_CACHED_BODIES} mensajes se descarta el usado hace más tiempo.</p>
+     *
+     * @param message Mensaje de la excepción.
+     * @return Bytes del cuerpo; no deben modificarse.
+     */
+    private byte[] badRequestBody(String message) {
+        String key = String.valueOf(message);
+        synchronized (badRequestBodies) {
+            byte[] body = badRequestBodies.get(key);
+            if (body == null) {
+                body = StatsResponseWriter.errorBody(key);
+                badRequestBodies.put(key, body);
+                if (badRequestBodies.size() > MAX_CACHED_BODIES) {
+                    Iterator<byte[]> eldest = badRequestBodies.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+            return body;
+        }
+    }
+
+    /**
+     * Cantidad de cuerpos de error 400 guardados.
+     *
+     * @return Tamaño actual de la caché de cuerpos
+     */
+    int cachedBodies() {
+        synchronized (badRequestBodies) {
+            return badRequestBodies.size();
+        }
+    }
+
+    /**
+     * Escribe un cuerpo precodificado; el buffer envuelve los bytes sin copiarlos.
+     */
+    private Mono<Void> writeBody(ServerWebExchange exchange, byte[] body) {
         return exchange.getResponse().writeWith(
-            Mono.just(exchange.getResponse().bufferFactory().wrap(responseBody.getBytes(StandardCharsets.UTF_8)))
+            Mono.fromSupplier(() -> exchange.getResponse().bufferFactory().wrap(body))
         );
     }
 } 
\ No newline at end of file
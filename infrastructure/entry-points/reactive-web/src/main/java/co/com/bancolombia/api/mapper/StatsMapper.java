@@ -4,6 +4,7 @@ package co.com.bancolombia.api.mapper;
 import co.com.bancolombia.api.dto.StatsDTO;
 import co.com.bancolombia.model.stats.Stats;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
 /**
@@ -17,11 +18,12 @@ public interface StatsMapper {
     StatsMapper INSTANCE = Mappers.getMapper(StatsMapper.class);
 
     /**
-     * Convierte un StatsDTO a una entidad Stats.
+     * Convierte un StatsDTO a una entidad Stats. El identificador del registro lo asigna la persistencia.
      *
      * @param dto El DTO a convertir
      * @return La entidad Stats convertida
      */
+    @Mapping(target = "id", ignore = true)
     Stats toStats(StatsDTO dto);
 
     /**
@@ -0,0 +1,20 @@
+package co.com.bancolombia.api.validator;
+
+/**
+ * Validador especializado de un tipo de DTO que reemplaza a Bean Validation en el camino caliente.
+ *
+ * <p>Debe aplicar exactamente las mismas restricciones y mensajes que las anotaciones del DTO, y no asignar
+ * memoria cuando el DTO es válido.</p>
+ *
+ * @param <T> Tipo de DTO validado
+ */
+interface DtoValidator<T> {
+
+    /**
+     * Valida el DTO.
+     *
+     * @param dto DTO no nulo a validar
+     * @return Mensajes de las restricciones incumplidas separados por {@code ", "}, o null si es válido
+     */
+    String violations(T dto);
+}
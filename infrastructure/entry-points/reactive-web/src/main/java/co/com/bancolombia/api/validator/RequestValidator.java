@@ -1,11 +1,13 @@
 package co.com.bancolombia.api.validator;
 
+import co.com.bancolombia.api.dto.StatsDTO;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -15,11 +17,16 @@ import java.util.stream.Collectors;
  * <p>Esta clase centraliza la lógica de validación utilizando el
  * {@link Validator} de Jakarta Bean Validation para asegurar que los
  * datos de entrada cumplan con las restricciones definidas en los DTOs.</p>
+ *
+ * <p>Los DTOs del camino caliente ({@link StatsDTO}) se validan con un {@link DtoValidator} especializado que
+ * aplica las mismas restricciones sin reflexión ni asignaciones; los demás tipos usan Bean Validation.</p>
  */
 @Component
 @RequiredArgsConstructor
 public class RequestValidator {
 
+    private static final Map<Class<?>, DtoValidator<?>> FAST_PATH = Map.of(StatsDTO.class, new StatsDTOValidator());
+
     private final Validator validator;
 
     /**
@@ -39,6 +46,13 @@ public class RequestValidator {
             return Mono.error(new IllegalArgumentException("El cuerpo de la petición no puede ser nulo"));
         }
 
+        @SuppressWarnings("unchecked")
+        DtoValidator<T> fastPath = (DtoValidator<T>) FAST_PATH.get(dto.getClass());
+        if (fastPath != null) {
+            String errors = fastPath.violations(dto);
+            return errors == null ? Mono.just(dto) : Mono.error(new IllegalArgumentException(errors));
+        }
+
         Set<ConstraintViolation<T>> violations = validator.validate(dto);
         if (!violations.isEmpty()) {
             String errors = violations.stream()
@@ -0,0 +1,79 @@
+package co.com.bancolombia.api.validator;
+
+import co.com.bancolombia.api.dto.StatsDTO;
+
+/**
+ * Validación de {@link StatsDTO} equivalente a sus anotaciones {@code @NotNull}, {@code @Min(0)},
+ * {@code @NotBlank} y {@code @Pattern}, escrita con comparaciones directas en lugar de reflexión y expresiones
+ * regulares.
+ *
+ * <p>Un DTO válido no asigna memoria; los mensajes solo se construyen cuando hay violaciones y se reportan en el
+ * orden de declaración de los campos.</p>
+ */
+final class StatsDTOValidator implements DtoValidator<StatsDTO> {
+
+    private static final int HASH_LENGTH = 32;
+
+    @Override
+    public String violations(StatsDTO dto) {
+        StringBuilder errors = null;
+        errors = checkCounter(errors, dto.getTotalContactoClientes(),
+                "totalContactoClientes no puede ser null", "totalContactoClientes debe ser un numero positivo");
+        errors = checkCounter(errors, dto.getMotivoReclamo(),
+                "motivoReclamo no puede ser null", "motivoReclamo debe ser un número positivo");
+        errors = checkCounter(errors, dto.getMotivoGarantia(),
+                "motivoGarantia no puede ser null", "motivoGarantia debe ser un número positivo");
+        errors = checkCounter(errors, dto.getMotivoDuda(),
+                "motivoDuda no puede ser null", "motivoDuda debe ser un número positivo");
+        errors = checkCounter(errors, dto.getMotivoCompra(),
+                "motivoCompra no puede ser null", "motivoCompra debe ser un número positivo");
+        errors = checkCounter(errors, dto.getMotivoFelicitaciones(),
+                "motivoFelicitaciones no puede ser null", "motivoFelicitaciones debe ser un número positivo");
+        errors = checkCounter(errors, dto.getMotivoCambio(),
+                "motivoCambio no puede ser null", "motivoCambio debe ser un número positivo");
+        errors = checkHash(errors, dto.getHash());
+        return errors != null ? errors.toString() : null;
+    }
+
+    private static StringBuilder checkCounter(StringBuilder errors, Integer value, String nullMessage,
+                                              String negativeMessage) {
+        if (value == null) {
+            return append(errors, nullMessage);
+        }
+        return value < 0 ? append(errors, negativeMessage) : errors;
+    }
+
+    /**
+     * Equivale a {@code @NotBlank} más {@code @Pattern("^[a-f0-9]{32}$")}; como en Bean Validation, un hash nulo
+     * solo incumple {@code @NotBlank}.
+     */
+    private static StringBuilder checkHash(StringBuilder errors, String hash) {
+        if (hash == null) {
+            return append(errors, "hash no puede ser null o vacío");
+        }
+        if (hash.isBlank()) {
+            errors = append(errors, "hash no puede ser null o vacío");
+        }
+        return isLowercaseHex(hash) ? errors : append(errors, "hash debe ser un MD5 válido");
+    }
+
+    private static boolean isLowercaseHex(String hash) {
+        if (hash.length() != HASH_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < HASH_LENGTH; i++) {
+            char c = hash.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static StringBuilder append(StringBuilder errors, String message) {
+        if (errors == null) {
+            return new StringBuilder(message);
+        }
+        return errors.append(", ").append(message);
+    }
+}
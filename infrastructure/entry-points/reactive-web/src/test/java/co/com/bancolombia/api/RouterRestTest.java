@@ -7,13 +7,37 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import co.com.bancolombia.usecase.stats.StatsRollupUseCase;
 import co.com.bancolombia.usecase.stats.StatsUseCase;
+import co.com.bancolombia.api.codec.StatsBinaryFormat;
+import co.com.bancolombia.api.config.CodecConfig;
+import co.com.bancolombia.api.exception.GlobalExceptionHandler;
 import co.com.bancolombia.api.validator.RequestValidator;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import co.com.bancolombia.api.dto.StatsDTO;
+import co.com.bancolombia.api.dto.StatsQueryItemDTO;
+import co.com.bancolombia.api.dto.StatsStreamProgressDTO;
 import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StatsBatchResult;
+import co.com.bancolombia.model.stats.StatsRollup;
+import co.com.bancolombia.model.stats.StatsWindow;
+import co.com.bancolombia.model.stats.StoredStats;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Pruebas de integración para el ruteo y manejo del endpoint /api/v1/stats.
@@ -21,7 +45,7 @@ import reactor.core.publisher.Mono;
  * <p>Verifica que el endpoint POST reciba correctamente el body, pase por el flujo de validación y caso de uso,
  * y retorne la respuesta esperada en formato JSON.</p>
  */
-@ContextConfiguration(classes = {RouterRest.class, Handler.class})
+@ContextConfiguration(classes = {RouterRest.class, Handler.class, GlobalExceptionHandler.class, CodecConfig.class})
 @WebFluxTest
 class RouterRestTest {
 
@@ -31,6 +55,9 @@ class RouterRestTest {
     @MockBean
     private StatsUseCase statsUseCase;
 
+    @MockBean
+    private StatsRollupUseCase statsRollupUseCase;
+
     @MockBean
     private RequestValidator requestValidator;
 
@@ -57,7 +84,7 @@ class RouterRestTest {
         when(requestValidator.validate(any(StatsDTO.class)))
                 .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
 
-        when(statsUseCase.saveStats(any(Stats.class)))
+        when(statsUseCase.saveStats(any(Stats.class), any()))
                 .thenAnswer(invocation -> {
                     Stats stats = invocation.getArgument(0);
                     return Mono.just(stats);
@@ -80,4 +107,338 @@ class RouterRestTest {
                 .jsonPath("$.motivoCambio").isEqualTo(8)
                 .jsonPath("$.hash").isEqualTo("5484062a4be1ce5645eb414663e14f59");
     }
+
+    /**
+     * Verifica que los endpoints de guardado acepten el formato binario y rechacen registros incompletos.
+     */
+    @Test
+    void testListenPOSTStatsWithBinaryFormat() {
+        when(requestValidator.validate(any(StatsDTO.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(statsUseCase.saveStats(any(Stats.class), any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(statsUseCase.saveStatsBatch(any()))
+                .thenAnswer(invocation -> {
+                    List<Stats> batch = invocation.getArgument(0);
+                    return Flux.range(0, batch.size()).map(i -> StatsBatchResult.accepted(i, batch.get(i)));
+                });
+        byte[] record = StatsBinaryFormat.encode(
+                new StatsDTO(250, 25, 10, 100, 100, 7, 8, "5484062a4be1ce5645eb414663e14f59", null));
+
+        webTestClient.post()
+                .uri("/api/v1/stats")
+                .contentType(StatsBinaryFormat.MEDIA_TYPE)
+                .bodyValue(record)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalContactoClientes").isEqualTo(250)
+                .jsonPath("$.hash").isEqualTo("5484062a4be1ce5645eb414663e14f59");
+
+        byte[] batch = new byte[record.length * 2];
+        System.arraycopy(record, 0, batch, 0, record.length);
+        System.arraycopy(record, 0, batch, record.length, record.length);
+        webTestClient.post()
+                .uri("/api/v1/stats/batch")
+                .contentType(StatsBinaryFormat.MEDIA_TYPE)
+                .bodyValue(batch)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2);
+
+        webTestClient.post()
+                .uri("/api/v1/stats")
+                .contentType(StatsBinaryFormat.MEDIA_TYPE)
+                .bodyValue(Arrays.copyOf(record, record.length - 1))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    /**
+     * Verifica que con {@code Prefer: return=minimal} se responda 204 sin cuerpo.
+     */
+    @Test
+    void testListenPOSTStatsWithReturnMinimal() {
+        when(requestValidator.validate(any(StatsDTO.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(statsUseCase.saveStats(any(Stats.class), any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        webTestClient.post()
+                .uri("/api/v1/stats")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Prefer", "respond-async, return=minimal")
+                .bodyValue("{\"totalContactoClientes\": 250, \"hash\": \"5484062a4be1ce5645eb414663e14f59\"}")
+                .exchange()
+                .expectStatus().isNoContent()
+                .expectHeader().valueEquals("Preference-Applied", "return=minimal")
+                .expectBody().isEmpty();
+    }
+
+    /**
+     * Verifica que el encabezado Idempotency-Key se entregue al caso de uso.
+     */
+    @Test
+    void testListenPOSTStatsWithIdempotencyKey() {
+        when(requestValidator.validate(any(StatsDTO.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(statsUseCase.saveStats(any(Stats.class), eq("retry-123")))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        webTestClient.post()
+                .uri("/api/v1/stats")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "retry-123")
+                .bodyValue("{\"totalContactoClientes\": 250, \"hash\": \"5484062a4be1ce5645eb414663e14f59\"}")
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(statsUseCase).saveStats(any(Stats.class), eq("retry-123"));
+    }
+
+    /**
+     * Verifica que se rechace una clave de idempotencia demasiado larga.
+     */
+    @Test
+    void testListenPOSTStatsRejectsLongIdempotencyKey() {
+        webTestClient.post()
+                .uri("/api/v1/stats")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "k".repeat(256))
+                .bodyValue("{\"totalContactoClientes\": 250}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    /**
+     * Verifica que el endpoint POST /api/v1/stats/batch reporte el resultado de cada elemento en orden.
+     */
+    @Test
+    void testListenPOSTStatsBatch() {
+        String body = """
+        [
+            {
+                \"totalContactoClientes\": 250,
+                \"motivoReclamo\": 25,
+                \"motivoGarantia\": 10,
+                \"motivoDuda\": 100,
+                \"motivoCompra\": 100,
+                \"motivoFelicitaciones\": 7,
+                \"motivoCambio\": 8,
+                \"hash\": \"5484062a4be1ce5645eb414663e14f59\"
+            },
+            {
+                \"totalContactoClientes\": 250
+            }
+        ]
+        """;
+
+        when(requestValidator.validate(any(StatsDTO.class)))
+                .thenAnswer(invocation -> {
+                    StatsDTO dto = invocation.getArgument(0);
+                    return dto.getHash() != null
+                            ? Mono.just(dto)
+                            : Mono.error(new IllegalArgumentException("hash no puede ser null o vacío"));
+                });
+
+        when(statsUseCase.saveStatsBatch(any()))
+                .thenAnswer(invocation -> {
+                    List<Stats> batch = invocation.getArgument(0);
+                    return Flux.just(StatsBatchResult.accepted(0, batch.get(0)));
+                });
+
+        webTestClient.post()
+                .uri("/api/v1/stats/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].index").isEqualTo(0)
+                .jsonPath("$[0].status").isEqualTo("ACCEPTED")
+                .jsonPath("$[0].stats.hash").isEqualTo("5484062a4be1ce5645eb414663e14f59")
+                .jsonPath("$[1].index").isEqualTo(1)
+                .jsonPath("$[1].status").isEqualTo("REJECTED")
+                .jsonPath("$[1].error").isEqualTo("hash no puede ser null o vacío");
+    }
+
+    /**
+     * Verifica que el endpoint POST /api/v1/stats con NDJSON procese el stream y reporte el avance final.
+     */
+    @Test
+    void testListenPOSTStatsStream() {
+        String line = "{\"totalContactoClientes\":250,\"motivoReclamo\":25,\"motivoGarantia\":10,"
+                + "\"motivoDuda\":100,\"motivoCompra\":100,\"motivoFelicitaciones\":7,\"motivoCambio\":8,"
+                + "\"hash\":\"5484062a4be1ce5645eb414663e14f59\"}\n";
+        String body = line + "{\"totalContactoClientes\":250}\n" + line;
+
+        when(requestValidator.validate(any(StatsDTO.class)))
+                .thenAnswer(invocation -> {
+                    StatsDTO dto = invocation.getArgument(0);
+                    return dto.getHash() != null
+                            ? Mono.just(dto)
+                            : Mono.error(new IllegalArgumentException("hash no puede ser null o vacío"));
+                });
+
+        when(statsUseCase.saveStatsBatch(any()))
+                .thenAnswer(invocation -> {
+                    List<Stats> batch = invocation.getArgument(0);
+                    return Flux.range(0, batch.size()).map(i -> StatsBatchResult.accepted(i, batch.get(i)));
+                });
+
+        List<StatsStreamProgressDTO> progress = webTestClient.post()
+                .uri("/api/v1/stats")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(StatsStreamProgressDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        StatsStreamProgressDTO last = progress.get(progress.size() - 1);
+        assertTrue(last.isCompleted());
+        assertEquals(3, last.getProcessed());
+        assertEquals(2, last.getAccepted());
+        assertEquals(1, last.getRejected());
+    }
+
+    /**
+     * Verifica que la consulta por rango se entregue como NDJSON con el cursor de cada elemento.
+     */
+    @Test
+    void testListenGETStatsAsNdjson() {
+        LocalDateTime from = LocalDateTime.parse("2024-06-01T10:00:00");
+        LocalDateTime to = LocalDateTime.parse("2024-06-01T12:00:00");
+        Stats stats = new Stats(from, 250, 25, 10, 100, 100, 7, 8, "5484062a4be1ce5645eb414663e14f59");
+        when(statsUseCase.findStats(from, to, "abc", 2))
+                .thenReturn(Flux.just(new StoredStats(stats, "c1"), new StoredStats(stats, "c2")));
+
+        List<StatsQueryItemDTO> items = webTestClient.get()
+                .uri("/api/v1/stats?from=2024-06-01T10:00:00&to=2024-06-01T12:00:00&cursor=abc&limit=2")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(StatsQueryItemDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertEquals(2, items.size());
+        assertEquals("c2", items.get(1).getCursor());
+        assertEquals(250, items.get(0).getStats().getTotalContactoClientes());
+    }
+
+    /**
+     * Verifica que la consulta sin rango o con fechas inválidas responda 400.
+     */
+    @Test
+    void testListenGETStatsRejectsMissingRange() {
+        webTestClient.get()
+                .uri("/api/v1/stats?from=2024-06-01T10:00:00")
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.get()
+                .uri("/api/v1/stats?from=ayer&to=2024-06-01T12:00:00")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(statsUseCase, never()).findStats(any(), any(), any(), anyInt());
+    }
+
+    /**
+     * Verifica que el endpoint de totales pre-agregados entregue cada intervalo con la granularidad pedida.
+     */
+    @Test
+    void testListenGETStatsRollups() {
+        LocalDateTime from = LocalDateTime.parse("2024-06-01T00:00:00");
+        LocalDateTime to = LocalDateTime.parse("2024-06-03T00:00:00");
+        when(statsRollupUseCase.findRollups(StatsRollup.Granularity.DAY, from, to))
+                .thenReturn(Flux.just(new StatsRollup(StatsRollup.Granularity.DAY, from, 500, 50, 20, 200, 200, 14, 16)));
+
+        webTestClient.get()
+                .uri("/api/v1/stats/rollups?granularity=day&from=2024-06-01T00:00:00&to=2024-06-03T00:00:00")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].granularity").isEqualTo("DAY")
+                .jsonPath("$[0].bucket").isEqualTo("2024-06-01T00:00")
+                .jsonPath("$[0].totalContactoClientes").isEqualTo(500)
+                .jsonPath("$.length()").isEqualTo(1);
+
+        webTestClient.get()
+                .uri("/api/v1/stats/rollups?granularity=week&from=2024-06-01T00:00:00&to=2024-06-03T00:00:00")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    /**
+     * Verifica que el endpoint de totales pre-agregados responda 404 cuando están desactivados.
+     */
+    @Test
+    void testListenGETStatsRollupsWhenDisabled() {
+        Handler handler = new Handler(statsUseCase, null, requestValidator);
+        WebTestClient client = WebTestClient.bindToRouterFunction(new RouterRest().routerFunction(handler)).build();
+
+        client.get()
+                .uri("/api/v1/stats/rollups?granularity=day&from=2024-06-01T00:00:00&to=2024-06-03T00:00:00")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    /**
+     * Verifica que el endpoint de totales en vivo interprete la ventana y rechace una inválida.
+     */
+    @Test
+    void testListenGETStatsLive() {
+        LocalDateTime to = LocalDateTime.parse("2024-06-01T10:05:00");
+        when(statsUseCase.liveStats(Duration.ofMinutes(5)))
+                .thenReturn(Mono.just(new StatsWindow(Duration.ofMinutes(5), to.minusMinutes(5), to, 3,
+                        new long[]{750, 75, 30, 300, 300, 21, 24})));
+
+        webTestClient.get()
+                .uri("/api/v1/stats/live?window=5m")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.window").isEqualTo("PT5M")
+                .jsonPath("$.count").isEqualTo(3)
+                .jsonPath("$.motivoReclamo").isEqualTo(75);
+
+        webTestClient.get()
+                .uri("/api/v1/stats/live?window=ayer")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    /**
+     * Verifica que el stream SSE emita las estadísticas aceptadas y rechace un modo inválido.
+     */
+    @Test
+    void testListenGETStatsStream() {
+        when(statsUseCase.acceptedStats())
+                .thenReturn(Flux.just(new Stats(LocalDateTime.parse("2024-06-01T10:00:00"), 250, 25, 10, 100, 100,
+                        7, 8, "hash")).concatWith(Flux.never()));
+
+        Flux<String> body = webTestClient.get()
+                .uri("/api/v1/stats/stream?buffer=16&overflow=latest")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .returnResult(String.class)
+                .getResponseBody();
+
+        StepVerifier.create(body.take(1))
+                .assertNext(event -> assertTrue(event.contains("\"totalContactoClientes\":250")))
+                .verifyComplete();
+
+        webTestClient.get()
+                .uri("/api/v1/stats/stream?mode=todo")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
 }
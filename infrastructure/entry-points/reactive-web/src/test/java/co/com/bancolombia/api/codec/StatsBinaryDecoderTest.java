@@ -0,0 +1,107 @@
+package co.com.bancolombia.api.codec;
+
+import co.com.bancolombia.api.dto.StatsDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas unitarias para {@link StatsBinaryDecoder} y {@link StatsBinaryFormat}.
+ */
+class StatsBinaryDecoderTest {
+
+    private static final ResolvableType STATS_DTO = ResolvableType.forClass(StatsDTO.class);
+    private static final String HASH = "5484062a4be1ce5645eb414663e14f59";
+
+    private final StatsBinaryDecoder decoder = new StatsBinaryDecoder();
+
+    /**
+     * Verifica que un registro se decodifique igual sin importar cómo se reparta entre buffers, incluidos
+     * contadores de cinco bytes.
+     */
+    @Test
+    void shouldDecodeRecordSplitAtAnyOffset() {
+        byte[] record = StatsBinaryFormat.encode(new StatsDTO(250, 0, 127, 128, Integer.MAX_VALUE, -1, 8, HASH, null));
+        for (int split = 0; split <= record.length; split++) {
+            StepVerifier.create(decoder.decodeToMono(split(record, split), STATS_DTO, StatsBinaryFormat.MEDIA_TYPE,
+                            Collections.emptyMap()))
+                    .assertNext(dto -> {
+                        assertEquals(250, dto.getTotalContactoClientes());
+                        assertEquals(127, dto.getMotivoGarantia());
+                        assertEquals(128, dto.getMotivoDuda());
+                        assertEquals(Integer.MAX_VALUE, dto.getMotivoCompra());
+                        assertEquals(-1, dto.getMotivoFelicitaciones());
+                        assertEquals(HASH, dto.getHash());
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    /**
+     * Verifica que un lote sea la concatenación de sus registros y que el registro típico ocupe 24 bytes.
+     */
+    @Test
+    void shouldDecodeConcatenatedRecords() {
+        byte[] record = StatsBinaryFormat.encode(new StatsDTO(250, 25, 10, 100, 100, 7, 8, HASH, null));
+        assertEquals(24, record.length);
+        byte[] batch = new byte[record.length * 3];
+        for (int i = 0; i < 3; i++) {
+            System.arraycopy(record, 0, batch, i * record.length, record.length);
+        }
+        StepVerifier.create(decoder.decode(split(batch, 31), STATS_DTO, StatsBinaryFormat.MEDIA_TYPE,
+                        Collections.emptyMap()))
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    /**
+     * Verifica que se rechacen los registros incompletos, los varints de más de 32 bits y más de un registro
+     * cuando se espera uno solo.
+     */
+    @Test
+    void shouldRejectInvalidRecords() {
+        byte[] record = StatsBinaryFormat.encode(new StatsDTO(1, 2, 3, 4, 5, 6, 7, HASH, null));
+        byte[] overflow = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x1F};
+        byte[] twice = Arrays.copyOf(record, record.length * 2);
+        System.arraycopy(record, 0, twice, record.length, record.length);
+        for (byte[] body : new byte[][]{Arrays.copyOf(record, 3), Arrays.copyOf(record, record.length - 1),
+                overflow, twice}) {
+            StepVerifier.create(decoder.decodeToMono(split(body, 2), STATS_DTO, StatsBinaryFormat.MEDIA_TYPE,
+                            Collections.emptyMap()))
+                    .expectError(DecodingException.class)
+                    .verify();
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> StatsBinaryFormat.encode(new StatsDTO(1, 2, 3, 4, 5, 6, null, HASH, null)));
+    }
+
+    /**
+     * Verifica que solo se declare para StatsDTO con el tipo de contenido binario.
+     */
+    @Test
+    void shouldOnlyDecodeBinaryMediaType() {
+        assertTrue(decoder.canDecode(STATS_DTO, StatsBinaryFormat.MEDIA_TYPE));
+        assertFalse(decoder.canDecode(STATS_DTO, MediaType.APPLICATION_JSON));
+        assertFalse(decoder.canDecode(STATS_DTO, null));
+        assertFalse(decoder.canDecode(ResolvableType.forClass(String.class), StatsBinaryFormat.MEDIA_TYPE));
+    }
+
+    private static Flux<DataBuffer> split(byte[] body, int at) {
+        int first = Math.min(at, body.length);
+        return Flux.just(Arrays.copyOfRange(body, 0, first), Arrays.copyOfRange(body, first, body.length))
+                .map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+}
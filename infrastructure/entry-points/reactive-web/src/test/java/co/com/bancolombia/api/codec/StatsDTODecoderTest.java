@@ -0,0 +1,115 @@
+package co.com.bancolombia.api.codec;
+
+import co.com.bancolombia.api.dto.StatsDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas unitarias para {@link StatsDTODecoder}.
+ */
+class StatsDTODecoderTest {
+
+    private static final ResolvableType STATS_DTO = ResolvableType.forClass(StatsDTO.class);
+    private static final String JSON = """
+            {"totalContactoClientes":250,"motivoReclamo":25,"motivoGarantia":10,"motivoDuda":100,\
+            "motivoCompra":100,"motivoFelicitaciones":7,"motivoCambio":"8",\
+            "extra":{"a":[1,{"b":2}]},"hash":"5484062a4be1ce5645eb414663e14f59"}""";
+
+    private final StatsDTODecoder decoder = new StatsDTODecoder(new JsonFactory(), 1024);
+
+    /**
+     * Verifica que se decodifique un objeto partido en buffers arbitrarios, ignorando propiedades desconocidas y
+     * aceptando números como texto.
+     */
+    @Test
+    void shouldDecodeObjectSplitAcrossBuffers() {
+        StepVerifier.create(decoder.decodeToMono(chunks(JSON, 7), STATS_DTO, MediaType.APPLICATION_JSON,
+                        Collections.emptyMap()))
+                .assertNext(dto -> {
+                    assertEquals(250, dto.getTotalContactoClientes());
+                    assertEquals(8, dto.getMotivoCambio());
+                    assertEquals("5484062a4be1ce5645eb414663e14f59", dto.getHash());
+                    assertNull(dto.getTimestamp());
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * Verifica que los campos ausentes o nulos queden en null para que la validación los reporte.
+     */
+    @Test
+    void shouldLeaveMissingFieldsNull() {
+        StepVerifier.create(decoder.decodeToMono(chunks("{\"motivoReclamo\":null,\"hash\":\"x\"}", 64), STATS_DTO,
+                        MediaType.APPLICATION_JSON, Collections.emptyMap()))
+                .assertNext(dto -> {
+                    assertNull(dto.getTotalContactoClientes());
+                    assertNull(dto.getMotivoReclamo());
+                    assertEquals("x", dto.getHash());
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * Verifica que el Flux acepte tanto un arreglo JSON como una secuencia NDJSON.
+     */
+    @Test
+    void shouldDecodeArraysAndNdjson() {
+        StepVerifier.create(decoder.decode(chunks("[" + JSON + "," + JSON + "]", 13), STATS_DTO,
+                        MediaType.APPLICATION_JSON, Collections.emptyMap()))
+                .expectNextCount(2)
+                .verifyComplete();
+        StepVerifier.create(decoder.decode(chunks(JSON + "\n" + JSON + "\n" + JSON + "\n", 31), STATS_DTO,
+                        MediaType.APPLICATION_NDJSON, Collections.emptyMap()))
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    /**
+     * Verifica que se rechacen el JSON mal formado, los valores no numéricos, los objetos incompletos y más de un
+     * objeto cuando se espera uno solo.
+     */
+    @Test
+    void shouldRejectInvalidInput() {
+        for (String body : new String[]{"{\"motivoDuda\":", "{\"motivoDuda\":\"muchos\"}", "{\"a\" 1}",
+                JSON + JSON, "[" + JSON + "]", "42"}) {
+            StepVerifier.create(decoder.decodeToMono(chunks(body, 5), STATS_DTO, MediaType.APPLICATION_JSON,
+                            Collections.emptyMap()))
+                    .expectError(DecodingException.class)
+                    .verify();
+        }
+    }
+
+    /**
+     * Verifica que solo se declare para StatsDTO en JSON o NDJSON.
+     */
+    @Test
+    void shouldOnlyDecodeStatsDtoAsJson() {
+        assertTrue(decoder.canDecode(STATS_DTO, MediaType.APPLICATION_JSON));
+        assertTrue(decoder.canDecode(STATS_DTO, MediaType.APPLICATION_NDJSON));
+        assertFalse(decoder.canDecode(STATS_DTO, MediaType.APPLICATION_XML));
+        assertFalse(decoder.canDecode(ResolvableType.forClass(Object.class), MediaType.APPLICATION_JSON));
+    }
+
+    private static Flux<DataBuffer> chunks(String body, int size) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return Flux.range(0, (bytes.length + size - 1) / size)
+                .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(
+                        Arrays.copyOfRange(bytes, i * size, Math.min(bytes.length, (i + 1) * size))));
+    }
+}
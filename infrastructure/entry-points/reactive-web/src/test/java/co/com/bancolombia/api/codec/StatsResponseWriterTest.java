@@ -0,0 +1,61 @@
+package co.com.bancolombia.api.codec;
+
+import co.com.bancolombia.api.mapper.StatsMapper;
+import co.com.bancolombia.model.stats.Stats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas unitarias para {@link StatsResponseWriter}.
+ */
+class StatsResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Verifica que la salida sea idéntica a la de Jackson sobre el DTO, incluidos valores extremos y nulos.
+     */
+    @Test
+    void shouldMatchJacksonOutput() throws Exception {
+        Stats[] samples = {
+                new Stats(LocalDateTime.of(2024, 6, 1, 10, 15, 30, 123_000_000), 250, 25, 10, 100, 100, 7, 8,
+                        "5484062a4be1ce5645eb414663e14f59"),
+                new Stats(LocalDateTime.of(2024, 6, 1, 10, 15), 0, 9, 10, Integer.MAX_VALUE, Integer.MIN_VALUE, -1,
+                        1_000_000, null),
+                new Stats(LocalDateTime.of(987, 12, 31, 0, 0, 0, 5), 1, 2, 3, 4, 5, 6, 7, "a"),
+                new Stats(LocalDateTime.of(12345, 1, 1, 0, 0), 1, 2, 3, 4, 5, 6, 7, "a"),
+                new Stats(null, 1, 2, 3, 4, 5, 6, 7, "dígito \"con\" \\ escape\n\u0001")
+        };
+        for (Stats stats : samples) {
+            assertEquals(objectMapper.writeValueAsString(StatsMapper.INSTANCE.toStatsDTO(stats)), write(stats));
+        }
+    }
+
+    /**
+     * Verifica que el cuerpo de error escape el mensaje y conserve el formato previo.
+     */
+    @Test
+    void shouldEscapeErrorBody() throws Exception {
+        assertEquals("{\"error\": \"hash debe ser un MD5 válido\"}",
+                new String(StatsResponseWriter.errorBody("hash debe ser un MD5 válido"), StandardCharsets.UTF_8));
+        byte[] body = StatsResponseWriter.errorBody("valor \"x\"\n");
+        assertEquals("valor \"x\"\n", objectMapper.readTree(body).get("error").asText());
+    }
+
+    private static String write(Stats stats) {
+        DataBuffer buffer = StatsResponseWriter.write(stats, DefaultDataBufferFactory.sharedInstance);
+        try {
+            return buffer.toString(StandardCharsets.UTF_8);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import co.com.bancolombia.usecase.stats.StatsRollupUseCase;
 import co.com.bancolombia.usecase.stats.StatsUseCase;
 import co.com.bancolombia.api.validator.RequestValidator;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +37,9 @@ class ConfigTest {
     @MockBean
     private StatsUseCase statsUseCase;
 
+    @MockBean
+    private StatsRollupUseCase statsRollupUseCase;
+
     @MockBean
     private RequestValidator requestValidator;
 
@@ -0,0 +1,47 @@
+package co.com.bancolombia.api.config;
+
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas unitarias para {@link EventLoopConfig}.
+ */
+class EventLoopConfigTest {
+
+    private final EventLoopConfig config = new EventLoopConfig();
+
+    /**
+     * Verifica que el grupo compartido use el prefijo de hilos de Reactor Netty.
+     */
+    @Test
+    void sharedLoopResourcesShouldUseReactorThreadPrefix() throws Exception {
+        LoopResources loops = config.sharedLoopResources();
+        try {
+            String thread = loops.onServer(true).next()
+                    .submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+            assertTrue(thread.startsWith(EventLoopConfig.THREAD_PREFIX), thread);
+        } finally {
+            loops.dispose();
+        }
+    }
+
+    /**
+     * Verifica que el personalizador configure el servidor sobre el grupo compartido.
+     */
+    @Test
+    void serverCustomizerShouldRunOnSharedLoops() {
+        LoopResources loops = config.sharedLoopResources();
+        try {
+            HttpServer server = config.sharedLoopServerCustomizer(loops).apply(HttpServer.create());
+            assertSame(loops, server.configuration().loopResources());
+        } finally {
+            loops.dispose();
+        }
+    }
+}
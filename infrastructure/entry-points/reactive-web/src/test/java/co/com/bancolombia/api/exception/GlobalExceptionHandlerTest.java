@@ -2,14 +2,19 @@ package co.com.bancolombia.api.exception;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -48,6 +53,65 @@ class GlobalExceptionHandlerTest {
         assertTrue(body.contains(errorMsg));
     }
 
+    /**
+     * Verifica que un cuerpo que no se puede decodificar responda 400 con el mensaje del decodificador.
+     */
+    @Test
+    void handleServerWebInputException_ReturnsBadRequest() {
+        ServerWebInputException ex = new ServerWebInputException("Failed to read HTTP message", null,
+                new DecodingException("Registro binario incompleto"));
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/test").build());
+
+        exceptionHandler.handle(exchange, ex).block();
+
+        MockServerHttpResponse response = (MockServerHttpResponse) exchange.getResponse();
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("{\"error\": \"Registro binario incompleto\"}", response.getBodyAsString().block());
+    }
+
+    /**
+     * Verifica que los mensajes de los decodificadores no se guarden y que la caché de cuerpos de validación
+     * conserve los mensajes usados recientemente sin superar su máximo.
+     */
+    @Test
+    void badRequestBodies_ShouldSkipDecoderMessagesAndStayBounded() {
+        for (int i = 0; i < 10; i++) {
+            exceptionHandler.handle(exchange(), new ServerWebInputException("Failed to read HTTP message", null,
+                    new DecodingException("JSON parse error: token inesperado 'x" + i + "'"))).block();
+        }
+        assertEquals(0, exceptionHandler.cachedBodies());
+
+        for (int i = 0; i < GlobalExceptionHandler.MAX_CACHED_BODIES * 2; i++) {
+            exceptionHandler.handle(exchange(), new IllegalArgumentException("hash debe ser un MD5 válido")).block();
+            exceptionHandler.handle(exchange(), new IllegalArgumentException("mensaje único " + i)).block();
+        }
+        assertEquals(GlobalExceptionHandler.MAX_CACHED_BODIES, exceptionHandler.cachedBodies());
+
+        ServerWebExchange exchange = exchange();
+        exceptionHandler.handle(exchange, new IllegalArgumentException("hash debe ser un MD5 válido")).block();
+        assertEquals("{\"error\": \"hash debe ser un MD5 válido\"}",
+                ((MockServerHttpResponse) exchange.getResponse()).getBodyAsString().block());
+    }
+
+    private static ServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/test").build());
+    }
+
+    /**
+     * Verifica que una operación rechazada por protección de una dependencia responda 503 con Retry-After.
+     */
+    @Test
+    void handleRejectedExecutionException_ReturnsServiceUnavailable() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/test").build());
+
+        exceptionHandler.handle(exchange, new RejectedExecutionException("Circuito abierto")).block();
+
+        MockServerHttpResponse response = (MockServerHttpResponse) exchange.getResponse();
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertFalse(response.getBodyAsString().block().contains("Circuito"));
+    }
+
     /**
      * Verifica que una excepción genérica sea manejada como un error 500 Internal Server Error con un mensaje genérico.
      */
@@ -4,6 +4,7 @@ import co.com.bancolombia.api.dto.StatsDTO;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
@@ -84,4 +85,20 @@ class RequestValidatorTest {
                 .expectError(IllegalArgumentException.class)
                 .verify();
     }
+
+    /**
+     * Verifica que los tipos sin validador especializado se validen con Bean Validation.
+     */
+    @Test
+    void shouldFallBackToBeanValidationForOtherTypes() {
+        StepVerifier.create(requestValidator.validate(new Comment(null)))
+                .expectErrorMessage("text no puede ser null")
+                .verify();
+        StepVerifier.create(requestValidator.validate(new Comment("ok")))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    private record Comment(@NotNull(message = "text no puede ser null") String text) {
+    }
 }
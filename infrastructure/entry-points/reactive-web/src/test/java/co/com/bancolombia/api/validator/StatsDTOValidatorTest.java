@@ -0,0 +1,62 @@
+package co.com.bancolombia.api.validator;
+
+import co.com.bancolombia.api.dto.StatsDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Pruebas unitarias para {@link StatsDTOValidator}.
+ *
+ * <p>Compara cada caso con Bean Validation para asegurar que ambos reporten las mismas violaciones.</p>
+ */
+class StatsDTOValidatorTest {
+
+    private static final String VALID_HASH = "5484062a4be1ce5645eb414663e14f59";
+
+    private final Validator beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final StatsDTOValidator fastPath = new StatsDTOValidator();
+
+    /**
+     * Verifica que un DTO válido no reporte violaciones.
+     */
+    @Test
+    void shouldAcceptValidDto() {
+        assertNull(fastPath.violations(new StatsDTO(250, 25, 10, 100, 100, 7, 8, VALID_HASH, null)));
+        assertNull(fastPath.violations(new StatsDTO(0, 0, 0, 0, 0, 0, 0, VALID_HASH, "ignorado")));
+    }
+
+    /**
+     * Verifica que los DTOs inválidos reporten las mismas violaciones que Bean Validation.
+     */
+    @Test
+    void shouldMatchBeanValidation() {
+        List<StatsDTO> cases = List.of(
+                new StatsDTO(null, 25, 10, 100, 100, 7, 8, VALID_HASH, null),
+                new StatsDTO(-1, -2, 10, 100, 100, 7, null, VALID_HASH, null),
+                new StatsDTO(250, 25, 10, 100, 100, 7, 8, null, null),
+                new StatsDTO(250, 25, 10, 100, 100, 7, 8, "", null),
+                new StatsDTO(250, 25, 10, 100, 100, 7, 8, "   ", null),
+                new StatsDTO(250, 25, 10, 100, 100, 7, 8, VALID_HASH.toUpperCase(), null),
+                new StatsDTO(250, 25, 10, 100, 100, 7, 8, VALID_HASH + "0", null),
+                new StatsDTO(null, null, null, null, null, null, null, "zz", null));
+
+        for (StatsDTO dto : cases) {
+            Set<String> expected = beanValidator.validate(dto).stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.toSet());
+            Set<String> actual = Arrays.stream(fastPath.violations(dto).split(", "))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, actual, dto.toString());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package co.com.bancolombia.metrics.aws;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark JMH que compara el registro de una colección de métricas del AWS SDK
+ * antes (etiquetas con streams y búsqueda en el {@link MeterRegistry} por cada registro) y después
+ * de la caché de medidores de {@link MicrometerMetricPublisher}.
+ *
+ * <p>Ejecutar con {@code ./gradlew :metrics:jmh}; el perfilador {@code gc} reporta los bytes asignados por operación.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MicrometerMetricPublisherBenchmark {
+
+    private static final SdkMetric<String> SERVICE = SdkMetric.create(
+            "BenchServiceId", String.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<String> OPERATION = SdkMetric.create(
+            "BenchOperationName", String.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<Boolean> SUCCESS = SdkMetric.create(
+            "BenchApiCallSuccessful", Boolean.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<Duration> DURATION = SdkMetric.create(
+            "BenchApiCallDuration", Duration.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<Duration> MARSHALLING = SdkMetric.create(
+            "BenchMarshallingDuration", Duration.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<Integer> RETRIES = SdkMetric.create(
+            "BenchRetryCount", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+
+    private MeterRegistry legacyRegistry;
+    private MicrometerMetricPublisher publisher;
+    private MetricCollection collection;
+
+    @Setup
+    public void setUp() {
+        legacyRegistry = new SimpleMeterRegistry();
+        publisher = new MicrometerMetricPublisher(new SimpleMeterRegistry());
+        publisher.start();
+
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(SERVICE, "DynamoDB");
+        collector.reportMetric(OPERATION, "PutItem");
+        collector.reportMetric(SUCCESS, true);
+        collector.reportMetric(DURATION, Duration.ofMillis(12));
+        collector.reportMetric(MARSHALLING, Duration.ofNanos(35_000));
+        collector.reportMetric(RETRIES, 0);
+        collection = collector.collect();
+    }
+
+    @TearDown
+    public void tearDown() {
+        publisher.close();
+    }
+
+    @Benchmark
+    public void legacyRegistryLookup() {
+        List<Tag> tags = collection.stream()
+                .filter(record -> record.value() instanceof String || record.value() instanceof Boolean)
+                .map(record -> Tag.of(record.metric().name(), record.value().toString()))
+                .collect(Collectors.toList());
+        collection.stream()
+                .filter(record -> record.value() instanceof Duration || record.value() instanceof Integer)
+                .forEach(record -> {
+                    if (record.value() instanceof Duration) {
+                        legacyRegistry.timer(record.metric().name(), tags).record((Duration) record.value());
+                    } else if (record.value() instanceof Integer) {
+                        legacyRegistry.counter(record.metric().name(), tags).increment((Integer) record.value());
+                    }
+                });
+    }
+
+    @Benchmark
+    public void cachedMeters() {
+        publisher.record(collection);
+    }
+}
@@ -1,49 +1,281 @@
 package co.com.bancolombia.metrics.aws;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.MetricRecord;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Publica en Micrometer las métricas de las llamadas del AWS SDK.
+ *
+ * <p>{@link #publish(MetricCollection)} nunca bloquea ni crece sin límite: las colecciones se encolan en un buffer
+ * circular acotado ({@code aws.metrics.publisher.buffer-capacity}) que consume un único hilo dedicado. Cuando el
+ * buffer se llena se aplica la {@link OverflowPolicy} configurada y las colecciones descartadas se cuentan en
+ * {@code aws.sdk.metrics.dropped}, etiquetado por motivo.</p>
+ *
+ * <p>Los timers y contadores ya resueltos se guardan en caché por conjunto de etiquetas y nombre de métrica. El
+ * conjunto se busca con los nombres y valores crudos de la colección sobre una lista reutilizada, de modo que un
+ * acierto no crea etiquetas ni claves ni consulta el {@link MeterRegistry}. Al cerrarse deja de aceptar colecciones
+ * y drena las pendientes durante como máximo {@code aws.metrics.publisher.drain-timeout}.</p>
+ *
+ * <p>El hilo consumidor lo arranca {@link #start()} una vez construido el bean; las colecciones publicadas antes
+ * esperan en el buffer.</p>
+ */
 @Component
-@AllArgsConstructor
 public class MicrometerMetricPublisher implements MetricPublisher {
-    private final ExecutorService service = Executors.newFixedThreadPool(10);
+
+    /**
+     * Política aplicada cuando el buffer no admite más colecciones.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Descarta las colecciones nuevas solo cuando el buffer está lleno.
+         */
+        DROP,
+        /**
+         * A partir de la mitad de la capacidad conserva una de cada {@code sample-rate} colecciones,
+         * y descarta todas cuando el buffer está lleno.
+         */
+        SAMPLE
+    }
+
+    private static final int DEFAULT_BUFFER_CAPACITY = 4096;
+    private static final int DEFAULT_SAMPLE_RATE = 10;
+    private static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(5);
+    private static final int DRAIN_BATCH_SIZE = 256;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
     private final MeterRegistry registry;
+    private final BlockingQueue<MetricCollection> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleThreshold;
+    private final int sampleRate;
+    private final Duration drainTimeout;
+    private final AtomicLong sampleSequence = new AtomicLong();
+    private final Counter droppedOverflow;
+    private final Counter droppedSampled;
+    private final Counter droppedClosed;
+    private final Counter droppedError;
+    // Solo los accede el hilo consumidor.
+    private final Map<List<String>, TagSetMeters> tagSets = new HashMap<>();
+    private final List<String> tagLookup = new ArrayList<>();
+    private volatile Thread worker;
+    private volatile boolean running = true;
+
+    /**
+     * Crea el publicador con la configuración por defecto.
+     *
+     * @param registry Registro de métricas
+     */
+    public MicrometerMetricPublisher(MeterRegistry registry) {
+        this(registry, DEFAULT_BUFFER_CAPACITY, OverflowPolicy.DROP, DEFAULT_SAMPLE_RATE, DEFAULT_DRAIN_TIMEOUT);
+    }
+
+    /**
+     * Crea el publicador; el hilo consumidor se arranca con {@link #start()}.
+     *
+     * @param registry Registro de métricas
+     * @param bufferCapacity Máximo de colecciones pendientes de registrar
+     * @param overflowPolicy Política aplicada cuando el buffer se satura
+     * @param sampleRate Con {@link OverflowPolicy#SAMPLE}, una de cada cuántas colecciones se conserva
+     * @param drainTimeout Tiempo máximo para drenar el buffer al cerrar
+     */
+    @Autowired
+    public MicrometerMetricPublisher(MeterRegistry registry,
+                                     @Value("${aws.metrics.publisher.buffer-capacity:4096}") int bufferCapacity,
+                                     @Value("${aws.metrics.publisher.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+                                     @Value("${aws.metrics.publisher.sample-rate:10}") int sampleRate,
+                                     @Value("${aws.metrics.publisher.drain-timeout:5s}") Duration drainTimeout) {
+        if (bufferCapacity <= 0 || sampleRate <= 0) {
+            throw new IllegalArgumentException("La capacidad del buffer y la tasa de muestreo deben ser positivas");
+        }
+        this.registry = registry;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.sampleThreshold = bufferCapacity / 2;
+        this.sampleRate = sampleRate;
+        this.drainTimeout = drainTimeout;
+        this.droppedOverflow = droppedCounter("overflow");
+        this.droppedSampled = droppedCounter("sampled");
+        this.droppedClosed = droppedCounter("closed");
+        this.droppedError = droppedCounter("error");
+        registry.gauge("aws.sdk.metrics.buffer.size", buffer, BlockingQueue::size);
+    }
+
+    /**
+     * Arranca el hilo consumidor del buffer. Invocarlo más de una vez no tiene efecto.
+     */
+    @PostConstruct
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        Thread thread = new Thread(this::consume, "aws-metrics-publisher");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
 
     @Override
     public void publish(MetricCollection metricCollection) {
-        service.submit(() -> {
-            List<Tag> tags = buildTags(metricCollection);
-            metricCollection.stream()
-                    .filter(record -> record.value() instanceof Duration || record.value() instanceof Integer)
-                    .forEach(record -> {
-                        if (record.value() instanceof Duration) {
-                            registry.timer(record.metric().name(), tags).record((Duration) record.value());
-                        } else if (record.value() instanceof Integer) {
-                            registry.counter(record.metric().name(), tags).increment((Integer) record.value());
-                        }
-                    });
-        });
+        if (!running) {
+            droppedClosed.increment();
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.SAMPLE && buffer.size() >= sampleThreshold
+                && sampleSequence.getAndIncrement() % sampleRate != 0) {
+            droppedSampled.increment();
+            return;
+        }
+        if (!buffer.offer(metricCollection)) {
+            droppedOverflow.increment();
+        }
     }
 
+    /**
+     * Deja de aceptar colecciones y espera a que el hilo consumidor registre las pendientes.
+     */
     @Override
     public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = worker;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(drainTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            thread.interrupt();
+        }
+    }
 
+    private void consume() {
+        List<MetricCollection> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        try {
+            while (running || !buffer.isEmpty()) {
+                MetricCollection first = buffer.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                record(first);
+                buffer.drainTo(batch, DRAIN_BATCH_SIZE);
+                for (MetricCollection collection : batch) {
+                    record(collection);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
-    private List<Tag> buildTags(MetricCollection metricCollection) {
-        return metricCollection.stream()
-                .filter(record -> record.value() instanceof String || record.value() instanceof Boolean)
-                .map(record -> Tag.of(record.metric().name(), record.value().toString()))
-                .collect(Collectors.toList());
+    /**
+     * Registra una colección usando la caché de medidores. Solo debe invocarse desde el hilo consumidor;
+     * es visible en el paquete para los benchmarks.
+     *
+     * @param metricCollection Colección de métricas de una llamada al SDK
+     */
+    void record(MetricCollection metricCollection) {
+        try {
+            TagSetMeters meters = tagSetMeters(metricCollection);
+            for (MetricRecord<?> metricRecord : metricCollection) {
+                Object value = metricRecord.value();
+                if (value instanceof Duration duration) {
+                    meters.timer(metricRecord.metric().name()).record(duration);
+                } else if (value instanceof Integer count) {
+                    meters.counter(metricRecord.metric().name()).increment(count);
+                }
+            }
+        } catch (RuntimeException e) {
+            droppedError.increment();
+        }
+    }
+
+    private TagSetMeters tagSetMeters(MetricCollection metricCollection) {
+        tagLookup.clear();
+        for (MetricRecord<?> metricRecord : metricCollection) {
+            Object value = metricRecord.value();
+            if (value instanceof String || value instanceof Boolean) {
+                tagLookup.add(metricRecord.metric().name());
+                tagLookup.add(value.toString());
+            }
+        }
+        TagSetMeters meters = tagSets.get(tagLookup);
+        if (meters == null) {
+            List<String> key = List.copyOf(tagLookup);
+            meters = new TagSetMeters(buildTags(key));
+            tagSets.put(key, meters);
+        }
+        return meters;
+    }
+
+    private static List<Tag> buildTags(List<String> namesAndValues) {
+        List<Tag> tags = new ArrayList<>(namesAndValues.size() / 2);
+        for (int i = 0; i < namesAndValues.size(); i += 2) {
+            tags.add(Tag.of(namesAndValues.get(i), namesAndValues.get(i + 1)));
+        }
+        return List.copyOf(tags);
+    }
+
+    private Counter droppedCounter(String reason) {
+        return Counter.builder("aws.sdk.metrics.dropped")
+                .description("Colecciones de métricas del AWS SDK descartadas")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    /**
+     * Medidores ya resueltos para un conjunto de etiquetas, indexados por nombre de métrica.
+     */
+    private final class TagSetMeters {
+
+        private final List<Tag> tags;
+        private final Map<String, Timer> timers = new HashMap<>();
+        private final Map<String, Counter> counters = new HashMap<>();
+
+        private TagSetMeters(List<Tag> tags) {
+            this.tags = tags;
+        }
+
+        private Timer timer(String name) {
+            Timer timer = timers.get(name);
+            if (timer == null) {
+                timer = registry.timer(name, tags);
+                timers.put(name, timer);
+            }
+            return timer;
+        }
+
+        private Counter counter(String name) {
+            Counter counter = counters.get(name);
+            if (counter == null) {
+                counter = registry.counter(name, tags);
+                counters.put(name, counter);
+            }
+            return counter;
+        }
     }
 }
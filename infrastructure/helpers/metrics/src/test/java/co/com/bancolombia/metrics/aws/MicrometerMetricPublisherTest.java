@@ -2,13 +2,30 @@ package co.com.bancolombia.metrics.aws;
 
 import io.micrometer.core.instrument.logging.LoggingMeterRegistry;
 import io.micrometer.core.instrument.logging.LoggingRegistryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.metrics.internal.EmptyMetricCollection;
 
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class MicrometerMetricPublisherTest {
 
+    private static final SdkMetric<String> OPERATION = SdkMetric.create(
+            "TestOperationName", String.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<Duration> DURATION = SdkMetric.create(
+            "TestApiCallDuration", Duration.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<Integer> RETRIES = SdkMetric.create(
+            "TestRetryCount", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+
     @Test
     void metricTest() {
         LoggingMeterRegistry loggingMeterRegistry = LoggingMeterRegistry
@@ -16,6 +33,7 @@ class MicrometerMetricPublisherTest {
             .build();
 
         MicrometerMetricPublisher micrometerMetricPublisher = new MicrometerMetricPublisher(loggingMeterRegistry);
+        micrometerMetricPublisher.start();
 
         micrometerMetricPublisher.publish(EmptyMetricCollection.create());
         micrometerMetricPublisher.close();
@@ -23,4 +41,66 @@ class MicrometerMetricPublisherTest {
         assertNotNull(micrometerMetricPublisher);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldRecordTimersAndCountersWithTagsOnClose() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricPublisher publisher = new MicrometerMetricPublisher(registry);
+        publisher.start();
+
+        publisher.publish(apiCall("PutItem", 2));
+        publisher.publish(apiCall("PutItem", 1));
+        publisher.close();
+
+        assertEquals(2, registry.get("TestApiCallDuration")
+                .tag("TestOperationName", "PutItem").timer().count());
+        assertEquals(3.0, registry.get("TestRetryCount")
+                .tag("TestOperationName", "PutItem").counter().count());
+    }
+
+    @Test
+    void shouldKeepSeparateMetersPerTagSet() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricPublisher publisher = new MicrometerMetricPublisher(registry);
+
+        publisher.record(apiCall("PutItem", 1));
+        publisher.record(apiCall("GetItem", 2));
+        publisher.record(apiCall("PutItem", 3));
+
+        assertEquals(4.0, registry.get("TestRetryCount")
+                .tag("TestOperationName", "PutItem").counter().count());
+        assertEquals(2.0, registry.get("TestRetryCount")
+                .tag("TestOperationName", "GetItem").counter().count());
+        assertEquals(1, registry.get("TestApiCallDuration")
+                .tag("TestOperationName", "GetItem").timer().count());
+    }
+
+    @Test
+    void shouldDropCollectionsPublishedAfterClose() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricPublisher publisher = new MicrometerMetricPublisher(registry);
+        publisher.start();
+        publisher.close();
+
+        publisher.publish(apiCall("GetItem", 0));
+
+        assertEquals(1.0, registry.get("aws.sdk.metrics.dropped").tag("reason", "closed").counter().count());
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Duration timeout = Duration.ofSeconds(1);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                new MicrometerMetricPublisher(registry, 0, MicrometerMetricPublisher.OverflowPolicy.DROP, 1, timeout));
+    }
+
+    private static MetricCollection apiCall(String operation, int retries) {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(OPERATION, operation);
+        collector.reportMetric(DURATION, Duration.ofMillis(12));
+        collector.reportMetric(RETRIES, retries);
+        return collector.collect();
+    }
+}
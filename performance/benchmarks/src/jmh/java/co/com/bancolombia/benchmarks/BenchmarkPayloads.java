@@ -0,0 +1,35 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.api.dto.StatsDTO;
+import co.com.bancolombia.model.stats.Stats;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cargas de ejemplo compartidas por los benchmarks; el hash corresponde a los contadores, por lo que atraviesan
+ * la validación igual que una petición real.
+ */
+final class BenchmarkPayloads {
+
+    static final String VALID_HASH = "5484062a4be1ce5645eb414663e14f59";
+
+    static final String VALID_JSON = """
+            {"totalContactoClientes":250,"motivoReclamo":25,"motivoGarantia":10,"motivoDuda":100,\
+            "motivoCompra":100,"motivoFelicitaciones":7,"motivoCambio":8,\
+            "hash":"5484062a4be1ce5645eb414663e14f59"}""";
+
+    private BenchmarkPayloads() {
+    }
+
+    static Stats stats() {
+        return new Stats(LocalDateTime.parse("2024-06-01T10:00:00"), 250, 25, 10, 100, 100, 7, 8, VALID_HASH);
+    }
+
+    static StatsDTO dto() {
+        return new StatsDTO(250, 25, 10, 100, 100, 7, 8, VALID_HASH, null);
+    }
+
+    static StatsDTO invalidDto() {
+        return new StatsDTO(-1, 25, null, 100, 100, 7, 8, "no-es-md5", null);
+    }
+}
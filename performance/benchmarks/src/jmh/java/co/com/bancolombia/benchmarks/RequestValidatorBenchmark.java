@@ -0,0 +1,70 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.api.dto.StatsDTO;
+import co.com.bancolombia.api.validator.RequestValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Signal;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de {@link RequestValidator#validate}, que valida {@link StatsDTO} con su validador especializado,
+ * frente a Hibernate Validator directamente, para un DTO válido y para uno con varias violaciones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestValidatorBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator beanValidator;
+    private RequestValidator validator;
+    private StatsDTO valid;
+    private StatsDTO invalid;
+
+    @Setup
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        beanValidator = factory.getValidator();
+        validator = new RequestValidator(beanValidator);
+        valid = BenchmarkPayloads.dto();
+        invalid = BenchmarkPayloads.invalidDto();
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public StatsDTO validateValid() {
+        return validator.validate(valid).block();
+    }
+
+    @Benchmark
+    public Signal<StatsDTO> validateInvalid() {
+        return validator.validate(invalid).materialize().block();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<StatsDTO>> beanValidationValid() {
+        return beanValidator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<StatsDTO>> beanValidationInvalid() {
+        return beanValidator.validate(invalid);
+    }
+}
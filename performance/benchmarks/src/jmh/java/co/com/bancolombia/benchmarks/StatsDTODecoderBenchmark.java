@@ -0,0 +1,101 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.api.codec.StatsBinaryDecoder;
+import co.com.bancolombia.api.codec.StatsBinaryFormat;
+import co.com.bancolombia.api.codec.StatsDTODecoder;
+import co.com.bancolombia.api.dto.StatsDTO;
+import co.com.bancolombia.config.ObjectMapperConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de la lectura del cuerpo de {@code POST /api/v1/stats}: {@link StatsDTODecoder} y
+ * {@link StatsBinaryDecoder} frente al {@link Jackson2JsonDecoder} por defecto, todos sobre buffers Netty del pool
+ * como los que entrega Reactor Netty.
+ *
+ * <p>{@code chunks} reparte el cuerpo en varios buffers para reflejar peticiones que llegan en más de un
+ * fragmento TCP.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatsDTODecoderBenchmark {
+
+    private static final ResolvableType STATS_DTO = ResolvableType.forClass(StatsDTO.class);
+
+    @Param({"1", "4"})
+    private int chunks;
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+    private StatsDTODecoder streamingDecoder;
+    private Jackson2JsonDecoder jacksonDecoder;
+    private StatsBinaryDecoder binaryDecoder;
+    private byte[][] parts;
+    private byte[][] binaryParts;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapperConfig().jacksonObjectMapper();
+        streamingDecoder = new StatsDTODecoder(objectMapper.getFactory(), StatsDTODecoder.DEFAULT_MAX_IN_MEMORY_SIZE);
+        jacksonDecoder = new Jackson2JsonDecoder(objectMapper);
+        binaryDecoder = new StatsBinaryDecoder();
+        byte[] json = BenchmarkPayloads.VALID_JSON.getBytes(StandardCharsets.UTF_8);
+        byte[] binary = StatsBinaryFormat.encode(BenchmarkPayloads.dto());
+        parts = split(json, chunks);
+        binaryParts = split(binary, chunks);
+    }
+
+    @Benchmark
+    public StatsDTO streamingDecoder() {
+        return streamingDecoder.decodeToMono(body(), STATS_DTO, MediaType.APPLICATION_JSON,
+                Collections.emptyMap()).block();
+    }
+
+    @Benchmark
+    public Object jacksonDecoder() {
+        return jacksonDecoder.decodeToMono(body(), STATS_DTO, MediaType.APPLICATION_JSON,
+                Collections.emptyMap()).block();
+    }
+
+    @Benchmark
+    public StatsDTO binaryDecoder() {
+        return binaryDecoder.decodeToMono(body(binaryParts), STATS_DTO, StatsBinaryFormat.MEDIA_TYPE,
+                Collections.emptyMap()).block();
+    }
+
+    private Flux<DataBuffer> body() {
+        return body(parts);
+    }
+
+    private Flux<DataBuffer> body(byte[][] chunked) {
+        return Flux.fromArray(chunked).map(part -> bufferFactory.allocateBuffer(part.length).write(part));
+    }
+
+    private static byte[][] split(byte[] body, int count) {
+        int size = (body.length + count - 1) / count;
+        byte[][] split = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            split[i] = Arrays.copyOfRange(body, Math.min(body.length, i * size), Math.min(body.length, (i + 1) * size));
+        }
+        return split;
+    }
+}
@@ -0,0 +1,52 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.api.dto.StatsDTO;
+import co.com.bancolombia.config.ObjectMapperConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de la (de)serialización JSON de {@link StatsDTO} con el {@link ObjectMapper} de
+ * {@link ObjectMapperConfig}, el mismo que usan los codecs de WebFlux.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatsJsonBenchmark {
+
+    private ObjectReader reader;
+    private ObjectWriter writer;
+    private byte[] json;
+    private StatsDTO dto;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapperConfig().jacksonObjectMapper();
+        reader = objectMapper.readerFor(StatsDTO.class);
+        writer = objectMapper.writerFor(StatsDTO.class);
+        json = BenchmarkPayloads.VALID_JSON.getBytes(StandardCharsets.UTF_8);
+        dto = BenchmarkPayloads.dto();
+    }
+
+    @Benchmark
+    public StatsDTO deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(dto);
+    }
+}
@@ -0,0 +1,42 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.api.dto.StatsDTO;
+import co.com.bancolombia.api.mapper.StatsMapper;
+import co.com.bancolombia.model.stats.Stats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de la conversión generada por MapStruct entre {@link StatsDTO} y {@link Stats}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatsMapperBenchmark {
+
+    private StatsDTO dto;
+    private Stats stats;
+
+    @Setup
+    public void setUp() {
+        dto = BenchmarkPayloads.dto();
+        stats = BenchmarkPayloads.stats();
+    }
+
+    @Benchmark
+    public Stats toStats() {
+        return StatsMapper.INSTANCE.toStats(dto);
+    }
+
+    @Benchmark
+    public StatsDTO toStatsDTO() {
+        return StatsMapper.INSTANCE.toStatsDTO(stats);
+    }
+}
@@ -0,0 +1,63 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.api.codec.StatsResponseWriter;
+import co.com.bancolombia.api.dto.StatsDTO;
+import co.com.bancolombia.api.mapper.StatsMapper;
+import co.com.bancolombia.config.ObjectMapperConfig;
+import co.com.bancolombia.model.stats.Stats;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de la escritura de la respuesta de {@code POST /api/v1/stats}: {@link StatsResponseWriter} frente
+ * al mapeo a {@link StatsDTO} más {@link Jackson2JsonEncoder}, ambos sobre buffers Netty del pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatsResponseBenchmark {
+
+    private static final ResolvableType STATS_DTO = ResolvableType.forClass(StatsDTO.class);
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+    private Jackson2JsonEncoder jacksonEncoder;
+    private Stats stats;
+
+    @Setup
+    public void setUp() {
+        jacksonEncoder = new Jackson2JsonEncoder(new ObjectMapperConfig().jacksonObjectMapper());
+        stats = BenchmarkPayloads.stats();
+    }
+
+    @Benchmark
+    public int responseWriter() {
+        return release(StatsResponseWriter.write(stats, bufferFactory));
+    }
+
+    @Benchmark
+    public int mapperAndJacksonEncoder() {
+        return release(jacksonEncoder.encodeValue(StatsMapper.INSTANCE.toStatsDTO(stats), bufferFactory, STATS_DTO,
+                MediaType.APPLICATION_JSON, Collections.emptyMap()));
+    }
+
+    private static int release(DataBuffer buffer) {
+        int size = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return size;
+    }
+}
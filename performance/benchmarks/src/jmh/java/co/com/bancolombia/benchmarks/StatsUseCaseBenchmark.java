@@ -0,0 +1,79 @@
+package co.com.bancolombia.benchmarks;
+
+import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.StoredStats;
+import co.com.bancolombia.model.stats.gateways.EventPublisherGateway;
+import co.com.bancolombia.model.stats.gateways.StatsRepository;
+import co.com.bancolombia.usecase.stats.AcceptedStatsBroadcaster;
+import co.com.bancolombia.usecase.stats.IdempotencyCache;
+import co.com.bancolombia.usecase.stats.LiveStatsAggregator;
+import co.com.bancolombia.usecase.stats.StatsUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark JMH de {@link StatsUseCase#saveStats} con gateways en memoria, de modo que se mide solo el costo del
+ * caso de uso: verificación del hash, caché de idempotencia, timestamp, agregado en vivo y difusión.
+ *
+ * <p>{@code saveWithIdempotencyKey} usa una clave distinta por operación, por lo que siempre recorre el camino
+ * completo de guardado; {@code saveRepeated} repite la misma estadística y mide la respuesta desde la caché.</p>
+ *
+ * <p>Ejecutar con {@code ./gradlew :benchmarks:jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatsUseCaseBenchmark {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private StatsUseCase useCase;
+
+    @Setup
+    public void setUp() {
+        useCase = new StatsUseCase(new InMemoryStatsRepository(), stats -> Mono.empty(), new IdempotencyCache(),
+                new LiveStatsAggregator(), new AcceptedStatsBroadcaster());
+    }
+
+    @Benchmark
+    public Stats saveWithIdempotencyKey() {
+        return useCase.saveStats(BenchmarkPayloads.stats(), "bench-" + sequence.incrementAndGet()).block();
+    }
+
+    @Benchmark
+    public Stats saveRepeated() {
+        return useCase.saveStats(BenchmarkPayloads.stats()).block();
+    }
+
+    /**
+     * Repositorio que confirma cada guardado sin retener las estadísticas.
+     */
+    private static final class InMemoryStatsRepository implements StatsRepository {
+
+        @Override
+        public Mono<Stats> saveStats(Stats stats) {
+            return Mono.just(stats);
+        }
+
+        @Override
+        public Flux<Integer> saveAll(List<Stats> stats) {
+            return Flux.range(0, stats.size());
+        }
+
+        @Override
+        public Flux<StoredStats> findByTimeRange(LocalDateTime from, LocalDateTime to, String cursor) {
+            return Flux.empty();
+        }
+    }
+}
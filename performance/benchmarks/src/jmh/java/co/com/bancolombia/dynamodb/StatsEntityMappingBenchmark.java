@@ -0,0 +1,99 @@
+package co.com.bancolombia.dynamodb;
+
+import co.com.bancolombia.config.ObjectMapperConfig;
+import co.com.bancolombia.dynamodb.key.ShardedKeyStrategy;
+import co.com.bancolombia.dynamodb.resilience.DynamoDBResilience;
+import co.com.bancolombia.model.stats.Stats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.reactivecommons.utils.ObjectMapper;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de la conversión entre {@link Stats} y {@link StatsEntity} que hace
+ * {@code TemplateAdapterOperations}: con el {@link ObjectMapper} reflexivo de reactive-commons y con el
+ * {@link StatsEntityMapper} generado por MapStruct.
+ *
+ * <p>Está en el paquete del adaptador para invocar su {@code toEntity} protegido, que además asigna la clave;
+ * el cliente apunta a un endpoint local pero nunca se usa, porque la conversión no hace llamadas a DynamoDB.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatsEntityMappingBenchmark {
+
+    private DynamoDbAsyncClient client;
+    private ObjectMapper mapper;
+    private DynamoDBTemplateAdapter adapter;
+    private DynamoDBTemplateAdapter compiledAdapter;
+    private StatsEntityMapper compiled;
+    private Stats stats;
+    private StatsEntity entity;
+
+    @Setup
+    public void setUp() {
+        client = DynamoDbAsyncClient.builder()
+                .endpointOverride(URI.create("http://localhost:8000"))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(AnonymousCredentialsProvider.create())
+                .build();
+        mapper = new ObjectMapperConfig().reactiveCommonsObjectMapper();
+        DynamoDbEnhancedAsyncClient enhancedClient = DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(client).build();
+        adapter = new DynamoDBTemplateAdapter(enhancedClient, mapper);
+        compiled = StatsEntityMapper.INSTANCE;
+        compiledAdapter = new DynamoDBTemplateAdapter(enhancedClient, compiled,
+                new ShardedKeyStrategy(ShardedKeyStrategy.DEFAULT_SHARDS), false,
+                null, null, DynamoDBResilience.disabled());
+        stats = new Stats(LocalDateTime.parse("2024-06-01T10:00:00"), 250, 25, 10, 100, 100, 7, 8,
+                "5484062a4be1ce5645eb414663e14f59");
+        entity = adapter.toEntity(stats);
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public StatsEntity objectMapperMap() {
+        return mapper.map(stats, StatsEntity.class);
+    }
+
+    @Benchmark
+    public StatsEntity adapterToEntity() {
+        return adapter.toEntity(stats);
+    }
+
+    @Benchmark
+    public Stats objectMapperToModel() {
+        return mapper.map(entity, Stats.class);
+    }
+
+    @Benchmark
+    public StatsEntity compiledToEntity() {
+        return compiled.toEntity(stats);
+    }
+
+    @Benchmark
+    public StatsEntity compiledAdapterToEntity() {
+        return compiledAdapter.toEntity(stats);
+    }
+
+    @Benchmark
+    public Stats compiledToModel() {
+        return compiled.toModel(entity);
+    }
+}
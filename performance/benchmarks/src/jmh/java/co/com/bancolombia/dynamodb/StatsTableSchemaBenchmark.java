@@ -0,0 +1,98 @@
+package co.com.bancolombia.dynamodb;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH del esquema de la tabla de estadísticas: derivado por introspección con
+ * {@link TableSchema#fromBean} frente al explícito {@link StatsEntity#tableSchema()}.
+ *
+ * <p>Los benchmarks {@code *Startup} miden, en una JVM nueva por fork y sin calentamiento, la creación del esquema
+ * tal como ocurre al iniciar la aplicación. Los de conversión miden, ya en régimen, el paso de un registro a los
+ * atributos de DynamoDB y de vuelta, que se hace en cada escritura y lectura.</p>
+ */
+public class StatsTableSchemaBenchmark {
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(10)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public TableSchema<StatsEntity> beanSchemaStartup() {
+        return TableSchema.fromBean(StatsEntity.class);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(10)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public TableSchema<StatsEntity> staticSchemaStartup() {
+        return StatsEntity.tableSchema();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Map<String, AttributeValue> beanItemToMap(Marshalling state) {
+        return state.bean.itemToMap(state.entity, true);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Map<String, AttributeValue> staticItemToMap(Marshalling state) {
+        return state.explicit.itemToMap(state.entity, true);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public StatsEntity beanMapToItem(Marshalling state) {
+        return state.bean.mapToItem(state.item);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public StatsEntity staticMapToItem(Marshalling state) {
+        return state.explicit.mapToItem(state.item);
+    }
+
+    /**
+     * Esquemas y registro de los benchmarks de conversión; los de inicio no lo usan, para no crear los esquemas
+     * antes de medirlos.
+     */
+    @State(Scope.Benchmark)
+    public static class Marshalling {
+        private TableSchema<StatsEntity> bean;
+        private TableSchema<StatsEntity> explicit;
+        private StatsEntity entity;
+        private Map<String, AttributeValue> item;
+
+        @Setup
+        public void setUp() {
+            bean = TableSchema.fromBean(StatsEntity.class);
+            explicit = StatsEntity.tableSchema();
+            entity = new StatsEntity("2024-06-01T10#3", "2024-06-01T10:00:00.000000#01J00000000000000000000000",
+                    "2024-06-01T10:00", 250, 25, 10, 100, 100, 7, 8, "5484062a4be1ce5645eb414663e14f59",
+                    "01J00000000000000000000000");
+            item = explicit.itemToMap(entity, true);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package co.com.bancolombia.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Doble de DynamoDB en el mismo proceso que responde el protocolo JSON ({@code X-Amz-Target}) sin persistir nada.
+ *
+ * <p>El cliente del AWS SDK de la aplicación se configura contra este servidor, de modo que la prueba de carga
+ * incluye la conversión a {@code StatsEntity}, la serialización, la firma y el transporte HTTP reales. Cada
+ * respuesta se demora {@code latency} para simular la latencia de red del servicio.</p>
+ */
+@Slf4j
+public class DynamoDbStandIn implements AutoCloseable {
+
+    private static final String TARGET_HEADER = "X-Amz-Target";
+    private static final String CONTENT_TYPE = "application/x-amz-json-1.0";
+    private static final Map<String, String> RESPONSES = Map.of(
+            "BatchWriteItem", "{\"UnprocessedItems\":{}}",
+            "Query", "{\"Items\":[],\"Count\":0,\"ScannedCount\":0}",
+            "Scan", "{\"Items\":[],\"Count\":0,\"ScannedCount\":0}");
+
+    private final Map<String, LongAdder> requests;
+    private final DisposableServer server;
+
+    private DynamoDbStandIn(Map<String, LongAdder> requests, DisposableServer server) {
+        this.requests = requests;
+        this.server = server;
+    }
+
+    /**
+     * Arranca el servidor en un puerto libre de la interfaz local.
+     *
+     * @param latency Demora de cada respuesta
+     * @return Doble escuchando peticiones
+     */
+    public static DynamoDbStandIn start(Duration latency) {
+        Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+        DisposableServer server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((request, response) -> {
+                    String target = request.requestHeaders().get(TARGET_HEADER, "");
+                    String operation = target.substring(target.indexOf('.') + 1);
+                    requests.computeIfAbsent(operation, op -> new LongAdder()).increment();
+                    Mono<Void> delay = latency.isZero() ? Mono.empty() : Mono.delay(latency).then();
+                    return request.receive().then()
+                            .then(delay)
+                            .then(response.header("Content-Type", CONTENT_TYPE)
+                                    .sendString(Mono.just(RESPONSES.getOrDefault(operation, "{}")))
+                                    .then());
+                })
+                .bindNow();
+        DynamoDbStandIn standIn = new DynamoDbStandIn(requests, server);
+        log.info("Doble de DynamoDB escuchando en {}", standIn.endpoint());
+        return standIn;
+    }
+
+    /**
+     * URL a configurar en {@code aws.dynamodb.endpoint}.
+     *
+     * @return Endpoint del doble
+     */
+    public String endpoint() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    /**
+     * Peticiones recibidas por operación de DynamoDB.
+     *
+     * @return Conteo por operación
+     */
+    public Map<String, Long> requests() {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        requests.forEach((operation, count) -> counts.put(operation, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}
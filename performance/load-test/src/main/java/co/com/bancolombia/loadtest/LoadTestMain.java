@@ -0,0 +1,59 @@
+package co.com.bancolombia.loadtest;
+
+import co.com.bancolombia.MainApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Punto de entrada de la prueba de carga de {@code POST /api/v1/stats}.
+ *
+ * <p>Levanta en el mismo proceso un {@link DynamoDbStandIn} y la aplicación completa, con el publicador de
+ * eventos reemplazado por el de {@link StandInGatewaysConfig}, por lo que no requiere red ni contenedores.
+ * Luego ejecuta el {@link OpenModelLoadGenerator}, imprime el {@link LoadTestReport} y termina con código 1 si
+ * se incumple algún SLO.</p>
+ *
+ * <p>Se ejecuta con {@code ./gradlew :load-test:loadTest -Ploadtest.rate=2000 -Ploadtest.slo.p99=50ms}.</p>
+ */
+public final class LoadTestMain {
+
+    private static final long PAYLOAD_SEED = 42L;
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) {
+        LoadTestSettings settings = LoadTestSettings.from(System.getProperties());
+        byte[][] payloads = PayloadGenerator.generate(settings.payloads(), PAYLOAD_SEED);
+        List<String> violations;
+        try (DynamoDbStandIn dynamo = DynamoDbStandIn.start(settings.dynamoLatency());
+             ConfigurableApplicationContext app = new SpringApplicationBuilder(MainApplication.class)
+                     .run(applicationArgs(dynamo, settings, args))) {
+            String baseUrl = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+            LoadTestReport report = new OpenModelLoadGenerator(settings, payloads).run(baseUrl);
+            report.print(System.out);
+            System.out.println("Peticiones recibidas por el doble de DynamoDB: " + dynamo.requests());
+            violations = report.violations(settings);
+        }
+        violations.forEach(violation -> System.out.println("SLO incumplido: " + violation));
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    /**
+     * Argumentos de la aplicación; se pasan como línea de comandos para que prevalezcan sobre application.yaml.
+     */
+    private static String[] applicationArgs(DynamoDbStandIn dynamo, LoadTestSettings settings, String[] args) {
+        String[] overrides = {
+                "--server.port=0",
+                "--aws.dynamodb.endpoint=" + dynamo.endpoint(),
+                "--app.rabbitmq.publisher=stand-in",
+                "--loadtest.amqp-latency=" + settings.amqpLatency().toMillis() + "ms",
+                "--logging.level.root=WARN"
+        };
+        String[] merged = Arrays.copyOf(overrides, overrides.length + args.length);
+        System.arraycopy(args, 0, merged, overrides.length, args.length);
+        return merged;
+    }
+}
@@ -0,0 +1,109 @@
+package co.com.bancolombia.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Resultado de una prueba de carga: conteos, throughput e histograma de latencias en microsegundos, ya corregido
+ * por coordinated omission.
+ */
+public class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final long scheduled;
+    private final long succeeded;
+    private final long failed;
+    private final Duration elapsed;
+    private final Histogram histogram;
+
+    /**
+     * Crea el resultado.
+     *
+     * @param scheduled Peticiones programadas durante la medición
+     * @param succeeded Peticiones respondidas con 200
+     * @param failed Peticiones con error, con otro estado, descartadas por exceso en vuelo o sin respuesta
+     * @param elapsed Duración de la medición
+     * @param histogram Latencias de las peticiones exitosas en microsegundos
+     */
+    public LoadTestReport(long scheduled, long succeeded, long failed, Duration elapsed, Histogram histogram) {
+        this.scheduled = scheduled;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.elapsed = elapsed;
+        this.histogram = histogram;
+    }
+
+    /**
+     * Peticiones exitosas por segundo durante la medición.
+     *
+     * @return Throughput sostenido
+     */
+    public double throughput() {
+        return succeeded * 1_000_000_000.0 / Math.max(1, elapsed.toNanos());
+    }
+
+    /**
+     * Proporción de peticiones fallidas sobre las programadas.
+     *
+     * @return Tasa de error entre 0 y 1
+     */
+    public double errorRate() {
+        return scheduled == 0 ? 0 : (double) failed / scheduled;
+    }
+
+    /**
+     * Latencia del percentil indicado.
+     *
+     * @param percentile Percentil entre 0 y 100
+     * @return Latencia del percentil
+     */
+    public Duration latency(double percentile) {
+        return Duration.ofNanos(histogram.getValueAtPercentile(percentile) * 1000);
+    }
+
+    /**
+     * Compara el resultado con los SLO configurados.
+     *
+     * @param settings Parámetros de la prueba con los SLO
+     * @return Descripción de cada SLO incumplido; vacía si se cumplen todos
+     */
+    public List<String> violations(LoadTestSettings settings) {
+        List<String> violations = new ArrayList<>();
+        if (latency(99).compareTo(settings.sloP99()) > 0) {
+            violations.add("p99 " + latency(99).toMillis() + " ms > " + settings.sloP99().toMillis() + " ms");
+        }
+        if (throughput() < settings.sloMinThroughput()) {
+            violations.add(String.format(Locale.ROOT, "throughput %.1f req/s < %.1f req/s",
+                    throughput(), settings.sloMinThroughput()));
+        }
+        if (errorRate() > settings.sloMaxErrorRate()) {
+            violations.add(String.format(Locale.ROOT, "tasa de error %.4f > %.4f",
+                    errorRate(), settings.sloMaxErrorRate()));
+        }
+        return violations;
+    }
+
+    /**
+     * Imprime el resumen y la distribución de percentiles en milisegundos.
+     *
+     * @param out Salida del reporte
+     */
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "Programadas: %d | exitosas: %d | fallidas: %d | duración: %.1f s%n",
+                scheduled, succeeded, failed, elapsed.toMillis() / 1000.0);
+        out.printf(Locale.ROOT, "Throughput: %.1f req/s | tasa de error: %.4f%n", throughput(), errorRate());
+        out.printf(Locale.ROOT, "Latencia (ms): p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f%n",
+                millis(50), millis(90), millis(99), millis(99.9), histogram.getMaxValue() / MICROS_PER_MILLI);
+        histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+    }
+
+    private double millis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,65 @@
+package co.com.bancolombia.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Parámetros de la prueba de carga, leídos de propiedades {@code loadtest.*}.
+ *
+ * @param rate Peticiones por segundo programadas (modelo abierto)
+ * @param duration Duración de la medición, sin contar el calentamiento
+ * @param warmup Duración del calentamiento, cuyas peticiones no se registran
+ * @param maxInFlight Máximo de peticiones en vuelo; las que lo superan se cuentan como error
+ * @param payloads Cantidad de cuerpos pre-generados que se envían en ciclo
+ * @param dynamoLatency Latencia simulada por el doble de DynamoDB en cada operación
+ * @param amqpLatency Latencia simulada por el doble de RabbitMQ en cada publicación
+ * @param sloP99 Latencia p99 máxima admitida
+ * @param sloMinThroughput Throughput mínimo admitido (peticiones exitosas por segundo)
+ * @param sloMaxErrorRate Proporción máxima de peticiones fallidas
+ */
+public record LoadTestSettings(int rate,
+                               Duration duration,
+                               Duration warmup,
+                               int maxInFlight,
+                               int payloads,
+                               Duration dynamoLatency,
+                               Duration amqpLatency,
+                               Duration sloP99,
+                               double sloMinThroughput,
+                               double sloMaxErrorRate) {
+
+    private static final String PREFIX = "loadtest.";
+
+    public LoadTestSettings {
+        if (rate <= 0 || maxInFlight <= 0 || payloads <= 0 || duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("La tasa, la duración, las peticiones en vuelo y las cargas deben ser positivas");
+        }
+    }
+
+    /**
+     * Lee los parámetros; los no indicados toman su valor por defecto.
+     *
+     * @param properties Propiedades de sistema o equivalentes
+     * @return Parámetros de la prueba
+     */
+    public static LoadTestSettings from(Properties properties) {
+        int rate = Integer.parseInt(properties.getProperty(PREFIX + "rate", "2000"));
+        return new LoadTestSettings(
+                rate,
+                duration(properties, "duration", "30s"),
+                duration(properties, "warmup", "10s"),
+                Integer.parseInt(properties.getProperty(PREFIX + "max-in-flight", "1024")),
+                Integer.parseInt(properties.getProperty(PREFIX + "payloads", "10000")),
+                duration(properties, "dynamo-latency", "5ms"),
+                duration(properties, "amqp-latency", "2ms"),
+                duration(properties, "slo.p99", "50ms"),
+                Double.parseDouble(properties.getProperty(PREFIX + "slo.min-throughput", String.valueOf(rate * 0.95))),
+                Double.parseDouble(properties.getProperty(PREFIX + "slo.max-error-rate", "0.001")));
+    }
+
+    private static Duration duration(Properties properties, String name, String defaultValue) {
+        return DurationStyle.detectAndParse(properties.getProperty(PREFIX + name, defaultValue));
+    }
+}
@@ -0,0 +1,142 @@
+package co.com.bancolombia.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga de modelo abierto para {@code POST /api/v1/stats}.
+ *
+ * <p>Las peticiones se programan a tasa constante sin esperar las respuestas anteriores, y la latencia de cada
+ * una se mide desde el instante en que debía enviarse y no desde el envío real. Así, si el servidor o el propio
+ * generador se retrasan, el retraso queda en el histograma (corrección de coordinated omission). Cuando hay
+ * {@code maxInFlight} peticiones pendientes, las nuevas se cuentan como fallidas en lugar de esperar.</p>
+ *
+ * <p>Cada petición lleva un {@code Idempotency-Key} único para que la caché de idempotencia no responda las
+ * cargas repetidas sin pasar por la persistencia.</p>
+ */
+public class OpenModelLoadGenerator {
+
+    private static final String PATH = "/api/v1/stats";
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestSettings settings;
+    private final byte[][] payloads;
+
+    /**
+     * Crea el generador.
+     *
+     * @param settings Parámetros de la prueba
+     * @param payloads Cuerpos pre-generados que se envían en ciclo
+     */
+    public OpenModelLoadGenerator(LoadTestSettings settings, byte[][] payloads) {
+        this.settings = settings;
+        this.payloads = payloads;
+    }
+
+    /**
+     * Ejecuta el calentamiento y la medición contra la aplicación.
+     *
+     * @param baseUrl URL base de la aplicación (ej. {@code http://127.0.0.1:8082})
+     * @return Resultado de la medición
+     */
+    public LoadTestReport run(String baseUrl) {
+        ConnectionProvider provider = ConnectionProvider.builder("load-test")
+                .maxConnections(settings.maxInFlight())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        HttpClient client = HttpClient.create(provider)
+                .baseUrl(baseUrl)
+                .responseTimeout(RESPONSE_TIMEOUT);
+        try {
+            return execute(client);
+        } finally {
+            provider.disposeLater().block(DRAIN_TIMEOUT);
+        }
+    }
+
+    private LoadTestReport execute(HttpClient client) {
+        Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        AtomicInteger inFlight = new AtomicInteger();
+        LongAdder succeeded = new LongAdder();
+        LongAdder failed = new LongAdder();
+        AtomicLong lastCompletion = new AtomicLong();
+
+        long warmupNanos = settings.warmup().toNanos();
+        long totalNanos = warmupNanos + settings.duration().toNanos();
+        long total = totalNanos / 1_000_000_000L * settings.rate()
+                + totalNanos % 1_000_000_000L * settings.rate() / 1_000_000_000L;
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long scheduled = 0;
+
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * 1_000_000_000L / settings.rate();
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = intended - measureFrom >= 0;
+            if (measured) {
+                scheduled++;
+            }
+            if (inFlight.get() >= settings.maxInFlight()) {
+                if (measured) {
+                    failed.increment();
+                }
+                continue;
+            }
+            inFlight.incrementAndGet();
+            send(client, payloads[(int) (i % payloads.length)], "load-test-" + start + "-" + i)
+                    .subscribe(status -> {
+                        long now = System.nanoTime();
+                        inFlight.decrementAndGet();
+                        if (!measured) {
+                            return;
+                        }
+                        lastCompletion.accumulateAndGet(now, Math::max);
+                        if (status == 200) {
+                            succeeded.increment();
+                            histogram.recordValue(Math.min((now - intended) / 1000, HIGHEST_TRACKABLE_MICROS));
+                        } else {
+                            failed.increment();
+                        }
+                    }, error -> {
+                        inFlight.decrementAndGet();
+                        if (measured) {
+                            failed.increment();
+                        }
+                    });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() - drainDeadline < 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        long end = Math.max(lastCompletion.get(), measureFrom + settings.duration().toNanos());
+        return new LoadTestReport(scheduled, succeeded.sum(), failed.sum() + inFlight.get(),
+                Duration.ofNanos(end - measureFrom), histogram);
+    }
+
+    private static Mono<Integer> send(HttpClient client, byte[] payload, String idempotencyKey) {
+        return client.post()
+                .uri(PATH)
+                .send((request, outbound) -> {
+                    request.header("Content-Type", "application/json")
+                            .header("Idempotency-Key", idempotencyKey);
+                    return outbound.sendByteArray(Mono.just(payload));
+                })
+                .responseSingle((response, body) -> body.then(Mono.just(response.status().code())));
+    }
+}
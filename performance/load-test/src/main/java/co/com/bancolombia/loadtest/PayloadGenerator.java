@@ -0,0 +1,59 @@
+package co.com.bancolombia.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+
+/**
+ * Genera de antemano los cuerpos JSON de {@code POST /api/v1/stats}, con contadores aleatorios y su hash MD5
+ * válido, para que la generación no consuma CPU durante la medición.
+ */
+public final class PayloadGenerator {
+
+    private static final int MAX_COUNTER = 1000;
+
+    private PayloadGenerator() {
+    }
+
+    /**
+     * Genera los cuerpos codificados en UTF-8.
+     *
+     * @param count Cantidad de cuerpos
+     * @param seed Semilla del generador, para repetir exactamente la misma carga
+     * @return Cuerpos JSON válidos
+     */
+    public static byte[][] generate(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        MessageDigest md5 = md5();
+        byte[][] payloads = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            int[] counters = new int[7];
+            for (int c = 0; c < counters.length; c++) {
+                counters[c] = random.nextInt(MAX_COUNTER);
+            }
+            String data = counters[0] + "," + counters[1] + "," + counters[2] + "," + counters[3] + ","
+                    + counters[4] + "," + counters[5] + "," + counters[6];
+            String hash = HexFormat.of().formatHex(md5.digest(data.getBytes(StandardCharsets.UTF_8)));
+            String json = "{\"totalContactoClientes\":" + counters[0]
+                    + ",\"motivoReclamo\":" + counters[1]
+                    + ",\"motivoGarantia\":" + counters[2]
+                    + ",\"motivoDuda\":" + counters[3]
+                    + ",\"motivoCompra\":" + counters[4]
+                    + ",\"motivoFelicitaciones\":" + counters[5]
+                    + ",\"motivoCambio\":" + counters[6]
+                    + ",\"hash\":\"" + hash + "\"}";
+            payloads[i] = json.getBytes(StandardCharsets.UTF_8);
+        }
+        return payloads;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package co.com.bancolombia.loadtest;
+
+import co.com.bancolombia.model.stats.gateways.EventPublisherGateway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Doble de RabbitMQ para la prueba de carga.
+ *
+ * <p>Se activa con {@code app.rabbitmq.publisher=stand-in}, que además desactiva los adaptadores reales del
+ * módulo {@code mq-sender}. Cada publicación se confirma tras {@code loadtest.amqp-latency}, simulando el
+ * publisher confirm del broker.</p>
+ */
+@Configuration
+public class StandInGatewaysConfig {
+
+    /**
+     * Crea el publicador de eventos en memoria.
+     *
+     * @param latency Demora de cada confirmación (ej. {@code 2ms})
+     * @return Publicador de eventos que no sale del proceso
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.rabbitmq.publisher", havingValue = "stand-in")
+    public EventPublisherGateway standInEventPublisher(@Value("${loadtest.amqp-latency:2ms}") String latency) {
+        Duration delay = DurationStyle.detectAndParse(latency);
+        return stats -> delay.isZero() ? Mono.empty() : Mono.delay(delay).then();
+    }
+}
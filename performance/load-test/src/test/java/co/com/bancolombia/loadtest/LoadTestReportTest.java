@@ -0,0 +1,68 @@
+package co.com.bancolombia.loadtest;
+
+import co.com.bancolombia.model.stats.Stats;
+import co.com.bancolombia.model.stats.Md5HashVerifier;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas unitarias para {@link LoadTestReport} y {@link PayloadGenerator}.
+ */
+class LoadTestReportTest {
+
+    /**
+     * Verifica que se reporte cada SLO incumplido y ninguno cuando se cumplen.
+     */
+    @Test
+    void shouldReportViolatedSlos() {
+        Properties properties = new Properties();
+        properties.setProperty("loadtest.rate", "1000");
+        properties.setProperty("loadtest.slo.p99", "20ms");
+        LoadTestSettings settings = LoadTestSettings.from(properties);
+
+        Histogram fast = new Histogram(60_000_000L, 3);
+        for (int i = 0; i < 1000; i++) {
+            fast.recordValue(5_000);
+        }
+        LoadTestReport healthy = new LoadTestReport(10_000, 10_000, 0, Duration.ofSeconds(10), fast);
+
+        Histogram slow = new Histogram(60_000_000L, 3);
+        for (int i = 0; i < 1000; i++) {
+            slow.recordValue(i < 980 ? 5_000 : 80_000);
+        }
+        LoadTestReport degraded = new LoadTestReport(10_000, 8_000, 2_000, Duration.ofSeconds(10), slow);
+
+        assertTrue(healthy.violations(settings).isEmpty());
+        List<String> violations = degraded.violations(settings);
+        assertEquals(3, violations.size());
+        assertTrue(violations.get(0).startsWith("p99"));
+    }
+
+    /**
+     * Verifica que las cargas generadas tengan un hash MD5 válido.
+     */
+    @Test
+    void shouldGeneratePayloadsWithValidHash() throws IOException {
+        ObjectMapper json = new ObjectMapper();
+        Md5HashVerifier verifier = new Md5HashVerifier();
+
+        for (byte[] payload : PayloadGenerator.generate(100, 7L)) {
+            JsonNode node = json.readTree(payload);
+            Stats stats = new Stats(null, node.get("totalContactoClientes").asInt(), node.get("motivoReclamo").asInt(),
+                    node.get("motivoGarantia").asInt(), node.get("motivoDuda").asInt(),
+                    node.get("motivoCompra").asInt(), node.get("motivoFelicitaciones").asInt(),
+                    node.get("motivoCambio").asInt(), node.get("hash").asText());
+            assertTrue(verifier.matches(stats));
+        }
+    }
+}